@@ -0,0 +1,720 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Java arrays
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.arrays;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * Array Kernels
+ * -------------
+ * Sort, search, fill and copy for the large primitive arrays that
+ * ArrayOperations_SortCopySearchFill handles with Arrays.sort,
+ * Arrays.binarySearch and Arrays.fill at toy sizes:
+ *
+ *  - radixSort: LSD radix sort of int[], long[] and float[], one byte per
+ *    pass. One read builds the counts of every pass, and a pass whose byte
+ *    is the same for all keys is skipped. O(n) with a buffer of n keys;
+ *    short ranges go to Arrays.sort. float order is that of Arrays.sort:
+ *    -0.0f before 0.0f and NaNs last (as the canonical NaN);
+ *  - argsort: the permutation that sorts an int[], long[], float[] or
+ *    double[], by the same radix sort with the indexes carried along. Equal
+ *    keys keep their index order; the array itself is not changed;
+ *  - parallelMergeSort: a stable merge sort of objects on the common
+ *    ForkJoinPool. Runs of up to grain elements are sorted with Arrays.sort,
+ *    and the merges are split in parallel too, by binary search of the
+ *    median of the longer run in the shorter one;
+ *  - branchlessSearch: binary search whose loop has no data-dependent branch,
+ *    just a conditional add, so nothing is mispredicted. It returns the
+ *    first index of key, or -(insertion point) - 1 like Arrays.binarySearch;
+ *  - eytzinger: the keys laid out in breadth-first order of the search
+ *    tree (Eytzinger layout), so the first levels of every search share a
+ *    few cache lines. Both searches are about three times faster than
+ *    Arrays.binarySearch while the keys fit in cache; on arrays far bigger
+ *    than the cache Arrays.binarySearch can win, since its mispredicted
+ *    branches still start the next cache miss early, where the branchless
+ *    loop waits for each one in turn;
+ *  - fill and copy: Arrays.fill and System.arraycopy, split over the common
+ *    pool for arrays of millions of elements, where one core cannot use all
+ *    of the memory bandwidth.
+ *
+ *     int[] prices = loadPrices();
+ *     int[] order = ArrayKernels.argsort(prices);    // prices[order[0]] is the lowest
+ *     ArrayKernels.radixSort(prices);
+ *     int at = ArrayKernels.branchlessSearch(prices, 1999);
+ *
+ * fill and copy do not use the incubating Vector API: C2 already compiles
+ * Arrays.fill and System.arraycopy to the widest vector stores the CPU has.
+ */
+public final class ArrayKernels {
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+    private static final int SMALL_SORT = 1 << 8;              // below this Arrays.sort wins
+    private static final int MIN_GRAIN = 1 << 13;
+    private static final int MIN_CHUNK = 1 << 18;              // elements per parallel fill / copy task
+    private static final int MAX_EYTZINGER = (1 << 30) - 1;
+
+    private ArrayKernels() {
+    }
+
+    // ---------------------------------------------------------------- radix sort
+
+    public static void radixSort(int[] a) {
+        radixSort(a, 0, a.length);
+    }
+
+    /** Sorts a[fromIndex, toIndex) into ascending order. */
+    public static void radixSort(int[] a, int fromIndex, int toIndex) {
+        checkRange(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (n < SMALL_SORT) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+        sortInts(a, fromIndex, n, null);
+    }
+
+    public static void radixSort(long[] a) {
+        radixSort(a, 0, a.length);
+    }
+
+    /** Sorts a[fromIndex, toIndex) into ascending order. */
+    public static void radixSort(long[] a, int fromIndex, int toIndex) {
+        checkRange(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (n < SMALL_SORT) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+        sortLongs(a, fromIndex, n, null);
+    }
+
+    public static void radixSort(float[] a) {
+        radixSort(a, 0, a.length);
+    }
+
+    /** Sorts a[fromIndex, toIndex) into the order of Arrays.sort(float[]). */
+    public static void radixSort(float[] a, int fromIndex, int toIndex) {
+        checkRange(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (n < SMALL_SORT) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = floatKey(Float.floatToIntBits(a[fromIndex + i]));
+        }
+        sortInts(keys, 0, n, null);
+        for (int i = 0; i < n; i++) {
+            a[fromIndex + i] = Float.intBitsToFloat(floatKey(keys[i]));
+        }
+    }
+
+    // ---------------------------------------------------------------- argsort
+
+    /** The indexes of a in ascending order of their values; equal values keep index order. */
+    public static int[] argsort(int[] a) {
+        int[] index = identity(a.length);
+        sortInts(a.clone(), 0, a.length, index);
+        return index;
+    }
+
+    /** The indexes of a in ascending order of their values; equal values keep index order. */
+    public static int[] argsort(long[] a) {
+        int[] index = identity(a.length);
+        sortLongs(a.clone(), 0, a.length, index);
+        return index;
+    }
+
+    /** The indexes of a in the order Arrays.sort(float[]) would put their values. */
+    public static int[] argsort(float[] a) {
+        int[] keys = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            keys[i] = floatKey(Float.floatToIntBits(a[i]));
+        }
+        int[] index = identity(a.length);
+        sortInts(keys, 0, a.length, index);
+        return index;
+    }
+
+    /** The indexes of a in the order Arrays.sort(double[]) would put their values. */
+    public static int[] argsort(double[] a) {
+        long[] keys = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            long bits = Double.doubleToLongBits(a[i]);
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        int[] index = identity(a.length);
+        sortLongs(keys, 0, a.length, index);
+        return index;
+    }
+
+    // ---------------------------------------------------------------- parallel merge sort
+
+    public static <T extends Comparable<? super T>> void parallelMergeSort(T[] a) {
+        parallelMergeSort(a, 0, a.length, Comparator.naturalOrder(), defaultGrain(a.length));
+    }
+
+    public static <T> void parallelMergeSort(T[] a, Comparator<? super T> c) {
+        parallelMergeSort(a, 0, a.length, c, defaultGrain(a.length));
+    }
+
+    /**
+     * Stable sort of a[fromIndex, toIndex). Runs of at most grain elements
+     * are sorted by one task with Arrays.sort, and merges of at most grain
+     * elements are not split further. The default grain is 1/4 of a
+     * worker's share, but at least 8,192.
+     */
+    public static <T> void parallelMergeSort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c, int grain) {
+        checkRange(a.length, fromIndex, toIndex);
+        Objects.requireNonNull(c);
+        if (grain < 1) {
+            throw new IllegalArgumentException("Illegal grain: " + grain);
+        }
+        int n = toIndex - fromIndex;
+        if (n <= grain) {
+            Arrays.sort(a, fromIndex, toIndex, c);
+            return;
+        }
+        Object[] buffer = new Object[n];
+        ForkJoinPool.commonPool().invoke(new SortTask<>(a, buffer, fromIndex, c, grain, 0, n, false));
+    }
+
+    // ---------------------------------------------------------------- search
+
+    public static int branchlessSearch(int[] a, int key) {
+        return branchlessSearch(a, 0, a.length, key);
+    }
+
+    /**
+     * Searches the sorted range a[fromIndex, toIndex) for key: the index of
+     * its first occurrence, or -(insertion point) - 1.
+     */
+    public static int branchlessSearch(int[] a, int fromIndex, int toIndex, int key) {
+        checkRange(a.length, fromIndex, toIndex);
+        int base = fromIndex;
+        int n = toIndex - fromIndex;
+        if (n == 0) {
+            return -fromIndex - 1;
+        }
+        while (n > 1) {
+            int half = n >>> 1;
+            base += a[base + half] < key ? half : 0;            // compiles to a conditional move
+            n -= half;
+        }
+        int at = base + (a[base] < key ? 1 : 0);
+        return at < toIndex && a[at] == key ? at : -at - 1;
+    }
+
+    public static int branchlessSearch(long[] a, long key) {
+        return branchlessSearch(a, 0, a.length, key);
+    }
+
+    /**
+     * Searches the sorted range a[fromIndex, toIndex) for key: the index of
+     * its first occurrence, or -(insertion point) - 1.
+     */
+    public static int branchlessSearch(long[] a, int fromIndex, int toIndex, long key) {
+        checkRange(a.length, fromIndex, toIndex);
+        int base = fromIndex;
+        int n = toIndex - fromIndex;
+        if (n == 0) {
+            return -fromIndex - 1;
+        }
+        while (n > 1) {
+            int half = n >>> 1;
+            base += a[base + half] < key ? half : 0;
+            n -= half;
+        }
+        int at = base + (a[base] < key ? 1 : 0);
+        return at < toIndex && a[at] == key ? at : -at - 1;
+    }
+
+    /**
+     * An Eytzinger-layout copy of sorted, which must be in ascending order.
+     *
+     * @throws IllegalArgumentException if sorted is not sorted or has 2^30 or more keys
+     */
+    public static EytzingerIndex eytzinger(int[] sorted) {
+        if (sorted.length > MAX_EYTZINGER) {
+            throw new IllegalArgumentException("EytzingerIndex cannot hold more than " + MAX_EYTZINGER + " keys");
+        }
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("Not sorted at index " + i);
+            }
+        }
+        return new EytzingerIndex(sorted);
+    }
+
+    // ---------------------------------------------------------------- fill and copy
+
+    public static void fill(int[] a, int value) {
+        fill(a, 0, a.length, value);
+    }
+
+    public static void fill(int[] a, int fromIndex, int toIndex, int value) {
+        checkRange(a.length, fromIndex, toIndex);
+        int chunks = chunks(toIndex - fromIndex);
+        if (chunks < 2) {
+            Arrays.fill(a, fromIndex, toIndex, value);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                Arrays.fill(a, chunkStart(fromIndex, toIndex, chunks, c), chunkStart(fromIndex, toIndex, chunks, c + 1), value));
+    }
+
+    public static void fill(long[] a, long value) {
+        fill(a, 0, a.length, value);
+    }
+
+    public static void fill(long[] a, int fromIndex, int toIndex, long value) {
+        checkRange(a.length, fromIndex, toIndex);
+        int chunks = chunks(toIndex - fromIndex);
+        if (chunks < 2) {
+            Arrays.fill(a, fromIndex, toIndex, value);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                Arrays.fill(a, chunkStart(fromIndex, toIndex, chunks, c), chunkStart(fromIndex, toIndex, chunks, c + 1), value));
+    }
+
+    public static void fill(double[] a, double value) {
+        fill(a, 0, a.length, value);
+    }
+
+    public static void fill(double[] a, int fromIndex, int toIndex, double value) {
+        checkRange(a.length, fromIndex, toIndex);
+        int chunks = chunks(toIndex - fromIndex);
+        if (chunks < 2) {
+            Arrays.fill(a, fromIndex, toIndex, value);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                Arrays.fill(a, chunkStart(fromIndex, toIndex, chunks, c), chunkStart(fromIndex, toIndex, chunks, c + 1), value));
+    }
+
+    /** System.arraycopy, in parallel pieces for long copies between distinct arrays. */
+    public static void copy(int[] src, int srcPos, int[] dest, int destPos, int length) {
+        Objects.checkFromIndexSize(srcPos, length, src.length);
+        Objects.checkFromIndexSize(destPos, length, dest.length);
+        int chunks = src == dest ? 1 : chunks(length);
+        if (chunks < 2) {
+            System.arraycopy(src, srcPos, dest, destPos, length);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int lo = chunkStart(0, length, chunks, c);
+            System.arraycopy(src, srcPos + lo, dest, destPos + lo, chunkStart(0, length, chunks, c + 1) - lo);
+        });
+    }
+
+    /** System.arraycopy, in parallel pieces for long copies between distinct arrays. */
+    public static void copy(long[] src, int srcPos, long[] dest, int destPos, int length) {
+        Objects.checkFromIndexSize(srcPos, length, src.length);
+        Objects.checkFromIndexSize(destPos, length, dest.length);
+        int chunks = src == dest ? 1 : chunks(length);
+        if (chunks < 2) {
+            System.arraycopy(src, srcPos, dest, destPos, length);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int lo = chunkStart(0, length, chunks, c);
+            System.arraycopy(src, srcPos + lo, dest, destPos + lo, chunkStart(0, length, chunks, c + 1) - lo);
+        });
+    }
+
+    /** System.arraycopy, in parallel pieces for long copies between distinct arrays. */
+    public static void copy(double[] src, int srcPos, double[] dest, int destPos, int length) {
+        Objects.checkFromIndexSize(srcPos, length, src.length);
+        Objects.checkFromIndexSize(destPos, length, dest.length);
+        int chunks = src == dest ? 1 : chunks(length);
+        if (chunks < 2) {
+            System.arraycopy(src, srcPos, dest, destPos, length);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int lo = chunkStart(0, length, chunks, c);
+            System.arraycopy(src, srcPos + lo, dest, destPos + lo, chunkStart(0, length, chunks, c + 1) - lo);
+        });
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    /**
+     * Eytzinger Index
+     * ---------------
+     * Sorted int keys stored as an implicit binary search tree in breadth-
+     * first order: the root at 1, the children of k at 2k and 2k + 1. A
+     * search walks down from the root with a conditional shift instead of a
+     * branch, and the top levels of the tree, which every search reads, sit
+     * together at the front of the array instead of being spread over it.
+     * Immutable.
+     */
+    public static final class EytzingerIndex {
+
+        private final int[] tree;       // tree[0] is unused
+        private final int[] rank;       // rank[k]: index of tree[k] in the sorted array
+        private final int size;
+
+        private EytzingerIndex(int[] sorted) {
+            size = sorted.length;
+            tree = new int[size + 1];
+            rank = new int[size + 1];
+            layOut(sorted, 0, 1);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /** Like Arrays.binarySearch on the sorted keys: the index of the first key equal to key, or -(insertion point) - 1. */
+        public int indexOf(int key) {
+            int k = lowerBound(key);
+            if (k == 0) {
+                return -size - 1;
+            }
+            return tree[k] == key ? rank[k] : -rank[k] - 1;
+        }
+
+        public boolean contains(int key) {
+            int k = lowerBound(key);
+            return k != 0 && tree[k] == key;
+        }
+
+        // the tree position of the first key >= key, or 0 if there is none
+        private int lowerBound(int key) {
+            int k = 1;
+            while (k <= size) {
+                k = (k << 1) + (tree[k] < key ? 1 : 0);
+            }
+            // the path went right (1 bits) after its last left turn; undo those and that turn
+            return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+        }
+
+        // in-order walk of the implicit tree, taking the sorted keys from next on
+        private int layOut(int[] sorted, int next, int k) {
+            if (k <= size) {
+                next = layOut(sorted, next, 2 * k);
+                tree[k] = sorted[next];
+                rank[k] = next++;
+                next = layOut(sorted, next, 2 * k + 1);
+            }
+            return next;
+        }
+    }
+
+    // signed order for int keys: flip the sign bit in the top byte's digit
+    private static void sortInts(int[] a, int from, int n, int[] carry) {
+        int[] counts = new int[4 * RADIX];
+        for (int i = from, end = from + n; i < end; i++) {
+            int key = a[i] ^ Integer.MIN_VALUE;
+            counts[key & RADIX_MASK]++;
+            counts[RADIX + ((key >>> 8) & RADIX_MASK)]++;
+            counts[2 * RADIX + ((key >>> 16) & RADIX_MASK)]++;
+            counts[3 * RADIX + (key >>> 24)]++;
+        }
+        int[] src = a;
+        int[] dst = new int[n];
+        int[] srcCarry = carry;
+        int[] dstCarry = carry == null ? null : new int[n];
+        int srcOff = from;
+        int dstOff = 0;
+        for (int pass = 0; pass < 4; pass++) {
+            int shift = pass * RADIX_BITS;
+            int base = pass * RADIX;
+            if (n == 0 || counts[base + (((a[from] ^ Integer.MIN_VALUE) >>> shift) & RADIX_MASK)] == n) {
+                continue;                                       // every key has the same digit
+            }
+            for (int b = 0, sum = dstOff; b < RADIX; b++) {
+                int count = counts[base + b];
+                counts[base + b] = sum;
+                sum += count;
+            }
+            if (carry == null) {
+                for (int i = srcOff, end = srcOff + n; i < end; i++) {
+                    int value = src[i];
+                    dst[counts[base + (((value ^ Integer.MIN_VALUE) >>> shift) & RADIX_MASK)]++] = value;
+                }
+            } else {
+                for (int i = srcOff, end = srcOff + n; i < end; i++) {
+                    int value = src[i];
+                    int to = counts[base + (((value ^ Integer.MIN_VALUE) >>> shift) & RADIX_MASK)]++;
+                    dst[to] = value;
+                    dstCarry[to] = srcCarry[i];
+                }
+                int[] swapCarry = srcCarry;
+                srcCarry = dstCarry;
+                dstCarry = swapCarry;
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+            int swapOff = srcOff;
+            srcOff = dstOff;
+            dstOff = swapOff;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+            if (carry != null) {
+                System.arraycopy(srcCarry, srcOff, carry, from, n);
+            }
+        }
+    }
+
+    private static void sortLongs(long[] a, int from, int n, int[] carry) {
+        int[] counts = new int[8 * RADIX];
+        for (int i = from, end = from + n; i < end; i++) {
+            long key = a[i] ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < 8; pass++) {
+                counts[pass * RADIX + (int) ((key >>> (pass * RADIX_BITS)) & RADIX_MASK)]++;
+            }
+        }
+        long[] src = a;
+        long[] dst = new long[n];
+        int[] srcCarry = carry;
+        int[] dstCarry = carry == null ? null : new int[n];
+        int srcOff = from;
+        int dstOff = 0;
+        for (int pass = 0; pass < 8; pass++) {
+            int shift = pass * RADIX_BITS;
+            int base = pass * RADIX;
+            if (n == 0 || counts[base + (int) (((a[from] ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK)] == n) {
+                continue;
+            }
+            for (int b = 0, sum = dstOff; b < RADIX; b++) {
+                int count = counts[base + b];
+                counts[base + b] = sum;
+                sum += count;
+            }
+            if (carry == null) {
+                for (int i = srcOff, end = srcOff + n; i < end; i++) {
+                    long value = src[i];
+                    dst[counts[base + (int) (((value ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK)]++] = value;
+                }
+            } else {
+                for (int i = srcOff, end = srcOff + n; i < end; i++) {
+                    long value = src[i];
+                    int to = counts[base + (int) (((value ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK)]++;
+                    dst[to] = value;
+                    dstCarry[to] = srcCarry[i];
+                }
+                int[] swapCarry = srcCarry;
+                srcCarry = dstCarry;
+                dstCarry = swapCarry;
+            }
+            long[] swap = src;
+            src = dst;
+            dst = swap;
+            int swapOff = srcOff;
+            srcOff = dstOff;
+            dstOff = swapOff;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+            if (carry != null) {
+                System.arraycopy(srcCarry, srcOff, carry, from, n);
+            }
+        }
+    }
+
+    // float bits to an int that sorts the same way, and back: negative floats get their magnitude flipped
+    private static int floatKey(int bits) {
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    private static int[] identity(int n) {
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        return index;
+    }
+
+    private static int defaultGrain(int n) {
+        return Math.max(MIN_GRAIN, n / (ForkJoinPool.getCommonPoolParallelism() << 2));
+    }
+
+    private static int chunks(int n) {
+        return Math.min(ForkJoinPool.getCommonPoolParallelism(), n / MIN_CHUNK);
+    }
+
+    private static int chunkStart(int from, int to, int chunks, int c) {
+        return from + (int) ((long) (to - from) * c / chunks);
+    }
+
+    private static void checkRange(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0 || toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * Sorts positions [lo, hi) of the range into a (toBuffer false) or into
+     * buffer: the halves are sorted into the other array, then merged back.
+     * Positions are relative to the range; a starts at from, buffer at 0.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a;
+        private final Object[] buffer;
+        private final int from;
+        private final Comparator<? super T> c;
+        private final int grain;
+        private final int lo;
+        private final int hi;
+        private final boolean toBuffer;
+
+        SortTask(T[] a, Object[] buffer, int from, Comparator<? super T> c, int grain, int lo, int hi, boolean toBuffer) {
+            this.a = a;
+            this.buffer = buffer;
+            this.from = from;
+            this.c = c;
+            this.grain = grain;
+            this.lo = lo;
+            this.hi = hi;
+            this.toBuffer = toBuffer;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (hi - lo <= grain) {
+                Arrays.sort(a, from + lo, from + hi, c);
+                if (toBuffer) {
+                    System.arraycopy(a, from + lo, buffer, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask<>(a, buffer, from, c, grain, lo, mid, !toBuffer),
+                      new SortTask<>(a, buffer, from, c, grain, mid, hi, !toBuffer));
+            Object[] src = toBuffer ? a : buffer;
+            int srcOff = toBuffer ? from : 0;
+            Object[] dst = toBuffer ? buffer : a;
+            int dstOff = toBuffer ? 0 : from;
+            if (c.compare((T) src[srcOff + mid - 1], (T) src[srcOff + mid]) <= 0) {
+                System.arraycopy(src, srcOff + lo, dst, dstOff + lo, hi - lo);      // already in order
+            } else {
+                new MergeTask<>(src, srcOff, dst, dstOff, c, grain, lo, mid, mid, hi, lo).invoke();
+            }
+        }
+    }
+
+    /**
+     * Merges src[lo1, hi1) and src[lo2, hi2) into dst from out on, stably.
+     * A long merge is split at the median of its longer run, which a binary
+     * search places in the shorter one, and the two halves merge in parallel.
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] src;
+        private final int srcOff;
+        private final Object[] dst;
+        private final int dstOff;
+        private final Comparator<? super T> c;
+        private final int grain;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int out;
+
+        MergeTask(Object[] src, int srcOff, Object[] dst, int dstOff, Comparator<? super T> c, int grain,
+                  int lo1, int hi1, int lo2, int hi2, int out) {
+            this.src = src;
+            this.srcOff = srcOff;
+            this.dst = dst;
+            this.dstOff = dstOff;
+            this.c = c;
+            this.grain = grain;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= grain || Math.max(n1, n2) < 2) {
+                merge();
+                return;
+            }
+            int m1;
+            int m2;
+            if (n1 >= n2) {
+                // left elements equal to the split go first, so right ones equal to it go after
+                m1 = (lo1 + hi1) >>> 1;
+                T split = (T) src[srcOff + m1];
+                m2 = search(lo2, hi2, split, false);
+            } else {
+                m2 = (lo2 + hi2) >>> 1;
+                T split = (T) src[srcOff + m2];
+                m1 = search(lo1, hi1, split, true);
+            }
+            int outMid = out + (m1 - lo1) + (m2 - lo2);
+            invokeAll(new MergeTask<>(src, srcOff, dst, dstOff, c, grain, lo1, m1, lo2, m2, out),
+                      new MergeTask<>(src, srcOff, dst, dstOff, c, grain, m1, hi1, m2, hi2, outMid));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void merge() {
+            int i = lo1;
+            int j = lo2;
+            int k = dstOff + out;
+            while (i < hi1 && j < hi2) {
+                T left = (T) src[srcOff + i];
+                T right = (T) src[srcOff + j];
+                if (c.compare(left, right) <= 0) {
+                    dst[k++] = left;
+                    i++;
+                } else {
+                    dst[k++] = right;
+                    j++;
+                }
+            }
+            System.arraycopy(src, srcOff + i, dst, k, hi1 - i);
+            System.arraycopy(src, srcOff + j, dst, k + hi1 - i, hi2 - j);
+        }
+
+        // first position in [lo, hi) whose element is > split (upper) or >= split (lower)
+        @SuppressWarnings("unchecked")
+        private int search(int lo, int hi, T split, boolean upper) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int cmp = c.compare((T) src[srcOff + mid], split);
+                if (cmp < 0 || upper && cmp == 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Java arrays
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.arrays;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+
+/**
+ * Array Kernels Benchmark
+ * -----------------------
+ * Every ArrayKernels kernel against its java.util.Arrays equivalent, in
+ * nanoseconds per element (per lookup for the searches):
+ *
+ * - sort 10,000,000 random int, long and float keys: Arrays.sort,
+ *   Arrays.parallelSort and radixSort
+ * - argsort 4,000,000 ints: argsort against sorting an Integer[] of
+ *   indexes with a comparator, the usual way to do it with Arrays
+ * - sort 2,000,000 Strings: Arrays.sort, Arrays.parallelSort and
+ *   parallelMergeSort
+ * - search 10,000,000 random keys, half of them present, in 1,000 and
+ *   16,000,000 sorted ints: Arrays.binarySearch, branchlessSearch and an
+ *   EytzingerIndex
+ * - fill and copy 32,000,000 ints: Arrays.fill / System.arraycopy against
+ *   fill / copy
+ *
+ * The unsorted input is copied into the array to sort before each round,
+ * outside the timed part. Parallel speed-up is capped by the number of
+ * cores; the common pool's parallelism is printed first.
+ *
+ * Run with a large heap, e.g. java -Xmx2g.
+ */
+public class ArrayKernelsBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final int SORT = 10_000_000;
+    private static final int ARGSORT = 4_000_000;
+    private static final int OBJECTS = 2_000_000;
+    private static final int LOOKUPS = 10_000_000;
+    private static final int FILL = 32_000_000;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        Random random = new Random(17);
+        System.out.printf("common pool parallelism %d%n", ForkJoinPool.getCommonPoolParallelism());
+
+        System.out.printf("--- sort %,d keys%n", SORT);
+        int[] ints = random.ints(SORT).toArray();
+        int[] intWork = new int[SORT];
+        run("Arrays.sort int[]           ", SORT, () -> System.arraycopy(ints, 0, intWork, 0, SORT), () -> {
+            Arrays.sort(intWork);
+            return intWork[SORT / 2];
+        });
+        run("Arrays.parallelSort int[]   ", SORT, () -> System.arraycopy(ints, 0, intWork, 0, SORT), () -> {
+            Arrays.parallelSort(intWork);
+            return intWork[SORT / 2];
+        });
+        run("radixSort int[]             ", SORT, () -> System.arraycopy(ints, 0, intWork, 0, SORT), () -> {
+            ArrayKernels.radixSort(intWork);
+            return intWork[SORT / 2];
+        });
+        long[] longs = random.longs(SORT).toArray();
+        long[] longWork = new long[SORT];
+        run("Arrays.sort long[]          ", SORT, () -> System.arraycopy(longs, 0, longWork, 0, SORT), () -> {
+            Arrays.sort(longWork);
+            return longWork[SORT / 2];
+        });
+        run("radixSort long[]            ", SORT, () -> System.arraycopy(longs, 0, longWork, 0, SORT), () -> {
+            ArrayKernels.radixSort(longWork);
+            return longWork[SORT / 2];
+        });
+        float[] floats = new float[SORT];
+        for (int i = 0; i < SORT; i++) {
+            floats[i] = (float) random.nextGaussian();
+        }
+        float[] floatWork = new float[SORT];
+        run("Arrays.sort float[]         ", SORT, () -> System.arraycopy(floats, 0, floatWork, 0, SORT), () -> {
+            Arrays.sort(floatWork);
+            return (long) floatWork[SORT / 2];
+        });
+        run("radixSort float[]           ", SORT, () -> System.arraycopy(floats, 0, floatWork, 0, SORT), () -> {
+            ArrayKernels.radixSort(floatWork);
+            return (long) floatWork[SORT / 2];
+        });
+
+        System.out.printf("--- argsort %,d ints%n", ARGSORT);
+        int[] keys = Arrays.copyOf(ints, ARGSORT);
+        run("Integer[] + comparator      ", ARGSORT, () -> { }, () -> {
+            Integer[] order = new Integer[ARGSORT];
+            for (int i = 0; i < ARGSORT; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> keys[i]));
+            return order[0];
+        });
+        run("argsort                     ", ARGSORT, () -> { }, () -> ArrayKernels.argsort(keys)[0]);
+
+        System.out.printf("--- sort %,d Strings%n", OBJECTS);
+        String[] strings = new String[OBJECTS];
+        for (int i = 0; i < OBJECTS; i++) {
+            strings[i] = Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+        }
+        String[] stringWork = new String[OBJECTS];
+        run("Arrays.sort                 ", OBJECTS, () -> System.arraycopy(strings, 0, stringWork, 0, OBJECTS), () -> {
+            Arrays.sort(stringWork);
+            return stringWork[0].length();
+        });
+        run("Arrays.parallelSort         ", OBJECTS, () -> System.arraycopy(strings, 0, stringWork, 0, OBJECTS), () -> {
+            Arrays.parallelSort(stringWork);
+            return stringWork[0].length();
+        });
+        run("parallelMergeSort           ", OBJECTS, () -> System.arraycopy(strings, 0, stringWork, 0, OBJECTS), () -> {
+            ArrayKernels.parallelMergeSort(stringWork);
+            return stringWork[0].length();
+        });
+
+        for (int size : new int[] {1_000, 16_000_000}) {
+            System.out.printf("--- search %,d sorted ints%n", size);
+            int[] sorted = new int[size];
+            for (int i = 0, value = 0; i < size; i++) {
+                value += 1 + random.nextInt(4);
+                sorted[i] = value;
+            }
+            int[] lookups = new int[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                lookups[i] = i % 2 == 0 ? sorted[random.nextInt(size)] : random.nextInt(sorted[size - 1]);
+            }
+            ArrayKernels.EytzingerIndex index = ArrayKernels.eytzinger(sorted);
+            run("Arrays.binarySearch         ", LOOKUPS, () -> { }, () -> {
+                long sum = 0;
+                for (int key : lookups) {
+                    sum += Arrays.binarySearch(sorted, key);
+                }
+                return sum;
+            });
+            run("branchlessSearch            ", LOOKUPS, () -> { }, () -> {
+                long sum = 0;
+                for (int key : lookups) {
+                    sum += ArrayKernels.branchlessSearch(sorted, key);
+                }
+                return sum;
+            });
+            run("EytzingerIndex.indexOf      ", LOOKUPS, () -> { }, () -> {
+                long sum = 0;
+                for (int key : lookups) {
+                    sum += index.indexOf(key);
+                }
+                return sum;
+            });
+        }
+
+        System.out.printf("--- fill and copy %,d ints%n", FILL);
+        int[] target = new int[FILL];
+        int[] source = new int[FILL];
+        Arrays.fill(source, 3);
+        run("Arrays.fill                 ", FILL, () -> { }, () -> {
+            Arrays.fill(target, 7);
+            return target[FILL - 1];
+        });
+        run("fill                        ", FILL, () -> { }, () -> {
+            ArrayKernels.fill(target, 7);
+            return target[FILL - 1];
+        });
+        run("System.arraycopy            ", FILL, () -> { }, () -> {
+            System.arraycopy(source, 0, target, 0, FILL);
+            return target[FILL - 1];
+        });
+        run("copy                        ", FILL, () -> { }, () -> {
+            ArrayKernels.copy(source, 0, target, 0, FILL);
+            return target[FILL - 1];
+        });
+        System.out.println("sink=" + sink);
+    }
+
+    private static void run(String label, int elements, Runnable setup, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            setup.run();
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            setup.run();
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %7.2f ns/element%n", label, (double) best / elements);
+    }
+}
@@ -0,0 +1,226 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework ArrayStack
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Array Stack
+ * -----------
+ * The Stack of StackExample without the locks. java.util.Stack extends
+ * Vector, so every push, pop and peek enters a monitor even when one thread
+ * owns the stack, as in a parser. ArrayStack is a plain growable array with
+ * the same push / pop / peek and nothing synchronized; ArrayDeque is the
+ * other unlocked choice, but has no bulk moves, no peek at depth and no
+ * mark / reset.
+ *
+ * pushAll and pop(count) move runs of elements at once, in push order, and
+ * drop(count) discards them. trimToSize hands back the array after a deep
+ * excursion.
+ *
+ * mark() returns the current depth as a plain int, and reset(mark) discards
+ * everything pushed since. A backtracking parser keeps the mark in a local
+ * variable while it tries an alternative, so the stack needs no second
+ * stack of saved positions. Elements popped from below a mark are gone:
+ * reset throws if the stack is already shallower than the mark.
+ *
+ *     ArrayStack<String> tokens = new ArrayStack<>();
+ *     tokens.push("(");
+ *     int mark = tokens.mark();
+ *     tokens.push("2");
+ *     tokens.push("+");
+ *     tokens.reset(mark);                  // that alternative failed
+ *     System.out.println(tokens.peek());   // (
+ *
+ * IntStack and LongStack do the same for primitive values. Null elements
+ * are allowed. Not thread-safe.
+ */
+public class ArrayStack<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final Object[] EMPTY = {};
+
+    private Object[] elements;
+    private int size;
+
+    public ArrayStack() {
+        elements = EMPTY;
+    }
+
+    public ArrayStack(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** The top element, without removing it. */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return (E) elements[size - 1];
+    }
+
+    /** The element depth places below the top; peek(0) is the top. */
+    @SuppressWarnings("unchecked")
+    public E peek(int depth) {
+        if (depth < 0 || depth >= size) {
+            throw new IndexOutOfBoundsException("Depth: " + depth + ", Size: " + size);
+        }
+        return (E) elements[size - 1 - depth];
+    }
+
+    /** The elements from the bottom of the stack to the top. */
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    public void push(E element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+    /** Pushes elements in order, so the last one ends up on top. */
+    @SafeVarargs
+    public final void pushAll(E... elements) {
+        int newSize = size + elements.length;
+        if (newSize > this.elements.length || newSize < 0) {
+            grow(newSize);
+        }
+        for (E element : elements) {
+            this.elements[size++] = element;
+        }
+    }
+
+    /** Pushes elements in iteration order, so the last one ends up on top. */
+    public void pushAll(List<? extends E> elements) {
+        int newSize = size + elements.size();
+        if (newSize > this.elements.length || newSize < 0) {
+            grow(newSize);
+        }
+        for (E element : elements) {
+            this.elements[size++] = element;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        E element = (E) elements[--size];
+        elements[size] = null;
+        return element;
+    }
+
+    /** Removes the top count elements and returns them in push order, the old top last. */
+    @SuppressWarnings("unchecked")
+    public List<E> pop(int count) {
+        checkCount(count);
+        List<E> popped = new ArrayList<>(count);
+        for (int i = size - count; i < size; i++) {
+            popped.add((E) elements[i]);
+        }
+        drop(count);
+        return popped;
+    }
+
+    /** Removes the top count elements. */
+    public void drop(int count) {
+        checkCount(count);
+        Arrays.fill(elements, size - count, size, null);
+        size -= count;
+    }
+
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /** The current depth, for a later reset. */
+    public int mark() {
+        return size;
+    }
+
+    /**
+     * Discards every element pushed since mark() returned mark.
+     *
+     * @throws IllegalStateException if elements below the mark have been popped since
+     */
+    public void reset(int mark) {
+        if (mark < 0 || mark > size) {
+            throw new IllegalStateException("Stack of size " + size + " is below mark " + mark);
+        }
+        drop(size - mark);
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /** Shrinks the backing array to the current size. */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void checkCount(int count) {
+        if (count < 0 || count > size) {
+            throw new IndexOutOfBoundsException("Count: " + count + ", Size: " + size);
+        }
+    }
+
+    // grows by half again, like ArrayList, but at least to minCapacity
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("ArrayStack cannot hold more than " + MAX_CAPACITY + " elements");
+        }
+        int old = elements.length;
+        int capacity = old == 0 ? DEFAULT_CAPACITY : (int) Math.min(MAX_CAPACITY, old + (long) (old >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, minCapacity));
+    }
+}
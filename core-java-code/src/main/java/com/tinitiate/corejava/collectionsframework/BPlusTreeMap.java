@@ -0,0 +1,1409 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework BPlusTreeMap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * B+ Tree Map
+ * -----------
+ * A NavigableMap with the same contract as the TreeMap of TreeMapExample,
+ * stored as a B+ tree instead of a red-black tree. A TreeMap node holds one
+ * entry, so a lookup in a million entries visits about 20 nodes scattered
+ * over the heap. Here every node holds up to 64 keys in one array: a lookup
+ * visits 4 or 5 nodes and binary-searches each one, and all entries sit in
+ * the leaves, which are chained both ways so a range scan or an iterator
+ * walks arrays instead of parent pointers.
+ *
+ * Everything TreeMap offers is here: a Comparator, including
+ * Comparator.reverseOrder(); first/last, lower/floor/ceiling/higher, poll;
+ * and live headMap / tailMap / subMap, descendingMap and key-set views.
+ * Entries handed out by the navigation methods are snapshots, as in
+ * TreeMap. Building from a SortedMap, or putAll of one into an empty map,
+ * packs the leaves in a single pass. Ascending put() of keys past the end
+ * fills leaves completely instead of leaving them half empty.
+ *
+ *     BPlusTreeMap<String, Integer> marks = new BPlusTreeMap<>(Comparator.reverseOrder());
+ *     marks.put("Ravi", 88);
+ *     marks.put("Anu", 92);
+ *     marks.put("Kiran", 79);
+ *     System.out.println(marks.higherKey("Kiran"));        // Anu
+ *     System.out.println(marks.headMap("Kiran", true));    // {Ravi=88, Kiran=79}
+ *
+ * LongBPlusTreeMap is the same tree with primitive long keys. Not
+ * thread-safe; concurrent readers are fine as long as nothing writes.
+ */
+public class BPlusTreeMap<K, V> extends AbstractMap<K, V> implements NavigableMap<K, V> {
+
+    private static final int LEAF_CAPACITY = 64;        // entries per leaf
+    private static final int INNER_CAPACITY = 64;       // children per inner node
+    private static final int LEAF_MIN = LEAF_CAPACITY / 2;
+    private static final int INNER_MIN = INNER_CAPACITY / 2;
+    private static final Object ABSENT = new Object();
+
+    private final Comparator<? super K> comparator;
+    private Node root;
+    private Leaf first;
+    private Leaf last;
+    private int height;                 // levels of inner nodes above the leaves
+    private int size;
+    private int modCount;
+    private Inner[] pathNodes = new Inner[8];     // scratch for put / remove
+    private int[] pathSlots = new int[8];
+    private final SubMap whole = new SubMap(true, null, false, true, null, false, false);
+
+    public BPlusTreeMap() {
+        this((Comparator<? super K>) null);
+    }
+
+    /** An empty map ordered by comparator, or by natural order if it is null. */
+    public BPlusTreeMap(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+        clear();
+    }
+
+    public BPlusTreeMap(Map<? extends K, ? extends V> m) {
+        this((Comparator<? super K>) null);
+        putAll(m);
+    }
+
+    /** A map with the same ordering and entries as m, built in one pass. */
+    public BPlusTreeMap(SortedMap<K, ? extends V> m) {
+        this(m.comparator());
+        buildFromSorted(m.entrySet().iterator(), m.size());
+    }
+
+    // ---------------------------------------------------------------- point operations
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Leaf leaf = leafFor(key);
+        return search(leaf.keys, leaf.count, key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Leaf leaf = leafFor(key);
+        int index = search(leaf.keys, leaf.count, key);
+        return index >= 0 ? (V) leaf.values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (size == 0) {
+            compare(key, key);          // type and null check, as in TreeMap
+        }
+        Node node = root;
+        int spine = 0;                  // leading levels where the path took the last child
+        for (int depth = 0; depth < height; depth++) {
+            Inner inner = (Inner) node;
+            int slot = childIndex(inner, key);
+            if (spine == depth && slot == inner.count - 1) {
+                spine++;
+            }
+            pathNodes[depth] = inner;
+            pathSlots[depth] = slot;
+            node = inner.children[slot];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = search(leaf.keys, leaf.count, key);
+        if (index >= 0) {
+            V previous = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return previous;
+        }
+        index = -index - 1;
+        size++;
+        modCount++;
+        if (leaf.count < LEAF_CAPACITY) {
+            insertIntoLeaf(leaf, index, key, value);
+            return null;
+        }
+
+        // split the leaf; appending past the last key keeps the left leaf full
+        int keep = spine == height && index == LEAF_CAPACITY ? LEAF_CAPACITY : LEAF_CAPACITY / 2;
+        Leaf right = new Leaf();
+        int moved = LEAF_CAPACITY - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, moved);
+        System.arraycopy(leaf.values, keep, right.values, 0, moved);
+        Arrays.fill(leaf.keys, keep, LEAF_CAPACITY, null);
+        Arrays.fill(leaf.values, keep, LEAF_CAPACITY, null);
+        leaf.count = keep;
+        right.count = moved;
+        if (index < keep) {
+            insertIntoLeaf(leaf, index, key, value);
+        } else {
+            insertIntoLeaf(right, index - keep, key, value);
+        }
+        right.next = leaf.next;
+        right.prev = leaf;
+        if (leaf.next != null) {
+            leaf.next.prev = right;
+        } else {
+            last = right;
+        }
+        leaf.next = right;
+
+        // hand the new node up, splitting full inner nodes on the way
+        Object separator = right.keys[0];
+        Node added = right;
+        for (int depth = height - 1; depth >= 0; depth--) {
+            Inner parent = pathNodes[depth];
+            insertChild(parent, pathSlots[depth], separator, added);
+            if (parent.count <= INNER_CAPACITY) {
+                return null;
+            }
+            int keepChildren = spine > depth ? INNER_CAPACITY : (INNER_CAPACITY + 1) / 2;
+            Inner sibling = new Inner();
+            int movedChildren = parent.count - keepChildren;
+            separator = parent.keys[keepChildren - 1];
+            System.arraycopy(parent.children, keepChildren, sibling.children, 0, movedChildren);
+            System.arraycopy(parent.keys, keepChildren, sibling.keys, 0, movedChildren - 1);
+            Arrays.fill(parent.children, keepChildren, parent.count, null);
+            Arrays.fill(parent.keys, keepChildren - 1, parent.count - 1, null);
+            sibling.count = movedChildren;
+            parent.count = keepChildren;
+            added = sibling;
+        }
+        Inner newRoot = new Inner();
+        newRoot.children[0] = root;
+        newRoot.children[1] = added;
+        newRoot.keys[0] = separator;
+        newRoot.count = 2;
+        root = newRoot;
+        height++;
+        if (height > pathNodes.length) {
+            pathNodes = Arrays.copyOf(pathNodes, height * 2);
+            pathSlots = Arrays.copyOf(pathSlots, height * 2);
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        Object previous = delete(key);
+        return previous == ABSENT ? null : (V) previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (size == 0 && !m.isEmpty() && m instanceof SortedMap
+                && Objects.equals(comparator, ((SortedMap<?, ?>) m).comparator())) {
+            buildFromSorted(m.entrySet().iterator(), m.size());
+        } else {
+            super.putAll(m);
+        }
+    }
+
+    @Override
+    public void clear() {
+        Leaf leaf = new Leaf();
+        root = leaf;
+        first = leaf;
+        last = leaf;
+        height = 0;
+        size = 0;
+        modCount++;
+    }
+
+    // ---------------------------------------------------------------- navigation
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public Entry<K, V> firstEntry() {
+        return whole.firstEntry();
+    }
+
+    @Override
+    public Entry<K, V> lastEntry() {
+        return whole.lastEntry();
+    }
+
+    @Override
+    public Entry<K, V> pollFirstEntry() {
+        return whole.pollFirstEntry();
+    }
+
+    @Override
+    public Entry<K, V> pollLastEntry() {
+        return whole.pollLastEntry();
+    }
+
+    @Override
+    public K firstKey() {
+        return whole.firstKey();
+    }
+
+    @Override
+    public K lastKey() {
+        return whole.lastKey();
+    }
+
+    @Override
+    public Entry<K, V> lowerEntry(K key) {
+        return whole.lowerEntry(key);
+    }
+
+    @Override
+    public K lowerKey(K key) {
+        return whole.lowerKey(key);
+    }
+
+    @Override
+    public Entry<K, V> floorEntry(K key) {
+        return whole.floorEntry(key);
+    }
+
+    @Override
+    public K floorKey(K key) {
+        return whole.floorKey(key);
+    }
+
+    @Override
+    public Entry<K, V> ceilingEntry(K key) {
+        return whole.ceilingEntry(key);
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        return whole.ceilingKey(key);
+    }
+
+    @Override
+    public Entry<K, V> higherEntry(K key) {
+        return whole.higherEntry(key);
+    }
+
+    @Override
+    public K higherKey(K key) {
+        return whole.higherKey(key);
+    }
+
+    // ---------------------------------------------------------------- views
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return whole.entrySet();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return whole.navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> navigableKeySet() {
+        return whole.navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> descendingKeySet() {
+        return whole.descendingKeySet();
+    }
+
+    @Override
+    public NavigableMap<K, V> descendingMap() {
+        return whole.descendingMap();
+    }
+
+    @Override
+    public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        return whole.subMap(fromKey, fromInclusive, toKey, toInclusive);
+    }
+
+    @Override
+    public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+        return whole.headMap(toKey, inclusive);
+    }
+
+    @Override
+    public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        return whole.tailMap(fromKey, inclusive);
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    // ---------------------------------------------------------------- tree internals
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator == null
+                ? ((Comparable<Object>) a).compareTo(b)
+                : comparator.compare((K) a, (K) b);
+    }
+
+    // binary search in keys[0 .. n): the index of key, or -(insertion point) - 1
+    @SuppressWarnings("unchecked")
+    private int search(Object[] keys, int n, Object key) {
+        int lo = 0;
+        int hi = n - 1;
+        if (comparator == null) {
+            Comparable<Object> k = (Comparable<Object>) key;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int c = k.compareTo(keys[mid]);
+                if (c > 0) {
+                    lo = mid + 1;
+                } else if (c < 0) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+        } else {
+            Comparator<? super K> cmp = comparator;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int c = cmp.compare((K) key, (K) keys[mid]);
+                if (c > 0) {
+                    lo = mid + 1;
+                } else if (c < 0) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+        }
+        return -(lo + 1);
+    }
+
+    // the child whose range holds key: keys equal to a separator go right
+    private int childIndex(Inner inner, Object key) {
+        int lo = 0;
+        int hi = inner.count - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(key, inner.keys[mid]) < 0) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private Leaf leafFor(Object key) {
+        if (key == null && comparator == null) {
+            throw new NullPointerException();
+        }
+        Node node = root;
+        for (int depth = 0; depth < height; depth++) {
+            Inner inner = (Inner) node;
+            node = inner.children[childIndex(inner, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private static void insertIntoLeaf(Leaf leaf, int index, Object key, Object value) {
+        int tail = leaf.count - index;
+        System.arraycopy(leaf.keys, index, leaf.keys, index + 1, tail);
+        System.arraycopy(leaf.values, index, leaf.values, index + 1, tail);
+        leaf.keys[index] = key;
+        leaf.values[index] = value;
+        leaf.count++;
+    }
+
+    // puts child right after children[slot], with separator in front of it
+    private static void insertChild(Inner parent, int slot, Object separator, Node child) {
+        int n = parent.count;
+        System.arraycopy(parent.keys, slot, parent.keys, slot + 1, n - 1 - slot);
+        System.arraycopy(parent.children, slot + 1, parent.children, slot + 2, n - 1 - slot);
+        parent.keys[slot] = separator;
+        parent.children[slot + 1] = child;
+        parent.count = n + 1;
+    }
+
+    // removes key and rebalances; returns the old value or ABSENT
+    private Object delete(Object key) {
+        if (key == null && comparator == null) {
+            throw new NullPointerException();
+        }
+        Node node = root;
+        for (int depth = 0; depth < height; depth++) {
+            Inner inner = (Inner) node;
+            int slot = childIndex(inner, key);
+            pathNodes[depth] = inner;
+            pathSlots[depth] = slot;
+            node = inner.children[slot];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = search(leaf.keys, leaf.count, key);
+        if (index < 0) {
+            return ABSENT;
+        }
+        Object previous = leaf.values[index];
+        int tail = leaf.count - index - 1;
+        System.arraycopy(leaf.keys, index + 1, leaf.keys, index, tail);
+        System.arraycopy(leaf.values, index + 1, leaf.values, index, tail);
+        leaf.count--;
+        leaf.keys[leaf.count] = null;
+        leaf.values[leaf.count] = null;
+        size--;
+        modCount++;
+
+        // separators may now name a removed key; they still split the ranges correctly
+        Node child = leaf;
+        for (int depth = height - 1; depth >= 0 && child.count < minimum(child); depth--) {
+            rebalance(pathNodes[depth], pathSlots[depth]);
+            child = pathNodes[depth];
+        }
+        while (height > 0 && root.count == 1) {
+            root = ((Inner) root).children[0];
+            height--;
+        }
+        return previous;
+    }
+
+    private static int minimum(Node node) {
+        return node instanceof Leaf ? LEAF_MIN : INNER_MIN;
+    }
+
+    // tops up the underfull children[slot] from a sibling, or merges it with one
+    private void rebalance(Inner parent, int slot) {
+        if (parent.count < 2) {
+            return;
+        }
+        if (slot > 0) {
+            Node left = parent.children[slot - 1];
+            if (left.count > minimum(left)) {
+                borrowFromLeft(parent, slot);
+            } else {
+                merge(parent, slot - 1);
+            }
+        } else {
+            Node right = parent.children[1];
+            if (right.count > minimum(right)) {
+                borrowFromRight(parent, 0);
+            } else {
+                merge(parent, 0);
+            }
+        }
+    }
+
+    private static void borrowFromLeft(Inner parent, int slot) {
+        Node node = parent.children[slot];
+        Node left = parent.children[slot - 1];
+        if (node instanceof Leaf) {
+            Leaf to = (Leaf) node;
+            Leaf from = (Leaf) left;
+            int last = from.count - 1;
+            insertIntoLeaf(to, 0, from.keys[last], from.values[last]);
+            from.keys[last] = null;
+            from.values[last] = null;
+            from.count--;
+            parent.keys[slot - 1] = to.keys[0];
+        } else {
+            Inner to = (Inner) node;
+            Inner from = (Inner) left;
+            System.arraycopy(to.keys, 0, to.keys, 1, to.count - 1);
+            System.arraycopy(to.children, 0, to.children, 1, to.count);
+            to.keys[0] = parent.keys[slot - 1];
+            to.children[0] = from.children[from.count - 1];
+            to.count++;
+            parent.keys[slot - 1] = from.keys[from.count - 2];
+            from.keys[from.count - 2] = null;
+            from.children[from.count - 1] = null;
+            from.count--;
+        }
+    }
+
+    private static void borrowFromRight(Inner parent, int slot) {
+        Node node = parent.children[slot];
+        Node right = parent.children[slot + 1];
+        if (node instanceof Leaf) {
+            Leaf to = (Leaf) node;
+            Leaf from = (Leaf) right;
+            to.keys[to.count] = from.keys[0];
+            to.values[to.count] = from.values[0];
+            to.count++;
+            System.arraycopy(from.keys, 1, from.keys, 0, from.count - 1);
+            System.arraycopy(from.values, 1, from.values, 0, from.count - 1);
+            from.count--;
+            from.keys[from.count] = null;
+            from.values[from.count] = null;
+            parent.keys[slot] = from.keys[0];
+        } else {
+            Inner to = (Inner) node;
+            Inner from = (Inner) right;
+            to.keys[to.count - 1] = parent.keys[slot];
+            to.children[to.count] = from.children[0];
+            to.count++;
+            parent.keys[slot] = from.keys[0];
+            System.arraycopy(from.keys, 1, from.keys, 0, from.count - 2);
+            System.arraycopy(from.children, 1, from.children, 0, from.count - 1);
+            from.count--;
+            from.keys[from.count - 1] = null;
+            from.children[from.count] = null;
+        }
+    }
+
+    // folds children[slot + 1] into children[slot]
+    private void merge(Inner parent, int slot) {
+        Node left = parent.children[slot];
+        Node right = parent.children[slot + 1];
+        if (left instanceof Leaf) {
+            Leaf to = (Leaf) left;
+            Leaf from = (Leaf) right;
+            System.arraycopy(from.keys, 0, to.keys, to.count, from.count);
+            System.arraycopy(from.values, 0, to.values, to.count, from.count);
+            to.count += from.count;
+            to.next = from.next;
+            if (from.next != null) {
+                from.next.prev = to;
+            } else {
+                last = to;
+            }
+        } else {
+            Inner to = (Inner) left;
+            Inner from = (Inner) right;
+            to.keys[to.count - 1] = parent.keys[slot];
+            System.arraycopy(from.keys, 0, to.keys, to.count, from.count - 1);
+            System.arraycopy(from.children, 0, to.children, to.count, from.count);
+            to.count += from.count;
+        }
+        int n = parent.count;
+        System.arraycopy(parent.keys, slot + 1, parent.keys, slot, n - 2 - slot);
+        System.arraycopy(parent.children, slot + 2, parent.children, slot + 1, n - 2 - slot);
+        parent.keys[n - 2] = null;
+        parent.children[n - 1] = null;
+        parent.count = n - 1;
+    }
+
+    // packs sorted entries into evenly filled leaves, then builds the levels above
+    private void buildFromSorted(Iterator<? extends Entry<? extends K, ? extends V>> entries, int n) {
+        clear();
+        if (n == 0) {
+            return;
+        }
+        int leafCount = (n + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+        Node[] level = new Node[leafCount];
+        Object[] lowest = new Object[leafCount];
+        Leaf previous = null;
+        for (int l = 0; l < leafCount; l++) {
+            Leaf leaf = new Leaf();
+            int take = n / leafCount + (l < n % leafCount ? 1 : 0);
+            for (int i = 0; i < take; i++) {
+                Entry<? extends K, ? extends V> e = entries.next();
+                leaf.keys[i] = e.getKey();
+                leaf.values[i] = e.getValue();
+            }
+            leaf.count = take;
+            leaf.prev = previous;
+            if (previous != null) {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level[l] = leaf;
+            lowest[l] = leaf.keys[0];
+        }
+        first = (Leaf) level[0];
+        last = previous;
+        int levels = 0;
+        while (level.length > 1) {
+            int parents = (level.length + INNER_CAPACITY - 1) / INNER_CAPACITY;
+            Node[] up = new Node[parents];
+            Object[] upLowest = new Object[parents];
+            int at = 0;
+            for (int p = 0; p < parents; p++) {
+                Inner inner = new Inner();
+                int take = level.length / parents + (p < level.length % parents ? 1 : 0);
+                upLowest[p] = lowest[at];
+                for (int c = 0; c < take; c++, at++) {
+                    inner.children[c] = level[at];
+                    if (c > 0) {
+                        inner.keys[c - 1] = lowest[at];
+                    }
+                }
+                inner.count = take;
+                up[p] = inner;
+            }
+            level = up;
+            lowest = upLowest;
+            levels++;
+        }
+        root = level[0];
+        height = levels;
+        size = n;
+        if (height > pathNodes.length) {
+            pathNodes = new Inner[height * 2];
+            pathSlots = new int[height * 2];
+        }
+    }
+
+    // first position whose key is >= key (> key when not inclusive), or null
+    private Position ceilingPosition(Object key, boolean inclusive) {
+        Leaf leaf = leafFor(key);
+        int index = search(leaf.keys, leaf.count, key);
+        index = index >= 0 ? (inclusive ? index : index + 1) : -index - 1;
+        if (index == leaf.count) {
+            leaf = leaf.next;
+            index = 0;
+        }
+        return leaf == null ? null : new Position(leaf, index);
+    }
+
+    // last position whose key is <= key (< key when not inclusive), or null
+    private Position floorPosition(Object key, boolean inclusive) {
+        Leaf leaf = leafFor(key);
+        int index = search(leaf.keys, leaf.count, key);
+        index = index >= 0 ? (inclusive ? index : index - 1) : -index - 2;
+        if (index < 0) {
+            leaf = leaf.prev;
+            if (leaf == null) {
+                return null;
+            }
+            index = leaf.count - 1;
+        }
+        return new Position(leaf, index);
+    }
+
+    private Position firstPosition() {
+        return size == 0 ? null : new Position(first, 0);
+    }
+
+    private Position lastPosition() {
+        return size == 0 ? null : new Position(last, last.count - 1);
+    }
+
+    private abstract static class Node {
+        Object[] keys;
+        int count;              // entries in a leaf, children in an inner node
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] values = new Object[LEAF_CAPACITY];
+        Leaf prev;
+        Leaf next;
+
+        Leaf() {
+            keys = new Object[LEAF_CAPACITY];
+        }
+    }
+
+    // count children, count - 1 separators; room for one extra child before a split
+    private static final class Inner extends Node {
+        final Node[] children = new Node[INNER_CAPACITY + 1];
+
+        Inner() {
+            keys = new Object[INNER_CAPACITY];
+        }
+    }
+
+    private static final class Position {
+        final Leaf leaf;
+        final int index;
+
+        Position(Leaf leaf, int index) {
+            this.leaf = leaf;
+            this.index = index;
+        }
+
+        Object key() {
+            return leaf.keys[index];
+        }
+    }
+
+    // ---------------------------------------------------------------- range views
+
+    /**
+     * A key range of the map, ascending or descending; the whole map is the
+     * unbounded ascending one. Bounds are checked here and the tree does the
+     * rest, as in TreeMap's NavigableSubMap.
+     */
+    private final class SubMap extends AbstractMap<K, V> implements NavigableMap<K, V> {
+
+        final boolean fromStart;
+        final Object lo;
+        final boolean loInclusive;
+        final boolean toEnd;
+        final Object hi;
+        final boolean hiInclusive;
+        final boolean descending;
+
+        SubMap(boolean fromStart, Object lo, boolean loInclusive,
+               boolean toEnd, Object hi, boolean hiInclusive, boolean descending) {
+            if (!fromStart && !toEnd) {
+                if (compare(lo, hi) > 0) {
+                    throw new IllegalArgumentException("fromKey > toKey");
+                }
+            } else {
+                if (!fromStart) {
+                    compare(lo, lo);
+                }
+                if (!toEnd) {
+                    compare(hi, hi);
+                }
+            }
+            this.fromStart = fromStart;
+            this.lo = lo;
+            this.loInclusive = loInclusive;
+            this.toEnd = toEnd;
+            this.hi = hi;
+            this.hiInclusive = hiInclusive;
+            this.descending = descending;
+        }
+
+        // ------------------------------------------------ bounds
+
+        boolean tooLow(Object key) {
+            if (fromStart) {
+                return false;
+            }
+            int c = compare(key, lo);
+            return c < 0 || (c == 0 && !loInclusive);
+        }
+
+        boolean tooHigh(Object key) {
+            if (toEnd) {
+                return false;
+            }
+            int c = compare(key, hi);
+            return c > 0 || (c == 0 && !hiInclusive);
+        }
+
+        boolean inRange(Object key) {
+            return !tooLow(key) && !tooHigh(key);
+        }
+
+        private boolean inClosedRange(Object key) {
+            return (fromStart || compare(key, lo) >= 0) && (toEnd || compare(hi, key) >= 0);
+        }
+
+        private boolean inRange(Object key, boolean inclusive) {
+            return inclusive ? inRange(key) : inClosedRange(key);
+        }
+
+        // ------------------------------------------------ positions in ascending key order
+
+        Position lowest() {
+            Position p = fromStart ? firstPosition() : ceilingPosition(lo, loInclusive);
+            return p == null || tooHigh(p.key()) ? null : p;
+        }
+
+        Position highest() {
+            Position p = toEnd ? lastPosition() : floorPosition(hi, hiInclusive);
+            return p == null || tooLow(p.key()) ? null : p;
+        }
+
+        Position ceiling(Object key, boolean inclusive) {
+            if (tooLow(key)) {
+                return lowest();
+            }
+            Position p = ceilingPosition(key, inclusive);
+            return p == null || tooHigh(p.key()) ? null : p;
+        }
+
+        Position floor(Object key, boolean inclusive) {
+            if (tooHigh(key)) {
+                return highest();
+            }
+            Position p = floorPosition(key, inclusive);
+            return p == null || tooLow(p.key()) ? null : p;
+        }
+
+        // ------------------------------------------------ Map
+
+        @Override
+        public int size() {
+            if (fromStart && toEnd) {
+                return size;
+            }
+            int n = 0;
+            for (Iterator<Entry<K, V>> it = new EntryIterator(this); it.hasNext(); it.next()) {
+                n++;
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return fromStart && toEnd ? size == 0 : lowest() == null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return inRange(key) && BPlusTreeMap.this.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key) {
+            return inRange(key) ? BPlusTreeMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value) {
+            if (!inRange(key)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BPlusTreeMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return inRange(key) ? BPlusTreeMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear() {
+            if (fromStart && toEnd) {
+                BPlusTreeMap.this.clear();
+                return;
+            }
+            // not super.clear(): AbstractMap.clear goes through entrySet().clear(), which comes back here
+            for (Iterator<Entry<K, V>> it = new EntryIterator(this); it.hasNext(); ) {
+                it.next();
+                it.remove();
+            }
+        }
+
+        // ------------------------------------------------ NavigableMap
+
+        @Override
+        public Comparator<? super K> comparator() {
+            return descending ? Collections.reverseOrder(comparator) : comparator;
+        }
+
+        @Override
+        public Entry<K, V> firstEntry() {
+            return export(descending ? highest() : lowest());
+        }
+
+        @Override
+        public Entry<K, V> lastEntry() {
+            return export(descending ? lowest() : highest());
+        }
+
+        @Override
+        public Entry<K, V> pollFirstEntry() {
+            return poll(descending ? highest() : lowest());
+        }
+
+        @Override
+        public Entry<K, V> pollLastEntry() {
+            return poll(descending ? lowest() : highest());
+        }
+
+        @Override
+        public K firstKey() {
+            return keyOrThrow(descending ? highest() : lowest());
+        }
+
+        @Override
+        public K lastKey() {
+            return keyOrThrow(descending ? lowest() : highest());
+        }
+
+        @Override
+        public Entry<K, V> lowerEntry(K key) {
+            return export(descending ? ceiling(key, false) : floor(key, false));
+        }
+
+        @Override
+        public K lowerKey(K key) {
+            return keyOrNull(descending ? ceiling(key, false) : floor(key, false));
+        }
+
+        @Override
+        public Entry<K, V> floorEntry(K key) {
+            return export(descending ? ceiling(key, true) : floor(key, true));
+        }
+
+        @Override
+        public K floorKey(K key) {
+            return keyOrNull(descending ? ceiling(key, true) : floor(key, true));
+        }
+
+        @Override
+        public Entry<K, V> ceilingEntry(K key) {
+            return export(descending ? floor(key, true) : ceiling(key, true));
+        }
+
+        @Override
+        public K ceilingKey(K key) {
+            return keyOrNull(descending ? floor(key, true) : ceiling(key, true));
+        }
+
+        @Override
+        public Entry<K, V> higherEntry(K key) {
+            return export(descending ? floor(key, false) : ceiling(key, false));
+        }
+
+        @Override
+        public K higherKey(K key) {
+            return keyOrNull(descending ? floor(key, false) : ceiling(key, false));
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new EntrySet(this);
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return navigableKeySet();
+        }
+
+        @Override
+        public NavigableSet<K> navigableKeySet() {
+            return new KeySet<>(this);
+        }
+
+        @Override
+        public NavigableSet<K> descendingKeySet() {
+            return descendingMap().navigableKeySet();
+        }
+
+        @Override
+        public NavigableMap<K, V> descendingMap() {
+            return new SubMap(fromStart, lo, loInclusive, toEnd, hi, hiInclusive, !descending);
+        }
+
+        @Override
+        public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+            if (!inRange(fromKey, fromInclusive)) {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            if (!inRange(toKey, toInclusive)) {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return descending
+                    ? new SubMap(false, toKey, toInclusive, false, fromKey, fromInclusive, true)
+                    : new SubMap(false, fromKey, fromInclusive, false, toKey, toInclusive, false);
+        }
+
+        @Override
+        public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+            if (!inRange(toKey, inclusive)) {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return descending
+                    ? new SubMap(false, toKey, inclusive, toEnd, hi, hiInclusive, true)
+                    : new SubMap(fromStart, lo, loInclusive, false, toKey, inclusive, false);
+        }
+
+        @Override
+        public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+            if (!inRange(fromKey, inclusive)) {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            return descending
+                    ? new SubMap(fromStart, lo, loInclusive, false, fromKey, inclusive, true)
+                    : new SubMap(false, fromKey, inclusive, toEnd, hi, hiInclusive, false);
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey) {
+            return subMap(fromKey, true, toKey, false);
+        }
+
+        @Override
+        public SortedMap<K, V> headMap(K toKey) {
+            return headMap(toKey, false);
+        }
+
+        @Override
+        public SortedMap<K, V> tailMap(K fromKey) {
+            return tailMap(fromKey, true);
+        }
+
+        // ------------------------------------------------ helpers
+
+        @SuppressWarnings("unchecked")
+        private Entry<K, V> export(Position p) {
+            return p == null ? null
+                    : new AbstractMap.SimpleImmutableEntry<>((K) p.key(), (V) p.leaf.values[p.index]);
+        }
+
+        private Entry<K, V> poll(Position p) {
+            Entry<K, V> e = export(p);
+            if (e != null) {
+                delete(e.getKey());
+            }
+            return e;
+        }
+
+        @SuppressWarnings("unchecked")
+        private K keyOrNull(Position p) {
+            return p == null ? null : (K) p.key();
+        }
+
+        private K keyOrThrow(Position p) {
+            if (p == null) {
+                throw new NoSuchElementException();
+            }
+            return keyOrNull(p);
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        private final SubMap view;
+
+        EntrySet(SubMap view) {
+            this.view = view;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator(view);
+        }
+
+        @Override
+        public int size() {
+            return view.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return view.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            Object key = e.getKey();
+            return view.containsKey(key) && Objects.equals(view.get(key), e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            delete(((Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            view.clear();
+        }
+    }
+
+    // walks the leaf chain in either direction, stopping at the view's far bound
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final SubMap view;
+        private Leaf leaf;              // position of the next entry, or null at the end
+        private int index;
+        private Object lastKey = ABSENT;
+        private int expectedModCount = modCount;
+
+        EntryIterator(SubMap view) {
+            this.view = view;
+            moveTo(view.descending ? view.highest() : view.lowest());
+        }
+
+        private void moveTo(Position p) {
+            leaf = p == null ? null : p.leaf;
+            index = p == null ? 0 : p.index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (leaf == null) {
+                throw new NoSuchElementException();
+            }
+            K key = (K) leaf.keys[index];
+            V value = (V) leaf.values[index];
+            if (view.descending) {
+                if (--index < 0) {
+                    leaf = leaf.prev;
+                    index = leaf == null ? 0 : leaf.count - 1;
+                }
+                if (leaf != null && view.tooLow(leaf.keys[index])) {
+                    leaf = null;
+                }
+            } else {
+                if (++index == leaf.count) {
+                    leaf = leaf.next;
+                    index = 0;
+                }
+                if (leaf != null && view.tooHigh(leaf.keys[index])) {
+                    leaf = null;
+                }
+            }
+            lastKey = key;
+            return new IteratorEntry(key, value);
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == ABSENT) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            delete(lastKey);
+            // the tree may have been rebalanced: find the next entry again
+            moveTo(view.descending ? view.floor(lastKey, false) : view.ceiling(lastKey, false));
+            lastKey = ABSENT;
+            expectedModCount = modCount;
+        }
+    }
+
+    // an iterator's entry; setValue writes through to the map
+    private final class IteratorEntry implements Entry<K, V> {
+
+        private final K key;
+        private V value;
+
+        IteratorEntry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = this.value;
+            put(key, value);
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /** The key set of a NavigableMap, as a NavigableSet view over it. */
+    private static final class KeySet<E> extends AbstractSet<E> implements NavigableSet<E> {
+
+        private final NavigableMap<E, ?> map;
+
+        KeySet(NavigableMap<E, ?> map) {
+            this.map = map;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            Iterator<? extends Entry<E, ?>> entries = map.entrySet().iterator();
+            return new Iterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    return entries.next().getKey();
+                }
+
+                @Override
+                public void remove() {
+                    entries.remove();
+                }
+            };
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!map.containsKey(o)) {
+                return false;
+            }
+            map.remove(o);
+            return true;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            boolean changed = false;
+            for (Object o : c) {
+                changed |= remove(o);
+            }
+            return changed;
+        }
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+
+        @Override
+        public Comparator<? super E> comparator() {
+            return map.comparator();
+        }
+
+        @Override
+        public E first() {
+            return map.firstKey();
+        }
+
+        @Override
+        public E last() {
+            return map.lastKey();
+        }
+
+        @Override
+        public E lower(E e) {
+            return map.lowerKey(e);
+        }
+
+        @Override
+        public E floor(E e) {
+            return map.floorKey(e);
+        }
+
+        @Override
+        public E ceiling(E e) {
+            return map.ceilingKey(e);
+        }
+
+        @Override
+        public E higher(E e) {
+            return map.higherKey(e);
+        }
+
+        @Override
+        public E pollFirst() {
+            Entry<E, ?> e = map.pollFirstEntry();
+            return e == null ? null : e.getKey();
+        }
+
+        @Override
+        public E pollLast() {
+            Entry<E, ?> e = map.pollLastEntry();
+            return e == null ? null : e.getKey();
+        }
+
+        @Override
+        public NavigableSet<E> descendingSet() {
+            return new KeySet<>(map.descendingMap());
+        }
+
+        @Override
+        public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+            return new KeySet<>(map.subMap(fromElement, fromInclusive, toElement, toInclusive));
+        }
+
+        @Override
+        public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+            return new KeySet<>(map.headMap(toElement, inclusive));
+        }
+
+        @Override
+        public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+            return new KeySet<>(map.tailMap(fromElement, inclusive));
+        }
+
+        @Override
+        public SortedSet<E> subSet(E fromElement, E toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        @Override
+        public SortedSet<E> headSet(E toElement) {
+            return headSet(toElement, false);
+        }
+
+        @Override
+        public SortedSet<E> tailSet(E fromElement) {
+            return tailSet(fromElement, true);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework BPlusTreeMap Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * B+ Tree Map Benchmark
+ * ---------------------
+ * TreeMap<Long, Long> against BPlusTreeMap<Long, Long> and
+ * LongBPlusTreeMap<Long> holding 1,000,000 random keys:
+ *
+ * - point lookups of random keys that are present
+ * - range scans: 10,000 scans of the 100 entries following a random key
+ * - loading sorted input, by put() in key order and by copying a sorted map
+ *
+ * Query keys are boxed up front, so the generic maps are not charged for
+ * boxing. The size can be passed as an argument.
+ */
+public class BPlusTreeMapBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final int LOOKUPS = 2_000_000;
+    private static final int SCANS = 10_000;
+    private static final int SCAN_LENGTH = 100;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(42);
+        long[] sorted = random.longs(size).sorted().distinct().toArray();
+        int n = sorted.length;
+        Long[] boxed = new Long[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = sorted[i];
+        }
+        int[] probes = random.ints(LOOKUPS, 0, n).toArray();
+        int[] scanStarts = random.ints(SCANS, 0, n).toArray();
+
+        TreeMap<Long, Long> treeMap = new TreeMap<>();
+        BPlusTreeMap<Long, Long> bPlusTree = new BPlusTreeMap<>();
+        LongBPlusTreeMap<Long> longTree = new LongBPlusTreeMap<>();
+        // random insertion order first, so the nodes are filled as in normal use
+        for (int i : random.ints(n, 0, n).toArray()) {
+            treeMap.put(boxed[i], boxed[i]);
+            bPlusTree.put(boxed[i], boxed[i]);
+            longTree.put(sorted[i], boxed[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            treeMap.put(boxed[i], boxed[i]);
+            bPlusTree.put(boxed[i], boxed[i]);
+            longTree.put(sorted[i], boxed[i]);
+        }
+        System.out.printf("--- %,d keys%n", n);
+
+        run("TreeMap get           ", LOOKUPS, "ns/get ", () -> lookups(treeMap, boxed, probes));
+        run("BPlusTreeMap get      ", LOOKUPS, "ns/get ", () -> lookups(bPlusTree, boxed, probes));
+        run("LongBPlusTreeMap get  ", LOOKUPS, "ns/get ", () -> {
+            long sum = 0;
+            for (int probe : probes) {
+                sum += longTree.get(sorted[probe]);
+            }
+            return sum;
+        });
+
+        long entries = (long) SCANS * SCAN_LENGTH;
+        run("TreeMap scan          ", entries, "ns/entry", () -> scans(treeMap, boxed, scanStarts));
+        run("BPlusTreeMap scan     ", entries, "ns/entry", () -> scans(bPlusTree, boxed, scanStarts));
+        run("LongBPlusTreeMap scan ", entries, "ns/entry", () -> {
+            long sum = 0;
+            for (int start : scanStarts) {
+                int end = Math.min(start + SCAN_LENGTH, n - 1);
+                for (LongBPlusTreeMap.Cursor<Long> c = longTree.cursor(sorted[start], sorted[end]); c.advance(); ) {
+                    sum += c.key();
+                }
+            }
+            return sum;
+        });
+
+        run("TreeMap sorted put    ", n, "ns/entry", () -> {
+            TreeMap<Long, Long> map = new TreeMap<>();
+            for (Long key : boxed) {
+                map.put(key, key);
+            }
+            return map.size();
+        });
+        run("BPlusTreeMap sorted put", n, "ns/entry", () -> {
+            BPlusTreeMap<Long, Long> map = new BPlusTreeMap<>();
+            for (Long key : boxed) {
+                map.put(key, key);
+            }
+            return map.size();
+        });
+        run("LongBPlusTreeMap put  ", n, "ns/entry", () -> {
+            LongBPlusTreeMap<Long> map = new LongBPlusTreeMap<>();
+            for (int i = 0; i < n; i++) {
+                map.put(sorted[i], boxed[i]);
+            }
+            return map.size();
+        });
+        run("new TreeMap(sorted)   ", n, "ns/entry", () -> new TreeMap<>(treeMap).size());
+        run("new BPlusTreeMap(sorted)", n, "ns/entry", () -> new BPlusTreeMap<>(treeMap).size());
+        System.out.println("sink=" + sink);
+    }
+
+    private static long lookups(Map<Long, Long> map, Long[] keys, int[] probes) {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += map.get(keys[probe]);
+        }
+        return sum;
+    }
+
+    private static long scans(NavigableMap<Long, Long> map, Long[] keys, int[] starts) {
+        long sum = 0;
+        for (int start : starts) {
+            int end = Math.min(start + SCAN_LENGTH, keys.length - 1);
+            for (Long key : map.subMap(keys[start], true, keys[end], false).keySet()) {
+                sum += key;
+            }
+        }
+        return sum;
+    }
+
+    private static void run(String label, long ops, String unit, LongSupplier task) {
+        long check = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            check = task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            check = task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        sink += check;
+        System.out.printf("%-24s : %7.2f %s%n", label, (double) best / ops, unit);
+    }
+}
@@ -0,0 +1,341 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework BitmapIntSet
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Bitmap Int Set
+ * --------------
+ * A set of ints stored as one bit per value of the range it spans, like
+ * java.util.BitSet but for negative values too and with a live size. A set
+ * of IDs that fills most of 0..1,000,000 takes 125 KB. Union, intersection
+ * and difference combine 64 values per instruction, and size() is a field.
+ *
+ * The bits cover a window of 64-value words that grows towards new values
+ * in either direction, so memory follows the span, not the count: one
+ * value near 0 and one near 1,000,000,000 cost 125 MB. Such sets belong in
+ * RoaringIntSet; CompactIntSet makes that choice automatically.
+ *
+ *     BitmapIntSet present = new BitmapIntSet(1, 500);   // room for roll numbers 1..500
+ *     present.addAll(new int[] {3, 7, 42});
+ *     BitmapIntSet enrolled = BitmapIntSet.of(7, 42, 99);
+ *     System.out.println(BitmapIntSet.and(present, enrolled));   // [7, 42]
+ *
+ * Not thread-safe.
+ */
+public class BitmapIntSet implements IntSet {
+
+    private static final long[] EMPTY = {};
+    private static final int MIN_WORD = Integer.MIN_VALUE >> 6;
+    private static final int MAX_WORD = Integer.MAX_VALUE >> 6;
+
+    private long[] words = EMPTY;
+    private int firstWord;              // word index (value >> 6) of words[0]
+    private int size;
+    private int modCount;
+
+    public BitmapIntSet() {
+    }
+
+    /** An empty set with room for min..max (inclusive) already allocated. */
+    public BitmapIntSet(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min " + min + " is greater than max " + max);
+        }
+        firstWord = min >> 6;
+        words = new long[(max >> 6) - firstWord + 1];
+    }
+
+    /** A set holding values, with its window sized to their range. */
+    public static BitmapIntSet of(int... values) {
+        if (values.length == 0) {
+            return new BitmapIntSet();
+        }
+        int min = values[0];
+        int max = values[0];
+        for (int value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        BitmapIntSet set = new BitmapIntSet(min, max);
+        set.addAll(values);
+        return set;
+    }
+
+    public BitmapIntSet copy() {
+        BitmapIntSet copy = new BitmapIntSet();
+        copy.words = words.clone();
+        copy.firstWord = firstWord;
+        copy.size = size;
+        return copy;
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        int index = (value >> 6) - firstWord;
+        return index >= 0 && index < words.length && (words[index] & (1L << value)) != 0;
+    }
+
+    public int min() {
+        for (int i = 0; i < words.length; i++) {
+            if (words[i] != 0) {
+                return ((firstWord + i) << 6) + Long.numberOfTrailingZeros(words[i]);
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    public int max() {
+        for (int i = words.length - 1; i >= 0; i--) {
+            if (words[i] != 0) {
+                return ((firstWord + i) << 6) + 63 - Long.numberOfLeadingZeros(words[i]);
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    @Override
+    public boolean add(int value) {
+        int index = wordFor(value >> 6);
+        long bit = 1L << value;
+        if ((words[index] & bit) != 0) {
+            return false;
+        }
+        words[index] |= bit;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int value) {
+        int index = (value >> 6) - firstWord;
+        long bit = 1L << value;
+        if (index < 0 || index >= words.length || (words[index] & bit) == 0) {
+            return false;
+        }
+        words[index] &= ~bit;
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /** Empties the set; the window stays allocated. */
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0);
+        size = 0;
+        modCount++;
+    }
+
+    /** Shrinks the window to the words between the smallest and the largest value. */
+    public void trimToSize() {
+        if (size == 0) {
+            words = EMPTY;
+            return;
+        }
+        int from = (min() >> 6) - firstWord;
+        int to = (max() >> 6) - firstWord + 1;
+        if (from > 0 || to < words.length) {
+            words = Arrays.copyOfRange(words, from, to);
+            firstWord += from;
+        }
+    }
+
+    // ---------------------------------------------------------------- set algebra
+
+    /** Adds every value of other. */
+    public void or(BitmapIntSet other) {
+        if (other.size == 0) {
+            return;
+        }
+        int from = other.min() >> 6;
+        int to = other.max() >> 6;
+        wordFor(from);
+        wordFor(to);
+        long[] words = this.words;
+        int shift = firstWord - other.firstWord;
+        for (int w = from; w <= to; w++) {
+            int i = w - firstWord;
+            long before = words[i];
+            long after = before | other.words[i + shift];
+            words[i] = after;
+            size += Long.bitCount(after) - Long.bitCount(before);
+        }
+        modCount++;
+    }
+
+    /** Keeps only the values that are also in other. */
+    public void and(BitmapIntSet other) {
+        long[] words = this.words;
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.word(firstWord + i);
+            count += Long.bitCount(words[i]);
+        }
+        size = count;
+        modCount++;
+    }
+
+    /** Removes every value of other. */
+    public void andNot(BitmapIntSet other) {
+        long[] words = this.words;
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.word(firstWord + i);
+            count += Long.bitCount(words[i]);
+        }
+        size = count;
+        modCount++;
+    }
+
+    /** The size of the intersection, without building it. */
+    public int andCardinality(BitmapIntSet other) {
+        BitmapIntSet small = words.length <= other.words.length ? this : other;
+        BitmapIntSet large = small == this ? other : this;
+        int count = 0;
+        for (int i = 0; i < small.words.length; i++) {
+            count += Long.bitCount(small.words[i] & large.word(small.firstWord + i));
+        }
+        return count;
+    }
+
+    public static BitmapIntSet or(BitmapIntSet a, BitmapIntSet b) {
+        BitmapIntSet result = a.copy();
+        result.or(b);
+        return result;
+    }
+
+    public static BitmapIntSet and(BitmapIntSet a, BitmapIntSet b) {
+        BitmapIntSet small = a.words.length <= b.words.length ? a : b;
+        BitmapIntSet result = small.copy();
+        result.and(small == a ? b : a);
+        return result;
+    }
+
+    public static BitmapIntSet andNot(BitmapIntSet a, BitmapIntSet b) {
+        BitmapIntSet result = a.copy();
+        result.andNot(b);
+        return result;
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    /** Visits every value in ascending order. The set must not be changed during the walk. */
+    @Override
+    public void forEach(IntConsumer action) {
+        int expected = modCount;
+        long[] words = this.words;
+        for (int i = 0; i < words.length; i++) {
+            int base = (firstWord + i) << 6;
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept(base + Long.numberOfTrailingZeros(word));
+            }
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < words.length; i++) {
+            int base = (firstWord + i) << 6;
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                result[n++] = base + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return IntSet.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return IntSet.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return IntSet.toString(this);
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    /** Bytes of words a set spanning min..max uses. */
+    static long windowBytes(int min, int max) {
+        return 8L * ((max >> 6) - (min >> 6) + 1);
+    }
+
+    /** Bytes the same values would take in a RoaringIntSet. */
+    long roaringBytes() {
+        long bytes = 0;
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            count += Long.bitCount(words[i]);
+            // 1,024 words make one 65,536-value chunk
+            if (i == words.length - 1 || (firstWord + i) >> 10 != (firstWord + i + 1) >> 10) {
+                if (count > 0) {
+                    bytes += RoaringIntSet.chunkBytes(count);
+                }
+                count = 0;
+            }
+        }
+        return bytes;
+    }
+
+    private long word(int wordIndex) {
+        int index = wordIndex - firstWord;
+        return index >= 0 && index < words.length ? words[index] : 0;
+    }
+
+    // grows the window, by at least half its length, until it covers wordIndex
+    private int wordFor(int wordIndex) {
+        int index = wordIndex - firstWord;
+        if (index >= 0 && index < words.length) {
+            return index;
+        }
+        if (words.length == 0) {
+            words = new long[1];
+            firstWord = wordIndex;
+            return 0;
+        }
+        int grow = Math.max(words.length >> 1, 1);
+        if (index < 0) {
+            int newFirst = (int) Math.max(MIN_WORD, Math.min(wordIndex, (long) firstWord - grow));
+            long[] grown = new long[words.length + firstWord - newFirst];
+            System.arraycopy(words, 0, grown, firstWord - newFirst, words.length);
+            words = grown;
+            firstWord = newFirst;
+        } else {
+            int newLast = (int) Math.min(MAX_WORD, Math.max(wordIndex, (long) firstWord + words.length - 1 + grow));
+            words = Arrays.copyOf(words, newLast - firstWord + 1);
+        }
+        return wordIndex - firstWord;
+    }
+}
@@ -0,0 +1,636 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework BulkOps
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bulk Ops
+ * --------
+ * The forEach loops of ForEachExample and ForEach_LambdaExample, run in
+ * parallel on a ForkJoinPool: forEach, map, filter and reduce over Lists,
+ * Maps, object arrays and int[] / long[] / double[]. The primitive versions
+ * take IntConsumer, LongUnaryOperator, DoublePredicate and the like, so
+ * nothing is boxed on the way.
+ *
+ *     BulkOps ops = BulkOps.builder()
+ *             .pool(new ForkJoinPool(8))
+ *             .build();
+ *     List<String> upper = ops.map(names, String::toUpperCase);
+ *     long total = ops.reduce(amounts, 0L, Long::sum);
+ *     ops.forEach(scores, (name, score) -> publish(name, score));
+ *
+ * Splitting: a task halves its range and forks the right half while the
+ * range is above the leaf size and the pool is short of queued work (at
+ * most 3 surplus tasks in the worker's queue). On a busy or small pool the
+ * leaves stay large; when workers are idle and stealing, the ranges keep
+ * splitting down to the leaf size, which is 1/16 of a worker's share, but
+ * at least 256 elements. threshold(n) fixes the leaf size instead, for
+ * elements that are very cheap or very costly to process. Inputs no larger
+ * than one leaf run on the calling thread.
+ *
+ * Order: map, filter and reduce always keep encounter order. Partial
+ * results are joined left to right, so reduce needs an associative
+ * operator, not a commutative one. forEach calls the action in no
+ * particular order and from many threads at once, unless the ops are
+ * ordered(true): then it calls the action in encounter order, one element
+ * at a time, on the calling thread. Ordered ops also return their Map
+ * results as LinkedHashMaps in the source map's order; otherwise they are
+ * HashMaps.
+ *
+ * Lists that are not RandomAccess, and every Map, are first copied to an
+ * array on the calling thread. The source must not change during a call.
+ * Exceptions thrown by the functions are rethrown to the caller. BulkOps
+ * is immutable and thread-safe.
+ */
+public final class BulkOps {
+
+    private static final int MIN_LEAF = 256;
+    private static final int LEAVES_PER_WORKER = 16;
+    private static final int MAX_SURPLUS = 3;
+    private static final BulkOps COMMON = builder().build();
+
+    private final ForkJoinPool pool;
+    private final int threshold;        // 0 = adaptive
+    private final boolean ordered;
+
+    private BulkOps(Builder builder) {
+        this.pool = builder.pool;
+        this.threshold = builder.threshold;
+        this.ordered = builder.ordered;
+    }
+
+    /** Unordered ops on the common pool, with adaptive splitting. */
+    public static BulkOps common() {
+        return COMMON;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    // ---------------------------------------------------------------- lists
+
+    public <T> void forEach(List<T> list, Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        List<T> source = randomAccess(list);
+        each(source.size(), (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                action.accept(source.get(i));
+            }
+        });
+    }
+
+    public <T, R> List<R> map(List<T> list, Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        List<T> source = randomAccess(list);
+        Object[] out = new Object[source.size()];
+        run(out.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                out[i] = mapper.apply(source.get(i));
+            }
+        });
+        return asList(out);
+    }
+
+    public <T> List<T> filter(List<T> list, Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        List<T> source = randomAccess(list);
+        List<Object[]> chunks = invoke(source.size(), (lo, hi) -> {
+            Object[] kept = new Object[hi - lo];
+            int n = 0;
+            for (int i = lo; i < hi; i++) {
+                T element = source.get(i);
+                kept[n] = element;
+                n += filter.test(element) ? 1 : 0;
+            }
+            return chunk(Arrays.copyOf(kept, n));
+        }, BulkOps::concat);
+        return asList(flatten(chunks, Object[]::new, a -> a.length));
+    }
+
+    /** Folds the list with op, which must be associative; identity must be its identity. */
+    public <T> T reduce(List<T> list, T identity, BinaryOperator<T> op) {
+        return reduce(list, identity, op, op);
+    }
+
+    /**
+     * Folds each leaf's elements into a partial result with accumulator,
+     * starting from identity, and joins the partial results with combiner.
+     */
+    public <T, U> U reduce(List<T> list, U identity, BiFunction<U, ? super T, U> accumulator,
+                           BinaryOperator<U> combiner) {
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        List<T> source = randomAccess(list);
+        return invoke(source.size(), (lo, hi) -> {
+            U result = identity;
+            for (int i = lo; i < hi; i++) {
+                result = accumulator.apply(result, source.get(i));
+            }
+            return result;
+        }, combiner);
+    }
+
+    public <T> int[] mapToInt(List<T> list, ToIntFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        List<T> source = randomAccess(list);
+        int[] out = new int[source.size()];
+        run(out.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                out[i] = mapper.applyAsInt(source.get(i));
+            }
+        });
+        return out;
+    }
+
+    public <T> long[] mapToLong(List<T> list, ToLongFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        List<T> source = randomAccess(list);
+        long[] out = new long[source.size()];
+        run(out.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                out[i] = mapper.applyAsLong(source.get(i));
+            }
+        });
+        return out;
+    }
+
+    public <T> double[] mapToDouble(List<T> list, ToDoubleFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        List<T> source = randomAccess(list);
+        double[] out = new double[source.size()];
+        run(out.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                out[i] = mapper.applyAsDouble(source.get(i));
+            }
+        });
+        return out;
+    }
+
+    // ---------------------------------------------------------------- maps
+
+    public <K, V> void forEach(Map<K, V> map, BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        Map.Entry<K, V>[] entries = entries(map);
+        each(entries.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                action.accept(entries[i].getKey(), entries[i].getValue());
+            }
+        });
+    }
+
+    /** A map with the same keys and each value replaced by mapper(key, value). */
+    public <K, V, R> Map<K, R> mapValues(Map<K, V> map, BiFunction<? super K, ? super V, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        Map.Entry<K, V>[] entries = entries(map);
+        Object[] values = new Object[entries.length];
+        run(entries.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                values[i] = mapper.apply(entries[i].getKey(), entries[i].getValue());
+            }
+        });
+        Map<K, R> result = newMap(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            @SuppressWarnings("unchecked")
+            R value = (R) values[i];
+            result.put(entries[i].getKey(), value);
+        }
+        return result;
+    }
+
+    /** A map of the entries that pass filter. */
+    public <K, V> Map<K, V> filter(Map<K, V> map, BiPredicate<? super K, ? super V> filter) {
+        Objects.requireNonNull(filter);
+        Map.Entry<K, V>[] entries = entries(map);
+        boolean[] kept = new boolean[entries.length];
+        run(entries.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                kept[i] = filter.test(entries[i].getKey(), entries[i].getValue());
+            }
+        });
+        Map<K, V> result = newMap(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            if (kept[i]) {
+                result.put(entries[i].getKey(), entries[i].getValue());
+            }
+        }
+        return result;
+    }
+
+    /** Maps every entry with mapper and joins the results with combiner, which must be associative. */
+    public <K, V, U> U reduce(Map<K, V> map, U identity, BiFunction<? super K, ? super V, ? extends U> mapper,
+                              BinaryOperator<U> combiner) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(combiner);
+        Map.Entry<K, V>[] entries = entries(map);
+        return invoke(entries.length, (lo, hi) -> {
+            U result = identity;
+            for (int i = lo; i < hi; i++) {
+                result = combiner.apply(result, mapper.apply(entries[i].getKey(), entries[i].getValue()));
+            }
+            return result;
+        }, combiner);
+    }
+
+    // ---------------------------------------------------------------- object arrays
+
+    public <T> void forEach(T[] array, Consumer<? super T> action) {
+        forEach(Arrays.asList(array), action);
+    }
+
+    public <T, R> List<R> map(T[] array, Function<? super T, ? extends R> mapper) {
+        return map(Arrays.asList(array), mapper);
+    }
+
+    public <T> List<T> filter(T[] array, Predicate<? super T> filter) {
+        return filter(Arrays.asList(array), filter);
+    }
+
+    public <T> T reduce(T[] array, T identity, BinaryOperator<T> op) {
+        return reduce(Arrays.asList(array), identity, op);
+    }
+
+    // ---------------------------------------------------------------- int arrays
+
+    public void forEach(int[] array, IntConsumer action) {
+        Objects.requireNonNull(action);
+        each(array.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                action.accept(array[i]);
+            }
+        });
+    }
+
+    public int[] map(int[] array, IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        int[] out = new int[array.length];
+        run(array.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                out[i] = mapper.applyAsInt(array[i]);
+            }
+        });
+        return out;
+    }
+
+    public int[] filter(int[] array, IntPredicate filter) {
+        Objects.requireNonNull(filter);
+        List<int[]> chunks = invoke(array.length, (lo, hi) -> {
+            int[] kept = new int[hi - lo];
+            int n = 0;
+            for (int i = lo; i < hi; i++) {
+                kept[n] = array[i];                     // store always, keep if it passes:
+                n += filter.test(array[i]) ? 1 : 0;     // no branch to mispredict
+            }
+            return chunk(Arrays.copyOf(kept, n));
+        }, BulkOps::concat);
+        return flatten(chunks, int[]::new, a -> a.length);
+    }
+
+    public int reduce(int[] array, int identity, IntBinaryOperator op) {
+        Objects.requireNonNull(op);
+        return invoke(array.length, (lo, hi) -> {
+            int result = identity;
+            for (int i = lo; i < hi; i++) {
+                result = op.applyAsInt(result, array[i]);
+            }
+            return result;
+        }, (a, b) -> op.applyAsInt(a, b));
+    }
+
+    /** The sum of the elements, as a long so that it cannot overflow. */
+    public long sum(int[] array) {
+        return invoke(array.length, (lo, hi) -> {
+            long sum = 0;
+            for (int i = lo; i < hi; i++) {
+                sum += array[i];
+            }
+            return sum;
+        }, Long::sum);
+    }
+
+    // ---------------------------------------------------------------- long arrays
+
+    public void forEach(long[] array, LongConsumer action) {
+        Objects.requireNonNull(action);
+        each(array.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                action.accept(array[i]);
+            }
+        });
+    }
+
+    public long[] map(long[] array, LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        long[] out = new long[array.length];
+        run(array.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                out[i] = mapper.applyAsLong(array[i]);
+            }
+        });
+        return out;
+    }
+
+    public long[] filter(long[] array, LongPredicate filter) {
+        Objects.requireNonNull(filter);
+        List<long[]> chunks = invoke(array.length, (lo, hi) -> {
+            long[] kept = new long[hi - lo];
+            int n = 0;
+            for (int i = lo; i < hi; i++) {
+                kept[n] = array[i];                     // store always, keep if it passes:
+                n += filter.test(array[i]) ? 1 : 0;     // no branch to mispredict
+            }
+            return chunk(Arrays.copyOf(kept, n));
+        }, BulkOps::concat);
+        return flatten(chunks, long[]::new, a -> a.length);
+    }
+
+    public long reduce(long[] array, long identity, LongBinaryOperator op) {
+        Objects.requireNonNull(op);
+        return invoke(array.length, (lo, hi) -> {
+            long result = identity;
+            for (int i = lo; i < hi; i++) {
+                result = op.applyAsLong(result, array[i]);
+            }
+            return result;
+        }, (a, b) -> op.applyAsLong(a, b));
+    }
+
+    // ---------------------------------------------------------------- double arrays
+
+    public void forEach(double[] array, DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        each(array.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                action.accept(array[i]);
+            }
+        });
+    }
+
+    public double[] map(double[] array, DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        double[] out = new double[array.length];
+        run(array.length, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                out[i] = mapper.applyAsDouble(array[i]);
+            }
+        });
+        return out;
+    }
+
+    public double[] filter(double[] array, DoublePredicate filter) {
+        Objects.requireNonNull(filter);
+        List<double[]> chunks = invoke(array.length, (lo, hi) -> {
+            double[] kept = new double[hi - lo];
+            int n = 0;
+            for (int i = lo; i < hi; i++) {
+                kept[n] = array[i];                     // store always, keep if it passes:
+                n += filter.test(array[i]) ? 1 : 0;     // no branch to mispredict
+            }
+            return chunk(Arrays.copyOf(kept, n));
+        }, BulkOps::concat);
+        return flatten(chunks, double[]::new, a -> a.length);
+    }
+
+    /**
+     * Folds the array with op. Floating-point addition is not exactly
+     * associative, so a sum may differ in its last bits from a sequential one,
+     * and between pools, but not between runs with the same leaves.
+     */
+    public double reduce(double[] array, double identity, DoubleBinaryOperator op) {
+        Objects.requireNonNull(op);
+        return invoke(array.length, (lo, hi) -> {
+            double result = identity;
+            for (int i = lo; i < hi; i++) {
+                result = op.applyAsDouble(result, array[i]);
+            }
+            return result;
+        }, (a, b) -> op.applyAsDouble(a, b));
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    /** Work on the index range [lo, hi) that produces a partial result. */
+    @FunctionalInterface
+    private interface Leaf<R> {
+        R apply(int lo, int hi);
+    }
+
+    /** Work on the index range [lo, hi) with no result. */
+    @FunctionalInterface
+    private interface RangeAction {
+        void run(int lo, int hi);
+    }
+
+    // a forEach pass: in parallel, or in order on the calling thread if ordered
+    private void each(int size, RangeAction action) {
+        if (ordered) {
+            action.run(0, size);
+        } else {
+            run(size, action);
+        }
+    }
+
+    private void run(int size, RangeAction action) {
+        invoke(size, (lo, hi) -> {
+            action.run(lo, hi);
+            return null;
+        }, (a, b) -> null);
+    }
+
+    // an empty input is a single leaf over the empty range
+    private <R> R invoke(int size, Leaf<R> leaf, BinaryOperator<R> combiner) {
+        int leafSize = leafSize(size);
+        if (size <= leafSize) {
+            return leaf.apply(0, size);
+        }
+        return pool.invoke(new RangeTask<>(leaf, combiner, leafSize, threshold == 0, 0, size));
+    }
+
+    private int leafSize(int size) {
+        if (threshold > 0) {
+            return threshold;
+        }
+        return Math.max(MIN_LEAF, size / (pool.getParallelism() * LEAVES_PER_WORKER));
+    }
+
+    /**
+     * Forks right halves until the range is a leaf, or, when adaptive, until
+     * this worker has enough queued tasks for the idle ones to steal; then
+     * runs the remaining left part itself and joins the forked halves from
+     * the nearest to the farthest, so results combine left to right.
+     */
+    private static final class RangeTask<R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Leaf<R> leaf;
+        private final BinaryOperator<R> combiner;
+        private final int leafSize;
+        private final boolean adaptive;
+        private final int lo;
+        private final int hi;
+        private RangeTask<R> next;          // the task forked before this one
+
+        RangeTask(Leaf<R> leaf, BinaryOperator<R> combiner, int leafSize, boolean adaptive, int lo, int hi) {
+            this.leaf = leaf;
+            this.combiner = combiner;
+            this.leafSize = leafSize;
+            this.adaptive = adaptive;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected R compute() {
+            int h = hi;
+            RangeTask<R> forked = null;
+            while (h - lo > leafSize && (!adaptive || getSurplusQueuedTaskCount() <= MAX_SURPLUS)) {
+                int mid = (lo + h) >>> 1;
+                RangeTask<R> right = new RangeTask<>(leaf, combiner, leafSize, adaptive, mid, h);
+                right.next = forked;
+                forked = right;
+                right.fork();
+                h = mid;
+            }
+            R result = leaf.apply(lo, h);
+            for (; forked != null; forked = forked.next) {
+                result = combiner.apply(result, forked.join());
+            }
+            return result;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> randomAccess(List<T> list) {
+        return list instanceof RandomAccess ? list : (List<T>) Arrays.asList(list.toArray());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Map.Entry<K, V>[] entries(Map<K, V> map) {
+        return map.entrySet().toArray(new Map.Entry[0]);
+    }
+
+    private <K, V> Map<K, V> newMap(int expectedSize) {
+        int capacity = (int) Math.min(1 << 30, expectedSize / 0.75 + 1);
+        return ordered ? new LinkedHashMap<>(capacity) : new HashMap<>(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> asList(Object[] elements) {
+        return new ArrayList<>((List<T>) Arrays.asList(elements));
+    }
+
+    private static <A> List<A> chunk(A array) {
+        List<A> chunks = new ArrayList<>();
+        chunks.add(array);
+        return chunks;
+    }
+
+    private static <A> List<A> concat(List<A> left, List<A> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    // copies the chunks, each an array, end to end into one new array
+    private static <A> A flatten(List<A> chunks, IntFunction<A> newArray, ToIntFunction<A> length) {
+        int total = 0;
+        for (A chunk : chunks) {
+            total += length.applyAsInt(chunk);
+        }
+        A result = newArray.apply(total);
+        int at = 0;
+        for (A chunk : chunks) {
+            int n = length.applyAsInt(chunk);
+            System.arraycopy(chunk, 0, result, at, n);
+            at += n;
+        }
+        return result;
+    }
+
+    /**
+     * Bulk Ops Builder
+     * ----------------
+     * Everything is optional: the common pool, adaptive splitting and
+     * unordered forEach by default.
+     */
+    public static final class Builder {
+
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private int threshold;
+        private boolean ordered;
+
+        private Builder() {
+        }
+
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = Objects.requireNonNull(pool);
+            return this;
+        }
+
+        /** Splits every range down to threshold elements, regardless of how busy the pool is. */
+        public Builder threshold(int threshold) {
+            if (threshold <= 0) {
+                throw new IllegalArgumentException("threshold must be positive: " + threshold);
+            }
+            this.threshold = threshold;
+            return this;
+        }
+
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        public BulkOps build() {
+            return new BulkOps(this);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework BulkOps Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk Ops Benchmark
+ * ------------------
+ * BulkOps against a plain loop and a parallel IntStream over 8,000,000
+ * random ints, in nanoseconds per element. Every element goes through a
+ * few rounds of integer mixing, so that there is work to share out:
+ *
+ * - map int[]: map(int[], IntUnaryOperator), against a for loop and
+ *   IntStream.of(...).parallel().map(...).toArray()
+ * - mapToLong List: mapToLong over an ArrayList<Integer>
+ * - filter int[]: keeps the elements whose mix is odd, about half
+ * - sum int[]: the mixed values summed into a long, as the for loop does,
+ *   by map then sum(int[]); reduce cannot do it, since it needs one
+ *   associative operator for both the elements and the partial sums
+ *
+ * The parallel rows run in ForkJoinPools of 1, 2, 4, ... threads, up to
+ * the number of cores or 8, whichever is more. Speed-up is capped by the
+ * number of cores; the cores the JVM sees are printed first.
+ */
+public class BulkOpsBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final int SIZE = 8_000_000;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int[] values = new Random(11).ints(SIZE).toArray();
+        List<Integer> boxed = new ArrayList<>(SIZE);
+        for (int value : values) {
+            boxed.add(value);
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%d cores, %,d elements%n", cores, SIZE);
+
+        System.out.println("--- sequential");
+        run("for loop map int[]          ", () -> {
+            int[] out = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                out[i] = mix(values[i]);
+            }
+            return out[SIZE - 1];
+        });
+        run("for loop sum int[]          ", () -> {
+            long sum = 0;
+            for (int value : values) {
+                sum += mix(value);
+            }
+            return sum;
+        });
+
+        for (int threads = 1; threads <= Math.max(cores, 8); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            BulkOps ops = BulkOps.builder().pool(pool).build();
+            System.out.printf("--- %d threads%n", threads);
+            run("BulkOps map int[]           ", () -> ops.map(values, BulkOpsBenchmark::mix)[SIZE - 1]);
+            run("IntStream parallel map      ",
+                () -> pool.submit(() -> IntStream.of(values).parallel().map(BulkOpsBenchmark::mix).toArray())
+                          .join()[SIZE - 1]);
+            run("BulkOps mapToLong List      ", () -> ops.mapToLong(boxed, BulkOpsBenchmark::mix)[SIZE - 1]);
+            run("BulkOps filter int[]        ", () -> ops.filter(values, value -> (mix(value) & 1) != 0).length);
+            run("BulkOps map + sum int[]     ", () -> ops.sum(ops.map(values, BulkOpsBenchmark::mix)));
+            pool.shutdown();
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    // a few rounds of a 32-bit finalizer, so every element costs more than its load
+    private static int mix(int value) {
+        for (int i = 0; i < 4; i++) {
+            value ^= value >>> 16;
+            value *= 0x85EBCA6B;
+        }
+        return value;
+    }
+
+    private static void run(String label, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %6.2f ns/element%n", label, (double) best / SIZE);
+    }
+}
@@ -0,0 +1,347 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework CompactIntSet
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compact Int Set
+ * ---------------
+ * A set of ints that keeps its values in whichever of IntHashSet,
+ * BitmapIntSet and RoaringIntSet takes the least memory for them:
+ *
+ * - HASH: small sets and values scattered too thinly for the others
+ * - BITMAP: values packed into one range, such as most of the IDs 1..n
+ * - ROARING: large sets whose values cluster in places
+ *
+ * Every set starts as HASH. Each time the size doubles (from 64 on) or
+ * drops to a quarter, the set estimates the bytes each representation
+ * would take for its current values and moves to the smallest. A BITMAP
+ * set also moves to ROARING before a far-off value would stretch its
+ * window. A HASH set sorts a copy of its values for the estimate; the
+ * others read it off their words or containers. Either way a check costs
+ * no more than the doubling before it, so add stays amortized constant
+ * time.
+ *
+ * or / and / andNot / andCardinality run natively when both sets are
+ * BITMAP or both are ROARING, and value by value otherwise; their results
+ * are checked against the same size thresholds.
+ *
+ *     CompactIntSet visitors = new CompactIntSet();
+ *     for (int id = 1; id <= 100_000; id++) {
+ *         visitors.add(id);
+ *     }
+ *     System.out.println(visitors.representation());   // BITMAP
+ *
+ * Not thread-safe.
+ */
+public class CompactIntSet implements IntSet {
+
+    public enum Representation { HASH, BITMAP, ROARING }
+
+    private static final int FIRST_CHECK = 64;
+
+    private IntSet set;
+    private Representation representation;
+    private int nextCheck;              // size at which to reconsider the representation
+    private int min;                    // bounds of the BITMAP window's values, grown by add
+    private int max;
+
+    public CompactIntSet() {
+        clear();
+    }
+
+    public static CompactIntSet of(int... values) {
+        CompactIntSet set = new CompactIntSet();
+        set.addAll(values);
+        return set;
+    }
+
+    public CompactIntSet copy() {
+        CompactIntSet copy = new CompactIntSet();
+        if (representation == Representation.HASH) {
+            copy.set = ((IntHashSet) set).copy();
+        } else if (representation == Representation.BITMAP) {
+            copy.set = ((BitmapIntSet) set).copy();
+        } else {
+            copy.set = ((RoaringIntSet) set).copy();
+        }
+        copy.representation = representation;
+        copy.nextCheck = nextCheck;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    public Representation representation() {
+        return representation;
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return set.contains(value);
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    @Override
+    public boolean add(int value) {
+        if (representation == Representation.BITMAP && (value < min || value > max)) {
+            int newMin = Math.min(min, value);
+            int newMax = Math.max(max, value);
+            if (BitmapIntSet.windowBytes(newMin, newMax) > bitmapBudget(size() + 1)) {
+                rebuild(Representation.ROARING, set.toArray());
+            } else {
+                min = newMin;
+                max = newMax;
+            }
+        }
+        if (!set.add(value)) {
+            return false;
+        }
+        if (size() >= nextCheck) {
+            reconsider();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(int value) {
+        if (!set.remove(value)) {
+            return false;
+        }
+        checkSize();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        set = new IntHashSet(4);
+        representation = Representation.HASH;
+        nextCheck = FIRST_CHECK;
+    }
+
+    // ---------------------------------------------------------------- set algebra
+
+    /** Adds every value of other. */
+    public void or(CompactIntSet other) {
+        if (other == this) {
+            return;
+        }
+        if (representation == Representation.BITMAP && other.representation == Representation.BITMAP
+                && BitmapIntSet.windowBytes(Math.min(min, other.min), Math.max(max, other.max))
+                   <= bitmapBudget(size() + other.size())) {
+            ((BitmapIntSet) set).or((BitmapIntSet) other.set);
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        } else if (representation == Representation.ROARING && other.representation == Representation.ROARING) {
+            ((RoaringIntSet) set).or((RoaringIntSet) other.set);
+        } else {
+            other.set.forEach(this::add);
+        }
+        checkSize();
+    }
+
+    /** Keeps only the values that are also in other. */
+    public void and(CompactIntSet other) {
+        if (representation == Representation.BITMAP && other.representation == Representation.BITMAP) {
+            ((BitmapIntSet) set).and((BitmapIntSet) other.set);
+        } else if (representation == Representation.ROARING && other.representation == Representation.ROARING) {
+            ((RoaringIntSet) set).and((RoaringIntSet) other.set);
+        } else {
+            retain(other, true);
+        }
+        checkSize();
+    }
+
+    /** Removes every value of other. */
+    public void andNot(CompactIntSet other) {
+        if (other == this) {
+            clear();
+        } else if (representation == Representation.BITMAP && other.representation == Representation.BITMAP) {
+            ((BitmapIntSet) set).andNot((BitmapIntSet) other.set);
+        } else if (representation == Representation.ROARING && other.representation == Representation.ROARING) {
+            ((RoaringIntSet) set).andNot((RoaringIntSet) other.set);
+        } else {
+            retain(other, false);
+        }
+        checkSize();
+    }
+
+    /** The size of the intersection, without building it. */
+    public int andCardinality(CompactIntSet other) {
+        if (representation == Representation.BITMAP && other.representation == Representation.BITMAP) {
+            return ((BitmapIntSet) set).andCardinality((BitmapIntSet) other.set);
+        }
+        if (representation == Representation.ROARING && other.representation == Representation.ROARING) {
+            return ((RoaringIntSet) set).andCardinality((RoaringIntSet) other.set);
+        }
+        IntSet small = size() <= other.size() ? set : other.set;
+        IntSet large = small == set ? other.set : set;
+        int[] count = new int[1];
+        small.forEach(value -> {
+            if (large.contains(value)) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    public static CompactIntSet or(CompactIntSet a, CompactIntSet b) {
+        CompactIntSet result = a.copy();
+        result.or(b);
+        return result;
+    }
+
+    public static CompactIntSet and(CompactIntSet a, CompactIntSet b) {
+        CompactIntSet result = (a.size() <= b.size() ? a : b).copy();
+        result.and(a.size() <= b.size() ? b : a);
+        return result;
+    }
+
+    public static CompactIntSet andNot(CompactIntSet a, CompactIntSet b) {
+        CompactIntSet result = a.copy();
+        result.andNot(b);
+        return result;
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    /** Visits every value; in ascending order unless the set is HASH. */
+    @Override
+    public void forEach(IntConsumer action) {
+        set.forEach(action);
+    }
+
+    @Override
+    public int[] toArray() {
+        return set.toArray();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return IntSet.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return IntSet.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return IntSet.toString(this);
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    // a BITMAP window may stretch to 4 bytes a value (1 value in 32) before ROARING takes over
+    private static long bitmapBudget(int size) {
+        return 1024 + 4L * size;
+    }
+
+    private int[] sortedValues() {
+        int[] values = set.toArray();
+        if (representation == Representation.HASH) {
+            Arrays.sort(values);
+        }
+        return values;
+    }
+
+    private void retain(CompactIntSet other, boolean keepCommon) {
+        int[] values = sortedValues();
+        int n = 0;
+        for (int value : values) {
+            if (other.contains(value) == keepCommon) {
+                values[n++] = value;
+            }
+        }
+        rebuild(representation, Arrays.copyOf(values, n));
+    }
+
+    // reconsiders once the size has doubled or fallen to a quarter since the last time
+    private void checkSize() {
+        if (size() >= nextCheck || nextCheck > FIRST_CHECK && size() <= nextCheck / 8) {
+            reconsider();
+        }
+    }
+
+    private void reconsider() {
+        int n = size();
+        long hash = IntHashSet.tableBytes(n);
+        if (representation == Representation.HASH) {
+            int[] values = sortedValues();
+            long bitmap = n == 0 ? 0 : BitmapIntSet.windowBytes(values[0], values[n - 1]);
+            long roaring = 0;
+            for (int start = 0, i = 1; i <= n; i++) {
+                if (i == n || RoaringIntSet.key(values[i]) != RoaringIntSet.key(values[start])) {
+                    roaring += RoaringIntSet.chunkBytes(i - start);
+                    start = i;
+                }
+            }
+            Representation best = cheapest(hash, bitmap, roaring);
+            if (best != representation) {
+                rebuild(best, values);
+            }
+        } else if (representation == Representation.BITMAP) {
+            BitmapIntSet bitmap = (BitmapIntSet) set;
+            Representation best = n == 0 ? Representation.HASH
+                    : cheapest(hash, BitmapIntSet.windowBytes(bitmap.min(), bitmap.max()), bitmap.roaringBytes());
+            if (best != representation) {
+                rebuild(best, set.toArray());
+            } else {
+                min = Math.min(min, bitmap.min());
+                max = Math.max(max, bitmap.max());
+            }
+        } else {
+            RoaringIntSet roaring = (RoaringIntSet) set;
+            Representation best = n == 0 ? Representation.HASH
+                    : cheapest(hash, BitmapIntSet.windowBytes(roaring.min(), roaring.max()), roaring.bytes());
+            if (best != representation) {
+                rebuild(best, set.toArray());
+            }
+        }
+        nextCheck = Math.max(FIRST_CHECK, n * 2);
+    }
+
+    // the representation with the fewest estimated bytes; ties go to HASH, then BITMAP
+    private static Representation cheapest(long hash, long bitmap, long roaring) {
+        if (hash <= bitmap && hash <= roaring) {
+            return Representation.HASH;
+        }
+        return bitmap <= roaring ? Representation.BITMAP : Representation.ROARING;
+    }
+
+    private void rebuild(Representation target, int[] sortedValues) {
+        int n = sortedValues.length;
+        if (target == Representation.BITMAP && n == 0) {
+            target = Representation.HASH;
+        }
+        if (target == Representation.HASH) {
+            set = new IntHashSet(Math.max(n, 4));
+        } else if (target == Representation.BITMAP) {
+            min = sortedValues[0];
+            max = sortedValues[n - 1];
+            set = new BitmapIntSet(min, max);
+        } else {
+            set = new RoaringIntSet();
+        }
+        set.addAll(sortedValues);
+        representation = target;
+    }
+}
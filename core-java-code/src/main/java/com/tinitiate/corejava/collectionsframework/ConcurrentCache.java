@@ -0,0 +1,809 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework ConcurrentCache
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrent Cache
+ * ----------------
+ * A bounded cache for many threads, in place of a LinkedHashMap in
+ * access-order mode behind one lock (the LRU variant of
+ * LinkedHashMapExample). Entries live in a ConcurrentHashMap, so reads and
+ * writes never wait on each other; the eviction policy is updated later, in
+ * batches, by whichever thread wins a tryLock.
+ *
+ *     ConcurrentCache<String, Integer> scores = ConcurrentCache.<String, Integer>builder()
+ *             .maximumSize(10_000)
+ *             .expireAfterWrite(Duration.ofMinutes(5))
+ *             .build();
+ *     int score = scores.get("Alice", name -> loadScore(name));
+ *
+ * How it works:
+ *  - a read records the entry in a small lossy ring buffer picked by the
+ *    calling thread (striped, lock-free); writes go to a queue. Both are
+ *    replayed against the policy under the eviction lock;
+ *  - eviction is W-TinyLFU: new entries enter a small LRU window (1% of the
+ *    capacity), and when they leave it they must have been used more often,
+ *    by a count-min frequency sketch, than the main space's LRU victim to
+ *    stay. The main space is a segmented LRU (probation / protected);
+ *  - the bound is a total weight (maximumWeight + weigher) or an entry count
+ *    (maximumSize, every entry weighs 1);
+ *  - expireAfterWrite / expireAfterAccess: expired entries are invisible to
+ *    readers at once and removed during maintenance;
+ *  - get(key, loader) loads a missing value once, however many threads ask
+ *    for it at the same time; the others wait and get the same value. The
+ *    loader must not use this cache.
+ */
+public final class ConcurrentCache<K, V> {
+
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final long expireAfterWriteNanos;       // 0 = never
+    private final long expireAfterAccessNanos;      // 0 = never
+    private final LongSupplier ticker;
+
+    private final ReadBuffer[] readBuffers;
+    private final ConcurrentLinkedQueue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // policy state, guarded by evictionLock
+    private final AccessOrder window = new AccessOrder(false);
+    private final AccessOrder probation = new AccessOrder(false);
+    private final AccessOrder protectedSpace = new AccessOrder(false);
+    private final AccessOrder writeOrder = new AccessOrder(true);
+    private final FrequencySketch sketch;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long weightedSize;
+    private long windowWeight;
+    private long protectedWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedWeight = new LongAdder();
+
+    private ConcurrentCache(Builder<K, V> builder) {
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.ticker = builder.ticker;
+        this.windowMaximum = Math.max(1, maximumWeight / 100);
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * 0.8);
+        this.sketch = new FrequencySketch(maximumWeight);
+        int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+        this.readBuffers = new ReadBuffer[stripes];
+        for (int i = 0; i < stripes; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    // ---------------------------------------------------------------- reads
+
+    /** The cached value, or null when absent or expired. */
+    public V getIfPresent(K key) {
+        Node<K, V> node = map.get(key);
+        long now = now();
+        if (node == null || isExpired(node, now)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node, now);
+        return node.value;
+    }
+
+    /**
+     * The cached value, loading it when absent or expired. Concurrent calls
+     * for the same key share one load. A loader returning null caches
+     * nothing and null is returned; a loader exception is passed on.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Node<K, V> node = map.get(key);
+        long now = now();
+        if (node != null && !isExpired(node, now)) {
+            hits.increment();
+            afterRead(node, now);
+            return node.value;
+        }
+        Object[] outcome = new Object[2];               // {created node, replaced node}
+        node = map.compute(key, (k, current) -> {
+            long time = now();
+            if (current != null && !isExpired(current, time)) {
+                return current;                         // loaded by another caller meanwhile
+            }
+            V value = load(k, loader);
+            outcome[1] = current;
+            if (value == null) {
+                return null;
+            }
+            Node<K, V> created = new Node<>(k, value, weigh(k, value), time);
+            outcome[0] = created;
+            return created;
+        });
+        retire(outcome[1]);
+        if (outcome[0] != null) {
+            misses.increment();
+            Node<K, V> created = node;
+            afterWrite(() -> onAdd(created));
+        } else if (node != null) {
+            hits.increment();
+            afterRead(node, now);
+        } else {
+            misses.increment();
+        }
+        return node == null ? null : node.value;
+    }
+
+    // ---------------------------------------------------------------- writes
+
+    /** Adds or replaces the entry and returns the previous live value, or null. */
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        int weight = weigh(key, value);
+        Object[] outcome = new Object[2];               // {previous value, replaced node}
+        Node<K, V> node = map.compute(key, (k, current) -> {
+            long now = now();
+            if (current != null && !isExpired(current, now)) {
+                outcome[0] = current.value;
+                current.update(value, weight, now);
+                return current;
+            }
+            outcome[1] = current;
+            return new Node<>(k, value, weight, now);
+        });
+        retire(outcome[1]);
+        if (outcome[0] != null) {
+            afterWrite(() -> onUpdate(node));
+        } else {
+            afterWrite(() -> onAdd(node));
+        }
+        @SuppressWarnings("unchecked")
+        V previous = (V) outcome[0];
+        return previous;
+    }
+
+    public void invalidate(K key) {
+        Node<K, V> node = map.remove(key);
+        retire(node);
+    }
+
+    public void invalidateAll() {
+        for (K key : map.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    /** Runs pending maintenance now, waiting for the eviction lock if needed. */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintain();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------- information
+
+    /** Entries in the map, including expired ones not yet removed. */
+    public long estimatedSize() {
+        return map.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(),
+                         evictions.sum(), evictedWeight.sum());
+    }
+
+    // ---------------------------------------------------------------- hand-off to the policy
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        try {
+            V value = loader.apply(key);
+            (value == null ? loadFailures : loadSuccesses).increment();
+            return value;
+        } catch (RuntimeException | Error e) {
+            loadFailures.increment();
+            throw e;
+        }
+    }
+
+    private int weigh(K key, V value) {
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight " + weight + " for key " + key);
+        }
+        return weight;
+    }
+
+    // the clock is only read when something can expire; nanoTime is not free
+    private long now() {
+        return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0 ? ticker.getAsLong() : 0L;
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos
+            || expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos;
+    }
+
+    private void afterRead(Node<K, V> node, long now) {
+        if (expireAfterAccessNanos > 0) {
+            node.accessTime = now;
+        }
+        int stripe = ((int) Thread.currentThread().getId() * 0x9E3779B9) >>> 16 & (readBuffers.length - 1);
+        if (!readBuffers[stripe].offer(node)) {
+            tryMaintain();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void retire(Object removed) {
+        if (removed != null) {
+            Node<K, V> node = (Node<K, V>) removed;
+            node.retired = true;
+            afterWrite(() -> unlink(node));
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        writeBuffer.add(task);
+        tryMaintain();
+    }
+
+    // a thread that fails tryLock leaves its work to the holder, which rechecks after unlocking
+    private void tryMaintain() {
+        do {
+            if (!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                maintain();
+            } finally {
+                evictionLock.unlock();
+            }
+        } while (!writeBuffer.isEmpty());
+    }
+
+    // ---------------------------------------------------------------- policy (under evictionLock)
+
+    @SuppressWarnings("unchecked")
+    private void maintain() {
+        for (ReadBuffer buffer : readBuffers) {
+            buffer.drain(node -> onAccess((Node<K, V>) node));
+        }
+        for (Runnable task; (task = writeBuffer.poll()) != null; ) {
+            task.run();
+        }
+        if (expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0) {
+            expire(ticker.getAsLong());
+        }
+        evict();
+    }
+
+    private void onAdd(Node<K, V> node) {
+        if (node.retired || node.queue != 0) {
+            return;
+        }
+        node.policyWeight = node.weight;
+        node.queue = WINDOW;
+        window.addLast(node);
+        windowWeight += node.policyWeight;
+        weightedSize += node.policyWeight;
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.addLast(node);
+        }
+        sketch.increment(node.key);
+    }
+
+    private void onUpdate(Node<K, V> node) {
+        if (node.queue == 0) {
+            return;                     // not added yet (onAdd reads the new weight) or removed
+        }
+        int delta = node.weight - node.policyWeight;
+        node.policyWeight = node.weight;
+        weightedSize += delta;
+        if (node.queue == WINDOW) {
+            windowWeight += delta;
+        } else if (node.queue == PROTECTED) {
+            protectedWeight += delta;
+        }
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.moveToLast(node);
+        }
+        onAccess(node);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == 0) {
+            return;
+        }
+        sketch.increment(node.key);
+        if (node.queue == WINDOW) {
+            window.moveToLast(node);
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedSpace.addLast(node);
+            protectedWeight += node.policyWeight;
+            while (protectedWeight > protectedMaximum) {
+                Node<K, V> demoted = protectedSpace.first();
+                protectedSpace.remove(demoted);
+                protectedWeight -= demoted.policyWeight;
+                demoted.queue = PROBATION;
+                probation.addLast(demoted);
+            }
+        } else {
+            protectedSpace.moveToLast(node);
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.remove(node);
+                windowWeight -= node.policyWeight;
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedSpace.remove(node);
+                protectedWeight -= node.policyWeight;
+                break;
+            default:
+                return;
+        }
+        weightedSize -= node.policyWeight;
+        node.queue = 0;
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.remove(node);
+        }
+    }
+
+    private void evict() {
+        // window overflow moves to probation, where it competes with the main space's victims
+        Node<K, V> candidate = null;
+        while (windowWeight > windowMaximum) {
+            Node<K, V> node = window.first();
+            window.remove(node);
+            windowWeight -= node.policyWeight;
+            node.queue = PROBATION;
+            probation.addLast(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        while (weightedSize > maximumWeight) {
+            Node<K, V> victim = probation.first();
+            if (victim == null) {
+                victim = protectedSpace.first() != null ? protectedSpace.first() : window.first();
+                evict(victim);
+                continue;
+            }
+            if (candidate == null || candidate == victim) {
+                if (candidate == victim) {
+                    candidate = next(candidate);
+                }
+                evict(victim);
+                continue;
+            }
+            boolean admit = candidate.policyWeight <= maximumWeight
+                         && sketch.frequency(candidate.key) > sketch.frequency(victim.key);
+            if (admit) {
+                evict(victim);
+            } else {
+                Node<K, V> rejected = candidate;
+                candidate = next(candidate);
+                evict(rejected);
+            }
+        }
+    }
+
+    private Node<K, V> next(Node<K, V> node) {
+        return node.nextAccess;
+    }
+
+    private void evict(Node<K, V> node) {
+        int weight = node.policyWeight;
+        unlink(node);
+        if (map.remove(node.key, node)) {
+            node.retired = true;
+            evictions.increment();
+            evictedWeight.add(weight);
+        }
+    }
+
+    private void expire(long now) {
+        if (expireAfterAccessNanos > 0) {
+            expireIdle(window, now);
+            expireIdle(probation, now);
+            expireIdle(protectedSpace, now);
+        }
+        if (expireAfterWriteNanos > 0) {
+            Node<K, V> node;
+            while ((node = writeOrder.first()) != null && now - node.writeTime >= expireAfterWriteNanos) {
+                evict(node);
+            }
+        }
+    }
+
+    // each access list is roughly in access-time order, so expired entries sit at the front
+    private void expireIdle(AccessOrder order, long now) {
+        Node<K, V> node;
+        while ((node = order.first()) != null && now - node.accessTime >= expireAfterAccessNanos) {
+            evict(node);
+        }
+    }
+
+    // ---------------------------------------------------------------- nested types
+
+    /** Weight of an entry against maximumWeight. */
+    @FunctionalInterface
+    public interface Weigher<K, V> {
+        int weigh(K key, V value);
+    }
+
+    private static final class Node<K, V> {
+
+        final K key;
+        volatile V value;
+        volatile int weight;
+        volatile long writeTime;
+        volatile long accessTime;
+        volatile boolean retired;       // no longer in the map
+
+        // owned by the policy
+        int queue;
+        int policyWeight;
+        Node<K, V> prevAccess;
+        Node<K, V> nextAccess;
+        Node<K, V> prevWrite;
+        Node<K, V> nextWrite;
+
+        Node(K key, V value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+        void update(V value, int weight, long now) {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    /** Intrusive doubly linked list over either the access links or the write links. */
+    private final class AccessOrder {
+
+        private final boolean byWrite;
+        private Node<K, V> head;
+        private Node<K, V> tail;
+
+        AccessOrder(boolean byWrite) {
+            this.byWrite = byWrite;
+        }
+
+        Node<K, V> first() {
+            return head;
+        }
+
+        void addLast(Node<K, V> node) {
+            setPrev(node, tail);
+            setNext(node, null);
+            if (tail == null) {
+                head = node;
+            } else {
+                setNext(tail, node);
+            }
+            tail = node;
+        }
+
+        void remove(Node<K, V> node) {
+            Node<K, V> prev = prev(node);
+            Node<K, V> next = next(node);
+            if (prev == null) {
+                if (head != node) {
+                    return;             // not in this list
+                }
+                head = next;
+            } else {
+                setNext(prev, next);
+            }
+            if (next == null) {
+                tail = prev;
+            } else {
+                setPrev(next, prev);
+            }
+            setPrev(node, null);
+            setNext(node, null);
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (tail != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private Node<K, V> prev(Node<K, V> node) {
+            return byWrite ? node.prevWrite : node.prevAccess;
+        }
+
+        private Node<K, V> next(Node<K, V> node) {
+            return byWrite ? node.nextWrite : node.nextAccess;
+        }
+
+        private void setPrev(Node<K, V> node, Node<K, V> prev) {
+            if (byWrite) node.prevWrite = prev; else node.prevAccess = prev;
+        }
+
+        private void setNext(Node<K, V> node, Node<K, V> next) {
+            if (byWrite) node.nextWrite = next; else node.nextAccess = next;
+        }
+    }
+
+    /** Lossy ring of recent reads for one stripe; a full ring drops the read. */
+    private static final class ReadBuffer {
+
+        private static final int SIZE = 16;
+
+        private final AtomicReferenceArray<Object> ring = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCount = new AtomicLong();
+        private volatile long readCount;
+
+        boolean offer(Object node) {
+            long tail = writeCount.get();
+            if (tail - readCount >= SIZE) {
+                return false;
+            }
+            if (writeCount.compareAndSet(tail, tail + 1)) {
+                ring.lazySet((int) tail & (SIZE - 1), node);
+            }
+            return true;                // a lost race just drops this read
+        }
+
+        void drain(Consumer<Object> action) {
+            long head = readCount;
+            long tail = writeCount.get();
+            for (; head < tail; head++) {
+                int index = (int) head & (SIZE - 1);
+                Object node = ring.get(index);
+                if (node == null) {
+                    break;              // claimed but not yet written
+                }
+                ring.lazySet(index, null);
+                action.accept(node);
+            }
+            readCount = head;
+        }
+    }
+
+    /**
+     * Count-min sketch with four 4-bit counters per key, packed sixteen to a
+     * long. A key's four counters share one 64-byte block (eight longs), so
+     * an update touches a single cache line. All counters are halved every
+     * 10 x width additions, so old popularity fades.
+     */
+    private static final class FrequencySketch {
+
+        private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+        private final long[] table;
+        private final int blockMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long maximum) {
+            int width = (int) Math.min(1 << 24, Math.max(64, maximum));
+            table = new long[Integer.highestOneBit(width - 1) << 1];
+            blockMask = (table.length >>> 3) - 1;
+            sampleSize = 10 * table.length;
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int block = (hash & blockMask) << 3;
+            int counters = rehash(hash);
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                int h = counters >>> (i << 3);
+                int index = block + (i << 1) + (h & 1);
+                int shift = ((h >>> 1) & 15) << 2;
+                frequency = Math.min(frequency, (int) (table[index] >>> shift) & 15);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int block = (hash & blockMask) << 3;
+            int counters = rehash(hash);
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int h = counters >>> (i << 3);
+                int index = block + (i << 1) + (h & 1);
+                int shift = ((h >>> 1) & 15) << 2;
+                if (((table[index] >>> shift) & 15) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+                }
+                additions /= 2;
+            }
+        }
+
+        private static int spread(int h) {
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        // independent bits for picking the counters inside the block
+        private static int rehash(int h) {
+            h *= 0x31848BAB;
+            return h ^ (h >>> 14);
+        }
+    }
+
+    /** Snapshot of the counters. */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long loadSuccessCount;
+        private final long loadFailureCount;
+        private final long evictionCount;
+        private final long evictionWeight;
+
+        Stats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+              long evictionCount, long evictionWeight) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadSuccessCount = loadSuccessCount;
+            this.loadFailureCount = loadFailureCount;
+            this.evictionCount = evictionCount;
+            this.evictionWeight = evictionWeight;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        public long loadSuccessCount() {
+            return loadSuccessCount;
+        }
+
+        public long loadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /** Entries removed for size or expiry; explicit invalidation is not counted. */
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        public long evictionWeight() {
+            return evictionWeight;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Stats[hits=%d, misses=%d, hitRate=%.3f, loads=%d, loadFailures=%d, evictions=%d]",
+                                 hitCount, missCount, hitRate(), loadSuccessCount, loadFailureCount, evictionCount);
+        }
+    }
+
+    /**
+     * Cache Builder
+     * -------------
+     * maximumSize or maximumWeight is required; expiry and ticker are
+     * optional. The ticker (System::nanoTime by default) can be replaced
+     * to control time in tests.
+     */
+    public static final class Builder<K, V> {
+
+        private long maximumWeight = -1;
+        private Weigher<? super K, ? super V> weigher;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximumWeight = requirePositive(maximumSize, "maximumSize");
+            this.weigher = (k, v) -> 1;
+            return this;
+        }
+
+        public Builder<K, V> maximumWeight(long maximumWeight) {
+            this.maximumWeight = requirePositive(maximumWeight, "maximumWeight");
+            return this;
+        }
+
+        public Builder<K, V> weigher(Weigher<? super K, ? super V> weigher) {
+            this.weigher = Objects.requireNonNull(weigher);
+            return this;
+        }
+
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            this.expireAfterWriteNanos = requirePositive(duration.toNanos(), "expireAfterWrite");
+            return this;
+        }
+
+        public Builder<K, V> expireAfterAccess(Duration duration) {
+            this.expireAfterAccessNanos = requirePositive(duration.toNanos(), "expireAfterAccess");
+            return this;
+        }
+
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public ConcurrentCache<K, V> build() {
+            if (maximumWeight < 0) {
+                throw new IllegalStateException("maximumSize or maximumWeight must be set");
+            }
+            if (weigher == null) {
+                throw new IllegalStateException("maximumWeight needs a weigher");
+            }
+            return new ConcurrentCache<>(this);
+        }
+
+        private static long requirePositive(long value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework ConcurrentCache Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Concurrent Cache Benchmark
+ * --------------------------
+ * Throughput of a 10,000-entry cache at 1 to 64 threads: a synchronized
+ * LinkedHashMap in access-order mode (the usual LRU recipe) against
+ * ConcurrentCache. Keys follow a skewed (Zipf-like) distribution over
+ * 1,000,000 ids and a miss loads the value, so the run is mostly reads
+ * with a steady trickle of writes.
+ */
+public class ConcurrentCacheBenchmark {
+
+    private static final int CAPACITY = 10_000;
+    private static final int KEY_SPACE = 1_000_000;
+    private static final int OPS_PER_THREAD = 1_000_000;
+    private static final int WARMUP = 2;
+    private static final int ROUNDS = 3;
+
+    static volatile long sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] keys = zipfKeys(1 << 20, new Random(42));
+        for (int threads = 1; threads <= 64; threads <<= 1) {
+            System.out.printf("--- %d threads%n", threads);
+            run("synchronized LinkedHashMap", threads, () -> {
+                Map<Integer, Integer> lru = Collections.synchronizedMap(
+                        new LinkedHashMap<Integer, Integer>(CAPACITY * 2, 0.75f, true) {
+                            @Override
+                            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                                return size() > CAPACITY;
+                            }
+                        });
+                return key -> lru.computeIfAbsent(key, k -> k * 2);
+            }, keys);
+            run("ConcurrentCache           ", threads, () -> {
+                ConcurrentCache<Integer, Integer> cache = ConcurrentCache.<Integer, Integer>builder()
+                        .maximumSize(CAPACITY)
+                        .build();
+                return key -> cache.get(key, k -> k * 2);
+            }, keys);
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    private interface CacheFactory {
+        IntUnaryOperator create();
+    }
+
+    private static void run(String label, int threads, CacheFactory factory, int[] keys)
+            throws InterruptedException {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP + ROUNDS; round++) {
+            IntUnaryOperator cache = factory.create();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            long[] sums = new long[threads];
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                Thread worker = new Thread(() -> {
+                    int mask = keys.length - 1;
+                    int at = id * 7919;
+                    long sum = 0;
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < OPS_PER_THREAD; i++) {
+                        sum += cache.applyAsInt(keys[(at + i) & mask]);
+                    }
+                    sums[id] = sum;
+                    done.countDown();
+                });
+                worker.start();
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - begin;
+            for (long sum : sums) {
+                sink += sum;
+            }
+            if (round >= WARMUP) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        double opsPerSecond = (double) threads * OPS_PER_THREAD / best * 1e9;
+        System.out.printf("%s : %8.2f M ops/s%n", label, opsPerSecond / 1e6);
+    }
+
+    // ranks drawn so that rank r is roughly 1/r as likely as rank 1
+    private static int[] zipfKeys(int count, Random random) {
+        int[] keys = new int[count];
+        double logSpace = Math.log(KEY_SPACE);
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.exp(random.nextDouble() * logSpace);
+            keys[i] = (rank * 0x9E3779B9) & Integer.MAX_VALUE;      // scatter ids over the int range
+        }
+        return keys;
+    }
+}
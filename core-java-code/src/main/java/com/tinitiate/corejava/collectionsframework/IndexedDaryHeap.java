@@ -0,0 +1,273 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework IndexedDaryHeap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed D-ary Heap
+ * ------------------
+ * A min-priority queue of int ids in the range 0 .. capacity-1, each with a
+ * long priority, that can change the priority of a queued id in O(log n).
+ * java.util.PriorityQueue (see PriorityQueueExample) has no such operation:
+ * the usual workaround is remove(Object), a linear scan, or queueing the id
+ * again and skipping stale copies later. Here a position table maps every
+ * id to its slot in the heap, so changePriority and remove go straight to
+ * it.
+ *
+ * Each node has d children (4 by default) instead of 2. The tree is half as
+ * deep, so inserts and decrease-key move fewer levels, and a node's
+ * children share one or two cache lines.
+ *
+ *     IndexedDaryHeap tasks = new IndexedDaryHeap(100);
+ *     tasks.insert(7, 500);
+ *     tasks.insert(3, 200);
+ *     tasks.changePriority(7, 100);          // task 7 is now due first
+ *     System.out.println(tasks.poll());      // 7
+ *
+ * Not thread-safe.
+ */
+public class IndexedDaryHeap {
+
+    private static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private final int[] ids;            // heap order
+    private final long[] priorities;    // heap order, parallel to ids
+    private final int[] positions;      // id -> heap slot, or -1
+    private int size;
+
+    /** A 4-ary heap for ids 0 .. capacity-1. */
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * @param capacity number of distinct ids; ids run from 0 to capacity-1
+     * @param arity    children per node, 2 or more
+     */
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.ids = new int[capacity];
+        this.priorities = new long[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Number of ids this heap was created for. */
+    public int capacity() {
+        return positions.length;
+    }
+
+    public boolean contains(int id) {
+        checkId(id);
+        return positions[id] >= 0;
+    }
+
+    /** The priority id is queued with. */
+    public long priority(int id) {
+        return priorities[slotOf(id)];
+    }
+
+    /** The id with the smallest priority, without removing it. */
+    public int peek() {
+        checkNotEmpty();
+        return ids[0];
+    }
+
+    /** The smallest priority in the heap. */
+    public long peekPriority() {
+        checkNotEmpty();
+        return priorities[0];
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    /** Queues id, which must not be queued already. */
+    public void insert(int id, long priority) {
+        checkId(id);
+        if (positions[id] >= 0) {
+            throw new IllegalArgumentException("Id already queued: " + id);
+        }
+        siftUp(size++, id, priority);
+    }
+
+    /**
+     * Moves a queued id to a new priority, up or down the heap as needed.
+     */
+    public void changePriority(int id, long priority) {
+        int slot = slotOf(id);
+        if (priority < priorities[slot]) {
+            siftUp(slot, id, priority);
+        } else {
+            siftDown(slot, id, priority);
+        }
+    }
+
+    /**
+     * Queues id at priority, or lowers its priority when it is queued with a
+     * higher one; the relaxation step of Dijkstra's algorithm.
+     *
+     * @return true when the heap changed
+     */
+    public boolean insertOrDecrease(int id, long priority) {
+        checkId(id);
+        int slot = positions[id];
+        if (slot < 0) {
+            siftUp(size++, id, priority);
+            return true;
+        }
+        if (priority < priorities[slot]) {
+            siftUp(slot, id, priority);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes and returns the id with the smallest priority.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int poll() {
+        checkNotEmpty();
+        int top = ids[0];
+        positions[top] = -1;
+        int last = --size;
+        if (last > 0) {
+            siftDown(0, ids[last], priorities[last]);
+        }
+        return top;
+    }
+
+    /** Takes id out of the heap; returns whether it was queued. */
+    public boolean remove(int id) {
+        checkId(id);
+        int slot = positions[id];
+        if (slot < 0) {
+            return false;
+        }
+        positions[id] = -1;
+        int last = --size;
+        if (slot < last) {
+            int movedId = ids[last];
+            long movedPriority = priorities[last];
+            if (movedPriority < priorities[slot]) {
+                siftUp(slot, movedId, movedPriority);
+            } else {
+                siftDown(slot, movedId, movedPriority);
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[ids[i]] = -1;
+        }
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(ids[i]).append('=').append(priorities[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    // moves the hole at slot towards the root until priority fits, then fills it
+    private void siftUp(int slot, int id, long priority) {
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            long parentPriority = priorities[parent];
+            if (parentPriority <= priority) {
+                break;
+            }
+            place(slot, ids[parent], parentPriority);
+            slot = parent;
+        }
+        place(slot, id, priority);
+    }
+
+    // moves the hole at slot towards the leaves, promoting the smallest child each level
+    private void siftDown(int slot, int id, long priority) {
+        int n = size;
+        int lastParent = n < 2 ? -1 : (n - 2) / arity;
+        while (slot <= lastParent) {
+            int first = slot * arity + 1;
+            int end = first + Math.min(arity, n - first);
+            int best = first;
+            long bestPriority = priorities[first];
+            for (int child = first + 1; child < end; child++) {
+                if (priorities[child] < bestPriority) {
+                    best = child;
+                    bestPriority = priorities[child];
+                }
+            }
+            if (priority <= bestPriority) {
+                break;
+            }
+            place(slot, ids[best], bestPriority);
+            slot = best;
+        }
+        place(slot, id, priority);
+    }
+
+    private void place(int slot, int id, long priority) {
+        ids[slot] = id;
+        priorities[slot] = priority;
+        positions[id] = slot;
+    }
+
+    private int slotOf(int id) {
+        checkId(id);
+        int slot = positions[id];
+        if (slot < 0) {
+            throw new NoSuchElementException("Id not queued: " + id);
+        }
+        return slot;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= positions.length) {
+            throw new IndexOutOfBoundsException("Id " + id + " out of range 0.." + (positions.length - 1));
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+    }
+}
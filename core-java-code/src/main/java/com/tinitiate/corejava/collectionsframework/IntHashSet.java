@@ -0,0 +1,281 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework IntHashSet
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.IntConsumer;
+
+/**
+ * Int Hash Set
+ * ------------
+ * A set of primitive ints for the HashSet of HashSetExample at sizes where
+ * every member costs an Integer and a HashMap node. Here a member is one
+ * int slot: a set of a million IDs takes 8 MB instead of roughly 50 MB.
+ *
+ * The table works like IntObjectHashMap: open addressing with linear
+ * probing, backward-shift removal, and the value 0 kept on the side since
+ * 0 marks a free slot.
+ *
+ *     IntHashSet seen = new IntHashSet();
+ *     for (int id : new int[] {104, 101, 104, 103}) {
+ *         if (!seen.add(id)) {
+ *             System.out.println("duplicate " + id);
+ *         }
+ *     }
+ *
+ * Not thread-safe.
+ */
+public class IntHashSet implements IntSet {
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private int[] keys;
+    private int mask;
+    private int shift;
+    private int resizeAt;
+    private int size;                   // values in the table, not counting 0
+    private boolean hasZero;
+    private int modCount;
+
+    public IntHashSet() {
+        this(16, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntHashSet(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize values the set should hold without resizing
+     * @param loadFactor   fill ratio that triggers a resize, between 0.1 and 0.95
+     */
+    public IntHashSet(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        if (!(loadFactor >= 0.1f && loadFactor <= 0.95f)) {
+            throw new IllegalArgumentException("Load factor must be between 0.1 and 0.95: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize, loadFactor));
+    }
+
+    /** A set holding values, without duplicates. */
+    public static IntHashSet of(int... values) {
+        IntHashSet set = new IntHashSet(values.length);
+        set.addAll(values);
+        return set;
+    }
+
+    public IntHashSet copy() {
+        IntHashSet copy = new IntHashSet(0, loadFactor);
+        copy.keys = keys.clone();
+        copy.mask = mask;
+        copy.shift = shift;
+        copy.resizeAt = resizeAt;
+        copy.size = size;
+        copy.hasZero = hasZero;
+        return copy;
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    @Override
+    public int size() {
+        return size + (hasZero ? 1 : 0);
+    }
+
+    @Override
+    public boolean contains(int value) {
+        if (value == 0) {
+            return hasZero;
+        }
+        int[] keys = this.keys;
+        for (int slot = hash(value); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == value) {
+                return true;
+            }
+            if (k == 0) {
+                return false;
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    @Override
+    public boolean add(int value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            modCount++;
+            return true;
+        }
+        int[] keys = this.keys;
+        int slot = hash(value);
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == value) {
+                return false;
+            }
+        }
+        keys[slot] = value;
+        modCount++;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            modCount++;
+            return true;
+        }
+        int[] keys = this.keys;
+        for (int slot = hash(value); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == value) {
+                shiftBack(slot);
+                size--;
+                modCount++;
+                return true;
+            }
+            if (k == 0) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZero = false;
+        modCount++;
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    /** Visits every value in table order. The set must not be changed during the walk. */
+    @Override
+    public void forEach(IntConsumer action) {
+        int expected = modCount;
+        if (hasZero) {
+            action.accept(0);
+        }
+        int[] keys = this.keys;
+        for (int key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int n = 0;
+        if (hasZero) {
+            result[n++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return IntSet.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return IntSet.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return IntSet.toString(this);
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    /** Bytes of int table a set of this many values uses at the default load factor. */
+    static long tableBytes(int size) {
+        return 4L * capacityFor(size, DEFAULT_LOAD_FACTOR);
+    }
+
+    private int hash(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    // backward-shift deletion: pull later values of the probe chain into the hole
+    private void shiftBack(int hole) {
+        int[] keys = this.keys;
+        for (int slot = (hole + 1) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            int home = hash(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                hole = slot;
+            }
+        }
+        keys[hole] = 0;
+    }
+
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many values for one set: " + expectedSize);
+        }
+        return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        resizeAt = Math.min(capacity - 1, (int) (capacity * (double) loadFactor));
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("IntHashSet cannot grow past " + MAX_CAPACITY + " slots");
+        }
+        int[] oldKeys = keys;
+        allocate(capacity);
+        int[] keys = this.keys;
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int slot = hash(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
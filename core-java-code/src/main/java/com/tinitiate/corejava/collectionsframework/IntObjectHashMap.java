@@ -0,0 +1,382 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework IntObjectHashMap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Int Object Hash Map
+ * -------------------
+ * A map from primitive int keys to objects, for the employee-ID maps of
+ * HashMapExample at sizes where HashMap<Integer, V> spends most of its heap
+ * on an Integer and a Node per entry. Here an entry is one int slot and one
+ * reference slot in two parallel arrays.
+ *
+ * Open addressing with linear probing; removal shifts the following entries
+ * back instead of leaving tombstones, so lookups never slow down with churn.
+ * Key 0 marks a free slot, so the entry for key 0 is kept on the side.
+ * Null values are allowed, as in HashMap.
+ *
+ *     IntObjectHashMap<String> employees = new IntObjectHashMap<>();
+ *     employees.put(101, "Alice");
+ *     for (IntObjectHashMap.Cursor<String> c = employees.cursor(); c.advance(); ) {
+ *         System.out.println("ID: " + c.key() + ", Name: " + c.value());
+ *     }
+ *
+ * Not thread-safe.
+ */
+public class IntObjectHashMap<V> {
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int shift;
+    private int resizeAt;
+    private int size;                   // entries in the arrays, not counting key 0
+    private boolean hasZeroKey;
+    private Object zeroValue;
+    private int modCount;
+
+    public IntObjectHashMap() {
+        this(16, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntObjectHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize entries the map should hold without resizing
+     * @param loadFactor   fill ratio that triggers a resize, between 0.1 and 0.95
+     */
+    public IntObjectHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        if (!(loadFactor >= 0.1f && loadFactor <= 0.95f)) {
+            throw new IllegalArgumentException("Load factor must be between 0.1 and 0.95: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize));
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : slotOf(key) >= 0;
+    }
+
+    public boolean containsValue(Object value) {
+        if (hasZeroKey && Objects.equals(zeroValue, value)) {
+            return true;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0 && Objects.equals(values[slot], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** The value for key, or null when there is none (or it is null). */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? (V) zeroValue : defaultValue;
+        }
+        int[] keys = this.keys;
+        for (int slot = hash(key); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == key) {
+                return (V) values[slot];
+            }
+            if (k == 0) {
+                return defaultValue;
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    /** @return the previous value for key, or null */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == 0) {
+            V previous = (V) zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                modCount++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int[] keys = this.keys;
+        int slot = hash(key);
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        modCount++;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /** Adds the entry only when key is absent; returns the value now stored. */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(int key, V value) {
+        if (key == 0) {
+            if (hasZeroKey) {
+                return (V) zeroValue;
+            }
+            put(0, value);
+            return value;
+        }
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        put(key, value);
+        return value;
+    }
+
+    /** @return the removed value, or null */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == 0) {
+            V previous = (V) zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                modCount++;
+            }
+            return previous;
+        }
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+        modCount++;
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    /**
+     * Visits every entry without creating Integer keys or entry objects.
+     * The map must not be changed during the walk.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> action) {
+        int expected = modCount;
+        if (hasZeroKey) {
+            action.accept(0, (V) zeroValue);
+        }
+        int[] keys = this.keys;
+        Object[] values = this.values;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(keys[slot], (V) values[slot]);
+            }
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /** A cursor positioned before the first entry; see {@link Cursor}. */
+    public Cursor<V> cursor() {
+        return new Cursor<>(this);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value == this ? "(this Map)" : value);
+        });
+        return sb.append('}').toString();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private int hash(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    private int slotOf(int key) {
+        int[] keys = this.keys;
+        for (int slot = hash(key); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == 0) {
+                return -1;
+            }
+        }
+    }
+
+    // backward-shift deletion: pull later entries of the probe chain into the hole
+    private void shiftBack(int hole) {
+        int[] keys = this.keys;
+        Object[] values = this.values;
+        for (int slot = (hole + 1) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            int home = hash(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+    }
+
+    private int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many entries for one map: " + expectedSize);
+        }
+        return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        resizeAt = Math.min(capacity - 1, (int) (capacity * (double) loadFactor));
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("IntObjectHashMap cannot grow past " + MAX_CAPACITY + " slots");
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = hash(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /** Callback for forEach, taking the key as a primitive int. */
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    /**
+     * Cursor
+     * ------
+     * Walks the entries in slot order without allocating per entry:
+     * advance() moves to the next entry and key() / value() read it.
+     * The map must not be changed while a cursor is in use.
+     */
+    public static final class Cursor<V> {
+
+        private final IntObjectHashMap<V> map;
+        private final int expectedModCount;
+        private int slot = -2;          // -1 is the key-0 entry, then the array slots
+
+        private Cursor(IntObjectHashMap<V> map) {
+            this.map = map;
+            this.expectedModCount = map.modCount;
+        }
+
+        public boolean advance() {
+            if (map.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (slot == -2) {
+                slot = -1;
+                if (map.hasZeroKey) {
+                    return true;
+                }
+            }
+            int[] keys = map.keys;
+            while (++slot < keys.length) {
+                if (keys[slot] != 0) {
+                    return true;
+                }
+            }
+            slot = keys.length;
+            return false;
+        }
+
+        public int key() {
+            checkPosition();
+            return slot < 0 ? 0 : map.keys[slot];
+        }
+
+        @SuppressWarnings("unchecked")
+        public V value() {
+            checkPosition();
+            return (V) (slot < 0 ? map.zeroValue : map.values[slot]);
+        }
+
+        private void checkPosition() {
+            if (slot == -2 || slot >= map.keys.length) {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
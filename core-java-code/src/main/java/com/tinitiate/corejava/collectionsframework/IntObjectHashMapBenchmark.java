@@ -0,0 +1,138 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework IntObjectHashMap Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Int Object Hash Map Benchmark
+ * -----------------------------
+ * HashMap<Integer, String> against IntObjectHashMap<String> at 1K, 1M and
+ * 50M random keys: heap retained by a filled map, then put and get time per
+ * operation. Values are shared Strings, so only the map structure is
+ * measured. Sizes can be passed as arguments, e.g. "1000 1000000".
+ *
+ * The 50M case needs a large heap: run with -Xmx8g or more, or leave it out.
+ * Bytes retained are the growth of the collected heap while one map is
+ * held: its tables, plus HashMap's entries and boxed keys.
+ */
+public class IntObjectHashMapBenchmark {
+
+    private static final int WARMUP = 2;
+    private static final int ROUNDS = 3;
+    private static final int MIN_OPS = 10_000_000;     // small maps are run repeatedly
+    private static final String[] NAMES = {"Alice", "Bob", "Charlie", "David"};
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = {1_000, 1_000_000, 50_000_000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        for (int size : sizes) {
+            int[] keys = new Random(size).ints(size).toArray();
+            int repeat = Math.max(1, MIN_OPS / size);
+            long ops = (long) size * repeat;
+            System.out.printf("--- %,d keys%n", size);
+
+            footprint("HashMap<Integer,String>", () -> {
+                HashMap<Integer, String> map = new HashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    map.put(keys[i], NAMES[i & 3]);
+                }
+                return map;
+            });
+            footprint("IntObjectHashMap<String>", () -> {
+                IntObjectHashMap<String> map = new IntObjectHashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    map.put(keys[i], NAMES[i & 3]);
+                }
+                return map;
+            });
+
+            run("HashMap put             ", ops, () -> {
+                long n = 0;
+                for (int r = 0; r < repeat; r++) {
+                    HashMap<Integer, String> map = new HashMap<>();
+                    for (int i = 0; i < keys.length; i++) {
+                        map.put(keys[i], NAMES[i & 3]);
+                    }
+                    n += map.size();
+                }
+                return n;
+            });
+            run("IntObjectHashMap put    ", ops, () -> {
+                long n = 0;
+                for (int r = 0; r < repeat; r++) {
+                    IntObjectHashMap<String> map = new IntObjectHashMap<>();
+                    for (int i = 0; i < keys.length; i++) {
+                        map.put(keys[i], NAMES[i & 3]);
+                    }
+                    n += map.size();
+                }
+                return n;
+            });
+
+            HashMap<Integer, String> hashMap = new HashMap<>();
+            IntObjectHashMap<String> intMap = new IntObjectHashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                hashMap.put(keys[i], NAMES[i & 3]);
+                intMap.put(keys[i], NAMES[i & 3]);
+            }
+            run("HashMap get             ", ops, () -> {
+                long n = 0;
+                for (int r = 0; r < repeat; r++) {
+                    for (int key : keys) {
+                        n += hashMap.get(key).length();
+                    }
+                }
+                return n;
+            });
+            run("IntObjectHashMap get    ", ops, () -> {
+                long n = 0;
+                for (int r = 0; r < repeat; r++) {
+                    for (int key : keys) {
+                        n += intMap.get(key).length();
+                    }
+                }
+                return n;
+            });
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    private static void footprint(String label, Supplier<Object> build) {
+        long before = UsedHeap.afterGc();
+        Object map = build.get();
+        long after = UsedHeap.afterGc();
+        System.out.printf("%-24s : %,12d bytes retained%n", label, after - before);
+        sink += System.identityHashCode(map) & 1;
+    }
+
+    private static void run(String label, long ops, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %7.2f ns/op%n", label, (double) best / ops);
+    }
+}
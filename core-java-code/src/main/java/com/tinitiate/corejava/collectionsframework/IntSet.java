@@ -0,0 +1,91 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework IntSet
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Int Set
+ * -------
+ * A set of primitive ints, implemented by IntHashSet (any values, no
+ * order), BitmapIntSet (one bit per value of a dense range), RoaringIntSet
+ * (compressed, for large sets of clustered values) and CompactIntSet (picks
+ * one of the three by density).
+ *
+ * As with java.util.Set, two IntSets are equal when they hold the same
+ * values, whatever the implementation, and hashCode is the sum of the
+ * values.
+ */
+public interface IntSet {
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    boolean contains(int value);
+
+    /** @return true if value was not already in the set */
+    boolean add(int value);
+
+    /** @return true if value was in the set */
+    boolean remove(int value);
+
+    void clear();
+
+    /** Visits every value; BitmapIntSet and RoaringIntSet go in ascending order. */
+    void forEach(IntConsumer action);
+
+    /** The values in forEach order. */
+    int[] toArray();
+
+    default void addAll(int[] values) {
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    default boolean containsAll(IntSet other) {
+        if (other.size() > size()) {
+            return false;
+        }
+        int[] missing = new int[1];
+        other.forEach(value -> {
+            if (!contains(value)) {
+                missing[0]++;
+            }
+        });
+        return missing[0] == 0;
+    }
+
+    // the equals / hashCode / toString shared by the implementations
+
+    static boolean equals(IntSet set, Object o) {
+        return o == set || o instanceof IntSet && ((IntSet) o).size() == set.size() && set.containsAll((IntSet) o);
+    }
+
+    static int hashCode(IntSet set) {
+        int[] sum = new int[1];
+        set.forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    static String toString(IntSet set) {
+        StringBuilder sb = new StringBuilder("[");
+        set.forEach(value -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(value);
+        });
+        return sb.append(']').toString();
+    }
+}
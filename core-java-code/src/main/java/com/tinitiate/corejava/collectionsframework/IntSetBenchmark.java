@@ -0,0 +1,188 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework IntSet Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.lang.ref.Reference;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Int Set Benchmark
+ * -----------------
+ * HashSet<Integer> against IntHashSet, BitmapIntSet, RoaringIntSet and
+ * CompactIntSet:
+ *
+ * - heap per set of 1,000,000 draws in three spreads: sparse
+ *   (random ints), clustered (random values in 512 random 65,536-wide
+ *   chunks) and dense (random values below 2,000,000)
+ * - heap per set among 100,000 small sets of 20 IDs each
+ * - union, intersection and intersection size of two such sets, in
+ *   nanoseconds per input value
+ *
+ * Bytes per set are the growth of the collected heap while all the copies
+ * are held, divided by the number of copies.
+ */
+public class IntSetBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final int VALUES = 1_000_000;
+
+    static long sink;
+    static Object[] retained;
+
+    public static void main(String[] args) {
+        String[] spreads = {"sparse", "clustered", "dense"};
+        for (String spread : spreads) {
+            int[] a = values(spread, 1);
+            int[] b = values(spread, 2);
+            System.out.printf("--- %s, %,d draws%n", spread, VALUES);
+
+            footprint("HashSet<Integer>", 4, () -> boxed(a));
+            footprint("IntHashSet", 4, () -> IntHashSet.of(a));
+            if (spread.equals("dense")) {
+                footprint("BitmapIntSet", 4, () -> BitmapIntSet.of(a));
+            }
+            footprint("RoaringIntSet", 4, () -> RoaringIntSet.of(a));
+            footprint("CompactIntSet (" + CompactIntSet.of(a).representation() + ")", 4,
+                      () -> CompactIntSet.of(a));
+
+            HashSet<Integer> boxedA = boxed(a);
+            HashSet<Integer> boxedB = boxed(b);
+            int inputs = boxedA.size() + boxedB.size();
+            run("HashSet<Integer> union      ", inputs, () -> {
+                HashSet<Integer> union = new HashSet<>(boxedA);
+                union.addAll(boxedB);
+                return union.size();
+            });
+            run("HashSet<Integer> intersect  ", inputs, () -> {
+                HashSet<Integer> common = new HashSet<>(boxedA);
+                common.retainAll(boxedB);
+                return common.size();
+            });
+            run("HashSet<Integer> and-count  ", inputs, () -> {
+                long count = 0;
+                for (Integer value : boxedA) {
+                    if (boxedB.contains(value)) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+
+            IntHashSet hashA = IntHashSet.of(a);
+            IntHashSet hashB = IntHashSet.of(b);
+            run("IntHashSet union            ", inputs, () -> {
+                IntHashSet union = IntHashSet.of(hashA.toArray());
+                hashB.forEach(union::add);
+                return union.size();
+            });
+            run("IntHashSet and-count        ", inputs, () -> {
+                long[] count = {0};
+                hashA.forEach(value -> {
+                    if (hashB.contains(value)) {
+                        count[0]++;
+                    }
+                });
+                return count[0];
+            });
+
+            if (spread.equals("dense")) {
+                BitmapIntSet bitmapA = BitmapIntSet.of(a);
+                BitmapIntSet bitmapB = BitmapIntSet.of(b);
+                run("BitmapIntSet union          ", inputs, () -> BitmapIntSet.or(bitmapA, bitmapB).size());
+                run("BitmapIntSet intersect      ", inputs, () -> BitmapIntSet.and(bitmapA, bitmapB).size());
+                run("BitmapIntSet and-count      ", inputs, () -> bitmapA.andCardinality(bitmapB));
+            }
+
+            RoaringIntSet roaringA = RoaringIntSet.of(a);
+            RoaringIntSet roaringB = RoaringIntSet.of(b);
+            run("RoaringIntSet union         ", inputs, () -> RoaringIntSet.or(roaringA, roaringB).size());
+            run("RoaringIntSet intersect     ", inputs, () -> RoaringIntSet.and(roaringA, roaringB).size());
+            run("RoaringIntSet and-count     ", inputs, () -> roaringA.andCardinality(roaringB));
+
+            CompactIntSet compactA = CompactIntSet.of(a);
+            CompactIntSet compactB = CompactIntSet.of(b);
+            run("CompactIntSet union         ", inputs, () -> CompactIntSet.or(compactA, compactB).size());
+            run("CompactIntSet intersect     ", inputs, () -> CompactIntSet.and(compactA, compactB).size());
+            run("CompactIntSet and-count     ", inputs, () -> compactA.andCardinality(compactB));
+        }
+
+        System.out.println("--- 100,000 sets of 20 IDs below 10,000,000");
+        int[][] small = new int[100_000][];
+        Random random = new Random(3);
+        for (int i = 0; i < small.length; i++) {
+            small[i] = random.ints(20, 0, 10_000_000).toArray();
+        }
+        int[] next = {0};
+        footprint("HashSet<Integer>", small.length, () -> boxed(small[next[0]++ % small.length]));
+        footprint("IntHashSet", small.length, () -> IntHashSet.of(small[next[0]++ % small.length]));
+        footprint("RoaringIntSet", small.length, () -> RoaringIntSet.of(small[next[0]++ % small.length]));
+        footprint("CompactIntSet", small.length, () -> CompactIntSet.of(small[next[0]++ % small.length]));
+        System.out.println("sink=" + sink);
+    }
+
+    private static int[] values(String spread, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[VALUES];
+        if (spread.equals("sparse")) {
+            for (int i = 0; i < VALUES; i++) {
+                values[i] = random.nextInt();
+            }
+        } else if (spread.equals("clustered")) {
+            int[] chunks = new Random(0).ints(512).toArray();
+            for (int i = 0; i < VALUES; i++) {
+                values[i] = (chunks[random.nextInt(chunks.length)] & 0xFFFF0000) | random.nextInt(1 << 16);
+            }
+        } else {
+            for (int i = 0; i < VALUES; i++) {
+                values[i] = random.nextInt(2 * VALUES);
+            }
+        }
+        return values;
+    }
+
+    private static HashSet<Integer> boxed(int[] values) {
+        HashSet<Integer> set = new HashSet<>();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    // builds copies sets at once, so that GC noise is small next to the smallest sets
+    private static void footprint(String label, int copies, Supplier<Object> build) {
+        long before = UsedHeap.afterGc();
+        retained = new Object[copies];
+        for (int i = 0; i < copies; i++) {
+            retained[i] = build.get();
+        }
+        long after = UsedHeap.afterGc();
+        // the inputs the builder captured must not be collected between the two readings
+        Reference.reachabilityFence(build);
+        retained = null;
+        System.out.printf("%-26s : %,12d bytes per set%n", label, (after - before) / copies);
+    }
+
+    private static void run(String label, int inputs, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %7.2f ns/value%n", label, (double) best / inputs);
+    }
+}
@@ -0,0 +1,189 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework IntStack
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Int Stack
+ * ---------
+ * A last-in-first-out stack of primitive ints for the Stack of StackExample
+ * when it sits in a hot loop. java.util.Stack is a Vector, so every push,
+ * pop and peek takes a lock, and every int goes in as an Integer. Here the
+ * values sit in one int[] and nothing is synchronized.
+ *
+ * The bulk pushAll / pop(count) / drop(count), trimToSize and mark / reset
+ * work as in ArrayStack.
+ *
+ *     IntStack depths = new IntStack();
+ *     depths.pushAll(1, 2, 3);
+ *     int mark = depths.mark();
+ *     depths.push(4);
+ *     depths.push(5);
+ *     depths.reset(mark);                                  // back to [1, 2, 3]
+ *     System.out.println(Arrays.toString(depths.pop(2)));  // [2, 3]
+ *
+ * Not thread-safe.
+ */
+public class IntStack {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    private int size;
+
+    public IntStack() {
+        elements = EMPTY;
+    }
+
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** The top value, without removing it. */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return elements[size - 1];
+    }
+
+    /** The value depth places below the top; peek(0) is the top. */
+    public int peek(int depth) {
+        if (depth < 0 || depth >= size) {
+            throw new IndexOutOfBoundsException("Depth: " + depth + ", Size: " + size);
+        }
+        return elements[size - 1 - depth];
+    }
+
+    /** The values from the bottom of the stack to the top. */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    public void push(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /** Pushes values in order, so the last one ends up on top. */
+    public void pushAll(int... values) {
+        int newSize = size + values.length;
+        if (newSize > elements.length || newSize < 0) {
+            grow(newSize);
+        }
+        System.arraycopy(values, 0, elements, size, values.length);
+        size = newSize;
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return elements[--size];
+    }
+
+    /** Removes the top count values and returns them in push order, the old top last. */
+    public int[] pop(int count) {
+        checkCount(count);
+        size -= count;
+        return Arrays.copyOfRange(elements, size, size + count);
+    }
+
+    /** Removes the top count values. */
+    public void drop(int count) {
+        checkCount(count);
+        size -= count;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /** The current depth, for a later reset. */
+    public int mark() {
+        return size;
+    }
+
+    /**
+     * Discards every value pushed since mark() returned mark.
+     *
+     * @throws IllegalStateException if values below the mark have been popped since
+     */
+    public void reset(int mark) {
+        if (mark < 0 || mark > size) {
+            throw new IllegalStateException("Stack of size " + size + " is below mark " + mark);
+        }
+        size = mark;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /** Shrinks the backing array to the current size. */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void checkCount(int count) {
+        if (count < 0 || count > size) {
+            throw new IndexOutOfBoundsException("Count: " + count + ", Size: " + size);
+        }
+    }
+
+    // grows by half again, like ArrayList, but at least to minCapacity
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("IntStack cannot hold more than " + MAX_CAPACITY + " values");
+        }
+        int old = elements.length;
+        int capacity = old == 0 ? DEFAULT_CAPACITY : (int) Math.min(MAX_CAPACITY, old + (long) (old >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, minCapacity));
+    }
+}
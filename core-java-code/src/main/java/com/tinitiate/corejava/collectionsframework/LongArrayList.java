@@ -0,0 +1,503 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework LongArrayList
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Long Array List
+ * ---------------
+ * The long counterpart of IntArrayList, for timestamps, row ids and running
+ * totals: one long[] instead of a Long object per element, so a million
+ * values take 8 MB instead of roughly 28 MB.
+ *
+ * forEach takes a LongConsumer, stream() is a LongStream, and addAll, sort,
+ * binarySearch and removeIf work on the raw array.
+ *
+ * parallelStream() splits the list into even halves, and snapshotIterator()
+ * reads a copy-on-write snapshot that later changes to the list do not
+ * disturb.
+ *
+ *     LongArrayList stamps = new LongArrayList();
+ *     stamps.addAll(new long[] {1_700_000_300L, 1_700_000_100L, 1_700_000_200L});
+ *     stamps.sort();
+ *     System.out.println(stamps.binarySearch(1_700_000_200L));   // 1
+ *
+ * Not thread-safe.
+ */
+public class LongArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final long[] EMPTY = {};
+
+    private long[] elements;
+    private int size;
+    private int modCount;
+    private int sharedUpTo;             // snapshots read elements[0, sharedUpTo); copy before writing there
+
+    public LongArrayList() {
+        elements = EMPTY;
+    }
+
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+    }
+
+    /** A list holding a copy of values. */
+    public static LongArrayList of(long... values) {
+        LongArrayList list = new LongArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /** Position of the first occurrence of value, or -1. */
+    public int indexOf(long value) {
+        long[] a = elements;
+        for (int i = 0; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Position of the last occurrence of value, or -1. */
+    public int lastIndexOf(long value) {
+        long[] a = elements;
+        for (int i = size - 1; i >= 0; i--) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Binary search over a list that is already sorted, with the same
+     * contract as Arrays.binarySearch: the index of value, or
+     * (-(insertion point) - 1) when it is absent.
+     */
+    public int binarySearch(long value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    /** @return the value previously at index */
+    public long set(int index, long value) {
+        checkIndex(index);
+        beforeWrite(index);
+        long previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void add(long value) {
+        beforeWrite(size);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        modCount++;
+    }
+
+    public void add(int index, long value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        beforeWrite(index);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    public void addAll(long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /** Appends values[offset .. offset+length) with one array copy. */
+    public void addAll(long[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || length > values.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + values.length);
+        }
+        beforeWrite(size);
+        ensureCapacity(size + length);
+        System.arraycopy(values, offset, elements, size, length);
+        size += length;
+        modCount++;
+    }
+
+    public void addAll(LongArrayList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    /** Removes the element at index and returns it. */
+    public long removeAt(int index) {
+        checkIndex(index);
+        beforeWrite(index);
+        long previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    /** Removes the first occurrence of value; returns whether there was one. */
+    public boolean removeValue(long value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes every element the filter accepts, in one pass that slides the
+     * survivors down. If the filter throws, the elements not yet tested are
+     * kept.
+     */
+    public boolean removeIf(LongPredicate filter) {
+        long[] a = elements;
+        int end = size;
+        int kept = 0;
+        int read = 0;
+        try {
+            for (; read < end; read++) {
+                long value = a[read];
+                if (!filter.test(value)) {
+                    a[kept++] = value;
+                } else if (kept == read) {
+                    beforeWrite(read);      // the first removal; survivors move down from here
+                    a = elements;
+                }
+            }
+        } finally {
+            if (read < end) {
+                System.arraycopy(a, read, a, kept, end - read);
+                kept += end - read;
+            }
+            if (kept != end) {
+                size = kept;
+                modCount++;
+            }
+        }
+        return kept != end;
+    }
+
+    /** Sorts the elements in ascending order. */
+    public void sort() {
+        beforeWrite(0);
+        Arrays.sort(elements, 0, size);
+        modCount++;
+    }
+
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /** Makes room for at least minCapacity elements without further growth. */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /** Shrinks the backing array to the current size. */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+            sharedUpTo = 0;
+        }
+    }
+
+    // ---------------------------------------------------------------- views
+
+    /** Runs action on each element in order. The list must not be changed meanwhile. */
+    public void forEach(LongConsumer action) {
+        int expected = modCount;
+        long[] a = elements;
+        int end = size;
+        for (int i = 0; i < end; i++) {
+            action.accept(a[i]);
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * A spliterator over the elements that binds to the list when it is
+     * first used, halves its range on every trySplit so that a parallel
+     * stream gets balanced work, and throws ConcurrentModificationException
+     * if the list changes size while it runs.
+     */
+    public Spliterator.OfLong spliterator() {
+        return new ElementSpliterator(this, 0, -1, 0);
+    }
+
+    /** A sequential LongStream over the elements; see spliterator(). */
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /** A parallel LongStream over the elements; see spliterator(). */
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * An iterator over the elements as they are now, which the list may be
+     * changed under without a ConcurrentModificationException. Taking it
+     * costs nothing: the iterator shares the backing array, and the list
+     * copies the array only if it is written to below the snapshot's size
+     * afterwards. Appending does not copy.
+     */
+    public SnapshotIterator snapshotIterator() {
+        sharedUpTo = Math.max(sharedUpTo, size);
+        return new SnapshotIterator(elements, size);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof LongArrayList)) {
+            return false;
+        }
+        LongArrayList other = (LongArrayList) o;
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < size; i++) {
+            h = 31 * h + Long.hashCode(elements[i]);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // grows by half again, like ArrayList, but at least to minCapacity
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("LongArrayList cannot hold more than " + MAX_CAPACITY + " elements");
+        }
+        int old = elements.length;
+        int capacity = old == 0 ? DEFAULT_CAPACITY : (int) Math.min(MAX_CAPACITY, old + (long) (old >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, minCapacity));
+        sharedUpTo = 0;
+    }
+
+    // copy-on-write for snapshot iterators: the first write below sharedUpTo moves to a private copy
+    private void beforeWrite(int index) {
+        if (index < sharedUpTo) {
+            elements = elements.clone();
+            sharedUpTo = 0;
+        }
+    }
+
+    /**
+     * Snapshot Iterator
+     * -----------------
+     * Iterates over the elements as they were when the iterator was taken;
+     * see snapshotIterator(). nextBatch copies the next run of elements into
+     * a buffer, for callers that work through the list in chunks instead of
+     * one call per element:
+     *
+     *     long[] batch = new long[1024];
+     *     for (int n; (n = it.nextBatch(batch)) > 0; ) {
+     *         process(batch, n);
+     *     }
+     */
+    public static final class SnapshotIterator implements PrimitiveIterator.OfLong {
+
+        private final long[] elements;
+        private final int end;
+        private int index;
+
+        private SnapshotIterator(long[] elements, int end) {
+            this.elements = elements;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < end;
+        }
+
+        @Override
+        public long nextLong() {
+            if (index >= end) {
+                throw new NoSuchElementException();
+            }
+            return elements[index++];
+        }
+
+        /**
+         * Copies up to buffer.length of the remaining elements into the start
+         * of buffer and returns how many it copied: 0 once all have been read.
+         */
+        public int nextBatch(long[] buffer) {
+            int n = Math.min(buffer.length, end - index);
+            System.arraycopy(elements, index, buffer, 0, n);
+            index += n;
+            return n;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            long[] a = elements;
+            for (int i = index; i < end; i++) {
+                action.accept(a[i]);
+            }
+            index = end;
+        }
+    }
+
+    // late-binding and fail-fast, splitting at the midpoint like ArrayList's spliterator
+    private static final class ElementSpliterator implements Spliterator.OfLong {
+
+        private final LongArrayList list;
+        private int index;
+        private int fence;                  // one past the last index; -1 until first use
+        private int expectedModCount;
+
+        ElementSpliterator(LongArrayList list, int origin, int fence, int expectedModCount) {
+            this.list = list;
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int fence() {
+            if (fence < 0) {
+                expectedModCount = list.modCount;
+                fence = list.size;
+            }
+            return fence;
+        }
+
+        @Override
+        public ElementSpliterator trySplit() {
+            int hi = fence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new ElementSpliterator(list, lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = fence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.accept(list.elements[i]);
+            if (list.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = fence();
+            long[] a = list.elements;
+            if (hi > a.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = index; i < hi; i++) {
+                action.accept(a[i]);
+            }
+            index = hi;
+            if (list.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
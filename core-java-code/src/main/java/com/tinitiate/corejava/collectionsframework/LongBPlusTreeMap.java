@@ -0,0 +1,592 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework LongBPlusTreeMap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Long B+ Tree Map
+ * ----------------
+ * BPlusTreeMap specialised for primitive long keys in ascending order:
+ * timestamps, sequence numbers, offsets. Keys live in long[] node arrays,
+ * so a lookup compares longs in place instead of calling compareTo on a
+ * Long object per step, and there is no Long object per entry.
+ *
+ * The API is the core of NavigableMap without boxing. Navigation methods
+ * that may find nothing take the value to return in that case. Range scans
+ * go through forEachInRange or a Cursor, which walk the linked leaves.
+ *
+ *     LongBPlusTreeMap<String> log = new LongBPlusTreeMap<>();
+ *     log.put(1_700_000_100L, "start");
+ *     log.put(1_700_000_250L, "ready");
+ *     log.put(1_700_000_900L, "stop");
+ *     log.forEachInRange(1_700_000_000L, 1_700_000_500L,
+ *             (time, event) -> System.out.println(time + " " + event));   // start, ready
+ *     long next = log.higherKeyOrDefault(1_700_000_250L, -1);           // 1700000900
+ *
+ * Not thread-safe; concurrent readers are fine as long as nothing writes.
+ */
+public class LongBPlusTreeMap<V> {
+
+    private static final int LEAF_CAPACITY = 64;
+    private static final int INNER_CAPACITY = 64;
+    private static final int LEAF_MIN = LEAF_CAPACITY / 2;
+    private static final int INNER_MIN = INNER_CAPACITY / 2;
+
+    private Node root;
+    private Leaf first;
+    private Leaf last;
+    private int height;
+    private int size;
+    private int modCount;
+    private Inner[] pathNodes = new Inner[8];
+    private int[] pathSlots = new int[8];
+
+    public LongBPlusTreeMap() {
+        clear();
+    }
+
+    // ---------------------------------------------------------------- point operations
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        Leaf leaf = leafFor(key);
+        return Arrays.binarySearch(leaf.keys, 0, leaf.count, key) >= 0;
+    }
+
+    /** The value for key, or null when there is none (or it is null). */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        Leaf leaf = leafFor(key);
+        int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        return index >= 0 ? (V) leaf.values[index] : defaultValue;
+    }
+
+    /** @return the previous value for key, or null */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Node node = root;
+        int spine = 0;
+        for (int depth = 0; depth < height; depth++) {
+            Inner inner = (Inner) node;
+            int slot = childIndex(inner, key);
+            if (spine == depth && slot == inner.count - 1) {
+                spine++;
+            }
+            pathNodes[depth] = inner;
+            pathSlots[depth] = slot;
+            node = inner.children[slot];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        if (index >= 0) {
+            V previous = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return previous;
+        }
+        index = -index - 1;
+        size++;
+        modCount++;
+        if (leaf.count < LEAF_CAPACITY) {
+            insertIntoLeaf(leaf, index, key, value);
+            return null;
+        }
+
+        int keep = spine == height && index == LEAF_CAPACITY ? LEAF_CAPACITY : LEAF_CAPACITY / 2;
+        Leaf right = new Leaf();
+        int moved = LEAF_CAPACITY - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, moved);
+        System.arraycopy(leaf.values, keep, right.values, 0, moved);
+        Arrays.fill(leaf.values, keep, LEAF_CAPACITY, null);
+        leaf.count = keep;
+        right.count = moved;
+        if (index < keep) {
+            insertIntoLeaf(leaf, index, key, value);
+        } else {
+            insertIntoLeaf(right, index - keep, key, value);
+        }
+        right.next = leaf.next;
+        right.prev = leaf;
+        if (leaf.next != null) {
+            leaf.next.prev = right;
+        } else {
+            last = right;
+        }
+        leaf.next = right;
+
+        long separator = right.keys[0];
+        Node added = right;
+        for (int depth = height - 1; depth >= 0; depth--) {
+            Inner parent = pathNodes[depth];
+            insertChild(parent, pathSlots[depth], separator, added);
+            if (parent.count <= INNER_CAPACITY) {
+                return null;
+            }
+            int keepChildren = spine > depth ? INNER_CAPACITY : (INNER_CAPACITY + 1) / 2;
+            Inner sibling = new Inner();
+            int movedChildren = parent.count - keepChildren;
+            separator = parent.keys[keepChildren - 1];
+            System.arraycopy(parent.children, keepChildren, sibling.children, 0, movedChildren);
+            System.arraycopy(parent.keys, keepChildren, sibling.keys, 0, movedChildren - 1);
+            Arrays.fill(parent.children, keepChildren, parent.count, null);
+            sibling.count = movedChildren;
+            parent.count = keepChildren;
+            added = sibling;
+        }
+        Inner newRoot = new Inner();
+        newRoot.children[0] = root;
+        newRoot.children[1] = added;
+        newRoot.keys[0] = separator;
+        newRoot.count = 2;
+        root = newRoot;
+        height++;
+        if (height > pathNodes.length) {
+            pathNodes = Arrays.copyOf(pathNodes, height * 2);
+            pathSlots = Arrays.copyOf(pathSlots, height * 2);
+        }
+        return null;
+    }
+
+    /** @return the removed value, or null */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        Node node = root;
+        for (int depth = 0; depth < height; depth++) {
+            Inner inner = (Inner) node;
+            int slot = childIndex(inner, key);
+            pathNodes[depth] = inner;
+            pathSlots[depth] = slot;
+            node = inner.children[slot];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) leaf.values[index];
+        int tail = leaf.count - index - 1;
+        System.arraycopy(leaf.keys, index + 1, leaf.keys, index, tail);
+        System.arraycopy(leaf.values, index + 1, leaf.values, index, tail);
+        leaf.count--;
+        leaf.values[leaf.count] = null;
+        size--;
+        modCount++;
+
+        Node child = leaf;
+        for (int depth = height - 1; depth >= 0 && child.count < minimum(child); depth--) {
+            rebalance(pathNodes[depth], pathSlots[depth]);
+            child = pathNodes[depth];
+        }
+        while (height > 0 && root.count == 1) {
+            root = ((Inner) root).children[0];
+            height--;
+        }
+        return previous;
+    }
+
+    public void clear() {
+        Leaf leaf = new Leaf();
+        root = leaf;
+        first = leaf;
+        last = leaf;
+        height = 0;
+        size = 0;
+        modCount++;
+    }
+
+    // ---------------------------------------------------------------- navigation
+
+    /** @throws NoSuchElementException if the map is empty */
+    public long firstKey() {
+        checkNotEmpty();
+        return first.keys[0];
+    }
+
+    /** @throws NoSuchElementException if the map is empty */
+    public long lastKey() {
+        checkNotEmpty();
+        return last.keys[last.count - 1];
+    }
+
+    /** The greatest key below key, or defaultKey when there is none. */
+    public long lowerKeyOrDefault(long key, long defaultKey) {
+        return floorKey(key, false, defaultKey);
+    }
+
+    /** The greatest key at or below key, or defaultKey when there is none. */
+    public long floorKeyOrDefault(long key, long defaultKey) {
+        return floorKey(key, true, defaultKey);
+    }
+
+    /** The least key at or above key, or defaultKey when there is none. */
+    public long ceilingKeyOrDefault(long key, long defaultKey) {
+        return ceilingKey(key, true, defaultKey);
+    }
+
+    /** The least key above key, or defaultKey when there is none. */
+    public long higherKeyOrDefault(long key, long defaultKey) {
+        return ceilingKey(key, false, defaultKey);
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    /** Visits every entry in key order. The map must not be changed meanwhile. */
+    public void forEach(LongObjectConsumer<? super V> action) {
+        if (size > 0) {
+            forEachFrom(first, 0, Long.MAX_VALUE, true, action);
+        }
+    }
+
+    /** Visits the entries with fromInclusive <= key < toExclusive, in key order. */
+    public void forEachInRange(long fromInclusive, long toExclusive, LongObjectConsumer<? super V> action) {
+        if (fromInclusive >= toExclusive) {
+            return;
+        }
+        Leaf leaf = leafFor(fromInclusive);
+        int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, fromInclusive);
+        forEachFrom(leaf, index >= 0 ? index : -index - 1, toExclusive, false, action);
+    }
+
+    /** A cursor over all entries in key order; see {@link Cursor}. */
+    public Cursor<V> cursor() {
+        return new Cursor<>(this, first, 0, Long.MAX_VALUE, true);
+    }
+
+    /** A cursor over the entries with fromInclusive <= key < toExclusive. */
+    public Cursor<V> cursor(long fromInclusive, long toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return new Cursor<>(this, null, 0, toExclusive, false);
+        }
+        Leaf leaf = leafFor(fromInclusive);
+        int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, fromInclusive);
+        return new Cursor<>(this, leaf, index >= 0 ? index : -index - 1, toExclusive, false);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value == this ? "(this Map)" : value);
+        });
+        return sb.append('}').toString();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    @SuppressWarnings("unchecked")
+    private void forEachFrom(Leaf leaf, int index, long toExclusive, boolean toEnd,
+                             LongObjectConsumer<? super V> action) {
+        int expected = modCount;
+        for (; leaf != null; leaf = leaf.next, index = 0) {
+            long[] keys = leaf.keys;
+            Object[] values = leaf.values;
+            for (int n = leaf.count; index < n; index++) {
+                long key = keys[index];
+                if (!toEnd && key >= toExclusive) {
+                    return;
+                }
+                action.accept(key, (V) values[index]);
+            }
+            if (modCount != expected) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private long ceilingKey(long key, boolean inclusive, long defaultKey) {
+        Leaf leaf = leafFor(key);
+        int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        index = index >= 0 ? (inclusive ? index : index + 1) : -index - 1;
+        if (index == leaf.count) {
+            leaf = leaf.next;
+            index = 0;
+        }
+        return leaf == null ? defaultKey : leaf.keys[index];
+    }
+
+    private long floorKey(long key, boolean inclusive, long defaultKey) {
+        Leaf leaf = leafFor(key);
+        int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        index = index >= 0 ? (inclusive ? index : index - 1) : -index - 2;
+        if (index < 0) {
+            leaf = leaf.prev;
+            if (leaf == null) {
+                return defaultKey;
+            }
+            index = leaf.count - 1;
+        }
+        return leaf.keys[index];
+    }
+
+    private static int childIndex(Inner inner, long key) {
+        long[] keys = inner.keys;
+        int lo = 0;
+        int hi = inner.count - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (key < keys[mid]) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private Leaf leafFor(long key) {
+        Node node = root;
+        for (int depth = 0; depth < height; depth++) {
+            Inner inner = (Inner) node;
+            node = inner.children[childIndex(inner, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private static void insertIntoLeaf(Leaf leaf, int index, long key, Object value) {
+        int tail = leaf.count - index;
+        System.arraycopy(leaf.keys, index, leaf.keys, index + 1, tail);
+        System.arraycopy(leaf.values, index, leaf.values, index + 1, tail);
+        leaf.keys[index] = key;
+        leaf.values[index] = value;
+        leaf.count++;
+    }
+
+    private static void insertChild(Inner parent, int slot, long separator, Node child) {
+        int n = parent.count;
+        System.arraycopy(parent.keys, slot, parent.keys, slot + 1, n - 1 - slot);
+        System.arraycopy(parent.children, slot + 1, parent.children, slot + 2, n - 1 - slot);
+        parent.keys[slot] = separator;
+        parent.children[slot + 1] = child;
+        parent.count = n + 1;
+    }
+
+    private static int minimum(Node node) {
+        return node instanceof Leaf ? LEAF_MIN : INNER_MIN;
+    }
+
+    private void rebalance(Inner parent, int slot) {
+        if (parent.count < 2) {
+            return;
+        }
+        if (slot > 0) {
+            Node left = parent.children[slot - 1];
+            if (left.count > minimum(left)) {
+                borrowFromLeft(parent, slot);
+            } else {
+                merge(parent, slot - 1);
+            }
+        } else {
+            Node right = parent.children[1];
+            if (right.count > minimum(right)) {
+                borrowFromRight(parent, 0);
+            } else {
+                merge(parent, 0);
+            }
+        }
+    }
+
+    private static void borrowFromLeft(Inner parent, int slot) {
+        Node node = parent.children[slot];
+        Node left = parent.children[slot - 1];
+        if (node instanceof Leaf) {
+            Leaf to = (Leaf) node;
+            Leaf from = (Leaf) left;
+            int last = from.count - 1;
+            insertIntoLeaf(to, 0, from.keys[last], from.values[last]);
+            from.values[last] = null;
+            from.count--;
+            parent.keys[slot - 1] = to.keys[0];
+        } else {
+            Inner to = (Inner) node;
+            Inner from = (Inner) left;
+            System.arraycopy(to.keys, 0, to.keys, 1, to.count - 1);
+            System.arraycopy(to.children, 0, to.children, 1, to.count);
+            to.keys[0] = parent.keys[slot - 1];
+            to.children[0] = from.children[from.count - 1];
+            to.count++;
+            parent.keys[slot - 1] = from.keys[from.count - 2];
+            from.children[from.count - 1] = null;
+            from.count--;
+        }
+    }
+
+    private static void borrowFromRight(Inner parent, int slot) {
+        Node node = parent.children[slot];
+        Node right = parent.children[slot + 1];
+        if (node instanceof Leaf) {
+            Leaf to = (Leaf) node;
+            Leaf from = (Leaf) right;
+            to.keys[to.count] = from.keys[0];
+            to.values[to.count] = from.values[0];
+            to.count++;
+            System.arraycopy(from.keys, 1, from.keys, 0, from.count - 1);
+            System.arraycopy(from.values, 1, from.values, 0, from.count - 1);
+            from.count--;
+            from.values[from.count] = null;
+            parent.keys[slot] = from.keys[0];
+        } else {
+            Inner to = (Inner) node;
+            Inner from = (Inner) right;
+            to.keys[to.count - 1] = parent.keys[slot];
+            to.children[to.count] = from.children[0];
+            to.count++;
+            parent.keys[slot] = from.keys[0];
+            System.arraycopy(from.keys, 1, from.keys, 0, from.count - 2);
+            System.arraycopy(from.children, 1, from.children, 0, from.count - 1);
+            from.count--;
+            from.children[from.count] = null;
+        }
+    }
+
+    private void merge(Inner parent, int slot) {
+        Node left = parent.children[slot];
+        Node right = parent.children[slot + 1];
+        if (left instanceof Leaf) {
+            Leaf to = (Leaf) left;
+            Leaf from = (Leaf) right;
+            System.arraycopy(from.keys, 0, to.keys, to.count, from.count);
+            System.arraycopy(from.values, 0, to.values, to.count, from.count);
+            to.count += from.count;
+            to.next = from.next;
+            if (from.next != null) {
+                from.next.prev = to;
+            } else {
+                last = to;
+            }
+        } else {
+            Inner to = (Inner) left;
+            Inner from = (Inner) right;
+            to.keys[to.count - 1] = parent.keys[slot];
+            System.arraycopy(from.keys, 0, to.keys, to.count, from.count - 1);
+            System.arraycopy(from.children, 0, to.children, to.count, from.count);
+            to.count += from.count;
+        }
+        int n = parent.count;
+        System.arraycopy(parent.keys, slot + 1, parent.keys, slot, n - 2 - slot);
+        System.arraycopy(parent.children, slot + 2, parent.children, slot + 1, n - 2 - slot);
+        parent.children[n - 1] = null;
+        parent.count = n - 1;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Map is empty");
+        }
+    }
+
+    private abstract static class Node {
+        long[] keys;
+        int count;              // entries in a leaf, children in an inner node
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] values = new Object[LEAF_CAPACITY];
+        Leaf prev;
+        Leaf next;
+
+        Leaf() {
+            keys = new long[LEAF_CAPACITY];
+        }
+    }
+
+    private static final class Inner extends Node {
+        final Node[] children = new Node[INNER_CAPACITY + 1];
+
+        Inner() {
+            keys = new long[INNER_CAPACITY];
+        }
+    }
+
+    /** Callback for forEach and forEachInRange, taking the key as a primitive long. */
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    /**
+     * Cursor
+     * ------
+     * Walks entries in key order along the leaf chain: advance() moves to
+     * the next entry and key() / value() read it. The map must not be
+     * changed while a cursor is in use.
+     */
+    public static final class Cursor<V> {
+
+        private final LongBPlusTreeMap<V> map;
+        private final int expectedModCount;
+        private final long toExclusive;
+        private final boolean toEnd;
+        private Leaf leaf;              // the next entry, or the current one once advanced
+        private int index;
+        private boolean started;
+        private boolean positioned;
+
+        private Cursor(LongBPlusTreeMap<V> map, Leaf leaf, int index, long toExclusive, boolean toEnd) {
+            this.map = map;
+            this.expectedModCount = map.modCount;
+            this.leaf = leaf;
+            this.index = index;
+            this.toExclusive = toExclusive;
+            this.toEnd = toEnd;
+        }
+
+        public boolean advance() {
+            if (map.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (started && leaf != null) {
+                index++;
+            }
+            started = true;
+            while (leaf != null && index == leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            positioned = leaf != null && (toEnd || leaf.keys[index] < toExclusive);
+            if (!positioned) {
+                leaf = null;
+            }
+            return positioned;
+        }
+
+        public long key() {
+            checkPosition();
+            return leaf.keys[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        public V value() {
+            checkPosition();
+            return (V) leaf.values[index];
+        }
+
+        private void checkPosition() {
+            if (!positioned) {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework LongPriorityQueue
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Long Priority Queue
+ * -------------------
+ * A growable min-priority queue of (long priority, int value) pairs kept in
+ * two primitive arrays. PriorityQueue<Long> holds a boxed Long per entry and
+ * compares through a Comparator; here an entry is 12 bytes of array and a
+ * comparison is one long compare. The int value is whatever the caller
+ * needs to find the entry's payload: a task index, a node id, an offset.
+ *
+ * The heap is 4-ary, like IndexedDaryHeap, for a shallower tree. Unlike
+ * IndexedDaryHeap it cannot find an entry by value, so there is no
+ * decrease-key; queue the value again and skip the stale copy when it
+ * comes out.
+ *
+ *     LongPriorityQueue timers = new LongPriorityQueue();
+ *     timers.add(1_500, 2);
+ *     timers.add(1_000, 9);
+ *     long due = timers.peekPriority();      // 1000
+ *     int task = timers.poll();              // 9
+ *
+ * Not thread-safe.
+ */
+public class LongPriorityQueue {
+
+    private static final int ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private long[] priorities;
+    private int[] values;
+    private int size;
+
+    public LongPriorityQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongPriorityQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        priorities = new long[Math.max(1, initialCapacity)];
+        values = new int[priorities.length];
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** The value with the smallest priority, without removing it. */
+    public int peek() {
+        checkNotEmpty();
+        return values[0];
+    }
+
+    /** The smallest priority in the queue. */
+    public long peekPriority() {
+        checkNotEmpty();
+        return priorities[0];
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    public void add(long priority, int value) {
+        if (size == priorities.length) {
+            grow();
+        }
+        int slot = size++;
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 2;
+            long parentPriority = priorities[parent];
+            if (parentPriority <= priority) {
+                break;
+            }
+            priorities[slot] = parentPriority;
+            values[slot] = values[parent];
+            slot = parent;
+        }
+        priorities[slot] = priority;
+        values[slot] = value;
+    }
+
+    /**
+     * Removes the entry with the smallest priority and returns its value.
+     * Read peekPriority() first if the priority is needed too.
+     *
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int poll() {
+        checkNotEmpty();
+        int top = values[0];
+        int n = --size;
+        if (n > 0) {
+            siftDown(priorities[n], values[n], n);
+        }
+        return top;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /** Shrinks the backing arrays to the current size. */
+    public void trimToSize() {
+        int capacity = Math.max(1, size);
+        if (capacity < priorities.length) {
+            priorities = Arrays.copyOf(priorities, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(priorities[i]).append('=').append(values[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    // refills the hole left at the root, promoting the smallest child each level
+    private void siftDown(long priority, int value, int n) {
+        long[] priorities = this.priorities;
+        int[] values = this.values;
+        int lastParent = (n - 2) >> 2;
+        int slot = 0;
+        while (slot <= lastParent) {
+            int first = (slot << 2) + 1;
+            int end = Math.min(first + ARITY, n);
+            int best = first;
+            long bestPriority = priorities[first];
+            for (int child = first + 1; child < end; child++) {
+                if (priorities[child] < bestPriority) {
+                    best = child;
+                    bestPriority = priorities[child];
+                }
+            }
+            if (priority <= bestPriority) {
+                break;
+            }
+            priorities[slot] = bestPriority;
+            values[slot] = values[best];
+            slot = best;
+        }
+        priorities[slot] = priority;
+        values[slot] = value;
+    }
+
+    private void grow() {
+        int old = priorities.length;
+        if (old >= MAX_CAPACITY) {
+            throw new IllegalStateException("LongPriorityQueue cannot hold more than " + MAX_CAPACITY + " entries");
+        }
+        int capacity = (int) Math.min(MAX_CAPACITY, old + (long) Math.max(old >> 1, 8));
+        priorities = Arrays.copyOf(priorities, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+    }
+}
@@ -0,0 +1,646 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework MappedHashMap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Mapped Hash Map
+ * ---------------
+ * A java.util.Map kept in a memory-mapped file instead of on the heap, so a
+ * directory like the one in HashMapExample can outgrow the heap and survive
+ * a restart. Opening an existing file only maps it; nothing is read or
+ * deserialized until an entry is looked up.
+ *
+ *     try (MappedHashMap<Integer, String> employees = MappedHashMap.open(
+ *             Path.of("employees.map"), MappedHashMap.Codec.INTEGER, MappedHashMap.Codec.STRING)) {
+ *         employees.put(101, "Alice");
+ *     }
+ *
+ * Keys and values are stored as bytes through a Codec, so both fixed-length
+ * (INTEGER, LONG) and variable-length (STRING) types work. Two keys are the
+ * same key when their encoded bytes are equal.
+ *
+ * File layout: a header, an open-addressing slot table and an append-only
+ * data area of records [key length][value length][key][value]. A slot holds
+ * the record offset plus 23 hash bits, so most probes never touch a record.
+ * put() overwrites a value of the same length in place, otherwise it appends
+ * a record and repoints the slot; when the table fills up, a larger one is
+ * appended and the header switched to it. Space of replaced records is not
+ * reused; copy into a new map to compact the file. Null keys and values are
+ * not supported.
+ *
+ * Any number of threads can read at once; writes are exclusive. One process
+ * should have the file open at a time. Changes reach the disk when the OS
+ * writes the pages back, or at force() / close().
+ *
+ * If the JVM dies part-way through put(), remove() or a table growth, the
+ * file still opens as a valid map. Each change becomes visible through one
+ * 8-byte store, a slot or the header's table pointer, made after the data
+ * it points to is written. size() can be one off if the crash falls between
+ * the slot and the count. clear() has no such guarantee. The OS writes
+ * pages back in any order, so after a power failure only the state at the
+ * last force(), with no writes after it, is safe.
+ */
+public final class MappedHashMap<K, V> extends AbstractMap<K, V> implements Closeable {
+
+    private static final long MAGIC = 0x544E4D4150484D31L;     // "TNMAPHM1"
+    private static final int VERSION = 2;
+
+    // header fields
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 8;
+    private static final int H_TABLE = 16;            // offset, with log2 of the capacity in the top byte
+    private static final int H_SIZE = 24;
+    private static final int H_TOMBSTONES = 28;
+    private static final int H_DATA_END = 32;
+    private static final int HEADER = 64;
+
+    // records and tables never cross a segment, so every access is within one buffer
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT = 1L << SEGMENT_BITS;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = (int) (SEGMENT / 8);
+    private static final double MAX_FILL = 0.7;
+
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = 1;
+    private static final long OFFSET_MASK = (1L << 40) - 1;
+
+    private final FileChannel channel;
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private long mappedLength;
+    private int modCount;
+
+    private MappedHashMap(FileChannel channel, Codec<K> keyCodec, Codec<V> valueCodec) {
+        this.channel = channel;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+    }
+
+    /** Opens the map stored in file, creating an empty one when the file does not exist. */
+    public static <K, V> MappedHashMap<K, V> open(Path file, Codec<K> keyCodec, Codec<V> valueCodec)
+            throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                               StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedHashMap<K, V> map = new MappedHashMap<>(channel, keyCodec, valueCodec);
+        try {
+            long length = channel.size();
+            if (length == 0) {
+                map.remap(HEADER + INITIAL_CAPACITY * 8L);
+                map.initialize();
+            } else {
+                map.remap(length);
+                if (length < HEADER || map.getLong(H_MAGIC) != MAGIC || map.getInt(H_VERSION) != VERSION) {
+                    throw new IOException("Not a MappedHashMap file: " + file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return map;
+    }
+
+    // ---------------------------------------------------------------- Map
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return getInt(H_SIZE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        byte[] k = encodeKey(key);
+        if (k == null) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return find(k, hash(k)) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        byte[] k = encodeKey(key);
+        if (k == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int slot = find(k, hash(k));
+            return slot < 0 ? null : readValue(recordAt(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        byte[] k = keyCodec.encode(key);
+        byte[] v = valueCodec.encode(value);
+        int hash = hash(k);
+        lock.writeLock().lock();
+        try {
+            int slot = find(k, hash);
+            V previous = null;
+            if (slot >= 0) {
+                long record = recordAt(slot);
+                previous = readValue(record);
+                if (getInt(record + 4) == v.length) {
+                    putBytes(record + 8 + k.length, v);     // same length: overwrite in place
+                    return previous;
+                }
+            } else {
+                growIfFull();
+                slot = freeSlot(hash);
+            }
+            long record = append(k, v);
+            long old = getSlot(slot);
+            // the record is written before the slot points to it, and the counts follow the slot
+            setSlot(slot, tag(hash) | record);
+            if (old <= TOMBSTONE) {
+                if (old == TOMBSTONE) {
+                    putInt(H_TOMBSTONES, getInt(H_TOMBSTONES) - 1);
+                }
+                putInt(H_SIZE, getInt(H_SIZE) + 1);
+                modCount++;
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        byte[] k = encodeKey(key);
+        if (k == null) {
+            return null;
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = find(k, hash(k));
+            if (slot < 0) {
+                return null;
+            }
+            V previous = readValue(recordAt(slot));
+            setSlot(slot, TOMBSTONE);
+            putInt(H_SIZE, getInt(H_SIZE) - 1);
+            putInt(H_TOMBSTONES, getInt(H_TOMBSTONES) + 1);
+            modCount++;
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Empties the map; the file keeps its length and is reused from the start. */
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            initialize();
+            modCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return MappedHashMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                MappedHashMap.this.clear();
+            }
+        };
+    }
+
+    // ---------------------------------------------------------------- file
+
+    /** Writes changed pages to the storage device. */
+    public void force() {
+        lock.writeLock().lock();
+        try {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces and closes the file. The mapping itself is released when the
+     * map is garbage collected; the map must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    // ---------------------------------------------------------------- table
+
+    private int capacity() {
+        return 1 << (getLong(H_TABLE) >>> 56);
+    }
+
+    private long table() {
+        return getLong(H_TABLE) & OFFSET_MASK;
+    }
+
+    // offset and capacity in one long, so a single store switches to a new table
+    private static long tableWord(long table, int capacity) {
+        return (long) Integer.numberOfTrailingZeros(capacity) << 56 | table;
+    }
+
+    private long getSlot(int slot) {
+        return getLong(table() + slot * 8L);
+    }
+
+    private void setSlot(int slot, long value) {
+        putLong(table() + slot * 8L, value);
+    }
+
+    private long recordAt(int slot) {
+        return getSlot(slot) & OFFSET_MASK;
+    }
+
+    // slot holding key, or -1
+    private int find(byte[] key, int hash) {
+        long table = table();
+        int mask = capacity() - 1;
+        long tag = tag(hash);
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            long s = getLong(table + slot * 8L);
+            if (s == EMPTY) {
+                return -1;
+            }
+            if (s != TOMBSTONE && (s & ~OFFSET_MASK) == tag && keyEquals(s & OFFSET_MASK, key)) {
+                return slot;
+            }
+        }
+    }
+
+    // first empty or deleted slot on the probe path of hash
+    private int freeSlot(int hash) {
+        int mask = capacity() - 1;
+        int slot = mix(hash) & mask;
+        while (getSlot(slot) > TOMBSTONE) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void growIfFull() {
+        int capacity = capacity();
+        int used = getInt(H_SIZE) + getInt(H_TOMBSTONES) + 1;
+        if (used <= capacity * MAX_FILL) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (getInt(H_SIZE) + 1 > newCapacity * MAX_FILL / 2) {
+            newCapacity <<= 1;
+        }
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("MappedHashMap cannot hold more than "
+                                            + (int) (MAX_CAPACITY * MAX_FILL) + " entries");
+        }
+        long oldTable = table();
+        long newTable = allocate(newCapacity * 8L);
+        zero(newTable, newCapacity * 8L);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            long s = getLong(oldTable + i * 8L);
+            if (s > TOMBSTONE) {
+                int slot = mix(recordHash(s & OFFSET_MASK)) & mask;
+                while (getLong(newTable + slot * 8L) != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                putLong(newTable + slot * 8L, s);
+            }
+        }
+        // the new table is complete before the header points to it; a stale tombstone count only grows sooner
+        putLong(H_TABLE, tableWord(newTable, newCapacity));
+        putInt(H_TOMBSTONES, 0);
+    }
+
+    private void initialize() {
+        putLong(H_MAGIC, MAGIC);
+        putInt(H_VERSION, VERSION);
+        putLong(H_TABLE, tableWord(HEADER, INITIAL_CAPACITY));
+        putInt(H_SIZE, 0);
+        putInt(H_TOMBSTONES, 0);
+        putLong(H_DATA_END, HEADER + INITIAL_CAPACITY * 8L);
+        zero(HEADER, INITIAL_CAPACITY * 8L);
+    }
+
+    // ---------------------------------------------------------------- records
+
+    private long append(byte[] key, byte[] value) {
+        long record = allocate(8L + key.length + value.length);
+        putInt(record, key.length);
+        putInt(record + 4, value.length);
+        putBytes(record + 8, key);
+        putBytes(record + 8 + key.length, value);
+        return record;
+    }
+
+    private boolean keyEquals(long record, byte[] key) {
+        if (getInt(record) != key.length) {
+            return false;
+        }
+        ByteBuffer segment = segments[(int) (record >>> SEGMENT_BITS)];
+        int at = (int) (record & (SEGMENT - 1)) + 8;
+        for (int i = 0; i < key.length; i++) {
+            if (segment.get(at + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int recordHash(long record) {
+        return hash(getBytes(record + 8, getInt(record)));
+    }
+
+    private K readKey(long record) {
+        return keyCodec.decode(getBytes(record + 8, getInt(record)));
+    }
+
+    private V readValue(long record) {
+        int keyLength = getInt(record);
+        return valueCodec.decode(getBytes(record + 8 + keyLength, getInt(record + 4)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] encodeKey(Object key) {
+        try {
+            return keyCodec.encode((K) key);
+        } catch (ClassCastException | NullPointerException e) {
+            return null;            // cannot be a key of this map
+        }
+    }
+
+    private static int hash(byte[] bytes) {
+        int h = 0x811C9DC5;         // FNV-1a, stable across runs unlike Object.hashCode
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * 0x01000193;
+        }
+        return h;
+    }
+
+    // top hash bits in bits 40..62 of a slot; slots stay positive so empty and deleted compare lowest
+    private static long tag(int hash) {
+        return (long) (hash >>> 9) << 40;
+    }
+
+    private static int mix(int hash) {
+        return (hash * 0x9E3779B9) ^ (hash >>> 16);
+    }
+
+    // ---------------------------------------------------------------- mapped memory
+
+    // reserves size bytes in the data area without crossing a segment
+    private long allocate(long size) {
+        if (size > SEGMENT) {
+            throw new IllegalArgumentException("Entry of " + size + " bytes is larger than a segment");
+        }
+        long at = (getLong(H_DATA_END) + 7) & -8;          // 8-byte aligned slots and lengths
+        if ((at & (SEGMENT - 1)) + size > SEGMENT) {
+            at = (at + SEGMENT - 1) & -SEGMENT;
+        }
+        if (at + size > mappedLength) {
+            try {
+                remap(Math.max(at + size, Math.min(mappedLength * 2, mappedLength + SEGMENT)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        putLong(H_DATA_END, at + size);
+        return at;
+    }
+
+    private void remap(long length) throws IOException {
+        int count = (int) ((length + SEGMENT - 1) >>> SEGMENT_BITS);
+        MappedByteBuffer[] grown = Arrays.copyOf(segments, count);
+        // the last old segment may be partial and is mapped again at full size
+        for (int s = Math.max(0, segments.length - 1); s < count; s++) {
+            long start = (long) s << SEGMENT_BITS;
+            grown[s] = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(SEGMENT, length - start));
+        }
+        segments = grown;
+        mappedLength = length;
+    }
+
+    private ByteBuffer segment(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)];
+    }
+
+    private static int index(long position) {
+        return (int) (position & (SEGMENT - 1));
+    }
+
+    private int getInt(long position) {
+        return segment(position).getInt(index(position));
+    }
+
+    private long getLong(long position) {
+        return segment(position).getLong(index(position));
+    }
+
+    private void putInt(long position, int value) {
+        segment(position).putInt(index(position), value);
+    }
+
+    private void putLong(long position, long value) {
+        segment(position).putLong(index(position), value);
+    }
+
+    private byte[] getBytes(long position, int length) {
+        byte[] bytes = new byte[length];
+        segment(position).get(index(position), bytes);
+        return bytes;
+    }
+
+    private void putBytes(long position, byte[] bytes) {
+        segment(position).put(index(position), bytes);
+    }
+
+    private void zero(long position, long length) {
+        ByteBuffer segment = segment(position);
+        int from = index(position);
+        for (int i = 0; i < length; i += 8) {
+            segment.putLong(from + i, 0L);
+        }
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int expectedModCount = modCount;
+        private int slot = -1;
+        private int nextSlot = -1;
+        private K lastKey;
+
+        @Override
+        public boolean hasNext() {
+            lock.readLock().lock();
+            try {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (nextSlot <= slot) {
+                    int capacity = capacity();
+                    nextSlot = slot + 1;
+                    while (nextSlot < capacity && getSlot(nextSlot) <= TOMBSTONE) {
+                        nextSlot++;
+                    }
+                }
+                return nextSlot < capacity();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lock.readLock().lock();
+            try {
+                slot = nextSlot;
+                long record = recordAt(slot);
+                lastKey = readKey(record);
+                return new MappedEntry(lastKey, readValue(record));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            MappedHashMap.this.remove(lastKey);     // leaves a tombstone, nothing moves
+            lastKey = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class MappedEntry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        MappedEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+
+    /**
+     * Codec
+     * -----
+     * Turns keys or values into the bytes stored in the file and back.
+     * encode must give equal bytes for equal objects.
+     */
+    public interface Codec<T> {
+
+        byte[] encode(T value);
+
+        T decode(byte[] bytes);
+
+        /** Fixed length: 4 bytes, big-endian. */
+        Codec<Integer> INTEGER = new Codec<Integer>() {
+            @Override
+            public byte[] encode(Integer value) {
+                return ByteBuffer.allocate(4).putInt(value).array();
+            }
+
+            @Override
+            public Integer decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getInt();
+            }
+        };
+
+        /** Fixed length: 8 bytes, big-endian. */
+        Codec<Long> LONG = new Codec<Long>() {
+            @Override
+            public byte[] encode(Long value) {
+                return ByteBuffer.allocate(8).putLong(value).array();
+            }
+
+            @Override
+            public Long decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getLong();
+            }
+        };
+
+        /** Variable length: UTF-8. */
+        Codec<String> STRING = new Codec<String>() {
+            @Override
+            public byte[] encode(String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework MpmcRingBuffer
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * MPMC Ring Buffer
+ * ----------------
+ * A bounded queue for any number of producer and consumer threads, such as
+ * a pool of workers sharing one job queue. Each slot carries a sequence
+ * number next to the element (the scheme of Dmitry Vyukov's bounded MPMC
+ * queue). A slot is free for the producer whose index equals the sequence,
+ * and ready for the consumer whose index is one below it. Producers and
+ * consumers each claim an index with a CAS, then own their slot outright.
+ * No thread ever waits for a stalled thread to finish a slot.
+ */
+public class MpmcRingBuffer<E> extends RingBuffer<E> {
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] sequences;
+
+    public MpmcRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public MpmcRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        sequences = new long[buffer.length];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        while (true) {
+            long p = producerIndex;
+            int slot = slot(p);
+            long sequence = (long) SEQUENCES.getAcquire(sequences, slot);
+            if (sequence == p) {
+                if (PRODUCER_INDEX.compareAndSet(this, p, p + 1)) {
+                    ELEMENTS.set(buffer, slot, e);
+                    SEQUENCES.setRelease(sequences, slot, p + 1);
+                    return true;
+                }
+            } else if (sequence < p) {
+                return false;           // the slot still holds last lap's element
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while (true) {
+            long c = consumerIndex;
+            int slot = slot(c);
+            long sequence = (long) SEQUENCES.getAcquire(sequences, slot);
+            if (sequence == c + 1) {
+                if (CONSUMER_INDEX.compareAndSet(this, c, c + 1)) {
+                    E e = (E) ELEMENTS.get(buffer, slot);
+                    ELEMENTS.set(buffer, slot, null);
+                    SEQUENCES.setRelease(sequences, slot, c + buffer.length);
+                    return e;
+                }
+            } else if (sequence < c + 1) {
+                return null;            // not written yet
+            }
+        }
+    }
+
+    /**
+     * As in RingBuffer; with several consumers each element is claimed on
+     * its own, so a batch is a loop of polls.
+     */
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int n = 0;
+        E e;
+        while (n < limit && (e = poll()) != null) {
+            n++;
+            consumer.accept(e);
+        }
+        return n;
+    }
+}
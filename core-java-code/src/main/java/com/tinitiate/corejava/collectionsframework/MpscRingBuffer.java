@@ -0,0 +1,103 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework MpscRingBuffer
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * MPSC Ring Buffer
+ * ----------------
+ * A bounded queue for any number of producer threads and one consumer
+ * thread: the usual shape of a logger, a writer thread or an actor's
+ * mailbox. Producers claim a slot by CAS on the producer index, then write
+ * the element with a release store. The consumer needs no CAS at all.
+ *
+ * A producer can be descheduled between claiming its slot and filling it.
+ * The consumer then sees an empty slot below the producer index and waits
+ * for that one element, since the queue is FIFO and the elements after it
+ * cannot be handed out first.
+ *
+ * Only one thread may call poll, take or drain.
+ */
+public class MpscRingBuffer<E> extends RingBuffer<E> {
+
+    public MpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public MpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long limit = (long) PRODUCER_LIMIT.getVolatile(this);
+        long p;
+        do {
+            p = producerIndex;
+            if (p >= limit) {
+                limit = consumerIndex + buffer.length;
+                if (p >= limit) {
+                    return false;
+                }
+                PRODUCER_LIMIT.setVolatile(this, limit);
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, p, p + 1));
+        ELEMENTS.setRelease(buffer, slot(p), e);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long c = (long) CONSUMER_INDEX.get(this);
+        int slot = slot(c);
+        E e = (E) ELEMENTS.getAcquire(buffer, slot);
+        if (e == null) {
+            if (c == producerIndex) {
+                return null;
+            }
+            e = awaitElement(slot);
+        }
+        ELEMENTS.set(buffer, slot, null);
+        CONSUMER_INDEX.setRelease(this, c + 1);
+        return e;
+    }
+
+    /**
+     * As in RingBuffer; also stops at a slot that is claimed but not yet
+     * written, rather than waiting for it.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long c = (long) CONSUMER_INDEX.get(this);
+        int n = 0;
+        try {
+            while (n < limit) {
+                int slot = slot(c + n);
+                E e = (E) ELEMENTS.getAcquire(buffer, slot);
+                if (e == null) {
+                    break;
+                }
+                ELEMENTS.set(buffer, slot, null);
+                n++;
+                consumer.accept(e);
+            }
+        } finally {
+            if (n > 0) {
+                CONSUMER_INDEX.setRelease(this, c + n);
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,239 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework PersistentCollections Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * Persistent Collections Benchmark
+ * --------------------------------
+ * PersistentVector and PersistentHashMap against the copy-on-handoff
+ * idiom, in nanoseconds per operation:
+ *
+ * - update and publish: change one element of a list or map of 1,000 or
+ *   100,000 entries, then hand an immutable version to the next stage
+ *   through a volatile field. A mutable ArrayList / HashMap is copied with
+ *   List.copyOf / Map.copyOf or new ArrayList / new HashMap on every
+ *   update; the persistent versions call with or plus
+ * - append and publish: the same with a new element at the end
+ * - build: 1,000,000 elements added to an ArrayList / HashMap, to a
+ *   Transient, and one plus at a time
+ * - get: random reads from 1,000,000 entries
+ */
+public class PersistentCollectionsBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final int BUILD = 1_000_000;
+    private static final int READS = 10_000_000;
+
+    static long sink;
+    static volatile Object published;
+
+    public static void main(String[] args) {
+        Integer[] boxed = new Integer[BUILD];
+        for (int i = 0; i < BUILD; i++) {
+            boxed[i] = i;
+        }
+
+        for (int size : new int[] {1_000, 100_000}) {
+            int updates = Math.max(100, 10_000_000 / size);
+            int[] targets = new Random(size).ints(updates, 0, size).toArray();
+            ArrayList<Integer> list = new ArrayList<>(List.of(boxed).subList(0, size));
+            HashMap<Integer, Integer> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(boxed[i], boxed[i]);
+            }
+            PersistentVector<Integer> vector = PersistentVector.copyOf(list);
+            PersistentHashMap<Integer, Integer> trie = PersistentHashMap.copyOf(map);
+
+            System.out.printf("--- update and publish, %,d entries%n", size);
+            run("ArrayList + List.copyOf      ", updates, () -> {
+                for (int i : targets) {
+                    list.set(i, boxed[i ^ 1]);
+                    published = List.copyOf(list);
+                }
+                return list.size();
+            });
+            run("new ArrayList(list)          ", updates, () -> {
+                for (int i : targets) {
+                    list.set(i, boxed[i ^ 1]);
+                    published = new ArrayList<>(list);
+                }
+                return list.size();
+            });
+            run("PersistentVector.with        ", updates, () -> {
+                PersistentVector<Integer> current = vector;
+                for (int i : targets) {
+                    current = current.with(i, boxed[i ^ 1]);
+                    published = current;
+                }
+                return current.size();
+            });
+            run("HashMap + Map.copyOf         ", updates, () -> {
+                for (int i : targets) {
+                    map.put(boxed[i], boxed[i ^ 1]);
+                    published = Map.copyOf(map);
+                }
+                return map.size();
+            });
+            run("new HashMap(map)             ", updates, () -> {
+                for (int i : targets) {
+                    map.put(boxed[i], boxed[i ^ 1]);
+                    published = new HashMap<>(map);
+                }
+                return map.size();
+            });
+            run("PersistentHashMap.plus       ", updates, () -> {
+                PersistentHashMap<Integer, Integer> current = trie;
+                for (int i : targets) {
+                    current = current.plus(boxed[i], boxed[i ^ 1]);
+                    published = current;
+                }
+                return current.size();
+            });
+
+            System.out.printf("--- append and publish, %,d entries%n", size);
+            run("ArrayList + List.copyOf      ", updates, () -> {
+                ArrayList<Integer> growing = new ArrayList<>(list);
+                for (int i = 0; i < updates; i++) {
+                    growing.add(boxed[i]);
+                    published = List.copyOf(growing);
+                }
+                return growing.size();
+            });
+            run("PersistentVector.plus        ", updates, () -> {
+                PersistentVector<Integer> current = vector;
+                for (int i = 0; i < updates; i++) {
+                    current = current.plus(boxed[i]);
+                    published = current;
+                }
+                return current.size();
+            });
+            run("HashMap + Map.copyOf         ", updates, () -> {
+                HashMap<Integer, Integer> growing = new HashMap<>(map);
+                for (int i = 0; i < updates; i++) {
+                    growing.put(-1 - i, boxed[i]);
+                    published = Map.copyOf(growing);
+                }
+                return growing.size();
+            });
+            run("PersistentHashMap.plus       ", updates, () -> {
+                PersistentHashMap<Integer, Integer> current = trie;
+                for (int i = 0; i < updates; i++) {
+                    current = current.plus(-1 - i, boxed[i]);
+                    published = current;
+                }
+                return current.size();
+            });
+        }
+
+        System.out.printf("--- build, %,d elements%n", BUILD);
+        run("ArrayList.add                ", BUILD, () -> {
+            ArrayList<Integer> list = new ArrayList<>();
+            for (Integer value : boxed) {
+                list.add(value);
+            }
+            return list.size();
+        });
+        run("PersistentVector Transient   ", BUILD, () -> {
+            PersistentVector.Transient<Integer> t = PersistentVector.<Integer>empty().asTransient();
+            for (Integer value : boxed) {
+                t.add(value);
+            }
+            return t.toPersistent().size();
+        });
+        run("PersistentVector.plus        ", BUILD, () -> {
+            PersistentVector<Integer> vector = PersistentVector.empty();
+            for (Integer value : boxed) {
+                vector = vector.plus(value);
+            }
+            return vector.size();
+        });
+        run("HashMap.put                  ", BUILD, () -> {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            for (Integer value : boxed) {
+                map.put(value, value);
+            }
+            return map.size();
+        });
+        run("PersistentHashMap Transient  ", BUILD, () -> {
+            PersistentHashMap.Transient<Integer, Integer> t = PersistentHashMap.<Integer, Integer>empty().asTransient();
+            for (Integer value : boxed) {
+                t.put(value, value);
+            }
+            return t.toPersistent().size();
+        });
+        run("PersistentHashMap.plus       ", BUILD, () -> {
+            PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+            for (Integer value : boxed) {
+                map = map.plus(value, value);
+            }
+            return map.size();
+        });
+
+        System.out.printf("--- get, %,d entries%n", BUILD);
+        int[] reads = new Random(3).ints(READS, 0, BUILD).toArray();
+        ArrayList<Integer> list = new ArrayList<>(List.of(boxed));
+        PersistentVector<Integer> vector = PersistentVector.copyOf(list);
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (Integer value : boxed) {
+            map.put(value, value);
+        }
+        PersistentHashMap<Integer, Integer> trie = PersistentHashMap.copyOf(map);
+        run("ArrayList.get                ", READS, () -> {
+            long sum = 0;
+            for (int i : reads) {
+                sum += list.get(i);
+            }
+            return sum;
+        });
+        run("PersistentVector.get         ", READS, () -> {
+            long sum = 0;
+            for (int i : reads) {
+                sum += vector.get(i);
+            }
+            return sum;
+        });
+        run("HashMap.get                  ", READS, () -> {
+            long sum = 0;
+            for (int i : reads) {
+                sum += map.get(boxed[i]);
+            }
+            return sum;
+        });
+        run("PersistentHashMap.get        ", READS, () -> {
+            long sum = 0;
+            for (int i : reads) {
+                sum += trie.get(boxed[i]);
+            }
+            return sum;
+        });
+        System.out.println("sink=" + sink);
+    }
+
+    private static void run(String label, int operations, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %10.1f ns/op%n", label, (double) best / operations);
+    }
+}
@@ -0,0 +1,568 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework PersistentHashMap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Persistent Hash Map
+ * -------------------
+ * The Map counterpart of PersistentVector: an immutable Map whose plus and
+ * minus return a new map that shares all but one path of small nodes with
+ * the old one, so a stage can publish its latest map to other threads
+ * without copying it.
+ *
+ *     PersistentHashMap<String, Integer> stock = PersistentHashMap.empty();
+ *     stock = stock.plus("Apple", 10).plus("Banana", 5);
+ *     PersistentHashMap<String, Integer> sold = stock.plus("Apple", 9);   // stock unchanged
+ *
+ * It is a hash array mapped trie (HAMT): each node covers five bits of the
+ * key's hash code and holds up to 32 slots, found through a 32-bit bitmap
+ * and a bit count instead of a sparse array. Entries sit inline in the
+ * node until two of them share the five bits; then they move one level
+ * down. get, plus and minus visit at most 7 levels, and 2 or 3 for a
+ * million well-spread keys. A node keeps its inline entries first and its
+ * subnodes after them, with a bitmap for each (the CHAMP layout), and minus
+ * pulls a lone remaining entry back up, so equal maps have the same shape
+ * and iteration never meets empty nodes. Keys whose 32-bit hash codes are
+ * equal end up together in a collision node at the bottom.
+ *
+ * asTransient() gives a mutable Transient for bulk loads and batch edits,
+ * as for PersistentVector. The java.util.Map mutators throw
+ * UnsupportedOperationException. Null keys and values are allowed.
+ * Iteration follows the trie, not the order of insertion. A map is
+ * immutable and safe to share between threads; a Transient is not
+ * thread-safe.
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_SHIFT = 30;                    // deeper than this is a collision node
+    private static final int MAX_DEPTH = 8;
+    private static final Object NOT_FOUND = new Object();
+    private static final Node EMPTY_NODE = new Node(null, 0, 0, new Object[0]);
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(EMPTY_NODE, 0);
+
+    private final Node root;
+    private final int size;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            return (PersistentHashMap<K, V>) map;
+        }
+        Transient<K, V> t = PersistentHashMap.<K, V>empty().asTransient();
+        map.forEach(t::put);
+        return t.toPersistent();
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? defaultValue : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entries = entrySet;
+        if (entries == null) {
+            entrySet = entries = new EntrySet();
+        }
+        return entries;
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    /** This map with key mapped to value. */
+    public PersistentHashMap<K, V> plus(K key, V value) {
+        Change change = new Change();
+        Node newRoot = root.put(null, key, hash(key), value, 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, change.added ? size + 1 : size);
+    }
+
+    /** This map without key. */
+    public PersistentHashMap<K, V> minus(Object key) {
+        Change change = new Change();
+        Node newRoot = root.remove(null, key, hash(key), 0, change);
+        if (!change.removed) {
+            return this;
+        }
+        return size == 1 ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /** A Transient that starts with this map's entries; this map is not affected by it. */
+    public Transient<K, V> asTransient() {
+        return new Transient<>(this);
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static int hash(Object key) {
+        return Objects.hashCode(key);
+    }
+
+    /** What put or remove did, for the size. */
+    private static final class Change {
+        boolean added;
+        boolean removed;
+    }
+
+    /**
+     * A trie node: array holds the inline entries as key, value pairs, then
+     * the subnodes. dataMap and nodeMap mark which of the 32 hash slots hold
+     * an entry or a subnode. A collision node has both maps 0 and only
+     * pairs. owner is the Transient that may change the node in place, or
+     * null once it can be shared.
+     */
+    private static final class Node {
+        final Object owner;
+        int dataMap;
+        int nodeMap;
+        Object[] array;
+
+        Node(Object owner, int dataMap, int nodeMap, Object[] array) {
+            this.owner = owner;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.array = array;
+        }
+
+        int dataCount() {
+            return (dataMap | nodeMap) == 0 ? array.length >> 1 : Integer.bitCount(dataMap);
+        }
+
+        int nodeCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        Node nodeAt(int i) {
+            return (Node) array[array.length - nodeCount() + i];
+        }
+
+        // a node with a single entry and no subnodes, which its parent takes back inline
+        boolean isSingleEntry() {
+            return nodeMap == 0 && array.length == 2;
+        }
+
+        Object find(Object key, int hash, int shift) {
+            Node node = this;
+            while (shift <= MAX_SHIFT) {
+                int bit = bit(hash, shift);
+                if ((node.dataMap & bit) != 0) {
+                    int at = 2 * index(node.dataMap, bit);
+                    return Objects.equals(key, node.array[at]) ? node.array[at + 1] : NOT_FOUND;
+                }
+                if ((node.nodeMap & bit) == 0) {
+                    return NOT_FOUND;
+                }
+                node = (Node) node.array[node.nodeIndex(bit)];
+                shift += BITS;
+            }
+            for (int at = 0; at < node.array.length; at += 2) {
+                if (Objects.equals(key, node.array[at])) {
+                    return node.array[at + 1];
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        Node put(Object owner, Object key, int hash, Object value, int shift, Change change) {
+            if (shift > MAX_SHIFT) {
+                return collisionPut(owner, key, value, change);
+            }
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int at = 2 * index(dataMap, bit);
+                Object existing = array[at];
+                if (Objects.equals(key, existing)) {
+                    if (array[at + 1] == value) {
+                        return this;
+                    }
+                    Node result = editable(owner);
+                    result.array[at + 1] = value;
+                    return result;
+                }
+                // two keys share these five bits: both move into a new subnode
+                Node sub = pair(owner, existing, hash(existing), array[at + 1], key, hash, value, shift + BITS);
+                change.added = true;
+                return inlineToNode(owner, bit, sub);
+            }
+            if ((nodeMap & bit) != 0) {
+                int at = nodeIndex(bit);
+                Node child = (Node) array[at];
+                Node newChild = child.put(owner, key, hash, value, shift + BITS, change);
+                if (newChild == child) {
+                    return this;
+                }
+                Node result = editable(owner);
+                result.array[at] = newChild;
+                return result;
+            }
+            change.added = true;
+            int at = 2 * index(dataMap, bit);
+            Object[] grown = new Object[array.length + 2];
+            System.arraycopy(array, 0, grown, 0, at);
+            grown[at] = key;
+            grown[at + 1] = value;
+            System.arraycopy(array, at, grown, at + 2, array.length - at);
+            return replace(owner, dataMap | bit, nodeMap, grown);
+        }
+
+        Node remove(Object owner, Object key, int hash, int shift, Change change) {
+            if (shift > MAX_SHIFT) {
+                return collisionRemove(owner, key, change);
+            }
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int at = 2 * index(dataMap, bit);
+                if (!Objects.equals(key, array[at])) {
+                    return this;
+                }
+                change.removed = true;
+                Object[] shrunk = new Object[array.length - 2];
+                System.arraycopy(array, 0, shrunk, 0, at);
+                System.arraycopy(array, at + 2, shrunk, at, array.length - at - 2);
+                return replace(owner, dataMap & ~bit, nodeMap, shrunk);
+            }
+            if ((nodeMap & bit) != 0) {
+                int at = nodeIndex(bit);
+                Node child = (Node) array[at];
+                Node newChild = child.remove(owner, key, hash, shift + BITS, change);
+                if (!change.removed) {
+                    return this;
+                }
+                if (newChild.isSingleEntry()) {
+                    return nodeToInline(owner, bit, newChild.array[0], newChild.array[1]);
+                }
+                if (newChild == child) {
+                    return this;
+                }
+                Node result = editable(owner);
+                result.array[at] = newChild;
+                return result;
+            }
+            return this;
+        }
+
+        void forEach(BiConsumer<Object, Object> action) {
+            int pairs = dataCount();
+            for (int i = 0; i < pairs; i++) {
+                action.accept(array[2 * i], array[2 * i + 1]);
+            }
+            int nodes = nodeCount();
+            for (int i = 0; i < nodes; i++) {
+                nodeAt(i).forEach(action);
+            }
+        }
+
+        private Node collisionPut(Object owner, Object key, Object value, Change change) {
+            for (int at = 0; at < array.length; at += 2) {
+                if (Objects.equals(key, array[at])) {
+                    if (array[at + 1] == value) {
+                        return this;
+                    }
+                    Node result = editable(owner);
+                    result.array[at + 1] = value;
+                    return result;
+                }
+            }
+            change.added = true;
+            Object[] grown = Arrays.copyOf(array, array.length + 2);
+            grown[array.length] = key;
+            grown[array.length + 1] = value;
+            return replace(owner, 0, 0, grown);
+        }
+
+        private Node collisionRemove(Object owner, Object key, Change change) {
+            for (int at = 0; at < array.length; at += 2) {
+                if (Objects.equals(key, array[at])) {
+                    change.removed = true;
+                    Object[] shrunk = new Object[array.length - 2];
+                    System.arraycopy(array, 0, shrunk, 0, at);
+                    System.arraycopy(array, at + 2, shrunk, at, array.length - at - 2);
+                    return replace(owner, 0, 0, shrunk);
+                }
+            }
+            return this;
+        }
+
+        // the inline entry at bit becomes the subnode sub, placed among the subnodes
+        private Node inlineToNode(Object owner, int bit, Node sub) {
+            int from = 2 * index(dataMap, bit);
+            int to = array.length - 2 - nodeCount() + index(nodeMap, bit);
+            Object[] moved = new Object[array.length - 1];
+            System.arraycopy(array, 0, moved, 0, from);
+            System.arraycopy(array, from + 2, moved, from, to - from);
+            moved[to] = sub;
+            System.arraycopy(array, to + 2, moved, to + 1, array.length - to - 2);
+            return replace(owner, dataMap & ~bit, nodeMap | bit, moved);
+        }
+
+        // the subnode at bit becomes the inline entry key, value
+        private Node nodeToInline(Object owner, int bit, Object key, Object value) {
+            int from = nodeIndex(bit);
+            int to = 2 * index(dataMap, bit);
+            Object[] moved = new Object[array.length + 1];
+            System.arraycopy(array, 0, moved, 0, to);
+            moved[to] = key;
+            moved[to + 1] = value;
+            System.arraycopy(array, to, moved, to + 2, from - to);
+            System.arraycopy(array, from + 1, moved, from + 2, array.length - from - 1);
+            return replace(owner, dataMap | bit, nodeMap & ~bit, moved);
+        }
+
+        private int nodeIndex(int bit) {
+            return array.length - nodeCount() + index(nodeMap, bit);
+        }
+
+        // this node if owner may change it, else a copy that owner may change
+        private Node editable(Object owner) {
+            if (owner != null && this.owner == owner) {
+                return this;
+            }
+            return new Node(owner, dataMap, nodeMap, array.clone());
+        }
+
+        // this node with new maps and array: changed in place if owner may, else a new node
+        private Node replace(Object owner, int newDataMap, int newNodeMap, Object[] newArray) {
+            if (owner != null && this.owner == owner) {
+                dataMap = newDataMap;
+                nodeMap = newNodeMap;
+                array = newArray;
+                return this;
+            }
+            return new Node(owner, newDataMap, newNodeMap, newArray);
+        }
+
+        // a node holding two entries whose hashes agree below shift
+        private static Node pair(Object owner, Object k1, int h1, Object v1, Object k2, int h2, Object v2, int shift) {
+            if (shift > MAX_SHIFT) {
+                return new Node(owner, 0, 0, new Object[] {k1, v1, k2, v2});
+            }
+            int b1 = bit(h1, shift);
+            int b2 = bit(h2, shift);
+            if (b1 == b2) {
+                return new Node(owner, 0, b1, new Object[] {pair(owner, k1, h1, v1, k2, h2, v2, shift + BITS)});
+            }
+            return Integer.compareUnsigned(b1, b2) < 0
+                    ? new Node(owner, b1 | b2, 0, new Object[] {k1, v1, k2, v2})
+                    : new Node(owner, b1 | b2, 0, new Object[] {k2, v2, k1, v1});
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        // slots in map below bit
+        private static int index(int map, int bit) {
+            return Integer.bitCount(map & (bit - 1));
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Object value = root.find(e.getKey(), hash(e.getKey()), 0);
+            return value != NOT_FOUND && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    /** Depth-first over the trie: a node's inline entries, then its subnodes in turn. */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] nextChild = new int[MAX_DEPTH];
+        private int depth;
+        private Node current;               // the node whose entries are being returned
+        private int nextPair;
+
+        EntryIterator() {
+            nodes[0] = root;
+            current = root;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            Object[] array = current.array;
+            Map.Entry<K, V> entry = new SimpleImmutableEntry<>((K) array[2 * nextPair], (V) array[2 * nextPair + 1]);
+            nextPair++;
+            advance();
+            return entry;
+        }
+
+        // moves to the next node with entries left, or sets current to null at the end
+        private void advance() {
+            if (nextPair < current.dataCount()) {
+                return;
+            }
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (nextChild[depth] < node.nodeCount()) {
+                    Node child = node.nodeAt(nextChild[depth]++);
+                    nodes[++depth] = child;
+                    nextChild[depth] = 0;
+                    if (child.dataCount() > 0) {
+                        current = child;
+                        nextPair = 0;
+                        return;
+                    }
+                } else {
+                    depth--;
+                }
+            }
+            current = null;
+        }
+    }
+
+    /**
+     * Transient
+     * ---------
+     * A mutable, single-threaded PersistentHashMap under construction. It
+     * shares the nodes of the map it came from, copies each one the first
+     * time it changes it, and changes its own copies in place after that.
+     * toPersistent() ends its life: every later call throws
+     * IllegalStateException.
+     */
+    public static final class Transient<K, V> {
+
+        private Object owner = new Object();
+        private Node root;
+        private int size;
+
+        private Transient(PersistentHashMap<K, V> map) {
+            root = map.root;
+            size = map.size;
+        }
+
+        public int size() {
+            ensureLive();
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            ensureLive();
+            Object value = root.find(key, hash(key), 0);
+            return value == NOT_FOUND ? null : (V) value;
+        }
+
+        public boolean containsKey(Object key) {
+            ensureLive();
+            return root.find(key, hash(key), 0) != NOT_FOUND;
+        }
+
+        public Transient<K, V> put(K key, V value) {
+            ensureLive();
+            Change change = new Change();
+            root = root.put(owner, key, hash(key), value, 0, change);
+            if (change.added) {
+                size++;
+            }
+            return this;
+        }
+
+        public Transient<K, V> remove(Object key) {
+            ensureLive();
+            Change change = new Change();
+            root = root.remove(owner, key, hash(key), 0, change);
+            if (change.removed) {
+                size--;
+            }
+            return this;
+        }
+
+        /** The entries as a PersistentHashMap; this Transient can no longer be used. */
+        public PersistentHashMap<K, V> toPersistent() {
+            ensureLive();
+            owner = null;
+            return size == 0 ? empty() : new PersistentHashMap<>(root, size);
+        }
+
+        private void ensureLive() {
+            if (owner == null) {
+                throw new IllegalStateException("Transient used after toPersistent()");
+            }
+        }
+    }
+}
@@ -0,0 +1,454 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework PersistentVector
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Persistent Vector
+ * -----------------
+ * An immutable List for the lists of ListInterfaceExample that are handed
+ * from one thread or stage to the next. An unmodifiable copy of an
+ * ArrayList costs O(n) at every handoff; here "changing" the vector returns
+ * a new vector that shares all but a few small arrays with the old one,
+ * and both stay valid:
+ *
+ *     PersistentVector<String> v1 = PersistentVector.of("Apple", "Banana");
+ *     PersistentVector<String> v2 = v1.plus("Cherry");          // v1 unchanged
+ *     PersistentVector<String> v3 = v2.with(0, "Apricot");
+ *     System.out.println(v1 + " " + v3);   // [Apple, Banana] [Apricot, Banana, Cherry]
+ *
+ * The elements sit in a tree of 32-slot arrays, a radix trie indexed by
+ * five bits of the index per level, so get, with and minusLast walk
+ * log32(n) levels: at most 4 below 1,048,576 elements, and 7 for any int
+ * index. The last 1 to 32 elements are kept in a separate tail array, so
+ * plus and minusLast only copy the tail, except once every 32 calls.
+ *
+ * For building or changing many elements at once, asTransient() gives a
+ * mutable Transient that edits the arrays it has already copied in place.
+ * toPersistent() freezes it into a vector in O(1) (it copies only the tail).
+ *
+ *     PersistentVector.Transient<Integer> t = PersistentVector.<Integer>empty().asTransient();
+ *     for (int i = 0; i < 1_000_000; i++) {
+ *         t.add(i);
+ *     }
+ *     PersistentVector<Integer> numbers = t.toPersistent();
+ *
+ * The java.util.List mutators (add, set, remove, ...) throw
+ * UnsupportedOperationException. Null elements are allowed. A vector is
+ * immutable and safe to share between threads; a Transient is not
+ * thread-safe.
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;                 // 32 slots per array
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] NO_ELEMENTS = {};
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, NO_ELEMENTS);
+
+    private final int size;
+    private final int shift;            // BITS * (levels above the leaves)
+    private final Node root;
+    private final Object[] tail;        // the last 1 to 32 elements, or none when empty
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentVector<E> of(E... elements) {
+        Transient<E> t = PersistentVector.<E>empty().asTransient();
+        for (E element : elements) {
+            t.add(element);
+        }
+        return t.toPersistent();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+        Transient<E> t = PersistentVector.<E>empty().asTransient();
+        for (E element : elements) {
+            t.add(element);
+        }
+        return t.toPersistent();
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] leaf = leafFor(base);
+            int n = Math.min(WIDTH, size - base);
+            for (int i = 0; i < n; i++) {
+                action.accept((E) leaf[i]);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    /** This vector with element appended. */
+    public PersistentVector<E> plus(E element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // the tail is full: it moves into the tree, and element starts a new tail
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // the tree is full too: add a level on top
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /** This vector with the element at index replaced; index == size() appends. */
+    public PersistentVector<E> with(int index, E element) {
+        if (index == size) {
+            return plus(element);
+        }
+        checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, setElement(null, shift, root, index, element), tail);
+    }
+
+    /** This vector without its last element. */
+    public PersistentVector<E> minusLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Vector is empty");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        // the tail empties: the last leaf of the tree becomes the new tail
+        Object[] newTail = leafFor(size - 2);
+        Node newRoot = popTail(null, size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /** A Transient that starts with this vector's elements; this vector is not affected by it. */
+    public Transient<E> asTransient() {
+        return new Transient<>(this);
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    /**
+     * One array of the trie: 32 child Nodes above the leaves, 32 elements
+     * in a leaf. owner is the Transient that may still change it in place,
+     * or null once the node can be shared.
+     */
+    private static final class Node {
+        final Object owner;
+        final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    // index of the first element in the tail
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        return index >= tailOffset(size) ? tail : leafFor(root, shift, index);
+    }
+
+    private static Object[] leafFor(Node root, int shift, int index) {
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    // a node the owner may change: node itself if owner already holds it, else a copy
+    private static Node editable(Object owner, Node node) {
+        return owner != null && node.owner == owner ? node : new Node(owner, node.array.clone());
+    }
+
+    // a chain of single-child nodes from level down to leaf
+    private static Node newPath(Object owner, int level, Node leaf) {
+        Node node = leaf;
+        for (; level > 0; level -= BITS) {
+            Node parent = new Node(owner, new Object[WIDTH]);
+            parent.array[0] = node;
+            node = parent;
+        }
+        return node;
+    }
+
+    // hangs the full tail leaf of a vector of size elements under parent
+    private static Node pushTail(Object owner, int size, int level, Node parent, Node tailNode) {
+        Node result = editable(owner, parent);
+        int slot = ((size - 1) >>> level) & MASK;
+        Node child;
+        if (level == BITS) {
+            child = tailNode;
+        } else {
+            Node existing = (Node) parent.array[slot];
+            child = existing != null
+                    ? pushTail(owner, size, level - BITS, existing, tailNode)
+                    : newPath(owner, level - BITS, tailNode);
+        }
+        result.array[slot] = child;
+        return result;
+    }
+
+    // removes the last leaf of a vector of size elements; null if node ends up empty
+    private static Node popTail(Object owner, int size, int level, Node node) {
+        int slot = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(owner, size, level - BITS, (Node) node.array[slot]);
+            if (child == null && slot == 0) {
+                return null;
+            }
+            Node result = editable(owner, node);
+            result.array[slot] = child;
+            return result;
+        }
+        if (slot == 0) {
+            return null;
+        }
+        Node result = editable(owner, node);
+        result.array[slot] = null;
+        return result;
+    }
+
+    private static Node setElement(Object owner, int level, Node node, int index, Object element) {
+        Node result = editable(owner, node);
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int slot = (index >>> level) & MASK;
+            result.array[slot] = setElement(owner, level - BITS, (Node) node.array[slot], index, element);
+        }
+        return result;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /** Walks the leaves in order, descending the trie once per 32 elements. */
+    private final class Itr implements Iterator<E> {
+        private int index;
+        private Object[] leaf = size > 0 ? leafFor(0) : NO_ELEMENTS;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            if ((index & MASK) == 0 && index > 0) {
+                leaf = leafFor(index);
+            }
+            return (E) leaf[index++ & MASK];
+        }
+    }
+
+    /**
+     * Transient
+     * ---------
+     * A mutable, single-threaded PersistentVector under construction. It
+     * shares the arrays of the vector it came from and copies each one the
+     * first time it changes it; later changes to that array are made in
+     * place. toPersistent() ends its life: every later call throws
+     * IllegalStateException.
+     */
+    public static final class Transient<E> {
+
+        private Object owner = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;              // always WIDTH slots, owned by this Transient
+
+        private Transient(PersistentVector<E> vector) {
+            size = vector.size;
+            shift = vector.shift;
+            root = vector.root;
+            tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        public int size() {
+            ensureLive();
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            ensureLive();
+            checkIndex(index, size);
+            Object[] leaf = index >= tailOffset(size) ? tail : leafFor(root, shift, index);
+            return (E) leaf[index & MASK];
+        }
+
+        public Transient<E> add(E element) {
+            ensureLive();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(owner, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /** Replaces the element at index; index == size() appends. */
+        public Transient<E> set(int index, E element) {
+            ensureLive();
+            if (index == size) {
+                return add(element);
+            }
+            checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = setElement(owner, shift, root, index, element);
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E removeLast() {
+            ensureLive();
+            if (size == 0) {
+                throw new NoSuchElementException("Vector is empty");
+            }
+            E last = (E) tail[(size - 1) & MASK];
+            if (size == 1) {
+                size = 0;
+                tail[0] = null;
+                return last;
+            }
+            if (size - tailOffset(size) > 1) {
+                size--;
+                tail[size & MASK] = null;
+                return last;
+            }
+            tail = Arrays.copyOf(leafFor(root, shift, size - 2), WIDTH);
+            Node newRoot = popTail(owner, size, shift, root);
+            if (newRoot == null) {
+                newRoot = EMPTY_NODE;
+            }
+            if (shift > BITS && newRoot.array[1] == null) {
+                newRoot = (Node) newRoot.array[0];
+                shift -= BITS;
+            }
+            root = newRoot;
+            size--;
+            return last;
+        }
+
+        /** The elements as a PersistentVector; this Transient can no longer be used. */
+        public PersistentVector<E> toPersistent() {
+            ensureLive();
+            owner = null;
+            if (size == 0) {
+                return empty();
+            }
+            Object[] trimmed = Arrays.copyOf(tail, size - tailOffset(size));
+            return new PersistentVector<>(size, shift, root, trimmed);
+        }
+
+        private void ensureLive() {
+            if (owner == null) {
+                throw new IllegalStateException("Transient used after toPersistent()");
+            }
+        }
+    }
+}
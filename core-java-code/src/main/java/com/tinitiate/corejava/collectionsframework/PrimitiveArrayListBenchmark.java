@@ -0,0 +1,155 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework PrimitiveArrayList Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Primitive Array List Benchmark
+ * ------------------------------
+ * ArrayList<Integer> against IntArrayList, and ArrayList<Long> against
+ * LongArrayList, at 1M and 10M random values: heap retained by a filled
+ * list, then the time per element to sum it with an indexed loop, with
+ * forEach and with a stream. Sizes can be passed as arguments.
+ *
+ * Random values keep the boxed lists honest: small Integers would come from
+ * the shared Integer cache and hide the per-element object, which the
+ * retained bytes are meant to show.
+ */
+public class PrimitiveArrayListBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = {1_000_000, 10_000_000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        for (int size : sizes) {
+            int[] ints = new Random(size).ints(size).toArray();
+            long[] longs = new Random(size).longs(size).toArray();
+            System.out.printf("--- %,d elements%n", size);
+
+            footprint("ArrayList<Integer>", () -> {
+                ArrayList<Integer> list = new ArrayList<>();
+                for (int value : ints) {
+                    list.add(value);
+                }
+                return list;
+            });
+            footprint("IntArrayList", () -> {
+                IntArrayList list = new IntArrayList();
+                for (int value : ints) {
+                    list.add(value);
+                }
+                return list;
+            });
+            footprint("ArrayList<Long>", () -> {
+                ArrayList<Long> list = new ArrayList<>();
+                for (long value : longs) {
+                    list.add(value);
+                }
+                return list;
+            });
+            footprint("LongArrayList", () -> {
+                LongArrayList list = new LongArrayList();
+                for (long value : longs) {
+                    list.add(value);
+                }
+                return list;
+            });
+
+            ArrayList<Integer> boxedInts = new ArrayList<>(size);
+            for (int value : ints) {
+                boxedInts.add(value);
+            }
+            IntArrayList primitiveInts = IntArrayList.of(ints);
+            run("ArrayList<Integer> get loop", size, () -> {
+                long sum = 0;
+                for (int i = 0; i < boxedInts.size(); i++) {
+                    sum += boxedInts.get(i);
+                }
+                return sum;
+            });
+            run("IntArrayList get loop      ", size, () -> {
+                long sum = 0;
+                for (int i = 0; i < primitiveInts.size(); i++) {
+                    sum += primitiveInts.get(i);
+                }
+                return sum;
+            });
+            run("ArrayList<Integer> forEach ", size, () -> {
+                long[] sum = {0};
+                boxedInts.forEach(value -> sum[0] += value);
+                return sum[0];
+            });
+            run("IntArrayList forEach       ", size, () -> {
+                long[] sum = {0};
+                primitiveInts.forEach(value -> sum[0] += value);
+                return sum[0];
+            });
+            run("ArrayList<Integer> stream  ", size,
+                () -> boxedInts.stream().mapToLong(Integer::longValue).sum());
+            run("IntArrayList stream        ", size,
+                () -> primitiveInts.stream().asLongStream().sum());
+
+            ArrayList<Long> boxedLongs = new ArrayList<>(size);
+            for (long value : longs) {
+                boxedLongs.add(value);
+            }
+            LongArrayList primitiveLongs = LongArrayList.of(longs);
+            run("ArrayList<Long> get loop   ", size, () -> {
+                long sum = 0;
+                for (int i = 0; i < boxedLongs.size(); i++) {
+                    sum += boxedLongs.get(i);
+                }
+                return sum;
+            });
+            run("LongArrayList get loop     ", size, () -> {
+                long sum = 0;
+                for (int i = 0; i < primitiveLongs.size(); i++) {
+                    sum += primitiveLongs.get(i);
+                }
+                return sum;
+            });
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    private static void footprint(String label, Supplier<Object> build) {
+        long before = UsedHeap.afterGc();
+        Object list = build.get();
+        long after = UsedHeap.afterGc();
+        System.out.printf("%-18s : %,12d bytes retained%n", label, after - before);
+        sink += System.identityHashCode(list) & 1;
+    }
+
+    private static void run(String label, int elements, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %6.2f ns/element%n", label, (double) best / elements);
+    }
+}
@@ -0,0 +1,281 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework PriorityQueue Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * Priority Queue Benchmark
+ * ------------------------
+ * java.util.PriorityQueue against LongPriorityQueue, IndexedDaryHeap and
+ * RadixHeap on two workloads:
+ *
+ * - hold: a queue of 1,000,000 timers where each step polls the earliest
+ *   and re-queues it a random interval later, the steady state of a
+ *   scheduler. Reported in ns per poll + add pair; the time includes
+ *   filling the queue first.
+ * - Dijkstra: shortest paths from node 0 over a random graph of 1,000,000
+ *   nodes and 8,000,000 weighted edges. PriorityQueue, LongPriorityQueue
+ *   and RadixHeap queue a node again when its distance drops and skip
+ *   stale copies; IndexedDaryHeap lowers the queued priority in place.
+ *   Reported in ms per full run, with a checksum of the distances that
+ *   must match across the four.
+ */
+public class PriorityQueueBenchmark {
+
+    private static final int WARMUP = 2;
+    private static final int ROUNDS = 3;
+    private static final int TIMERS = 1_000_000;
+    private static final int STEPS = 5_000_000;
+    private static final int NODES = 1_000_000;
+    private static final int DEGREE = 8;
+    private static final int MAX_WEIGHT = 10_000;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        long[] start = new long[TIMERS];
+        for (int i = 0; i < TIMERS; i++) {
+            start[i] = random.nextInt(1 << 20);
+        }
+        long[] delays = new long[1 << 16];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = 1 + random.nextInt(1 << 20);
+        }
+        int mask = delays.length - 1;
+
+        System.out.printf("--- hold model, %,d timers, %,d steps%n", TIMERS, STEPS);
+        run("PriorityQueue<Long>", STEPS, "ns/step", () -> {
+            PriorityQueue<Long> queue = new PriorityQueue<>(TIMERS);
+            for (long time : start) {
+                queue.add(time);
+            }
+            long sum = 0;
+            for (int i = 0; i < STEPS; i++) {
+                long time = queue.poll();
+                sum += time;
+                queue.add(time + delays[i & mask]);
+            }
+            return sum;
+        });
+        run("LongPriorityQueue  ", STEPS, "ns/step", () -> {
+            LongPriorityQueue queue = new LongPriorityQueue(TIMERS);
+            for (int i = 0; i < TIMERS; i++) {
+                queue.add(start[i], i);
+            }
+            long sum = 0;
+            for (int i = 0; i < STEPS; i++) {
+                long time = queue.peekPriority();
+                int timer = queue.poll();
+                sum += time;
+                queue.add(time + delays[i & mask], timer);
+            }
+            return sum;
+        });
+        run("IndexedDaryHeap    ", STEPS, "ns/step", () -> {
+            IndexedDaryHeap queue = new IndexedDaryHeap(TIMERS);
+            for (int i = 0; i < TIMERS; i++) {
+                queue.insert(i, start[i]);
+            }
+            long sum = 0;
+            for (int i = 0; i < STEPS; i++) {
+                int timer = queue.peek();
+                long time = queue.priority(timer);
+                sum += time;
+                queue.changePriority(timer, time + delays[i & mask]);
+            }
+            return sum;
+        });
+        run("RadixHeap          ", STEPS, "ns/step", () -> {
+            RadixHeap queue = new RadixHeap();
+            for (int i = 0; i < TIMERS; i++) {
+                queue.add(start[i], i);
+            }
+            long sum = 0;
+            for (int i = 0; i < STEPS; i++) {
+                long time = queue.peekPriority();
+                int timer = queue.poll();
+                sum += time;
+                queue.add(time + delays[i & mask], timer);
+            }
+            return sum;
+        });
+
+        Graph graph = new Graph(NODES, DEGREE, random);
+        System.out.printf("--- Dijkstra, %,d nodes, %,d edges%n", NODES, NODES * DEGREE);
+        run("PriorityQueue<Node>", 1_000_000, "ms/run ", () -> dijkstraPriorityQueue(graph));
+        run("LongPriorityQueue  ", 1_000_000, "ms/run ", () -> dijkstraLongQueue(graph));
+        run("IndexedDaryHeap    ", 1_000_000, "ms/run ", () -> dijkstraIndexed(graph));
+        run("RadixHeap          ", 1_000_000, "ms/run ", () -> dijkstraRadix(graph));
+        System.out.println("sink=" + sink);
+    }
+
+    // ---------------------------------------------------------------- Dijkstra variants
+
+    private static final class Node {
+        final long distance;
+        final int id;
+
+        Node(long distance, int id) {
+            this.distance = distance;
+            this.id = id;
+        }
+    }
+
+    private static long dijkstraPriorityQueue(Graph graph) {
+        long[] distance = graph.unreached();
+        PriorityQueue<Node> queue = new PriorityQueue<>(Comparator.comparingLong((Node n) -> n.distance));
+        distance[0] = 0;
+        queue.add(new Node(0, 0));
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            int u = node.id;
+            if (node.distance > distance[u]) {
+                continue;                                   // stale copy
+            }
+            for (int e = graph.first[u]; e < graph.first[u + 1]; e++) {
+                int v = graph.target[e];
+                long d = node.distance + graph.weight[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    queue.add(new Node(d, v));
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    private static long dijkstraLongQueue(Graph graph) {
+        long[] distance = graph.unreached();
+        LongPriorityQueue queue = new LongPriorityQueue();
+        distance[0] = 0;
+        queue.add(0, 0);
+        while (!queue.isEmpty()) {
+            long du = queue.peekPriority();
+            int u = queue.poll();
+            if (du > distance[u]) {
+                continue;
+            }
+            for (int e = graph.first[u]; e < graph.first[u + 1]; e++) {
+                int v = graph.target[e];
+                long d = du + graph.weight[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    queue.add(d, v);
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    private static long dijkstraIndexed(Graph graph) {
+        long[] distance = graph.unreached();
+        IndexedDaryHeap queue = new IndexedDaryHeap(graph.nodes);
+        distance[0] = 0;
+        queue.insert(0, 0);
+        while (!queue.isEmpty()) {
+            long du = queue.peekPriority();
+            int u = queue.poll();
+            for (int e = graph.first[u]; e < graph.first[u + 1]; e++) {
+                int v = graph.target[e];
+                long d = du + graph.weight[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    queue.insertOrDecrease(v, d);
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    private static long dijkstraRadix(Graph graph) {
+        long[] distance = graph.unreached();
+        RadixHeap queue = new RadixHeap();
+        distance[0] = 0;
+        queue.add(0, 0);
+        while (!queue.isEmpty()) {
+            long du = queue.peekPriority();
+            int u = queue.poll();
+            if (du > distance[u]) {
+                continue;
+            }
+            for (int e = graph.first[u]; e < graph.first[u + 1]; e++) {
+                int v = graph.target[e];
+                long d = du + graph.weight[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    queue.add(d, v);
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    private static long checksum(long[] distance) {
+        long sum = 0;
+        for (long d : distance) {
+            if (d != Long.MAX_VALUE) {
+                sum += d;
+            }
+        }
+        return sum;
+    }
+
+    // adjacency lists in compressed form: node u's edges are first[u] .. first[u+1]-1
+    private static final class Graph {
+        final int nodes;
+        final int[] first;
+        final int[] target;
+        final int[] weight;
+
+        Graph(int nodes, int degree, Random random) {
+            this.nodes = nodes;
+            this.first = new int[nodes + 1];
+            this.target = new int[nodes * degree];
+            this.weight = new int[nodes * degree];
+            for (int u = 0; u < nodes; u++) {
+                first[u] = u * degree;
+                for (int k = 0; k < degree; k++) {
+                    target[u * degree + k] = random.nextInt(nodes);
+                    weight[u * degree + k] = 1 + random.nextInt(MAX_WEIGHT);
+                }
+            }
+            first[nodes] = nodes * degree;
+        }
+
+        long[] unreached() {
+            long[] distance = new long[nodes];
+            Arrays.fill(distance, Long.MAX_VALUE);
+            return distance;
+        }
+    }
+
+    // ---------------------------------------------------------------- harness
+
+    private static void run(String label, long divisor, String unit, LongSupplier task) {
+        long check = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            check = task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            check = task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        sink += check;
+        System.out.printf("%s : %8.2f %s  (checksum %d)%n", label, (double) best / divisor, unit, check);
+    }
+}
@@ -0,0 +1,169 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework RadixHeap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Radix Heap
+ * ----------
+ * A monotone min-priority queue of (long priority, int value) pairs: no
+ * priority added may be smaller than the last one polled. Event loops,
+ * timer wheels and Dijkstra's algorithm all work this way, since time and
+ * distance only move forward.
+ *
+ * That promise lets the heap skip comparisons almost entirely. An entry
+ * goes into bucket b, where b is the position of the highest bit in which
+ * its priority differs from the last polled one. Bucket 0 holds entries
+ * equal to it. poll() takes from bucket 0. When bucket 0 is empty, the
+ * lowest non-empty bucket is scanned once for its minimum, and its entries
+ * are spread over smaller buckets. Each entry can only move down, at most
+ * 64 times, so add and poll are O(1) amortised in the number of entries
+ * (O(log C) for priorities spanning C), with sequential access to
+ * primitive arrays.
+ *
+ *     RadixHeap events = new RadixHeap();
+ *     events.add(1_000, 1);
+ *     events.add(1_020, 2);
+ *     int first = events.poll();             // 1, time is now 1000
+ *     events.add(1_005, 3);                  // fine: not before 1000
+ *     events.add(990, 4);                    // IllegalArgumentException
+ *
+ * Not thread-safe.
+ */
+public class RadixHeap {
+
+    private static final int BUCKETS = 65;
+
+    private final LongArrayList[] priorities = new LongArrayList[BUCKETS];
+    private final IntArrayList[] values = new IntArrayList[BUCKETS];
+    private long occupied;              // bit b-1 set when bucket b (1..64) is non-empty
+    private long last = Long.MIN_VALUE; // the last priority polled
+    private int size;
+
+    public RadixHeap() {
+        for (int b = 0; b < BUCKETS; b++) {
+            priorities[b] = new LongArrayList();
+            values[b] = new IntArrayList();
+        }
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** The last priority polled; nothing smaller may be added. */
+    public long lastPriority() {
+        return last;
+    }
+
+    /** The value with the smallest priority, without removing it. */
+    public int peek() {
+        refill();
+        IntArrayList bucket = values[0];
+        return bucket.get(bucket.size() - 1);
+    }
+
+    /** The smallest priority in the heap. */
+    public long peekPriority() {
+        refill();
+        return last;
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    /**
+     * @throws IllegalArgumentException if priority is below the last
+     *         priority polled
+     */
+    public void add(long priority, int value) {
+        if (priority < last) {
+            throw new IllegalArgumentException(
+                    "Priority " + priority + " is below the last polled priority " + last);
+        }
+        int b = bucketOf(priority);
+        priorities[b].add(priority);
+        values[b].add(value);
+        if (b > 0) {
+            occupied |= 1L << (b - 1);
+        }
+        size++;
+    }
+
+    /**
+     * Removes the entry with the smallest priority and returns its value.
+     * Entries with equal priorities come out in no particular order.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int poll() {
+        refill();
+        LongArrayList bucketPriorities = priorities[0];
+        bucketPriorities.removeAt(bucketPriorities.size() - 1);
+        IntArrayList bucketValues = values[0];
+        size--;
+        return bucketValues.removeAt(bucketValues.size() - 1);
+    }
+
+    /** Empties the heap and lifts the monotone floor again. */
+    public void clear() {
+        for (int b = 0; b < BUCKETS; b++) {
+            priorities[b].clear();
+            values[b].clear();
+        }
+        occupied = 0;
+        last = Long.MIN_VALUE;
+        size = 0;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private int bucketOf(long priority) {
+        return 64 - Long.numberOfLeadingZeros(priority ^ last);
+    }
+
+    // makes bucket 0 non-empty: finds the minimum of the lowest occupied
+    // bucket, makes it the new floor and redistributes that bucket below it
+    private void refill() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        if (!priorities[0].isEmpty()) {
+            return;
+        }
+        int b = Long.numberOfTrailingZeros(occupied) + 1;
+        LongArrayList fromPriorities = priorities[b];
+        IntArrayList fromValues = values[b];
+        int n = fromPriorities.size();
+        long min = fromPriorities.get(0);
+        for (int i = 1; i < n; i++) {
+            min = Math.min(min, fromPriorities.get(i));
+        }
+        last = min;
+        for (int i = 0; i < n; i++) {
+            long priority = fromPriorities.get(i);
+            int to = bucketOf(priority);            // always below b
+            priorities[to].add(priority);
+            values[to].add(fromValues.get(i));
+            if (to > 0) {
+                occupied |= 1L << (to - 1);
+            }
+        }
+        fromPriorities.clear();
+        fromValues.clear();
+        occupied &= ~(1L << (b - 1));
+    }
+}
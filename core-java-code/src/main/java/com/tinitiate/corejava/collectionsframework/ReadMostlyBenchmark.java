@@ -0,0 +1,185 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework ReadMostly Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Read Mostly Benchmark
+ * ---------------------
+ * Throughput of shared lookup structures under a sweep of read / write
+ * mixes (100%, 99%, 90% and 50% reads) and thread counts (1, 4, 16 and 64
+ * by default, or the counts given as arguments), in millions of operations
+ * per second:
+ *
+ * - maps of 100,000 Integer keys: Hashtable against StripedHashtable, with
+ *   ConcurrentHashMap for reference; a read is get(), a write put() of an
+ *   existing key
+ * - lists of 100,000 elements: Vector and Collections.synchronizedList
+ *   against SegmentedVector; a read is get(i), a write set(i, value)
+ *
+ * Keys and indexes are uniform, and every thread works through the same
+ * precomputed pattern from its own starting point. Locking costs grow with
+ * the number of cores that actually run at once; with fewer cores than
+ * threads the threads mostly take turns, and the gaps shrink.
+ */
+public class ReadMostlyBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int OPS_PER_THREAD = 200_000;
+    private static final int PATTERN = 1 << 20;
+    private static final int WARMUP = 2;
+    private static final int ROUNDS = 3;
+
+    static volatile long sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] threadCounts = {1, 4, 16, 64};
+        if (args.length > 0) {
+            threadCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                threadCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+        Integer[] boxed = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            boxed[i] = i;
+        }
+        int[] keys = new Random(42).ints(PATTERN, 0, SIZE).toArray();
+        System.out.printf("%d cores%n", Runtime.getRuntime().availableProcessors());
+
+        for (int readPercent : new int[] {100, 99, 90, 50}) {
+            boolean[] writes = new boolean[PATTERN];
+            Random random = new Random(readPercent);
+            for (int i = 0; i < PATTERN; i++) {
+                writes[i] = random.nextInt(100) >= readPercent;
+            }
+            for (int threads : threadCounts) {
+                System.out.printf("--- %d%% reads, %d threads%n", readPercent, threads);
+                run("Hashtable              ", threads, keys, writes,
+                    () -> mapAccess(fill(new Hashtable<>(), boxed), boxed));
+                run("StripedHashtable       ", threads, keys, writes,
+                    () -> mapAccess(fill(new StripedHashtable<>(), boxed), boxed));
+                run("ConcurrentHashMap      ", threads, keys, writes,
+                    () -> mapAccess(fill(new ConcurrentHashMap<>(), boxed), boxed));
+                run("Vector                 ", threads, keys, writes,
+                    () -> listAccess(fill(new Vector<>(), boxed), boxed));
+                run("synchronizedList       ", threads, keys, writes,
+                    () -> listAccess(fill(Collections.synchronizedList(new ArrayList<>()), boxed), boxed));
+                run("SegmentedVector        ", threads, keys, writes,
+                    () -> listAccess(fill(new SegmentedVector<>(), boxed), boxed));
+            }
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    /** One structure under test: a read and a write of the entry for key. */
+    private interface Access {
+        int read(int key);
+
+        void write(int key);
+    }
+
+    private static <M extends Map<Integer, Integer>> M fill(M map, Integer[] boxed) {
+        for (Integer key : boxed) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private static <L extends List<Integer>> L fill(L list, Integer[] boxed) {
+        Collections.addAll(list, boxed);
+        return list;
+    }
+
+    private static Access mapAccess(Map<Integer, Integer> map, Integer[] boxed) {
+        return new Access() {
+            @Override
+            public int read(int key) {
+                return map.get(boxed[key]);
+            }
+
+            @Override
+            public void write(int key) {
+                map.put(boxed[key], boxed[key]);
+            }
+        };
+    }
+
+    private static Access listAccess(List<Integer> list, Integer[] boxed) {
+        return new Access() {
+            @Override
+            public int read(int key) {
+                return list.get(key);
+            }
+
+            @Override
+            public void write(int key) {
+                list.set(key, boxed[key]);
+            }
+        };
+    }
+
+    private static void run(String label, int threads, int[] keys, boolean[] writes, Supplier<Access> factory)
+            throws InterruptedException {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP + ROUNDS; round++) {
+            Access access = factory.get();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            long[] sums = new long[threads];
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                Thread worker = new Thread(() -> {
+                    int mask = PATTERN - 1;
+                    int at = id * 7919;
+                    long sum = 0;
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < OPS_PER_THREAD; i++) {
+                        int slot = (at + i) & mask;
+                        if (writes[slot]) {
+                            access.write(keys[slot]);
+                        } else {
+                            sum += access.read(keys[slot]);
+                        }
+                    }
+                    sums[id] = sum;
+                    done.countDown();
+                });
+                worker.start();
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - begin;
+            for (long sum : sums) {
+                sink += sum;
+            }
+            if (round >= WARMUP) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        double opsPerSecond = (double) threads * OPS_PER_THREAD / best * 1e9;
+        System.out.printf("%s : %8.2f M ops/s%n", label, opsPerSecond / 1e6);
+    }
+}
@@ -0,0 +1,255 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework RingBuffer
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Ring Buffer
+ * -----------
+ * Common base of the bounded lock-free queues SpscRingBuffer,
+ * MpscRingBuffer and MpmcRingBuffer. These replace a synchronized ArrayDeque
+ * (see DequeExample) as the hand-off between pipeline threads.
+ *
+ * Each buffer is an array whose length is a power of two, so a running
+ * 64-bit index maps to a slot with a mask. The producer index and the
+ * consumer index are written by different threads, and each sits on its
+ * own padded cache line. A producer bumping its index therefore never
+ * invalidates the line the consumer is polling.
+ *
+ * offer / poll never block. put / take wait with the buffer's WaitStrategy,
+ * and drain(consumer, limit) hands over a batch with one index update.
+ * Null elements are not allowed.
+ *
+ *     RingBuffer<String> jobs = new MpscRingBuffer<>(1024, RingBuffer.WaitStrategy.PARK);
+ *     jobs.put("resize image 17");                  // from any number of threads
+ *     jobs.drain(job -> System.out.println(job), 64);   // from the one consumer
+ */
+public abstract class RingBuffer<E> extends RingBufferConsumerPad {
+
+    static final VarHandle PRODUCER_INDEX;
+    static final VarHandle PRODUCER_LIMIT;
+    static final VarHandle CONSUMER_INDEX;
+    static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(RingBufferProducerFields.class, "producerIndex", long.class);
+            PRODUCER_LIMIT = lookup.findVarHandle(RingBufferProducerFields.class, "producerLimit", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(RingBufferConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    final Object[] buffer;
+    final int mask;
+    final WaitStrategy waitStrategy;
+
+    /**
+     * @param capacity     requested capacity, rounded up to a power of two
+     * @param waitStrategy how put and take wait for room or for an element
+     */
+    RingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy must not be null");
+        }
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+        this.producerLimit = size;
+    }
+
+    // ---------------------------------------------------------------- queue operations
+
+    /** Adds e if there is room; never blocks. */
+    public abstract boolean offer(E e);
+
+    /** Removes the oldest element, or returns null when there is none; never blocks. */
+    public abstract E poll();
+
+    /**
+     * Removes up to limit elements and passes them to consumer in order,
+     * stopping early when the buffer is empty. If consumer throws, the
+     * element it was given counts as removed.
+     *
+     * @return the number of elements removed
+     */
+    public abstract int drain(Consumer<? super E> consumer, int limit);
+
+    /** Adds e, waiting with the wait strategy while the buffer is full. */
+    public void put(E e) throws InterruptedException {
+        for (int idle = 0; !offer(e); ) {
+            idle = waitStrategy.idle(idle);
+        }
+    }
+
+    /** Removes the oldest element, waiting with the wait strategy while there is none. */
+    public E take() throws InterruptedException {
+        E e;
+        for (int idle = 0; (e = poll()) == null; ) {
+            idle = waitStrategy.idle(idle);
+        }
+        return e;
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * The number of elements, read from the two indices without locking;
+     * exact only while no other thread is using the buffer.
+     */
+    public int size() {
+        long after = consumerIndex;
+        while (true) {
+            long before = after;
+            long produced = producerIndex;
+            after = consumerIndex;
+            if (before == after) {
+                return (int) Math.min(Math.max(produced - after, 0), buffer.length);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size() + ", capacity=" + capacity()
+                + ", waitStrategy=" + waitStrategy + "]";
+    }
+
+    // ---------------------------------------------------------------- shared helpers
+
+    final int slot(long index) {
+        return (int) index & mask;
+    }
+
+    // waits out a producer that has claimed a slot but not yet written it
+    @SuppressWarnings("unchecked")
+    final E awaitElement(int slot) {
+        E e;
+        for (int spins = 0; (e = (E) ELEMENTS.getAcquire(buffer, slot)) == null; spins++) {
+            if (spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        return e;
+    }
+
+    /**
+     * Wait Strategy
+     * -------------
+     * What put and take do between attempts. SPIN burns a core for the
+     * lowest hand-off latency; use it only when every waiting thread has a
+     * core of its own, or the spinner starves the thread it waits for.
+     * YIELD spins briefly, then gives the core to other threads. PARK spins,
+     * yields, then sleeps in short naps and costs almost no CPU while idle,
+     * at tens of microseconds of extra latency.
+     * All three notice interruption.
+     */
+    public enum WaitStrategy {
+        SPIN {
+            @Override
+            int idle(int attempt) throws InterruptedException {
+                Thread.onSpinWait();
+                if ((attempt & 0x3FF) == 0x3FF) {
+                    checkInterrupt();
+                }
+                return (attempt + 1) & 0x3FF;
+            }
+        },
+        YIELD {
+            @Override
+            int idle(int attempt) throws InterruptedException {
+                if (attempt < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                    checkInterrupt();
+                }
+                return Math.min(attempt + 1, SPINS);
+            }
+        },
+        PARK {
+            @Override
+            int idle(int attempt) throws InterruptedException {
+                if (attempt < SPINS) {
+                    Thread.onSpinWait();
+                } else if (attempt < SPINS + YIELDS) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+                checkInterrupt();
+                return Math.min(attempt + 1, SPINS + YIELDS);
+            }
+        };
+
+        private static final int SPINS = 100;
+        private static final int YIELDS = 100;
+        private static final long PARK_NANOS = 20_000;
+
+        /** Waits once; attempt counts the waits so far and the result is the next count. */
+        abstract int idle(int attempt) throws InterruptedException;
+
+        private static void checkInterrupt() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
+
+// The classes below only lay out the two indices. A JVM places superclass
+// fields before subclass fields, so the padding fields keep producerIndex
+// and consumerIndex 128 bytes apart, beyond adjacent-line prefetch.
+
+abstract class RingBufferProducerPad {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class RingBufferProducerFields extends RingBufferProducerPad {
+    volatile long producerIndex;
+    long producerLimit;                 // cached consumerIndex + capacity
+}
+
+abstract class RingBufferMiddlePad extends RingBufferProducerFields {
+    long m00, m01, m02, m03, m04, m05, m06, m07;
+    long m10, m11, m12, m13, m14, m15, m16, m17;
+}
+
+abstract class RingBufferConsumerFields extends RingBufferMiddlePad {
+    volatile long consumerIndex;
+}
+
+abstract class RingBufferConsumerPad extends RingBufferConsumerFields {
+    long c00, c01, c02, c03, c04, c05, c06, c07;
+    long c10, c11, c12, c13, c14, c15, c16, c17;
+}
@@ -0,0 +1,286 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework RingBuffer Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Ring Buffer Benchmark
+ * ---------------------
+ * ArrayBlockingQueue and ConcurrentLinkedQueue against SpscRingBuffer,
+ * MpscRingBuffer and MpmcRingBuffer (capacity 1024, YIELD wait strategy):
+ *
+ * - throughput: 4,000,000 messages through 1 producer / 1 consumer,
+ *   3 producers / 1 consumer and 2 producers / 2 consumers, in millions of
+ *   messages per second; each queue runs only in the shapes it supports.
+ *   Consumers take one message per poll(); the ring buffers run a second
+ *   time with consumers that take batches of up to 256 through drain().
+ * - latency: 200,000 time-stamped messages from 1 producer to 1 consumer,
+ *   sent every 20 microseconds (the producer yields while it waits for the
+ *   next send time); the consumer records how long each spent
+ *   in flight. Percentiles are exact; the histogram counts messages per
+ *   power-of-two bucket of nanoseconds.
+ *
+ * Results depend heavily on the number of cores. With fewer cores than
+ * threads, every hand-off waits for the scheduler.
+ */
+public class RingBufferBenchmark {
+
+    private static final int WARMUP = 2;
+    private static final int ROUNDS = 3;
+    private static final int CAPACITY = 1024;
+    private static final int MESSAGES = 4_000_000;
+    private static final int BATCH = 256;
+    private static final int LATENCY_MESSAGES = 200_000;
+    private static final long SEND_INTERVAL_NANOS = 20_000;
+    private static final Object MESSAGE = "message";
+    private static final Object STOP = "stop";
+
+    static long sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.printf("--- throughput, %d cores%n", Runtime.getRuntime().availableProcessors());
+        int[][] shapes = {{1, 1}, {3, 1}, {2, 2}};
+        for (int[] shape : shapes) {
+            int producers = shape[0];
+            int consumers = shape[1];
+            System.out.printf("%d producer(s), %d consumer(s)%n", producers, consumers);
+            throughput("ArrayBlockingQueue   ", producers, consumers, false,
+                       () -> Channel.of(new ArrayBlockingQueue<>(CAPACITY)));
+            throughput("ConcurrentLinkedQueue", producers, consumers, false,
+                       () -> Channel.of(new ConcurrentLinkedQueue<>()));
+            for (boolean batched : new boolean[] {false, true}) {
+                if (producers == 1 && consumers == 1) {
+                    throughput(batched ? "SpscRingBuffer drain " : "SpscRingBuffer       ", producers, consumers,
+                               batched, () -> Channel.of(new SpscRingBuffer<>(CAPACITY)));
+                }
+                if (consumers == 1) {
+                    throughput(batched ? "MpscRingBuffer drain " : "MpscRingBuffer       ", producers, consumers,
+                               batched, () -> Channel.of(new MpscRingBuffer<>(CAPACITY)));
+                }
+                throughput(batched ? "MpmcRingBuffer drain " : "MpmcRingBuffer       ", producers, consumers,
+                           batched, () -> Channel.of(new MpmcRingBuffer<>(CAPACITY)));
+            }
+        }
+
+        System.out.printf("--- latency, 1 producer, 1 consumer, one message every %d us%n",
+                          SEND_INTERVAL_NANOS / 1000);
+        latency("ArrayBlockingQueue   ", Channel.of(new ArrayBlockingQueue<>(CAPACITY)));
+        latency("ConcurrentLinkedQueue", Channel.of(new ConcurrentLinkedQueue<>()));
+        latency("SpscRingBuffer       ", Channel.of(new SpscRingBuffer<>(CAPACITY)));
+        latency("MpscRingBuffer       ", Channel.of(new MpscRingBuffer<>(CAPACITY)));
+        latency("MpmcRingBuffer       ", Channel.of(new MpmcRingBuffer<>(CAPACITY)));
+        System.out.println("sink=" + sink);
+    }
+
+    // ---------------------------------------------------------------- throughput
+
+    private static void throughput(String label, int producers, int consumers, boolean batched,
+                                   Supplier<Channel> factory) throws InterruptedException {
+        int perProducer = MESSAGES / producers;
+        long total = (long) perProducer * producers;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP + ROUNDS; round++) {
+            Channel channel = factory.get();
+            AtomicInteger producing = new AtomicInteger(producers);
+            AtomicLong received = new AtomicLong();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(consumers);
+            for (int p = 0; p < producers; p++) {
+                startThread(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        channel.send(MESSAGE);
+                    }
+                    // the last producer to finish tells every consumer to stop
+                    if (producing.decrementAndGet() == 0) {
+                        for (int c = 0; c < consumers; c++) {
+                            channel.send(STOP);
+                        }
+                    }
+                });
+            }
+            for (int c = 0; c < consumers; c++) {
+                startThread(() -> {
+                    start.await();
+                    received.addAndGet(batched ? drainUntilStop(channel) : pollUntilStop(channel));
+                    done.countDown();
+                });
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - begin;
+            if (received.get() != total) {
+                throw new IllegalStateException(label + " lost messages: " + received.get() + " of " + total);
+            }
+            sink += received.get();
+            if (round >= WARMUP) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        System.out.printf("  %s : %7.2f M msgs/s%n", label, total / (best / 1e9) / 1e6);
+    }
+
+    private static long pollUntilStop(Channel channel) {
+        long received = 0;
+        for (Object message; (message = channel.poll()) != STOP; ) {
+            if (message != null) {
+                received++;
+            } else {
+                Thread.yield();
+            }
+        }
+        return received;
+    }
+
+    private static long drainUntilStop(Channel channel) throws InterruptedException {
+        long[] counts = new long[2];        // messages, stops
+        Consumer<Object> count = message -> counts[message == STOP ? 1 : 0]++;
+        while (counts[1] == 0) {
+            if (channel.drain(count, BATCH) == 0) {
+                Thread.yield();
+            }
+        }
+        // a batch may have taken another consumer's stop as well: hand it back
+        for (long extra = counts[1] - 1; extra > 0; extra--) {
+            channel.send(STOP);
+        }
+        return counts[0];
+    }
+
+    // ---------------------------------------------------------------- latency
+
+    private static void latency(String label, Channel channel) throws InterruptedException {
+        long[] latencies = new long[LATENCY_MESSAGES];
+        for (int round = 0; round < WARMUP + 1; round++) {
+            CountDownLatch done = new CountDownLatch(2);
+            startThread(() -> {
+                long next = System.nanoTime();
+                for (int i = 0; i < LATENCY_MESSAGES; i++) {
+                    while (System.nanoTime() < next) {
+                        Thread.yield();
+                    }
+                    channel.send(new long[] {System.nanoTime()});
+                    next += SEND_INTERVAL_NANOS;
+                }
+                done.countDown();
+            });
+            startThread(() -> {
+                for (int i = 0; i < LATENCY_MESSAGES; ) {
+                    Object message = channel.poll();
+                    if (message == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    latencies[i++] = System.nanoTime() - ((long[]) message)[0];
+                }
+                done.countDown();
+            });
+            done.await();
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("  %s : p50 %,9d  p90 %,9d  p99 %,10d  p99.9 %,10d  max %,11d ns%n", label,
+                          percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                          percentile(sorted, 0.999), sorted[sorted.length - 1]);
+        int[] buckets = new int[64];
+        for (long nanos : latencies) {
+            buckets[63 - Long.numberOfLeadingZeros(Math.max(1, nanos))]++;
+        }
+        StringBuilder histogram = new StringBuilder("      ");
+        for (int b = 0; b < buckets.length; b++) {
+            if (buckets[b] > 0) {
+                histogram.append(String.format("<%dns:%d  ", 2L << b, buckets[b]));
+            }
+        }
+        System.out.println(histogram);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)];
+    }
+
+    // ---------------------------------------------------------------- plumbing
+
+    private interface Task {
+        void run() throws InterruptedException;
+    }
+
+    private static void startThread(Task task) {
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** The producer and consumer side of each queue under test. */
+    private interface Channel {
+        void send(Object message) throws InterruptedException;
+
+        Object poll();
+
+        default int drain(Consumer<Object> consumer, int limit) {
+            throw new UnsupportedOperationException("no batch consumer");
+        }
+
+        static Channel of(ArrayBlockingQueue<Object> queue) {
+            return new Channel() {
+                public void send(Object message) throws InterruptedException {
+                    queue.put(message);
+                }
+
+                public Object poll() {
+                    return queue.poll();
+                }
+            };
+        }
+
+        static Channel of(ConcurrentLinkedQueue<Object> queue) {
+            return new Channel() {
+                public void send(Object message) {
+                    queue.offer(message);
+                }
+
+                public Object poll() {
+                    return queue.poll();
+                }
+            };
+        }
+
+        static Channel of(RingBuffer<Object> buffer) {
+            return new Channel() {
+                public void send(Object message) throws InterruptedException {
+                    buffer.put(message);
+                }
+
+                public Object poll() {
+                    return buffer.poll();
+                }
+
+                public int drain(Consumer<Object> consumer, int limit) {
+                    return buffer.drain(consumer, limit);
+                }
+            };
+        }
+    }
+}
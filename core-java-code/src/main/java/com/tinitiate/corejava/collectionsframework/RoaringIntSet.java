@@ -0,0 +1,776 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework RoaringIntSet
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Roaring Int Set
+ * ---------------
+ * A compressed set of ints in the layout of Roaring bitmaps. Values are
+ * split by their upper 16 bits into chunks of 65,536. Each non-empty chunk
+ * keeps its lower 16 bits in a container of one of two kinds:
+ *
+ * - array container: a sorted char[] of up to 4,096 values, 2 bytes each
+ * - bitmap container: 1,024 longs (8 KB), one bit per value of the chunk
+ *
+ * A chunk switches kinds as it crosses 4,096 values, which is where the
+ * two cost the same. Sparse chunks pay 2 bytes a value and dense ones a
+ * fixed 8 KB, so the set stays small whatever the spread. Union,
+ * intersection and difference work chunk by chunk, merging arrays or
+ * combining bitmap words. andCardinality counts an intersection without
+ * building it.
+ *
+ * Values iterate in ascending (signed) order.
+ *
+ *     RoaringIntSet monday = RoaringIntSet.of(101, 102, 70_000, 70_001);
+ *     RoaringIntSet tuesday = RoaringIntSet.of(102, 70_001, 900_000);
+ *     System.out.println(RoaringIntSet.and(monday, tuesday));          // [102, 70001]
+ *     System.out.println(monday.andCardinality(tuesday));              // 2
+ *
+ * Not thread-safe.
+ */
+public class RoaringIntSet implements IntSet {
+
+    /** Largest array container; past this a bitmap container is smaller. */
+    static final int ARRAY_MAX = 4096;
+
+    private static final char[] NO_KEYS = {};
+    private static final Container[] NO_CONTAINERS = {};
+
+    private char[] keys = NO_KEYS;                  // sorted chunk keys
+    private Container[] containers = NO_CONTAINERS;
+    private int chunks;                             // keys / containers in use
+    private int size;
+    private int modCount;
+
+    public RoaringIntSet() {
+    }
+
+    public static RoaringIntSet of(int... values) {
+        RoaringIntSet set = new RoaringIntSet();
+        set.addAll(values);
+        return set;
+    }
+
+    public RoaringIntSet copy() {
+        RoaringIntSet copy = new RoaringIntSet();
+        copy.keys = Arrays.copyOf(keys, chunks);
+        copy.containers = new Container[chunks];
+        for (int i = 0; i < chunks; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.chunks = chunks;
+        copy.size = size;
+        return copy;
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        int i = indexOf(key(value));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public int min() {
+        if (chunks == 0) {
+            throw new NoSuchElementException();
+        }
+        return containers[0].first(high(keys[0]));
+    }
+
+    public int max() {
+        if (chunks == 0) {
+            throw new NoSuchElementException();
+        }
+        return containers[chunks - 1].last(high(keys[chunks - 1]));
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    @Override
+    public boolean add(int value) {
+        char key = key(value);
+        int i = indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertChunk(i, key, new ArrayContainer());
+        }
+        Container container = containers[i];
+        int before = container.cardinality;
+        containers[i] = container.add((char) value);
+        if (containers[i].cardinality == before) {
+            return false;
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int value) {
+        int i = indexOf(key(value));
+        if (i < 0) {
+            return false;
+        }
+        Container container = containers[i];
+        int before = container.cardinality;
+        Container after = container.remove((char) value);
+        if (after.cardinality == before) {
+            return false;
+        }
+        if (after.cardinality == 0) {
+            removeChunk(i);
+        } else {
+            containers[i] = after;
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        keys = NO_KEYS;
+        containers = NO_CONTAINERS;
+        chunks = 0;
+        size = 0;
+        modCount++;
+    }
+
+    // ---------------------------------------------------------------- set algebra
+
+    /** Adds every value of other. */
+    public void or(RoaringIntSet other) {
+        replaceWith(or(this, other));
+    }
+
+    /** Keeps only the values that are also in other. */
+    public void and(RoaringIntSet other) {
+        replaceWith(and(this, other));
+    }
+
+    /** Removes every value of other. */
+    public void andNot(RoaringIntSet other) {
+        replaceWith(andNot(this, other));
+    }
+
+    /** The size of the intersection, without building it. */
+    public int andCardinality(RoaringIntSet other) {
+        int count = 0;
+        for (int i = 0, j = 0; i < chunks && j < other.chunks; ) {
+            int c = Character.compare(keys[i], other.keys[j]);
+            if (c < 0) {
+                i++;
+            } else if (c > 0) {
+                j++;
+            } else {
+                count += containers[i++].andCardinality(other.containers[j++]);
+            }
+        }
+        return count;
+    }
+
+    public static RoaringIntSet or(RoaringIntSet a, RoaringIntSet b) {
+        RoaringIntSet result = new RoaringIntSet();
+        result.keys = new char[a.chunks + b.chunks];
+        result.containers = new Container[a.chunks + b.chunks];
+        int i = 0;
+        int j = 0;
+        while (i < a.chunks || j < b.chunks) {
+            int c = i == a.chunks ? 1 : j == b.chunks ? -1 : Character.compare(a.keys[i], b.keys[j]);
+            if (c < 0) {
+                result.appendChunk(a.keys[i], a.containers[i++].copy());
+            } else if (c > 0) {
+                result.appendChunk(b.keys[j], b.containers[j++].copy());
+            } else {
+                result.appendChunk(a.keys[i], a.containers[i++].or(b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    public static RoaringIntSet and(RoaringIntSet a, RoaringIntSet b) {
+        RoaringIntSet result = new RoaringIntSet();
+        result.keys = new char[Math.min(a.chunks, b.chunks)];
+        result.containers = new Container[result.keys.length];
+        for (int i = 0, j = 0; i < a.chunks && j < b.chunks; ) {
+            int c = Character.compare(a.keys[i], b.keys[j]);
+            if (c < 0) {
+                i++;
+            } else if (c > 0) {
+                j++;
+            } else {
+                result.appendChunk(a.keys[i], a.containers[i++].and(b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    public static RoaringIntSet andNot(RoaringIntSet a, RoaringIntSet b) {
+        RoaringIntSet result = new RoaringIntSet();
+        result.keys = new char[a.chunks];
+        result.containers = new Container[a.chunks];
+        for (int i = 0, j = 0; i < a.chunks; ) {
+            int c = j == b.chunks ? -1 : Character.compare(a.keys[i], b.keys[j]);
+            if (c < 0) {
+                result.appendChunk(a.keys[i], a.containers[i++].copy());
+            } else if (c > 0) {
+                j++;
+            } else {
+                result.appendChunk(a.keys[i], a.containers[i++].andNot(b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    /** Visits every value in ascending order. The set must not be changed during the walk. */
+    @Override
+    public void forEach(IntConsumer action) {
+        int expected = modCount;
+        for (int i = 0; i < chunks; i++) {
+            containers[i].forEach(high(keys[i]), action);
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < chunks; i++) {
+            n = containers[i].fill(high(keys[i]), result, n);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return IntSet.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return IntSet.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return IntSet.toString(this);
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    /** Bytes a chunk of this many values takes: its container plus its key and slot. */
+    static long chunkBytes(int cardinality) {
+        return 40 + (cardinality <= ARRAY_MAX ? 2L * cardinality : 8192);
+    }
+
+    /** Bytes the containers take, as estimated by chunkBytes. */
+    long bytes() {
+        long bytes = 0;
+        for (int i = 0; i < chunks; i++) {
+            bytes += chunkBytes(containers[i].cardinality);
+        }
+        return bytes;
+    }
+
+    // the upper 16 bits with the sign flipped, so that chunks sort in signed order
+    static char key(int value) {
+        return (char) ((value ^ Integer.MIN_VALUE) >>> 16);
+    }
+
+    private static int high(char key) {
+        return (key << 16) ^ Integer.MIN_VALUE;
+    }
+
+    private int indexOf(char key) {
+        // values often arrive in order, so try the last chunk first
+        if (chunks > 0 && keys[chunks - 1] == key) {
+            return chunks - 1;
+        }
+        return Arrays.binarySearch(keys, 0, chunks, key);
+    }
+
+    private void insertChunk(int i, char key, Container container) {
+        if (chunks == keys.length) {
+            int capacity = Math.max(4, chunks + (chunks >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, chunks - i);
+        System.arraycopy(containers, i, containers, i + 1, chunks - i);
+        keys[i] = key;
+        containers[i] = container;
+        chunks++;
+    }
+
+    private void removeChunk(int i) {
+        System.arraycopy(keys, i + 1, keys, i, chunks - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, chunks - i - 1);
+        containers[--chunks] = null;
+    }
+
+    // used while building a result in key order, into arrays sized for it
+    private void appendChunk(char key, Container container) {
+        if (container.cardinality > 0) {
+            keys[chunks] = key;
+            containers[chunks++] = container;
+            size += container.cardinality;
+        }
+    }
+
+    private void replaceWith(RoaringIntSet result) {
+        keys = result.keys;
+        containers = result.containers;
+        chunks = result.chunks;
+        size = result.size;
+        modCount++;
+    }
+
+    /**
+     * The lower 16 bits of the values of one chunk. add and remove return
+     * the container to keep in the chunk, which is a new one when the
+     * kind changes. The set operations return new containers and leave
+     * their inputs alone.
+     */
+    private abstract static class Container {
+
+        int cardinality;
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract Container or(Container other);
+
+        abstract Container and(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract int first(int high);
+
+        abstract int last(int high);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract int fill(int high, int[] out, int offset);
+
+        abstract Container copy();
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        char[] values;
+
+        ArrayContainer() {
+            values = new char[4];
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            // in-order inserts append without a search
+            int i = cardinality > 0 && values[cardinality - 1] < low
+                    ? -cardinality - 1 : Arrays.binarySearch(values, 0, cardinality, low);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality + (cardinality >> 1))));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int i = Arrays.binarySearch(values, 0, cardinality, low);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer that = (ArrayContainer) other;
+            if (cardinality + that.cardinality > ARRAY_MAX) {
+                BitmapContainer bitmap = toBitmap();
+                for (int j = 0; j < that.cardinality; j++) {
+                    bitmap.set(that.values[j]);
+                }
+                return bitmap.cardinality > ARRAY_MAX ? bitmap : bitmap.toArray();
+            }
+            char[] merged = new char[cardinality + that.cardinality];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < that.cardinality) {
+                char a = values[i];
+                char b = that.values[j];
+                if (a <= b) {
+                    merged[n++] = a;
+                    i++;
+                    if (a == b) {
+                        j++;
+                    }
+                } else {
+                    merged[n++] = b;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                merged[n++] = values[i++];
+            }
+            while (j < that.cardinality) {
+                merged[n++] = that.values[j++];
+            }
+            return trimmed(merged, n);
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] common = new char[cardinality];
+            int n = 0;
+            if (other instanceof BitmapContainer) {
+                BitmapContainer bitmap = (BitmapContainer) other;
+                for (int i = 0; i < cardinality; i++) {
+                    if (bitmap.contains(values[i])) {
+                        common[n++] = values[i];
+                    }
+                }
+            } else {
+                ArrayContainer that = (ArrayContainer) other;
+                for (int i = 0, j = 0; i < cardinality && j < that.cardinality; ) {
+                    char a = values[i];
+                    char b = that.values[j];
+                    if (a < b) {
+                        i++;
+                    } else if (a > b) {
+                        j++;
+                    } else {
+                        common[n++] = a;
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            return trimmed(common, n);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] rest = new char[cardinality];
+            int n = 0;
+            if (other instanceof BitmapContainer) {
+                BitmapContainer bitmap = (BitmapContainer) other;
+                for (int i = 0; i < cardinality; i++) {
+                    if (!bitmap.contains(values[i])) {
+                        rest[n++] = values[i];
+                    }
+                }
+            } else {
+                ArrayContainer that = (ArrayContainer) other;
+                int j = 0;
+                for (int i = 0; i < cardinality; i++) {
+                    char a = values[i];
+                    while (j < that.cardinality && that.values[j] < a) {
+                        j++;
+                    }
+                    if (j == that.cardinality || that.values[j] != a) {
+                        rest[n++] = a;
+                    }
+                }
+            }
+            return trimmed(rest, n);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof BitmapContainer) {
+                BitmapContainer bitmap = (BitmapContainer) other;
+                for (int i = 0; i < cardinality; i++) {
+                    if (bitmap.contains(values[i])) {
+                        count++;
+                    }
+                }
+            } else {
+                ArrayContainer that = (ArrayContainer) other;
+                for (int i = 0, j = 0; i < cardinality && j < that.cardinality; ) {
+                    char a = values[i];
+                    char b = that.values[j];
+                    if (a < b) {
+                        i++;
+                    } else if (a > b) {
+                        j++;
+                    } else {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        int first(int high) {
+            return high | values[0];
+        }
+
+        @Override
+        int last(int high) {
+            return high | values[cardinality - 1];
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        int fill(int high, int[] out, int offset) {
+            for (int i = 0; i < cardinality; i++) {
+                out[offset++] = high | values[i];
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        // drops the unused tail when a result came out much smaller than its worst case
+        static ArrayContainer trimmed(char[] values, int cardinality) {
+            return new ArrayContainer(cardinality < values.length >> 1
+                    ? Arrays.copyOf(values, Math.max(cardinality, 1)) : values, cardinality);
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        final long[] words;
+
+        BitmapContainer() {
+            words = new long[1024];
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        // a container for the given words: a bitmap while it is large, else an array
+        static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality > ARRAY_MAX ? bitmap : bitmap.toArray();
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        void set(char low) {
+            long word = words[low >>> 6];
+            long bit = 1L << low;
+            if ((word & bit) == 0) {
+                words[low >>> 6] = word | bit;
+                cardinality++;
+            }
+        }
+
+        @Override
+        Container add(char low) {
+            set(low);
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            long word = words[low >>> 6];
+            long bit = 1L << low;
+            if ((word & bit) == 0) {
+                return this;
+            }
+            words[low >>> 6] = word & ~bit;
+            cardinality--;
+            return cardinality > ARRAY_MAX ? this : toArray();
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            if (other instanceof BitmapContainer) {
+                long[] those = ((BitmapContainer) other).words;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] |= those[i];
+                }
+            } else {
+                ArrayContainer that = (ArrayContainer) other;
+                for (int j = 0; j < that.cardinality; j++) {
+                    char low = that.values[j];
+                    result[low >>> 6] |= 1L << low;
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] those = ((BitmapContainer) other).words;
+            long[] result = new long[words.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = words[i] & those[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof BitmapContainer) {
+                long[] those = ((BitmapContainer) other).words;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] &= ~those[i];
+                }
+            } else {
+                ArrayContainer that = (ArrayContainer) other;
+                for (int j = 0; j < that.cardinality; j++) {
+                    char low = that.values[j];
+                    result[low >>> 6] &= ~(1L << low);
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+            long[] those = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                count += Long.bitCount(words[i] & those[i]);
+            }
+            return count;
+        }
+
+        @Override
+        int first(int high) {
+            int i = 0;
+            while (words[i] == 0) {
+                i++;
+            }
+            return high | (i << 6) + Long.numberOfTrailingZeros(words[i]);
+        }
+
+        @Override
+        int last(int high) {
+            int i = words.length - 1;
+            while (words[i] == 0) {
+                i--;
+            }
+            return high | (i << 6) + 63 - Long.numberOfLeadingZeros(words[i]);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(high | (i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        @Override
+        int fill(int high, int[] out, int offset) {
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    out[offset++] = high | (i << 6) + Long.numberOfTrailingZeros(word);
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int n = 0;
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values, n);
+        }
+    }
+}
@@ -0,0 +1,472 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework SegmentedVector
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Segmented Vector
+ * ----------------
+ * A thread-safe growable list for the Vector of VectorExample when it is
+ * read far more often than written. Vector synchronizes get() like every
+ * other method, so concurrent readers take turns on its monitor. Here a
+ * read takes no lock: it reads under a StampedLock optimistic stamp and
+ * only falls back to a read lock if a writer got in the way. Writers take
+ * the write lock, one at a time, as in Vector.
+ *
+ * The elements live in segments of 16, 32, 64, ... slots. Growing adds a
+ * segment instead of copying the array, so a reader racing a writer never
+ * reads from an array that has been replaced, and growth costs no copy.
+ *
+ * get, size and isEmpty read optimistically; searches, toArray and
+ * hashCode take the read lock, and equals compares a copy taken under it.
+ * forEach copies a segment at a time and runs the action outside the lock,
+ * so the action may write to the vector. Iterators are fail-fast on a
+ * best-effort basis, like Vector's, but lock only inside each get.
+ *
+ * addAll and removing a range (subList(from, to).clear()) are atomic, as in
+ * Vector. removeAll, retainAll, removeIf, replaceAll and sort are not: they
+ * come from AbstractList and change one element per lock.
+ *
+ *     SegmentedVector<String> routes = new SegmentedVector<>();
+ *     routes.add("/home");
+ *     routes.add("/login");
+ *     String first = routes.get(0);   // no lock taken unless a writer interferes
+ */
+public class SegmentedVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int FIRST_BITS = 4;                    // segment 0 holds 16 elements
+    private static final int MAX_SIZE = Integer.MAX_VALUE - (1 << FIRST_BITS);
+    private static final Object[][] NO_SEGMENTS = {};
+
+    private final StampedLock lock = new StampedLock();
+    private Object[][] segments = NO_SEGMENTS;                  // segment k holds 16 << k elements
+    private int size;
+
+    public SegmentedVector() {
+    }
+
+    // ---------------------------------------------------------------- reads
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int n = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return n;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[][] segments = this.segments;
+        int n = size;
+        Object element = null;
+        // fields read under an optimistic stamp may be mutually inconsistent, so check before use
+        if (index >= 0 && index < n) {
+            int segment = segmentOf(index);
+            Object[] slots = segment < segments.length ? segments[segment] : null;
+            element = slots == null ? null : slots[offsetOf(index)];
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = size;
+                element = index >= 0 && index < n ? slot(index) : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + n);
+        }
+        return (E) element;
+    }
+
+    public E firstElement() {
+        long stamp = lock.readLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            @SuppressWarnings("unchecked")
+            E first = (E) slot(0);
+            return first;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public E lastElement() {
+        long stamp = lock.readLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            @SuppressWarnings("unchecked")
+            E last = (E) slot(size - 1);
+            return last;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.readLock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(o, slot(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        long stamp = lock.readLock();
+        try {
+            for (int i = size - 1; i >= 0; i--) {
+                if (Objects.equals(o, slot(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            Object[] result = new Object[size];
+            for (int k = 0, copied = 0; copied < size; k++) {
+                int n = Math.min(segments[k].length, size - copied);
+                System.arraycopy(segments[k], 0, result, copied, n);
+                copied += n;
+            }
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        long stamp = lock.readLock();
+        try {
+            int hash = 1;
+            for (int i = 0; i < size; i++) {
+                hash = 31 * hash + Objects.hashCode(slot(i));
+            }
+            return hash;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Compares a copy of this vector, so o is never read under the lock. */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        Iterator<?> other = ((List<?>) o).iterator();
+        for (Object element : toArray()) {
+            if (!other.hasNext() || !Objects.equals(element, other.next())) {
+                return false;
+            }
+        }
+        return !other.hasNext();
+    }
+
+    /**
+     * Runs action on each element in order. A segment at a time is copied
+     * under the lock and handed to action outside it; elements added or
+     * removed meanwhile may or may not be seen.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        Object[] buffer = null;
+        for (int start = 0, k = 0; ; start += segmentLength(k), k++) {
+            int n;
+            long stamp = lock.readLock();
+            try {
+                n = Math.min(segmentLength(k), size - start);
+                if (n <= 0) {
+                    return;
+                }
+                if (buffer == null || buffer.length < n) {
+                    buffer = new Object[segmentLength(k)];
+                }
+                System.arraycopy(segments[k], 0, buffer, 0, n);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+            for (int i = 0; i < n; i++) {
+                action.accept((E) buffer[i]);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- writes
+
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index);
+            Object[] slots = segments[segmentOf(index)];
+            @SuppressWarnings("unchecked")
+            E old = (E) slots[offsetOf(index)];
+            slots[offsetOf(index)] = element;
+            return old;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(1);
+            segments[segmentOf(size)][offsetOf(size)] = element;
+            size++;
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Inserts element at index, moving the elements from index on up by one. */
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            ensureCapacity(1);
+            // from the top down, each segment shifts its part and takes the last
+            // element of the segment below into its first slot
+            int k = segmentOf(size);
+            int offset = offsetOf(size);
+            for (int remaining = size - index; remaining > 0; ) {
+                Object[] slots = segments[k];
+                int n = Math.min(remaining, offset);
+                System.arraycopy(slots, offset - n, slots, offset - n + 1, n);
+                remaining -= n;
+                if (remaining > 0) {
+                    Object[] below = segments[--k];
+                    slots[0] = below[below.length - 1];
+                    remaining--;
+                    offset = below.length - 1;
+                }
+            }
+            segments[segmentOf(index)][offsetOf(index)] = element;
+            size++;
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] added = c.toArray();       // before locking: c may be this vector
+        long stamp = lock.writeLock();
+        try {
+            return insert(size, added);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Inserts the elements of c at index, in c's order, moving the ones from index on up. */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Object[] added = c.toArray();
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return insert(index, added);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Removes the element at index, moving the ones after it down by one. */
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index);
+            @SuppressWarnings("unchecked")
+            E old = (E) slot(index);
+            // from the bottom up, each segment shifts its part and takes the first
+            // element of the segment above into its last slot
+            int k = segmentOf(index);
+            int offset = offsetOf(index);
+            for (int remaining = size - 1 - index; remaining > 0; ) {
+                Object[] slots = segments[k];
+                int n = Math.min(remaining, slots.length - 1 - offset);
+                System.arraycopy(slots, offset + 1, slots, offset, n);
+                remaining -= n;
+                if (remaining > 0) {
+                    Object[] above = segments[++k];
+                    slots[slots.length - 1] = above[0];
+                    remaining--;
+                    offset = 0;
+                }
+            }
+            size--;
+            segments[segmentOf(size)][offsetOf(size)] = null;
+            modCount++;
+            return old;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Removes [fromIndex, toIndex); subList(fromIndex, toIndex).clear() comes here. */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+            }
+            int n = toIndex - fromIndex;
+            if (n == 0) {
+                return;
+            }
+            for (int i = toIndex; i < size; i++) {
+                setSlot(i - n, slot(i));
+            }
+            for (int i = size - n; i < size; i++) {
+                setSlot(i, null);
+            }
+            size -= n;
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Empties the vector and releases its segments. */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            segments = NO_SEGMENTS;
+            size = 0;
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    // index + 16 has its top bit at FIRST_BITS + segment, and the bits below are the offset
+    private static int segmentOf(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + (1 << FIRST_BITS)) - FIRST_BITS;
+    }
+
+    private static int segmentLength(int segment) {
+        return 1 << (FIRST_BITS + segment);
+    }
+
+    private static int offsetOf(int index) {
+        int biased = index + (1 << FIRST_BITS);
+        return biased ^ Integer.highestOneBit(biased);
+    }
+
+    // caller holds the lock
+    private Object slot(int index) {
+        return segments[segmentOf(index)][offsetOf(index)];
+    }
+
+    // caller holds the write lock
+    private void setSlot(int index, Object element) {
+        segments[segmentOf(index)][offsetOf(index)] = element;
+    }
+
+    // caller holds the write lock; adds the segments that size + extra elements need
+    private void ensureCapacity(int extra) {
+        if (extra > MAX_SIZE - size) {
+            throw new IllegalStateException("SegmentedVector cannot hold more than " + MAX_SIZE + " elements");
+        }
+        int last = segmentOf(size + extra - 1);
+        if (last >= segments.length) {
+            Object[][] grown = Arrays.copyOf(segments, last + 1);
+            for (int k = segments.length; k <= last; k++) {
+                grown[k] = new Object[segmentLength(k)];
+            }
+            segments = grown;
+        }
+    }
+
+    // caller holds the write lock and has checked index
+    private boolean insert(int index, Object[] added) {
+        int n = added.length;
+        if (n == 0) {
+            return false;
+        }
+        ensureCapacity(n);
+        for (int i = size - 1; i >= index; i--) {
+            setSlot(i + n, slot(i));
+        }
+        for (int i = 0; i < n; i++) {
+            setSlot(index + i, added[i]);
+        }
+        size += n;
+        modCount++;
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
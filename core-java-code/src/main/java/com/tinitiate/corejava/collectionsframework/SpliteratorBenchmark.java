@@ -0,0 +1,116 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework Spliterator Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+
+/**
+ * Spliterator Benchmark
+ * ---------------------
+ * Iteration over 4,000,000 random ints, in nanoseconds per element:
+ *
+ * - sequential: ArrayList<Integer> iterator, IntArrayList forEach, a
+ *   snapshotIterator one element at a time and in 1,024-element batches
+ * - parallel: ArrayList<Integer>.parallelStream() against
+ *   IntArrayList.parallelStream() in ForkJoinPools of 1, 2, 4 and 8
+ *   threads, mapping every element through a few rounds of integer mixing
+ *   so that there is work to share out
+ *
+ * Parallel speed-up is capped by the number of cores; the cores the JVM
+ * sees are printed first.
+ */
+public class SpliteratorBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final int SIZE = 4_000_000;
+
+    static long sink;
+
+    public static void main(String[] args) throws Exception {
+        int[] values = new Random(7).ints(SIZE).toArray();
+        ArrayList<Integer> boxed = new ArrayList<>(SIZE);
+        IntArrayList list = new IntArrayList(SIZE);
+        for (int value : values) {
+            boxed.add(value);
+            list.add(value);
+        }
+        System.out.printf("%d cores, %,d elements%n", Runtime.getRuntime().availableProcessors(), SIZE);
+
+        System.out.println("--- sequential sum");
+        run("ArrayList<Integer> iterator", () -> {
+            long sum = 0;
+            for (Iterator<Integer> it = boxed.iterator(); it.hasNext(); ) {
+                sum += it.next();
+            }
+            return sum;
+        });
+        run("IntArrayList forEach       ", () -> {
+            long[] sum = {0};
+            list.forEach(value -> sum[0] += value);
+            return sum[0];
+        });
+        run("snapshotIterator nextInt   ", () -> {
+            long sum = 0;
+            for (IntArrayList.SnapshotIterator it = list.snapshotIterator(); it.hasNext(); ) {
+                sum += it.nextInt();
+            }
+            return sum;
+        });
+        run("snapshotIterator nextBatch ", () -> {
+            long sum = 0;
+            int[] batch = new int[1024];
+            IntArrayList.SnapshotIterator it = list.snapshotIterator();
+            for (int n; (n = it.nextBatch(batch)) > 0; ) {
+                for (int i = 0; i < n; i++) {
+                    sum += batch[i];
+                }
+            }
+            return sum;
+        });
+
+        System.out.println("--- parallel stream, mixed sum");
+        for (int threads : new int[] {1, 2, 4, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            run(String.format("ArrayList<Integer>  %d threads", threads),
+                () -> pool.submit(() -> boxed.parallelStream().mapToLong(SpliteratorBenchmark::mix).sum()).join());
+            run(String.format("IntArrayList        %d threads", threads),
+                () -> pool.submit(() -> list.parallelStream().asLongStream().map(SpliteratorBenchmark::mix).sum()).join());
+            pool.shutdown();
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    // a few rounds of a 64-bit finalizer, so every element costs more than its load
+    private static long mix(long value) {
+        for (int i = 0; i < 4; i++) {
+            value ^= value >>> 33;
+            value *= 0xFF51AFD7ED558CCDL;
+        }
+        return value;
+    }
+
+    private static void run(String label, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %6.2f ns/element%n", label, (double) best / SIZE);
+    }
+}
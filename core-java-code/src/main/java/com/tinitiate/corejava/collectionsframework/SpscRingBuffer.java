@@ -0,0 +1,94 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework SpscRingBuffer
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * SPSC Ring Buffer
+ * ----------------
+ * A bounded queue for exactly one producer thread and one consumer thread.
+ * Neither side uses a CAS or a lock. The producer writes the element and
+ * then publishes its index with a release store. The consumer knows a slot
+ * is ready when it is non-null, and hands the slot back by nulling it and
+ * moving its own index on.
+ *
+ * The producer keeps its own copy of how far it may run ahead, and reads
+ * the consumer's index only when it catches up with that copy. Most offers
+ * therefore touch no line the consumer writes.
+ *
+ * Using it from more than one producer or more than one consumer thread
+ * loses or duplicates elements; see MpscRingBuffer and MpmcRingBuffer.
+ */
+public class SpscRingBuffer<E> extends RingBuffer<E> {
+
+    public SpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long p = (long) PRODUCER_INDEX.get(this);
+        if (p >= producerLimit) {
+            long limit = consumerIndex + buffer.length;
+            if (p >= limit) {
+                return false;
+            }
+            producerLimit = limit;
+        }
+        ELEMENTS.setRelease(buffer, slot(p), e);
+        PRODUCER_INDEX.setRelease(this, p + 1);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long c = (long) CONSUMER_INDEX.get(this);
+        int slot = slot(c);
+        E e = (E) ELEMENTS.getAcquire(buffer, slot);
+        if (e == null) {
+            return null;
+        }
+        ELEMENTS.set(buffer, slot, null);
+        CONSUMER_INDEX.setRelease(this, c + 1);
+        return e;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long c = (long) CONSUMER_INDEX.get(this);
+        int n = 0;
+        try {
+            while (n < limit) {
+                int slot = slot(c + n);
+                E e = (E) ELEMENTS.getAcquire(buffer, slot);
+                if (e == null) {
+                    break;
+                }
+                ELEMENTS.set(buffer, slot, null);
+                n++;
+                consumer.accept(e);
+            }
+        } finally {
+            if (n > 0) {
+                CONSUMER_INDEX.setRelease(this, c + n);
+            }
+        }
+        return n;
+    }
+}
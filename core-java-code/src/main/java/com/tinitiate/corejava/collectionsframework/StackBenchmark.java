@@ -0,0 +1,216 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework Stack Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.Stack;
+import java.util.function.LongSupplier;
+
+/**
+ * Stack Benchmark
+ * ---------------
+ * java.util.Stack against ArrayDeque, ArrayStack and IntStack on
+ * single-threaded push / pop work, in nanoseconds per operation:
+ *
+ * - fill and drain: 1,000,000 pushes, then 1,000,000 pops
+ * - brackets: the StackExample check over 10,000,000 random brackets,
+ *   nested up to 1,000 deep
+ * - peek-heavy: each push followed by three peeks and a pop
+ *
+ * The generic stacks get Integers boxed up front; IntStack gets the ints.
+ * Each stack lives outside the timed code, so the JIT cannot see that
+ * Stack's monitor never escapes and skip it, which it would for a Stack
+ * local to one method.
+ */
+public class StackBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final int SIZE = 1_000_000;
+    private static final int BRACKETS = 10_000_000;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int[] values = new Random(1).ints(SIZE).toArray();
+        Integer[] boxed = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            boxed[i] = values[i];
+        }
+        char[] brackets = brackets(new Random(2));
+        // created outside the measured code, as a parser keeps its stack in a field,
+        // so that the JIT cannot prove Stack's locks unnecessary and drop them
+        Stack<Integer> stack = new Stack<>();
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        ArrayStack<Integer> arrayStack = new ArrayStack<>();
+        IntStack intStack = new IntStack();
+        Stack<Character> charStack = new Stack<>();
+        ArrayDeque<Character> charDeque = new ArrayDeque<>();
+        ArrayStack<Character> charArrayStack = new ArrayStack<>();
+
+        System.out.println("--- fill and drain");
+        run("Stack<Integer>", 2 * SIZE, () -> {
+            for (Integer value : boxed) {
+                stack.push(value);
+            }
+            long sum = 0;
+            while (!stack.isEmpty()) {
+                sum += stack.pop();
+            }
+            return sum;
+        });
+        run("ArrayDeque<Integer>", 2 * SIZE, () -> {
+            for (Integer value : boxed) {
+                deque.push(value);
+            }
+            long sum = 0;
+            while (!deque.isEmpty()) {
+                sum += deque.pop();
+            }
+            return sum;
+        });
+        run("ArrayStack<Integer>", 2 * SIZE, () -> {
+            for (Integer value : boxed) {
+                arrayStack.push(value);
+            }
+            long sum = 0;
+            while (!arrayStack.isEmpty()) {
+                sum += arrayStack.pop();
+            }
+            return sum;
+        });
+        run("IntStack", 2 * SIZE, () -> {
+            for (int value : values) {
+                intStack.push(value);
+            }
+            long sum = 0;
+            while (!intStack.isEmpty()) {
+                sum += intStack.pop();
+            }
+            return sum;
+        });
+
+        System.out.println("--- brackets");
+        run("Stack<Character>", BRACKETS, () -> {
+            for (char ch : brackets) {
+                if (ch == '(') {
+                    charStack.push(ch);
+                } else if (charStack.isEmpty()) {
+                    return -1;
+                } else {
+                    charStack.pop();
+                }
+            }
+            return charStack.size();
+        });
+        run("ArrayDeque<Character>", BRACKETS, () -> {
+            for (char ch : brackets) {
+                if (ch == '(') {
+                    charDeque.push(ch);
+                } else if (charDeque.isEmpty()) {
+                    return -1;
+                } else {
+                    charDeque.pop();
+                }
+            }
+            return charDeque.size();
+        });
+        run("ArrayStack<Character>", BRACKETS, () -> {
+            for (char ch : brackets) {
+                if (ch == '(') {
+                    charArrayStack.push(ch);
+                } else if (charArrayStack.isEmpty()) {
+                    return -1;
+                } else {
+                    charArrayStack.pop();
+                }
+            }
+            return charArrayStack.size();
+        });
+        run("IntStack", BRACKETS, () -> {
+            for (char ch : brackets) {
+                if (ch == '(') {
+                    intStack.push(ch);
+                } else if (intStack.isEmpty()) {
+                    return -1;
+                } else {
+                    intStack.pop();
+                }
+            }
+            return intStack.size();
+        });
+
+        System.out.println("--- push, peek x3, pop");
+        run("Stack<Integer>", 5 * SIZE, () -> {
+            long sum = 0;
+            for (Integer value : boxed) {
+                stack.push(value);
+                sum += stack.peek() + stack.peek() + stack.peek();
+                stack.pop();
+            }
+            return sum;
+        });
+        run("ArrayDeque<Integer>", 5 * SIZE, () -> {
+            long sum = 0;
+            for (Integer value : boxed) {
+                deque.push(value);
+                sum += deque.peek() + deque.peek() + deque.peek();
+                deque.pop();
+            }
+            return sum;
+        });
+        run("ArrayStack<Integer>", 5 * SIZE, () -> {
+            long sum = 0;
+            for (Integer value : boxed) {
+                arrayStack.push(value);
+                sum += arrayStack.peek() + arrayStack.peek() + arrayStack.peek();
+                arrayStack.pop();
+            }
+            return sum;
+        });
+        run("IntStack", 5 * SIZE, () -> {
+            long sum = 0;
+            for (int value : values) {
+                intStack.push(value);
+                sum += intStack.peek() + intStack.peek() + intStack.peek();
+                intStack.pop();
+            }
+            return sum;
+        });
+        System.out.println("sink=" + sink);
+    }
+
+    // a balanced random walk between depth 0 and 1,000
+    private static char[] brackets(Random random) {
+        char[] brackets = new char[BRACKETS];
+        int depth = 0;
+        for (int i = 0; i < BRACKETS; i++) {
+            int left = BRACKETS - i;
+            boolean open = depth < left && (depth == 0 || depth < 1_000 && random.nextBoolean());
+            brackets[i] = open ? '(' : ')';
+            depth += open ? 1 : -1;
+        }
+        return brackets;
+    }
+
+    private static void run(String label, int operations, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-21s : %6.2f ns/op%n", label, (double) best / operations);
+    }
+}
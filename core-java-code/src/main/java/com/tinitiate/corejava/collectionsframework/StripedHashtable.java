@@ -0,0 +1,564 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework StripedHashtable
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped Hashtable
+ * -----------------
+ * The Hashtable of HashtableExample for read-mostly tables shared by many
+ * threads. Every Hashtable method holds the one monitor of the table, so
+ * with dozens of cores the readers of a config or lookup table queue
+ * behind each other even though none of them writes.
+ *
+ * Here a get takes no lock at all: it reads a volatile bucket and walks a
+ * chain whose links are only ever replaced whole. Writers lock one of many
+ * stripes, picked by the high bits of the hash, and each stripe has its own
+ * table that it resizes alone, so writers to different stripes do not wait
+ * for each other and never hold up a reader.
+ *
+ * The API is Hashtable's: nulls are rejected with a NullPointerException,
+ * and keys(), elements() and contains(value) are here next to the Map and
+ * ConcurrentMap methods. Iterators and size() are weakly consistent, as in
+ * ConcurrentHashMap: they never throw ConcurrentModificationException and
+ * may or may not see writes made while they run.
+ *
+ *     StripedHashtable<String, String> config = new StripedHashtable<>();
+ *     config.put("db.url", "jdbc:h2:mem:test");
+ *     config.putIfAbsent("db.pool", "16");
+ *     String url = config.get("db.url");   // no lock taken
+ */
+public class StripedHashtable<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private static final int MAX_STRIPE_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Stripe<K, V>[] stripes;
+    private final int stripeShift;              // hash >>> stripeShift picks the stripe
+
+    /** A table with four stripes per available processor. */
+    public StripedHashtable() {
+        this(16, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public StripedHashtable(int initialCapacity) {
+        this(initialCapacity, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * @param initialCapacity entries the table should hold without resizing
+     * @param concurrencyLevel writers expected at the same time; rounded up to a
+     *                         power of two stripes, from 2 to 65,536
+     */
+    @SuppressWarnings("unchecked")
+    public StripedHashtable(int initialCapacity, int concurrencyLevel) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+        int count = Math.max(2, Math.min(1 << 16, Integer.highestOneBit(concurrencyLevel - 1) << 1));
+        stripes = (Stripe<K, V>[]) new Stripe<?, ?>[count];
+        stripeShift = 32 - Integer.numberOfTrailingZeros(count);
+        int perStripe = (int) Math.min(MAX_STRIPE_CAPACITY, (long) Math.ceil(initialCapacity / (double) count / LOAD_FACTOR));
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(perStripe, 1) - 1) << 1);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>(capacity);
+        }
+    }
+
+    public StripedHashtable(Map<? extends K, ? extends V> m) {
+        this(Math.max(16, m.size()));
+        putAll(m);
+    }
+
+    // ---------------------------------------------------------------- reads (lock-free)
+
+    @Override
+    public V get(Object key) {
+        int h = hash(key);
+        AtomicReferenceArray<Node<K, V>> table = stripeFor(h).table;
+        for (Node<K, V> e = table.get(h & (table.length() - 1)); e != null; e = e.next) {
+            if (e.hash == h && (e.key == key || key.equals(e.key))) {
+                return e.value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        Objects.requireNonNull(value);
+        for (Stripe<K, V> stripe : stripes) {
+            AtomicReferenceArray<Node<K, V>> table = stripe.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (Node<K, V> e = table.get(i); e != null; e = e.next) {
+                    if (value.equals(e.value)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Same as containsValue, under Hashtable's name. */
+    public boolean contains(Object value) {
+        return containsValue(value);
+    }
+
+    /** The sum of the stripes' counts; exact only while no one writes. */
+    @Override
+    public int size() {
+        long n = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            n += stripe.count;
+        }
+        return (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Stripe<K, V> stripe : stripes) {
+            if (stripe.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ---------------------------------------------------------------- writes (one stripe locked)
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        int h = hash(key);
+        return stripeFor(h).put(h, key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value);
+        int h = hash(key);
+        return stripeFor(h).put(h, key, value, true);
+    }
+
+    @Override
+    public V remove(Object key) {
+        int h = hash(key);
+        return stripeFor(h).remove(h, key, null);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        int h = hash(key);
+        return value != null && stripeFor(h).remove(h, key, value) != null;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Objects.requireNonNull(value);
+        int h = hash(key);
+        return stripeFor(h).replace(h, key, null, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        int h = hash(key);
+        return stripeFor(h).replace(h, key, oldValue, newValue) != null;
+    }
+
+    /** Empties the table one stripe at a time. */
+    @Override
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    // ---------------------------------------------------------------- views
+
+    /** The keys, for code written against Hashtable. */
+    public Enumeration<K> keys() {
+        return Collections.enumeration(keySet());
+    }
+
+    /** The values, for code written against Hashtable. */
+    public Enumeration<V> elements() {
+        return Collections.enumeration(values());
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new NodeIterator<K>() {
+                    @Override
+                    K export(Node<K, V> node) {
+                        return node.key;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return StripedHashtable.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                return StripedHashtable.this.remove(o) != null;
+            }
+
+            @Override
+            public void clear() {
+                StripedHashtable.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new NodeIterator<V>() {
+                    @Override
+                    V export(Node<K, V> node) {
+                        return node.value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return StripedHashtable.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsValue(o);
+            }
+
+            @Override
+            public void clear() {
+                StripedHashtable.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new NodeIterator<Entry<K, V>>() {
+                    @Override
+                    Entry<K, V> export(Node<K, V> node) {
+                        return new WriteThroughEntry(node.key, node.value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return StripedHashtable.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Entry)) {
+                    return false;
+                }
+                Entry<?, ?> e = (Entry<?, ?>) o;
+                V value = e.getKey() == null ? null : get(e.getKey());
+                return value != null && value.equals(e.getValue());
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                if (!(o instanceof Entry)) {
+                    return false;
+                }
+                Entry<?, ?> e = (Entry<?, ?>) o;
+                return e.getKey() != null && StripedHashtable.this.remove(e.getKey(), e.getValue());
+            }
+
+            @Override
+            public void clear() {
+                StripedHashtable.this.clear();
+            }
+        };
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    // the high bits pick the stripe, the low bits the bucket within it
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return (h ^ h >>> 16) * 0x9E3779B9;
+    }
+
+    private Stripe<K, V> stripeFor(int hash) {
+        return stripes[hash >>> stripeShift];
+    }
+
+    private static final class Node<K, V> {
+
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /*
+     * A stripe owns a table of chains. Readers see a new node only once it is
+     * fully built: it goes in at the head of its chain through a volatile
+     * bucket, and an unlinked node keeps its next link, so a reader standing
+     * on it finds its way back into the chain. A resize builds a new table
+     * from new nodes and swaps it in, leaving the old one intact for readers
+     * still walking it.
+     */
+    private static final class Stripe<K, V> extends ReentrantLock {
+
+        private static final long serialVersionUID = 1L;
+
+        volatile AtomicReferenceArray<Node<K, V>> table;
+        volatile int count;
+        private int resizeAt;
+
+        Stripe(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            table = new AtomicReferenceArray<>(capacity);
+            resizeAt = capacity == MAX_STRIPE_CAPACITY ? Integer.MAX_VALUE : (int) (capacity * LOAD_FACTOR);
+        }
+
+        V put(int hash, K key, V value, boolean onlyIfAbsent) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> table = this.table;
+                int index = hash & (table.length() - 1);
+                for (Node<K, V> e = table.get(index); e != null; e = e.next) {
+                    if (e.hash == hash && (e.key == key || key.equals(e.key))) {
+                        V old = e.value;
+                        if (!onlyIfAbsent) {
+                            e.value = value;
+                        }
+                        return old;
+                    }
+                }
+                if (count >= resizeAt) {
+                    resize();
+                    table = this.table;
+                    index = hash & (table.length() - 1);
+                }
+                table.set(index, new Node<>(hash, key, value, table.get(index)));
+                count++;
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        // removes key if its value is expected, or whatever it is when expected is null
+        V remove(int hash, Object key, Object expected) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> table = this.table;
+                int index = hash & (table.length() - 1);
+                Node<K, V> prev = null;
+                for (Node<K, V> e = table.get(index); e != null; prev = e, e = e.next) {
+                    if (e.hash == hash && (e.key == key || key.equals(e.key))) {
+                        V old = e.value;
+                        if (expected != null && !expected.equals(old)) {
+                            return null;
+                        }
+                        if (prev == null) {
+                            table.set(index, e.next);
+                        } else {
+                            prev.next = e.next;
+                        }
+                        count--;
+                        return old;
+                    }
+                }
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        // replaces the value of key if it is expected, or whatever it is when expected is null
+        V replace(int hash, K key, V expected, V value) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> table = this.table;
+                for (Node<K, V> e = table.get(hash & (table.length() - 1)); e != null; e = e.next) {
+                    if (e.hash == hash && (e.key == key || key.equals(e.key))) {
+                        V old = e.value;
+                        if (expected != null && !expected.equals(old)) {
+                            return null;
+                        }
+                        e.value = value;
+                        return old;
+                    }
+                }
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> table = this.table;
+                for (int i = 0; i < table.length(); i++) {
+                    table.set(i, null);
+                }
+                count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        // doubles the table, copying the nodes so that the old chains stay intact
+        private void resize() {
+            AtomicReferenceArray<Node<K, V>> old = table;
+            if (old.length() == MAX_STRIPE_CAPACITY) {
+                resizeAt = Integer.MAX_VALUE;
+                return;
+            }
+            AtomicReferenceArray<Node<K, V>> grown = new AtomicReferenceArray<>(old.length() << 1);
+            int mask = grown.length() - 1;
+            for (int i = 0; i < old.length(); i++) {
+                for (Node<K, V> e = old.get(i); e != null; e = e.next) {
+                    int index = e.hash & mask;
+                    grown.lazySet(index, new Node<>(e.hash, e.key, e.value, grown.get(index)));
+                }
+            }
+            // the volatile write publishes every node built above
+            table = grown;
+            resizeAt = grown.length() == MAX_STRIPE_CAPACITY ? Integer.MAX_VALUE : (int) (grown.length() * LOAD_FACTOR);
+        }
+    }
+
+    // walks stripe by stripe and bucket by bucket, without locks
+    private abstract class NodeIterator<T> implements Iterator<T> {
+
+        private int stripe;
+        private AtomicReferenceArray<Node<K, V>> table;
+        private int bucket;
+        private Node<K, V> next;
+        private Node<K, V> lastReturned;
+
+        NodeIterator() {
+            table = stripes[0].table;
+            advance();
+        }
+
+        abstract T export(Node<K, V> node);
+
+        private void advance() {
+            if (next != null) {
+                next = next.next;
+            }
+            while (next == null) {
+                if (bucket == table.length()) {
+                    if (++stripe == stripes.length) {
+                        return;
+                    }
+                    table = stripes[stripe].table;
+                    bucket = 0;
+                } else {
+                    next = table.get(bucket++);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            advance();
+            return export(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            StripedHashtable.this.remove(lastReturned.key);
+            lastReturned = null;
+        }
+    }
+
+    private final class WriteThroughEntry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        WriteThroughEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            Objects.requireNonNull(value);
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,733 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework UnrolledLinkedList
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.util.AbstractSequentialList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Unrolled Linked List
+ * --------------------
+ * A List and Deque with the contract of the LinkedList of
+ * LinkedListExample, built from a chain of 64-slot arrays instead of one
+ * node per element. LinkedList spends a 24-byte node on every element and
+ * follows a pointer for each step of a walk; here a full chunk holds 64
+ * elements for one small header, and a walk reads them in order from one
+ * array.
+ *
+ * - removeFirst / removeLast are O(1), and addFirst / addLast amortised
+ *   O(1): every chunk keeps free slots at both ends
+ * - insertion and removal through a ListIterator shift at most half a chunk
+ * - get(i) / set(i) / add(i) / remove(i) skip whole chunks, from the head,
+ *   the tail or the chunk of the last index used, whichever is nearest, so
+ *   an indexed loop runs in constant time per step
+ *
+ * A full chunk splits in two. An inner chunk that falls below a quarter full
+ * merges with its smaller neighbour, or evens out with it when the two would
+ * not fit in three quarters of a chunk; the end chunks only go when they are
+ * empty. When addFirst / addLast reach the outer edge of an end chunk that
+ * is at most half full, they slide its elements to the other edge instead
+ * of starting a new chunk. That moves at most 32 elements and frees at
+ * least 32 slots, so queue-style use averages at most one move per add.
+ * Null elements are allowed, as in LinkedList.
+ *
+ *     UnrolledLinkedList<String> tasks = new UnrolledLinkedList<>();
+ *     tasks.addLast("compile");
+ *     tasks.addLast("test");
+ *     tasks.addFirst("checkout");
+ *     for (ListIterator<String> it = tasks.listIterator(); it.hasNext(); ) {
+ *         if (it.next().equals("compile")) {
+ *             it.add("package");
+ *         }
+ *     }
+ *     System.out.println(tasks);   // [checkout, compile, package, test]
+ *
+ * Not thread-safe.
+ */
+public class UnrolledLinkedList<E> extends AbstractSequentialList<E> implements Deque<E> {
+
+    private static final int CHUNK_CAPACITY = 64;
+    private static final int MIN_FILL = CHUNK_CAPACITY / 4;            // inner chunks below this rebalance
+    private static final int MERGE_LIMIT = CHUNK_CAPACITY * 3 / 4;     // neighbours this small merge
+
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+    private Chunk finger;               // chunk of the last index looked up, or null
+    private int fingerBase;             // index of finger's first element
+
+    public UnrolledLinkedList() {
+    }
+
+    public UnrolledLinkedList(Iterable<? extends E> elements) {
+        for (E e : elements) {
+            addLast(e);
+        }
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        Chunk c = locate(index);
+        return (E) c.items[c.lo + index - fingerBase];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) head.items[head.lo];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) tail.items[tail.hi - 1];
+    }
+
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : getFirst();
+    }
+
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : getLast();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        Chunk c = locate(index);
+        int slot = c.lo + index - fingerBase;
+        E old = (E) c.items[slot];
+        c.items[slot] = element;
+        return old;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        Chunk h = head;
+        // a head at most half full slides over instead of starting a chunk; the slots
+        // it frees pay for the elements it moved
+        if (h != null && h.lo == 0 && h.count() <= CHUNK_CAPACITY / 2) {
+            slide(h, CHUNK_CAPACITY - h.count());
+        }
+        if (h == null || h.lo == 0) {
+            h = new Chunk(CHUNK_CAPACITY);
+            linkBefore(h, head);
+        }
+        h.items[--h.lo] = e;
+        if (finger != null && finger != h) {
+            fingerBase++;
+        }
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        Chunk t = tail;
+        if (t != null && t.hi == CHUNK_CAPACITY && t.count() <= CHUNK_CAPACITY / 2) {
+            slide(t, 0);
+        }
+        if (t == null || t.hi == CHUNK_CAPACITY) {
+            t = new Chunk(0);
+            linkAfter(t, tail);
+        }
+        t.items[t.hi++] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            addLast(element);
+        } else {
+            Chunk c = locate(index);
+            insert(c, index - fingerBase, element);
+        }
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        Chunk h = head;
+        E e = (E) h.items[h.lo];
+        h.items[h.lo++] = null;
+        if (finger != h) {
+            fingerBase--;
+        }
+        size--;
+        modCount++;
+        if (h.count() == 0) {
+            unlink(h);
+        }
+        return e;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        Chunk t = tail;
+        E e = (E) t.items[--t.hi];
+        t.items[t.hi] = null;
+        size--;
+        modCount++;
+        if (t.count() == 0) {
+            unlink(t);
+        }
+        return e;
+    }
+
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        Chunk c = locate(index);
+        return removeAt(c, index - fingerBase);
+    }
+
+    @Override
+    public E pollFirst() {
+        return size == 0 ? null : removeFirst();
+    }
+
+    @Override
+    public E pollLast() {
+        return size == 0 ? null : removeLast();
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        for (Iterator<E> it = iterator(); it.hasNext(); ) {
+            if (Objects.equals(o, it.next())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        for (ListIterator<E> it = listIterator(size); it.hasPrevious(); ) {
+            if (Objects.equals(o, it.previous())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        finger = null;
+        size = 0;
+        modCount++;
+    }
+
+    // ---------------------------------------------------------------- iteration
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new Itr(index);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        ListIterator<E> it = listIterator(size);
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return it.previous();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+            }
+        };
+    }
+
+    /** Visits every element in order, a chunk at a time. The list must not be changed during the walk. */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expected = modCount;
+        for (Chunk c = head; c != null; c = c.next) {
+            Object[] items = c.items;
+            for (int i = c.lo, hi = c.hi; i < hi; i++) {
+                action.accept((E) items[i]);
+            }
+            if (modCount != expected) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int n = 0;
+        for (Chunk c = head; c != null; c = c.next) {
+            System.arraycopy(c.items, c.lo, result, n, c.count());
+            n += c.count();
+        }
+        return result;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static final class Chunk {
+
+        final Object[] items = new Object[CHUNK_CAPACITY];
+        int lo;                         // elements sit in items[lo, hi)
+        int hi;
+        Chunk prev;
+        Chunk next;
+
+        Chunk(int start) {
+            lo = start;
+            hi = start;
+        }
+
+        int count() {
+            return hi - lo;
+        }
+    }
+
+    // finds the chunk holding index and makes it the finger; 0 <= index < size
+    private Chunk locate(int index) {
+        Chunk c;
+        int base;
+        int fromHead = index;
+        int fromTail = size - index;
+        if (finger != null && Math.abs(index - fingerBase) < Math.min(fromHead, fromTail)) {
+            c = finger;
+            base = fingerBase;
+        } else if (fromHead <= fromTail) {
+            c = head;
+            base = 0;
+        } else {
+            c = tail;
+            base = size - tail.count();
+        }
+        while (index < base) {
+            c = c.prev;
+            base -= c.count();
+        }
+        while (index >= base + c.count()) {
+            base += c.count();
+            c = c.next;
+        }
+        finger = c;
+        fingerBase = base;
+        return c;
+    }
+
+    // inserts at offset within c, the finger chunk, splitting c first if it is full
+    private void insert(Chunk c, int offset, E e) {
+        if (c.count() == CHUNK_CAPACITY) {
+            int keep = CHUNK_CAPACITY / 2;
+            int move = CHUNK_CAPACITY - keep;
+            Chunk right = new Chunk((CHUNK_CAPACITY - move) / 2);
+            System.arraycopy(c.items, c.lo + keep, right.items, right.lo, move);
+            Arrays.fill(c.items, c.lo + keep, c.hi, null);
+            right.hi = right.lo + move;
+            c.hi = c.lo + keep;
+            linkAfter(right, c);
+            if (offset > keep) {
+                c = right;
+                offset -= keep;
+            }
+        }
+        Object[] items = c.items;
+        int slot = c.lo + offset;
+        // shift whichever side has room, the shorter one if both do
+        if (c.lo > 0 && (c.hi == CHUNK_CAPACITY || offset < c.count() - offset)) {
+            System.arraycopy(items, c.lo, items, c.lo - 1, offset);
+            c.lo--;
+            items[slot - 1] = e;
+        } else {
+            System.arraycopy(items, slot, items, slot + 1, c.hi - slot);
+            c.hi++;
+            items[slot] = e;
+        }
+        size++;
+        modCount++;
+    }
+
+    // removes the element at offset within c, the finger chunk, then rebalances c
+    @SuppressWarnings("unchecked")
+    private E removeAt(Chunk c, int offset) {
+        Object[] items = c.items;
+        int slot = c.lo + offset;
+        E e = (E) items[slot];
+        if (offset < c.count() / 2) {
+            System.arraycopy(items, c.lo, items, c.lo + 1, offset);
+            items[c.lo++] = null;
+        } else {
+            System.arraycopy(items, slot + 1, items, slot, c.hi - slot - 1);
+            items[--c.hi] = null;
+        }
+        size--;
+        modCount++;
+        if (c.count() == 0) {
+            unlink(c);
+        } else if (c.count() < MIN_FILL && c != head && c != tail) {
+            // merge with the smaller neighbour, or share evenly with it if together they are too big
+            Chunk left = c.prev.count() <= c.next.count() ? c.prev : c;
+            Chunk right = left.next;
+            if (left.count() + right.count() <= MERGE_LIMIT) {
+                merge(left, right);
+            } else {
+                share(left, right);
+            }
+        }
+        return e;
+    }
+
+    // appends right's elements to left and drops right
+    private void merge(Chunk left, Chunk right) {
+        int n = right.count();
+        if (left.hi + n > CHUNK_CAPACITY) {
+            slide(left, 0);
+        }
+        System.arraycopy(right.items, right.lo, left.items, left.hi, n);
+        left.hi += n;
+        if (finger == right) {
+            finger = left;
+            fingerBase -= left.count() - n;
+        }
+        unlink(right);
+    }
+
+    // moves elements across the boundary of two neighbours until they hold half each
+    private void share(Chunk left, Chunk right) {
+        int target = (left.count() + right.count()) / 2;
+        if (left.count() < target) {
+            int k = target - left.count();
+            if (left.hi + k > CHUNK_CAPACITY) {
+                slide(left, 0);
+            }
+            System.arraycopy(right.items, right.lo, left.items, left.hi, k);
+            Arrays.fill(right.items, right.lo, right.lo + k, null);
+            left.hi += k;
+            right.lo += k;
+            if (finger == right) {
+                fingerBase += k;
+            }
+        } else {
+            int k = left.count() - target;
+            if (right.lo < k) {
+                slide(right, CHUNK_CAPACITY - right.count());
+            }
+            System.arraycopy(left.items, left.hi - k, right.items, right.lo - k, k);
+            Arrays.fill(left.items, left.hi - k, left.hi, null);
+            left.hi -= k;
+            right.lo -= k;
+            if (finger == right) {
+                fingerBase -= k;
+            }
+        }
+    }
+
+    // moves c's elements so that they start at newLo
+    private static void slide(Chunk c, int newLo) {
+        int n = c.count();
+        System.arraycopy(c.items, c.lo, c.items, newLo, n);
+        if (newLo < c.lo) {
+            Arrays.fill(c.items, Math.max(newLo + n, c.lo), c.hi, null);
+        } else {
+            Arrays.fill(c.items, c.lo, Math.min(c.hi, newLo), null);
+        }
+        c.lo = newLo;
+        c.hi = newLo + n;
+    }
+
+    private void linkBefore(Chunk c, Chunk successor) {
+        c.next = successor;
+        if (successor == null) {
+            head = c;
+            tail = c;
+        } else {
+            c.prev = successor.prev;
+            successor.prev = c;
+            if (c.prev == null) {
+                head = c;
+            } else {
+                c.prev.next = c;
+            }
+        }
+    }
+
+    private void linkAfter(Chunk c, Chunk predecessor) {
+        c.prev = predecessor;
+        if (predecessor == null) {
+            head = c;
+            tail = c;
+        } else {
+            c.next = predecessor.next;
+            predecessor.next = c;
+            if (c.next == null) {
+                tail = c;
+            } else {
+                c.next.prev = c;
+            }
+        }
+    }
+
+    // takes c out of the chain; if c was the finger, a neighbour takes over
+    private void unlink(Chunk c) {
+        if (finger == c) {
+            if (c.next != null) {
+                finger = c.next;
+            } else if (c.prev != null) {
+                finger = c.prev;
+                fingerBase -= c.prev.count();
+            } else {
+                finger = null;
+            }
+        }
+        if (c.prev == null) {
+            head = c.next;
+        } else {
+            c.prev.next = c.next;
+        }
+        if (c.next == null) {
+            tail = c.prev;
+        } else {
+            c.next.prev = c.prev;
+        }
+    }
+
+    private final class Itr implements ListIterator<E> {
+
+        private Chunk chunk;            // chunk of the next element, or the tail at the end
+        private int slot;               // slot of the next element in chunk
+        private int chunkBase;          // index of chunk's first element
+        private int cursor;
+        private int lastRet = -1;
+        private int lastSlot;
+        private int expectedModCount;
+
+        Itr(int index) {
+            seek(index);
+        }
+
+        private void seek(int index) {
+            cursor = index;
+            expectedModCount = modCount;
+            if (size == 0) {
+                chunk = null;
+            } else if (index == size) {
+                chunk = tail;
+                chunkBase = size - tail.count();
+                slot = tail.hi;
+            } else {
+                chunk = locate(index);
+                chunkBase = fingerBase;
+                slot = chunk.lo + index - chunkBase;
+            }
+        }
+
+        // lets the list find this iterator's position without a walk
+        private void lendFinger() {
+            if (chunk != null) {
+                finger = chunk;
+                fingerBase = chunkBase;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            if (slot == chunk.hi) {
+                chunkBase += chunk.count();
+                chunk = chunk.next;
+                slot = chunk.lo;
+            }
+            lastRet = cursor++;
+            lastSlot = slot;
+            return (E) chunk.items[slot++];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            if (slot == chunk.lo) {
+                chunk = chunk.prev;
+                chunkBase -= chunk.count();
+                slot = chunk.hi;
+            }
+            lastRet = --cursor;
+            lastSlot = --slot;
+            return (E) chunk.items[slot];
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            chunk.items[lastSlot] = e;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lendFinger();
+            removeAt(chunk, lastSlot - chunk.lo);
+            seek(lastRet);
+            lastRet = -1;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            lendFinger();
+            UnrolledLinkedList.this.add(cursor, e);
+            seek(cursor + 1);
+            lastRet = -1;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
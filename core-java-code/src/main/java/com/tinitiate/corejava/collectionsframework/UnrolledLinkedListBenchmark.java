@@ -0,0 +1,231 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework UnrolledLinkedList Benchmark
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+import java.lang.ref.Reference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Unrolled Linked List Benchmark
+ * ------------------------------
+ * LinkedList against ArrayDeque and UnrolledLinkedList holding 1,000,000
+ * Integers, in nanoseconds per element:
+ *
+ * - heap per element for the structure alone (the Integers are shared)
+ * - iteration: summing with an iterator, and with forEach
+ * - building with addLast and with addFirst
+ * - queue churn: addLast then removeFirst, 1,000,000 times, on a full list
+ * - removing every third element of a copy while iterating; ArrayDeque's
+ *   Iterator.remove shifts the array, so it runs removeIf instead
+ * - inserting after every eighth element of a copy while iterating (not
+ *   ArrayDeque)
+ *
+ * The size can be passed as an argument. Heap per element is the growth
+ * of the collected heap while a filled structure is held, over its size.
+ */
+public class UnrolledLinkedListBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 31;
+        }
+        System.out.printf("--- %,d elements%n", size);
+
+        footprint("LinkedList", size, () -> new LinkedList<>(Arrays.asList(values)));
+        footprint("ArrayDeque", size, () -> new ArrayDeque<>(Arrays.asList(values)));
+        footprint("UnrolledLinkedList", size, () -> new UnrolledLinkedList<>(Arrays.asList(values)));
+
+        // every structure gets its own loops, so that no call site sees more than one class
+        LinkedList<Integer> linked = new LinkedList<>(Arrays.asList(values));
+        ArrayDeque<Integer> array = new ArrayDeque<>(Arrays.asList(values));
+        UnrolledLinkedList<Integer> unrolled = new UnrolledLinkedList<>(Arrays.asList(values));
+        run("LinkedList         iterator   ", size, () -> {
+            long sum = 0;
+            for (Integer value : linked) {
+                sum += value;
+            }
+            return sum;
+        });
+        run("ArrayDeque         iterator   ", size, () -> {
+            long sum = 0;
+            for (Integer value : array) {
+                sum += value;
+            }
+            return sum;
+        });
+        run("UnrolledLinkedList iterator   ", size, () -> {
+            long sum = 0;
+            for (Integer value : unrolled) {
+                sum += value;
+            }
+            return sum;
+        });
+        run("UnrolledLinkedList forEach    ", size, () -> {
+            long[] sum = {0};
+            unrolled.forEach(value -> sum[0] += value);
+            return sum[0];
+        });
+
+        run("LinkedList         addLast    ", size, () -> {
+            LinkedList<Integer> list = new LinkedList<>();
+            for (Integer value : values) {
+                list.addLast(value);
+            }
+            return list.size();
+        });
+        run("ArrayDeque         addLast    ", size, () -> {
+            ArrayDeque<Integer> deque = new ArrayDeque<>();
+            for (Integer value : values) {
+                deque.addLast(value);
+            }
+            return deque.size();
+        });
+        run("UnrolledLinkedList addLast    ", size, () -> {
+            UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+            for (Integer value : values) {
+                list.addLast(value);
+            }
+            return list.size();
+        });
+        run("LinkedList         addFirst   ", size, () -> {
+            LinkedList<Integer> list = new LinkedList<>();
+            for (Integer value : values) {
+                list.addFirst(value);
+            }
+            return list.size();
+        });
+        run("ArrayDeque         addFirst   ", size, () -> {
+            ArrayDeque<Integer> deque = new ArrayDeque<>();
+            for (Integer value : values) {
+                deque.addFirst(value);
+            }
+            return deque.size();
+        });
+        run("UnrolledLinkedList addFirst   ", size, () -> {
+            UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+            for (Integer value : values) {
+                list.addFirst(value);
+            }
+            return list.size();
+        });
+
+        run("LinkedList         queue churn", size, () -> {
+            long sum = 0;
+            for (Integer value : values) {
+                linked.addLast(value);
+                sum += linked.removeFirst();
+            }
+            return sum;
+        });
+        run("ArrayDeque         queue churn", size, () -> {
+            long sum = 0;
+            for (Integer value : values) {
+                array.addLast(value);
+                sum += array.removeFirst();
+            }
+            return sum;
+        });
+        run("UnrolledLinkedList queue churn", size, () -> {
+            long sum = 0;
+            for (Integer value : values) {
+                unrolled.addLast(value);
+                sum += unrolled.removeFirst();
+            }
+            return sum;
+        });
+
+        run("LinkedList         remove 1/3 ", size, () -> {
+            LinkedList<Integer> list = new LinkedList<>(linked);
+            int n = 0;
+            for (Iterator<Integer> it = list.iterator(); it.hasNext(); ) {
+                it.next();
+                if (++n % 3 == 0) {
+                    it.remove();
+                }
+            }
+            return list.size();
+        });
+        run("ArrayDeque         removeIf   ", size, () -> {
+            ArrayDeque<Integer> deque = new ArrayDeque<>(array);
+            int[] n = {0};
+            deque.removeIf(value -> ++n[0] % 3 == 0);
+            return deque.size();
+        });
+        run("UnrolledLinkedList remove 1/3 ", size, () -> {
+            UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(unrolled);
+            int n = 0;
+            for (Iterator<Integer> it = list.iterator(); it.hasNext(); ) {
+                it.next();
+                if (++n % 3 == 0) {
+                    it.remove();
+                }
+            }
+            return list.size();
+        });
+
+        run("LinkedList         insert 1/8 ", size, () -> {
+            LinkedList<Integer> list = new LinkedList<>(linked);
+            int n = 0;
+            for (ListIterator<Integer> it = list.listIterator(); it.hasNext(); ) {
+                Integer value = it.next();
+                if (++n % 8 == 0) {
+                    it.add(value);
+                }
+            }
+            return list.size();
+        });
+        run("UnrolledLinkedList insert 1/8 ", size, () -> {
+            UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(unrolled);
+            int n = 0;
+            for (ListIterator<Integer> it = list.listIterator(); it.hasNext(); ) {
+                Integer value = it.next();
+                if (++n % 8 == 0) {
+                    it.add(value);
+                }
+            }
+            return list.size();
+        });
+        System.out.println("sink=" + sink);
+    }
+
+    private static void footprint(String label, int elements, Supplier<Object> build) {
+        long before = UsedHeap.afterGc();
+        Object built = build.get();
+        long after = UsedHeap.afterGc();
+        Reference.reachabilityFence(built);
+        System.out.printf("%-30s : %6.2f bytes per element%n", label, (double) (after - before) / elements);
+    }
+
+    private static void run(String label, int elements, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %6.2f ns/element%n", label, (double) best / elements);
+    }
+}
@@ -0,0 +1,34 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Collections Framework Used Heap
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.collectionsframework;
+
+/**
+ * Used Heap
+ * ---------
+ * Shared by the footprint benchmarks in this package (IntObjectHashMap,
+ * PrimitiveArrayList, IntSet, UnrolledLinkedList): the heap in use once
+ * the garbage has been collected. A structure's footprint is the difference
+ * between a reading taken before it is built and one taken while it is
+ * still reachable.
+ */
+final class UsedHeap {
+
+    private UsedHeap() {
+    }
+
+    static long afterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        // the serial collector only compacts all of its dead space on every fourth full GC
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,174 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : java 8 Features
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.java8features;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * ASCII Case
+ * ----------
+ * Drop-in Function for the map(String::toUpperCase) steps in
+ * FunctionalProgramming_MapExample and Stream_SortedMapExample:
+ *
+ *     names.stream().map(AsciiCase.upper()).collect(Collectors.toList());
+ *
+ * Characters are handled four at a time, packed into a long (one 16-bit
+ * lane per char): a single mask test tells whether all four are ASCII, and
+ * a SWAR range test finds the letters to flip. A String that is already in
+ * the target case is returned as is without being copied; otherwise it is
+ * converted in a char buffer that the instance reuses. Input with any
+ * non-ASCII char goes to String.toUpperCase / toLowerCase(Locale.ROOT).
+ *
+ * The conversion is locale independent (like Locale.ROOT): "i" becomes "I"
+ * even when the default locale is Turkish. An instance holds a buffer, so
+ * use one per thread; a parallel stream should use the static methods.
+ */
+public final class AsciiCase implements Function<String, String> {
+
+    private static final long NON_ASCII = 0xFF80_FF80_FF80_FF80L;
+    private static final long LANE_BIT7 = 0x0080_0080_0080_0080L;
+    private static final long LANES = 0x0001_0001_0001_0001L;
+
+    private static final ThreadLocal<AsciiCase> UPPER = ThreadLocal.withInitial(AsciiCase::upper);
+    private static final ThreadLocal<AsciiCase> LOWER = ThreadLocal.withInitial(AsciiCase::lower);
+
+    private final boolean toUpper;
+    private final long atLeastFirst;    // per lane: c + this has bit 7 set when c >= first letter
+    private final long pastLast;        // per lane: c + this has bit 7 set when c > last letter
+    private char[] buffer = new char[64];
+
+    private AsciiCase(boolean toUpper) {
+        this.toUpper = toUpper;
+        char first = toUpper ? 'a' : 'A';
+        char last = toUpper ? 'z' : 'Z';
+        this.atLeastFirst = (0x80 - first) * LANES;
+        this.pastLast = (0x80 - last - 1) * LANES;
+    }
+
+    /** A new converter to upper case, with its own buffer. */
+    public static AsciiCase upper() {
+        return new AsciiCase(true);
+    }
+
+    /** A new converter to lower case, with its own buffer. */
+    public static AsciiCase lower() {
+        return new AsciiCase(false);
+    }
+
+    /** Thread-safe form of upper().apply(s). */
+    public static String toUpperCase(String s) {
+        return UPPER.get().apply(s);
+    }
+
+    /** Thread-safe form of lower().apply(s). */
+    public static String toLowerCase(String s) {
+        return LOWER.get().apply(s);
+    }
+
+    @Override
+    public String apply(String s) {
+        int length = s.length();
+        // scan in place first: input already in the target case is never copied
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            long word = s.charAt(i)
+                      | (long) s.charAt(i + 1) << 16
+                      | (long) s.charAt(i + 2) << 32
+                      | (long) s.charAt(i + 3) << 48;
+            if ((word & NON_ASCII) != 0) {
+                return fallback(s);
+            }
+            if (flips(word) != 0) {
+                return convert(s, i);
+            }
+        }
+        for (; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                return fallback(s);
+            }
+            if (isLetterToFlip(c)) {
+                return convert(s, i);
+            }
+        }
+        return s;
+    }
+
+    // chars before from are ASCII and need no change
+    private String convert(String s, int from) {
+        int length = s.length();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+        }
+        char[] chars = buffer;
+        s.getChars(0, length, chars, 0);
+        int i = from;
+        for (; i <= length - 4; i += 4) {
+            long word = chars[i]
+                      | (long) chars[i + 1] << 16
+                      | (long) chars[i + 2] << 32
+                      | (long) chars[i + 3] << 48;
+            if ((word & NON_ASCII) != 0) {
+                return fallback(s);
+            }
+            word ^= flips(word);
+            chars[i] = (char) word;
+            chars[i + 1] = (char) (word >>> 16);
+            chars[i + 2] = (char) (word >>> 32);
+            chars[i + 3] = (char) (word >>> 48);
+        }
+        for (; i < length; i++) {
+            char c = chars[i];
+            if (c >= 0x80) {
+                return fallback(s);
+            }
+            if (isLetterToFlip(c)) {
+                chars[i] = (char) (c ^ 0x20);
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    // 0x20 in every lane holding a letter to convert; lanes must be below 0x80,
+    // so the additions never carry into the next lane
+    private long flips(long word) {
+        return ((word + atLeastFirst) & ~(word + pastLast) & LANE_BIT7) >>> 2;
+    }
+
+    private boolean isLetterToFlip(char c) {
+        return (char) (c - (toUpper ? 'a' : 'A')) < 26;
+    }
+
+    /** True when every char in the range is below 0x80, checked four at a time. */
+    public static boolean isAscii(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset " + offset + ", length " + length + ", size " + chars.length);
+        }
+        int end = offset + length;
+        int i = offset;
+        long any = 0;
+        for (; i <= end - 4; i += 4) {
+            any |= chars[i]
+                 | (long) chars[i + 1] << 16
+                 | (long) chars[i + 2] << 32
+                 | (long) chars[i + 3] << 48;
+        }
+        for (; i < end; i++) {
+            any |= chars[i];
+        }
+        return (any & NON_ASCII) == 0;
+    }
+
+    private String fallback(String s) {
+        return toUpper ? s.toUpperCase(Locale.ROOT) : s.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,75 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : java 8 Features
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.java8features;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * ASCII Case Benchmark
+ * --------------------
+ * The pipelines of FunctionalProgramming_MapExample and
+ * Stream_SortedMapExample with their name lists repeated to 10 million
+ * elements, mapped with String::toUpperCase and with AsciiCase.upper().
+ * A third list is already upper case, where AsciiCase returns every input
+ * unchanged.
+ */
+public class AsciiCaseBenchmark {
+
+    private static final int SIZE = 10_000_000;
+    private static final int WARMUP = 2;
+    private static final int ROUNDS = 5;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        List<String> words = repeat("tinitiate", "java", "training");
+        List<String> names = repeat("Ravi", "Anu", "Zara", "Kiran");
+        List<String> upper = repeat("TINITIATE", "JAVA", "TRAINING");
+
+        run("map(String::toUpperCase)       ", () ->
+                words.stream().map(String::toUpperCase).collect(Collectors.toList()).size());
+        run("map(AsciiCase.upper())         ", () ->
+                words.stream().map(AsciiCase.upper()).collect(Collectors.toList()).size());
+        run("sorted().map(String::toUpper..)", () ->
+                names.stream().sorted().map(String::toUpperCase).collect(Collectors.toList()).size());
+        run("sorted().map(AsciiCase.upper())", () ->
+                names.stream().sorted().map(AsciiCase.upper()).collect(Collectors.toList()).size());
+        run("upper input, String::toUpper.. ", () ->
+                upper.stream().map(String::toUpperCase).collect(Collectors.toList()).size());
+        run("upper input, AsciiCase.upper() ", () ->
+                upper.stream().map(AsciiCase.upper()).collect(Collectors.toList()).size());
+        System.out.println("sink=" + sink);
+    }
+
+    // distinct String instances, as if read from input
+    private static List<String> repeat(String... values) {
+        List<String> list = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            list.add(new String(values[i % values.length]));
+        }
+        return list;
+    }
+
+    private static void run(String label, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %6.2f ns/element%n", label, (double) best / SIZE);
+    }
+}
@@ -0,0 +1,182 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+/**
+ * Character Class Counter
+ * -----------------------
+ * Counts vowels, consonants, digits, whitespace and everything else in one
+ * pass, using the CharClasses lookup table instead of the per-char
+ * comparisons in CountVowelsConsonants.
+ *
+ * Two paths are available:
+ *  - scalar : one table load and one counter increment per char.
+ *  - packed : each Latin-1 char maps to a long with a single 1 in one of
+ *             four 16-bit lanes; summing those longs counts four classes
+ *             with one add (SWAR), and the lanes are flushed before they
+ *             can overflow. This is the default.
+ *
+ * Chars above U+00FF drop to the scalar classification either way.
+ */
+public final class CharClassCounter {
+
+    /** Mutable result; pass the same instance to keep accumulating. */
+    public static final class Counts {
+        long vowels;
+        long consonants;
+        long digits;
+        long whitespace;
+        long other;
+
+        public long vowels()     { return vowels; }
+        public long consonants() { return consonants; }
+        public long digits()     { return digits; }
+        public long whitespace() { return whitespace; }
+        public long other()      { return other; }
+
+        public long total() {
+            return vowels + consonants + digits + whitespace + other;
+        }
+
+        public void clear() {
+            vowels = consonants = digits = whitespace = other = 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Vowels: " + vowels + ", Consonants: " + consonants + ", Digits: " + digits
+                    + ", Whitespace: " + whitespace + ", Other: " + other;
+        }
+    }
+
+    // lane k (bits 16k..16k+15) holds class k+1: vowel, consonant, digit, whitespace
+    private static final long[] PACKED = new long[256];
+    private static final int LANE_LIMIT = 0xFFFF;
+
+    static {
+        for (int c = 0; c < 256; c++) {
+            byte cls = CharClasses.LATIN1[c];
+            PACKED[c] = cls == CharClasses.OTHER ? 0L : 1L << (16 * (cls - 1));
+        }
+    }
+
+    private CharClassCounter() {
+    }
+
+    public static Counts count(CharSequence text) {
+        return count(text, new Counts());
+    }
+
+    public static Counts count(CharSequence text, Counts into) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int blockStart = i;
+            int blockEnd = Math.min(length, i + LANE_LIMIT);
+            long lanes = 0;
+            int wide = 0;
+            for (; i < blockEnd; i++) {
+                char ch = text.charAt(i);
+                if (ch < 256) {
+                    lanes += PACKED[ch];
+                } else {
+                    add(into, CharClasses.classOf(ch), 1);
+                    wide++;
+                }
+            }
+            flush(into, lanes, blockEnd - blockStart - wide);
+        }
+        return into;
+    }
+
+    public static Counts count(char[] chars, int offset, int length, Counts into) {
+        checkRange(chars.length, offset, length);
+        long[] packed = PACKED;
+        int i = offset;
+        int end = offset + length;
+        while (i < end) {
+            int blockStart = i;
+            int blockEnd = Math.min(end, i + LANE_LIMIT);
+            long lanes = 0;
+            int wide = 0;
+            // unrolled by four; chars >= 256 are rare, so test them together
+            for (; i + 3 < blockEnd; i += 4) {
+                char c0 = chars[i], c1 = chars[i + 1], c2 = chars[i + 2], c3 = chars[i + 3];
+                if ((c0 | c1 | c2 | c3) < 256) {
+                    lanes += packed[c0] + packed[c1] + packed[c2] + packed[c3];
+                } else {
+                    for (int k = i; k < i + 4; k++) {
+                        char ch = chars[k];
+                        if (ch < 256) {
+                            lanes += packed[ch];
+                        } else {
+                            add(into, CharClasses.classOf(ch), 1);
+                            wide++;
+                        }
+                    }
+                }
+            }
+            for (; i < blockEnd; i++) {
+                char ch = chars[i];
+                if (ch < 256) {
+                    lanes += packed[ch];
+                } else {
+                    add(into, CharClasses.classOf(ch), 1);
+                    wide++;
+                }
+            }
+            flush(into, lanes, blockEnd - blockStart - wide);
+        }
+        return into;
+    }
+
+    /** Reference path: one table lookup and one branch-free increment per char. */
+    public static Counts countScalar(char[] chars, int offset, int length, Counts into) {
+        checkRange(chars.length, offset, length);
+        long[] byClass = new long[5];
+        for (int i = offset, end = offset + length; i < end; i++) {
+            byClass[CharClasses.classOf(chars[i])]++;
+        }
+        for (byte cls = 0; cls < 5; cls++) {
+            add(into, cls, byClass[cls]);
+        }
+        return into;
+    }
+
+    // latin1 = number of Latin-1 chars summed into lanes; the rest of them are OTHER
+    private static void flush(Counts into, long lanes, int latin1) {
+        long vowels = lanes & 0xFFFF;
+        long consonants = (lanes >>> 16) & 0xFFFF;
+        long digits = (lanes >>> 32) & 0xFFFF;
+        long whitespace = lanes >>> 48;
+        into.vowels += vowels;
+        into.consonants += consonants;
+        into.digits += digits;
+        into.whitespace += whitespace;
+        into.other += latin1 - vowels - consonants - digits - whitespace;
+    }
+
+    private static void add(Counts into, byte cls, long n) {
+        switch (cls) {
+            case CharClasses.VOWEL:      into.vowels += n; break;
+            case CharClasses.CONSONANT:  into.consonants += n; break;
+            case CharClasses.DIGIT:      into.digits += n; break;
+            case CharClasses.WHITESPACE: into.whitespace += n; break;
+            default:                     into.other += n; break;
+        }
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset " + offset + ", length " + length + ", size " + size);
+        }
+    }
+}
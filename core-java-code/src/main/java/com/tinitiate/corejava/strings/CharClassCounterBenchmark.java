@@ -0,0 +1,93 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * Character Class Counter Benchmark
+ * ---------------------------------
+ * Throughput of the branchy loop from CountVowelsConsonants against the
+ * scalar table path and the packed (SWAR) path of CharClassCounter.
+ */
+public class CharClassCounterBenchmark {
+
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 10;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        String text = corpus(16_000_000);
+        char[] chars = text.toCharArray();
+        CharClassCounter.Counts counts = new CharClassCounter.Counts();
+
+        run("branchy (CountVowelsConsonants)", text.length(), () -> legacy(text));
+        run("table scalar                   ", text.length(), () -> {
+            counts.clear();
+            return CharClassCounter.countScalar(chars, 0, chars.length, counts).vowels();
+        });
+        run("packed char[]                  ", text.length(), () -> {
+            counts.clear();
+            return CharClassCounter.count(chars, 0, chars.length, counts).vowels();
+        });
+        run("packed CharSequence            ", text.length(), () -> {
+            counts.clear();
+            return CharClassCounter.count(text, counts).vowels();
+        });
+        System.out.println(counts);
+        System.out.println("sink=" + sink);
+    }
+
+    // the loop from CountVowelsConsonants.main, minus the printing
+    static long legacy(String text) {
+        text = text.toLowerCase();
+        int vowels = 0, consonants = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= 'a' && ch <= 'z') {
+                if ("aeiou".indexOf(ch) != -1)
+                    vowels++;
+                else
+                    consonants++;
+            }
+        }
+        return vowels + ((long) consonants << 32);
+    }
+
+    // words of random letters separated by spaces, with the odd number
+    static String corpus(int length) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            int word = 1 + random.nextInt(9);
+            for (int i = 0; i < word; i++) {
+                sb.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(26)));
+            }
+            sb.append(random.nextInt(10) == 0 ? String.valueOf(random.nextInt(1000)) : " ");
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+
+    private static void run(String label, int chars, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %8.3f ms  (%.0f Mchars/s)%n", label, best / 1e6, chars / (best / 1e3));
+    }
+}
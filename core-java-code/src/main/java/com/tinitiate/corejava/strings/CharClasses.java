@@ -0,0 +1,65 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+/**
+ * Character Classes
+ * -----------------
+ * Shared 256-entry lookup table used by the table-driven string helpers
+ * (CharClassCounter, WhitespaceNormalizer). One array load replaces the
+ * chains of comparisons and indexOf calls used in the tutorial examples.
+ *
+ * Vowels and consonants are the ASCII letters, either case, as in
+ * CountVowelsConsonants. Whitespace is any char for which
+ * Character.isWhitespace or Character.isSpaceChar is true, so it includes
+ * no-break and other Unicode spaces, not just ' '.
+ */
+final class CharClasses {
+
+    static final byte OTHER = 0;
+    static final byte VOWEL = 1;
+    static final byte CONSONANT = 2;
+    static final byte DIGIT = 3;
+    static final byte WHITESPACE = 4;
+
+    /** Class of every Latin-1 char, indexed by the char itself. */
+    static final byte[] LATIN1 = new byte[256];
+
+    static {
+        for (int c = 0; c < 256; c++) {
+            LATIN1[c] = classify((char) c);
+        }
+    }
+
+    private CharClasses() {
+    }
+
+    static byte classOf(char ch) {
+        return ch < 256 ? LATIN1[ch] : classify(ch);
+    }
+
+    static boolean isWhitespace(char ch) {
+        return ch < 256 ? LATIN1[ch] == WHITESPACE : Character.isWhitespace(ch) || Character.isSpaceChar(ch);
+    }
+
+    private static byte classify(char ch) {
+        if (Character.isWhitespace(ch) || Character.isSpaceChar(ch)) {
+            return WHITESPACE;
+        }
+        if (ch >= '0' && ch <= '9') {
+            return DIGIT;
+        }
+        char lower = (char) (ch | 0x20);
+        if (lower >= 'a' && lower <= 'z' && ch < 128) {
+            return "aeiou".indexOf(lower) >= 0 ? VOWEL : CONSONANT;
+        }
+        return OTHER;
+    }
+}
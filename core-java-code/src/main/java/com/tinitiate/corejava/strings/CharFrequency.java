@@ -0,0 +1,323 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Character Frequency Histogram
+ * -----------------------------
+ * Single-pass, reusable replacement for the nested loop in CharacterFrequency.
+ *
+ * Latin-1 code points (0..255) are counted in a plain int[256]; every other
+ * code point goes into a small open-addressing table (linear probing) that
+ * only grows when it is more than half full. Surrogate pairs are counted as
+ * one supplementary code point, also when a pair is split across two reads
+ * of a Reader. An unpaired surrogate is counted as itself.
+ *
+ * Counting never allocates once the wide table is big enough, so one
+ * instance can be cleared and reused for every payload.
+ */
+public final class CharFrequency {
+
+    /** Receives one (codePoint, count) pair per distinct code point. */
+    @FunctionalInterface
+    public interface CodePointCountConsumer {
+        void accept(int codePoint, int count);
+    }
+
+    private static final int LATIN1_SIZE = 256;
+    private static final int EMPTY = -1;
+    private static final int READ_BUFFER = 8192;
+    private static final int MIN_PARALLEL_CHUNK = 1 << 16;
+
+    private final int[] latin1 = new int[LATIN1_SIZE];
+
+    // open-addressing table for code points >= 256; EMPTY marks a free slot
+    private int[] wideKeys;
+    private int[] wideCounts;
+    private int wideSize;
+
+    private long total;
+
+    // high surrogate left over from the previous add() call
+    private char pendingHigh;
+
+    public CharFrequency() {
+        this(16);
+    }
+
+    /** @param expectedWide expected number of distinct code points above 255 */
+    public CharFrequency(int expectedWide) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedWide * 2 - 1)) << 1;
+        wideKeys = new int[capacity];
+        wideCounts = new int[capacity];
+        Arrays.fill(wideKeys, EMPTY);
+    }
+
+    // ---------------------------------------------------------------- factories
+
+    public static CharFrequency of(CharSequence text) {
+        return new CharFrequency().add(text).finish();
+    }
+
+    public static CharFrequency of(char[] chars, int offset, int length) {
+        return new CharFrequency().add(chars, offset, length).finish();
+    }
+
+    /** Streams the reader to the end; the reader is not closed. */
+    public static CharFrequency of(Reader reader) throws IOException {
+        return new CharFrequency().add(reader).finish();
+    }
+
+    /**
+     * Counts the text in chunks on the common ForkJoinPool and merges the
+     * per-chunk histograms. Short inputs are counted on the calling thread.
+     */
+    public static CharFrequency parallelOf(CharSequence text) {
+        int length = text.length();
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors() * 4,
+                              length / MIN_PARALLEL_CHUNK);
+        if (chunks < 2) {
+            return of(text);
+        }
+        int[] bounds = chunkBounds(text, chunks);
+        return IntStream.range(0, chunks)
+                        .parallel()
+                        .mapToObj(c -> new CharFrequency().add(text, bounds[c], bounds[c + 1]).finish())
+                        .reduce(CharFrequency::merge)
+                        .orElseGet(CharFrequency::new);
+    }
+
+    public static CharFrequency parallelOf(char[] chars, int offset, int length) {
+        checkRange(chars.length, offset, length);
+        return parallelOf(java.nio.CharBuffer.wrap(chars, offset, length));
+    }
+
+    // ---------------------------------------------------------------- counting
+
+    public CharFrequency add(CharSequence text) {
+        return add(text, 0, text.length());
+    }
+
+    /** Counts text[start, end). */
+    public CharFrequency add(CharSequence text, int start, int end) {
+        checkRange(text.length(), start, end - start);
+        for (int i = start; i < end; i++) {
+            accept(text.charAt(i));
+        }
+        return this;
+    }
+
+    public CharFrequency add(char[] chars, int offset, int length) {
+        checkRange(chars.length, offset, length);
+        int[] table = latin1;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char ch = chars[i];
+            if (ch < LATIN1_SIZE && pendingHigh == 0) {
+                table[ch]++;            // hot path: no branches on the wide table
+                total++;
+            } else {
+                accept(ch);
+            }
+        }
+        return this;
+    }
+
+    public CharFrequency add(Reader reader) throws IOException {
+        char[] buffer = new char[READ_BUFFER];
+        int n;
+        while ((n = reader.read(buffer, 0, buffer.length)) != -1) {
+            add(buffer, 0, n);
+        }
+        return this;
+    }
+
+    /**
+     * Flushes a trailing unpaired high surrogate. Only needed after feeding
+     * input in several add() calls; the factories call it for you.
+     */
+    public CharFrequency finish() {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            increment(high, 1);
+        }
+        return this;
+    }
+
+    /** Adds every count from {@code other} into this histogram. */
+    public CharFrequency merge(CharFrequency other) {
+        for (int c = 0; c < LATIN1_SIZE; c++) {
+            latin1[c] += other.latin1[c];
+        }
+        int[] keys = other.wideKeys;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                incrementWide(keys[slot], other.wideCounts[slot]);
+            }
+        }
+        total += other.total;
+        return this;
+    }
+
+    public void clear() {
+        Arrays.fill(latin1, 0);
+        Arrays.fill(wideKeys, EMPTY);
+        Arrays.fill(wideCounts, 0);
+        wideSize = 0;
+        total = 0;
+        pendingHigh = 0;
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public int count(int codePoint) {
+        if (codePoint >= 0 && codePoint < LATIN1_SIZE) {
+            return latin1[codePoint];
+        }
+        int slot = findSlot(codePoint);
+        return wideKeys[slot] == EMPTY ? 0 : wideCounts[slot];
+    }
+
+    /** Total number of code points counted. */
+    public long total() {
+        return total;
+    }
+
+    /** Number of distinct code points seen. */
+    public int distinct() {
+        int n = wideSize;
+        for (int count : latin1) {
+            if (count != 0) n++;
+        }
+        return n;
+    }
+
+    /** Visits Latin-1 code points in order, then the rest in table order. */
+    public void forEach(CodePointCountConsumer action) {
+        for (int c = 0; c < LATIN1_SIZE; c++) {
+            if (latin1[c] != 0) {
+                action.accept(c, latin1[c]);
+            }
+        }
+        for (int slot = 0; slot < wideKeys.length; slot++) {
+            if (wideKeys[slot] != EMPTY) {
+                action.accept(wideKeys[slot], wideCounts[slot]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((cp, n) -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.appendCodePoint(cp).append('=').append(n);
+        });
+        return sb.append('}').toString();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void accept(char ch) {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            if (Character.isLowSurrogate(ch)) {
+                increment(Character.toCodePoint(high, ch), 1);
+                return;
+            }
+            increment(high, 1);
+        }
+        if (Character.isHighSurrogate(ch)) {
+            pendingHigh = ch;
+        } else {
+            increment(ch, 1);
+        }
+    }
+
+    private void increment(int codePoint, int by) {
+        if (codePoint < LATIN1_SIZE) {
+            latin1[codePoint] += by;
+        } else {
+            incrementWide(codePoint, by);
+        }
+        total += by;
+    }
+
+    private void incrementWide(int codePoint, int by) {
+        int slot = findSlot(codePoint);
+        if (wideKeys[slot] == EMPTY) {
+            if ((wideSize + 1) * 2 > wideKeys.length) {
+                rehash(wideKeys.length << 1);
+                slot = findSlot(codePoint);
+            }
+            wideKeys[slot] = codePoint;
+            wideSize++;
+        }
+        wideCounts[slot] += by;
+    }
+
+    private int findSlot(int codePoint) {
+        int mask = wideKeys.length - 1;
+        int slot = mix(codePoint) & mask;
+        while (wideKeys[slot] != EMPTY && wideKeys[slot] != codePoint) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = wideKeys;
+        int[] oldCounts = wideCounts;
+        wideKeys = new int[capacity];
+        wideCounts = new int[capacity];
+        Arrays.fill(wideKeys, EMPTY);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                int target = findSlot(oldKeys[slot]);
+                wideKeys[target] = oldKeys[slot];
+                wideCounts[target] = oldCounts[slot];
+            }
+        }
+    }
+
+    private static int mix(int x) {
+        x *= 0x9E3779B9;            // Fibonacci hashing spreads adjacent code points
+        return x ^ (x >>> 16);
+    }
+
+    // chunk boundaries that never fall between the two halves of a surrogate pair
+    private static int[] chunkBounds(CharSequence text, int chunks) {
+        int length = text.length();
+        int[] bounds = new int[chunks + 1];
+        for (int c = 1; c < chunks; c++) {
+            int b = (int) ((long) length * c / chunks);
+            if (Character.isLowSurrogate(text.charAt(b)) && Character.isHighSurrogate(text.charAt(b - 1))) {
+                b++;
+            }
+            bounds[c] = b;
+        }
+        bounds[chunks] = length;
+        return bounds;
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset " + offset + ", length " + length + ", size " + size);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+/**
+ * Character Frequency Benchmark
+ * -----------------------------
+ * Compares the nested indexOf/charAt loop from CharacterFrequency with the
+ * single-pass CharFrequency histogram (sequential and parallel).
+ *
+ * Run with a fixed heap, e.g. java -Xms2g -Xmx2g.
+ */
+public class CharFrequencyBenchmark {
+
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 10;
+
+    // results are folded in here so the JIT cannot drop the work
+    static long sink;
+
+    public static void main(String[] args) {
+        String small = randomText(20_000, 7);
+        String large = randomText(8_000_000, 11);
+
+        run("legacy nested loop   (20K)", small, CharFrequencyBenchmark::legacy);
+        run("CharFrequency.of     (20K)", small, t -> CharFrequency.of(t).total());
+        run("CharFrequency.of     (8M) ", large, t -> CharFrequency.of(t).total());
+        run("CharFrequency char[] (8M) ", large.toCharArray(), large,
+            (chars, t) -> CharFrequency.of(chars, 0, chars.length).total());
+        run("CharFrequency.parallel(8M)", large, t -> CharFrequency.parallelOf(t).total());
+        System.out.println("sink=" + sink);
+    }
+
+    // the algorithm from CharacterFrequency.main, minus the printing
+    static long legacy(String text) {
+        long distinct = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (text.indexOf(ch) != i)
+                continue;
+            int count = 0;
+            for (int j = 0; j < text.length(); j++) {
+                if (text.charAt(j) == ch)
+                    count++;
+            }
+            distinct += count;
+        }
+        return distinct;
+    }
+
+    static String randomText(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            int r = random.nextInt(100);
+            if (r < 90) {
+                sb.append((char) (' ' + random.nextInt(95)));     // printable ASCII
+            } else if (r < 98) {
+                sb.append((char) (0xC0 + random.nextInt(64)));    // accented Latin-1
+            } else {
+                sb.append((char) (0x0400 + random.nextInt(256))); // Cyrillic
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void run(String label, String text, ToLongFunction<String> task) {
+        run(label, null, text, (chars, t) -> task.applyAsLong(t));
+    }
+
+    private static void run(String label, char[] chars, String text, CharsTask task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.apply(chars, text);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.apply(chars, text);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %8.3f ms  (%.1f MB/s)%n", label, best / 1e6,
+                          text.length() / (best / 1e9) / (1 << 20));
+    }
+
+    @FunctionalInterface
+    private interface CharsTask {
+        long apply(char[] chars, String text);
+    }
+}
+
@@ -0,0 +1,95 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+/**
+ * Char Slice
+ * ----------
+ * A read-only window {@code [start, end)} over another CharSequence. Nothing
+ * is copied until toString() is called, so a slice costs one small object no
+ * matter how long the field is.
+ *
+ * hashCode() is the same value String.hashCode() gives for the same chars,
+ * and equals() compares content with any other CharSlice.
+ */
+public final class CharSlice implements CharSequence {
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+    private int hash;
+
+    public CharSlice(CharSequence source, int start, int end) {
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "start " + start + ", end " + end + ", length " + source.length());
+        }
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + (end - start));
+        }
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSlice subSequence(int from, int to) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + (end - start));
+        }
+        return new CharSlice(source, start + from, start + to);
+    }
+
+    /** True when this slice holds exactly the chars of {@code other}. */
+    public boolean contentEquals(CharSequence other) {
+        int length = end - start;
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source.charAt(start + i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof CharSlice && contentEquals((CharSlice) o);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            for (int i = start; i < end; i++) {
+                h = 31 * h + source.charAt(i);
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return source.subSequence(start, end).toString();
+    }
+}
@@ -0,0 +1,434 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IllegalFormatCodePointException;
+import java.util.List;
+
+/**
+ * Compiled Template
+ * -----------------
+ * A format pattern parsed once and rendered many times, for the hot
+ * String.format calls in StringUtility and StringConcatenation:
+ *
+ *     CompiledTemplate bill = CompiledTemplate.compile("Item: %s, Quantity: %d, Price: ₹%.2f");
+ *     bill.cursor().into(sb).arg("Laptop").arg(3).arg(45999.75).done();
+ *
+ * Supported conversions: %s, %d, %f / %.Nf, %c, %n and %%. Flags and widths
+ * are rejected when compiling. Numbers are always written the Locale.ROOT
+ * way ('.' as decimal separator, no grouping).
+ *
+ * Output goes to a StringBuilder or a ByteBuffer (UTF-8). The Cursor API
+ * takes primitives directly and, once created, renders without allocating;
+ * the only exception is a %.Nf value that lies exactly on a rounding tie,
+ * which is rounded half-up through BigDecimal to match String.format.
+ */
+public final class CompiledTemplate {
+
+    private static final long[] POW10 = new long[16];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final String pattern;
+    private final String[] literals;        // literals[i] comes before argument i
+    private final byte[][] literalBytes;    // the same literals, UTF-8 encoded
+    private final char[] conversions;
+    private final int[] precisions;
+
+    private CompiledTemplate(String pattern, List<String> literals, List<Character> conversions,
+                             List<Integer> precisions) {
+        this.pattern = pattern;
+        this.literals = literals.toArray(new String[0]);
+        this.literalBytes = new byte[this.literals.length][];
+        for (int i = 0; i < this.literals.length; i++) {
+            this.literalBytes[i] = this.literals[i].getBytes(StandardCharsets.UTF_8);
+        }
+        this.conversions = new char[conversions.size()];
+        this.precisions = new int[precisions.size()];
+        for (int i = 0; i < this.conversions.length; i++) {
+            this.conversions[i] = conversions.get(i);
+            this.precisions[i] = precisions.get(i);
+        }
+    }
+
+    /** @throws IllegalArgumentException for a conversion this class does not support */
+    public static CompiledTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Character> conversions = new ArrayList<>();
+        List<Integer> precisions = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char ch = pattern.charAt(i++);
+            if (ch != '%') {
+                literal.append(ch);
+                continue;
+            }
+            if (i == pattern.length()) {
+                throw new IllegalArgumentException("Dangling '%' at end of pattern: " + pattern);
+            }
+            int precision = -1;
+            if (pattern.charAt(i) == '.') {
+                int start = ++i;
+                while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                    i++;
+                }
+                if (i == start || i - start > 2 || i == pattern.length()) {
+                    throw new IllegalArgumentException("Bad precision at index " + start + ": " + pattern);
+                }
+                precision = Integer.parseInt(pattern.substring(start, i));
+            }
+            char conversion = pattern.charAt(i++);
+            if (conversion == '%' || conversion == 'n') {
+                if (precision >= 0) {
+                    throw new IllegalArgumentException("Precision not allowed for %" + conversion);
+                }
+                literal.append(conversion == '%' ? "%" : System.lineSeparator());
+                continue;
+            }
+            if (conversion == 'f') {
+                precision = precision < 0 ? 6 : precision;
+                if (precision >= POW10.length) {
+                    throw new IllegalArgumentException("Precision too large: " + precision);
+                }
+            } else if (conversion != 's' && conversion != 'd' && conversion != 'c' || precision >= 0) {
+                throw new IllegalArgumentException("Unsupported conversion at index " + (i - 1) + ": " + pattern);
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            conversions.add(conversion);
+            precisions.add(precision);
+        }
+        literals.add(literal.toString());
+        return new CompiledTemplate(pattern, literals, conversions, precisions);
+    }
+
+    public int argumentCount() {
+        return conversions.length;
+    }
+
+    /** Convenience form; boxes primitives like String.format does. */
+    public String format(Object... args) {
+        return render(new StringBuilder(pattern.length() + 16 * args.length), args).toString();
+    }
+
+    public StringBuilder render(StringBuilder sb, Object... args) {
+        return cursor().into(sb).args(args).done().chars;
+    }
+
+    public ByteBuffer render(ByteBuffer bb, Object... args) {
+        return cursor().into(bb).args(args).done().bytes;
+    }
+
+    /** A reusable renderer; keep one per thread and call into() for each line. */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Feeds the arguments of one rendering in order. Not thread-safe; a
+     * cursor may be reused for any number of renderings.
+     */
+    public final class Cursor {
+
+        private final char[] digits = new char[24];
+        private StringBuilder chars;
+        private ByteBuffer bytes;
+        private int next = -1;
+
+        private Cursor() {
+        }
+
+        public Cursor into(StringBuilder sb) {
+            chars = sb;
+            bytes = null;
+            return begin();
+        }
+
+        public Cursor into(ByteBuffer bb) {
+            bytes = bb;
+            chars = null;
+            return begin();
+        }
+
+        public Cursor arg(CharSequence value) {
+            expect('s', "String");
+            appendText(value == null ? "null" : value);
+            return advance();
+        }
+
+        public Cursor arg(char value) {
+            char conversion = conversionOf();
+            if (conversion != 'c' && conversion != 's') {
+                throw mismatch(conversion, "char");
+            }
+            if (chars != null) {
+                chars.append(value);
+            } else {
+                appendUtf8(value);
+            }
+            return advance();
+        }
+
+        /** Under %c the value is a code point, as String.format takes an Integer. */
+        public Cursor arg(int value) {
+            if (conversionOf() != 'c') {
+                return arg((long) value);
+            }
+            if (!Character.isValidCodePoint(value)) {
+                throw new IllegalFormatCodePointException(value);
+            }
+            if (chars != null) {
+                chars.appendCodePoint(value);
+            } else if (Character.isBmpCodePoint(value)) {
+                appendUtf8((char) value);
+            } else {
+                appendSupplementary(value);
+            }
+            return advance();
+        }
+
+        public Cursor arg(long value) {
+            char conversion = conversionOf();
+            if (conversion != 'd' && conversion != 's') {
+                throw mismatch(conversion, "long");
+            }
+            if (chars != null) {
+                chars.append(value);
+            } else {
+                appendLong(value);
+            }
+            return advance();
+        }
+
+        /** %s prints Float.toString(value); %f prints the float's exact value, widened. */
+        public Cursor arg(float value) {
+            char conversion = conversionOf();
+            if (conversion == 's') {
+                appendText(Float.toString(value));
+                return advance();
+            }
+            if (conversion != 'f') {
+                throw mismatch(conversion, "float");
+            }
+            return arg((double) value);
+        }
+
+        public Cursor arg(double value) {
+            char conversion = conversionOf();
+            if (conversion == 's') {
+                appendText(String.valueOf(value));
+            } else if (conversion == 'f') {
+                appendFixed(value, precisions[next]);
+            } else {
+                throw mismatch(conversion, "double");
+            }
+            return advance();
+        }
+
+        /** Dispatches boxed arguments the same way String.format would. */
+        public Cursor args(Object... values) {
+            if (values.length != conversions.length) {
+                throw new IllegalArgumentException(
+                        "Pattern needs " + conversions.length + " arguments, got " + values.length);
+            }
+            for (Object value : values) {
+                if (value == null) {
+                    conversionOf();
+                    appendText("null");
+                    advance();
+                } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    arg(((Number) value).intValue());
+                } else if (value instanceof Long) {
+                    arg(((Long) value).longValue());
+                } else if (value instanceof Float) {
+                    arg(((Float) value).floatValue());
+                } else if (value instanceof Double) {
+                    arg(((Double) value).doubleValue());
+                } else if (value instanceof Character) {
+                    arg(((Character) value).charValue());
+                } else {
+                    arg(String.valueOf(value));
+                }
+            }
+            return this;
+        }
+
+        /** Writes the trailing literal; every argument must have been supplied. */
+        public Cursor done() {
+            if (next != conversions.length) {
+                throw new IllegalStateException(
+                        "Pattern needs " + conversions.length + " arguments, got " + Math.max(next, 0));
+            }
+            next = -1;
+            return this;
+        }
+
+        // ------------------------------------------------------------ internals
+
+        private Cursor begin() {
+            next = 0;
+            appendLiteral(0);
+            return this;
+        }
+
+        private Cursor advance() {
+            next++;
+            if (next < literals.length) {
+                appendLiteral(next);
+            }
+            return this;
+        }
+
+        private char conversionOf() {
+            if (next < 0) {
+                throw new IllegalStateException("Call into(...) before supplying arguments");
+            }
+            if (next >= conversions.length) {
+                throw new IllegalArgumentException("Too many arguments: pattern takes " + conversions.length);
+            }
+            return conversions[next];
+        }
+
+        private void expect(char wanted, String type) {
+            char conversion = conversionOf();
+            if (conversion != wanted) {
+                throw mismatch(conversion, type);
+            }
+        }
+
+        private IllegalArgumentException mismatch(char conversion, String type) {
+            return new IllegalArgumentException("%" + conversion + " cannot format a " + type
+                                                + " (argument " + next + ")");
+        }
+
+        private void appendLiteral(int index) {
+            if (chars != null) {
+                chars.append(literals[index]);
+            } else {
+                bytes.put(literalBytes[index]);
+            }
+        }
+
+        private void appendText(CharSequence text) {
+            if (chars != null) {
+                chars.append(text);
+                return;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                char ch = text.charAt(i);
+                if (ch < 0x80) {
+                    bytes.put((byte) ch);
+                } else if (Character.isHighSurrogate(ch) && i + 1 < text.length()
+                           && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    appendSupplementary(Character.toCodePoint(ch, text.charAt(++i)));
+                } else {
+                    appendUtf8(ch);
+                }
+            }
+        }
+
+        private void appendSupplementary(int cp) {
+            bytes.put((byte) (0xF0 | (cp >> 18)))
+                 .put((byte) (0x80 | ((cp >> 12) & 0x3F)))
+                 .put((byte) (0x80 | ((cp >> 6) & 0x3F)))
+                 .put((byte) (0x80 | (cp & 0x3F)));
+        }
+
+        private void appendUtf8(char ch) {
+            if (ch < 0x80) {
+                bytes.put((byte) ch);
+            } else if (ch < 0x800) {
+                bytes.put((byte) (0xC0 | (ch >> 6))).put((byte) (0x80 | (ch & 0x3F)));
+            } else if (Character.isSurrogate(ch)) {
+                bytes.put((byte) '?');          // unpaired surrogate, as String.getBytes does
+            } else {
+                bytes.put((byte) (0xE0 | (ch >> 12)))
+                     .put((byte) (0x80 | ((ch >> 6) & 0x3F)))
+                     .put((byte) (0x80 | (ch & 0x3F)));
+            }
+        }
+
+        // digits are produced from the negative side so Long.MIN_VALUE works
+        private void appendLong(long value) {
+            int pos = digits.length;
+            long n = value < 0 ? value : -value;
+            do {
+                digits[--pos] = (char) ('0' - (n % 10));
+                n /= 10;
+            } while (n != 0);
+            if (value < 0) {
+                digits[--pos] = '-';
+            }
+            appendDigits(pos);
+        }
+
+        private void appendFixed(double value, int precision) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                appendText(Double.toString(value));
+                return;
+            }
+            boolean negative = Double.doubleToRawLongBits(value) < 0;
+            double scaled = Math.abs(value) * POW10[precision];
+            double floor = Math.floor(scaled);
+            double fraction = scaled - floor;
+            if (scaled >= 0x1p53 || Math.abs(fraction - 0.5) <= 4 * Math.ulp(scaled)) {
+                // too big for a long, or too close to a tie to trust the product
+                appendText(new BigDecimal(Double.toString(value))
+                                   .setScale(precision, RoundingMode.HALF_UP).toPlainString());
+                return;
+            }
+            long units = (long) floor + (fraction > 0.5 ? 1 : 0);
+            long whole = units / POW10[precision];
+            long part = units % POW10[precision];
+            int pos = digits.length;
+            for (int i = 0; i < precision; i++) {
+                digits[--pos] = (char) ('0' + part % 10);
+                part /= 10;
+            }
+            if (precision > 0) {
+                digits[--pos] = '.';
+            }
+            do {
+                digits[--pos] = (char) ('0' + whole % 10);
+                whole /= 10;
+            } while (whole != 0);
+            if (negative) {
+                digits[--pos] = '-';
+            }
+            appendDigits(pos);
+        }
+
+        private void appendDigits(int from) {
+            if (chars != null) {
+                chars.append(digits, from, digits.length - from);
+            } else {
+                for (int i = from; i < digits.length; i++) {
+                    bytes.put((byte) digits[i]);
+                }
+            }
+        }
+    }
+}
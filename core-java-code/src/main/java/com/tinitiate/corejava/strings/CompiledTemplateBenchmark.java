@@ -0,0 +1,150 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongSupplier;
+
+/**
+ * Compiled Template Benchmark
+ * ---------------------------
+ * Renders the bill line from StringUtility and the course line from
+ * StringConcatenation one million times each way: String.format, concat(),
+ * the '+' operator, and CompiledTemplate into a reused StringBuilder and
+ * a reused ByteBuffer.
+ */
+public class CompiledTemplateBenchmark {
+
+    private static final int LINES = 1_000_000;
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 10;
+
+    private static final String[] PRODUCTS = {"Laptop", "Mouse", "Monitor", "Keyboard"};
+    private static final String[] LANGUAGES = {"Python", "Java", "Go", "Rust"};
+
+    static long sink;
+
+    public static void main(String[] args) {
+        CompiledTemplate bill = CompiledTemplate.compile("Item: %s, Quantity: %d, Price: ₹%.2f");
+        CompiledTemplate course = CompiledTemplate.compile("Course: %s | Duration: %d days");
+        CompiledTemplate.Cursor billCursor = bill.cursor();
+        CompiledTemplate.Cursor courseCursor = course.cursor();
+        StringBuilder sb = new StringBuilder(128);
+        StringBuilder latin1 = new StringBuilder(128);  // sb turns UTF-16 after the first '₹'
+        ByteBuffer bb = ByteBuffer.allocate(256);
+
+        System.out.println("-- bill line (StringUtility)");
+        run("String.format      ", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                n += String.format("Item: %s, Quantity: %d, Price: ₹%.2f",
+                                   PRODUCTS[i & 3], i & 15, price(i)).length();
+            }
+            return n;
+        });
+        run("concat()           ", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                // concat() has no %.2f either; rounded by hand as for '+' below
+                n += "Item: ".concat(PRODUCTS[i & 3]).concat(", Quantity: ")
+                             .concat(String.valueOf(i & 15)).concat(", Price: ₹")
+                             .concat(String.valueOf(Math.round(price(i) * 100) / 100.0)).length();
+            }
+            return n;
+        });
+        run("'+' operator       ", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                // '+' has no %.2f; rounding by hand keeps the comparison fair
+                n += ("Item: " + PRODUCTS[i & 3] + ", Quantity: " + (i & 15)
+                      + ", Price: ₹" + Math.round(price(i) * 100) / 100.0).length();
+            }
+            return n;
+        });
+        run("CompiledTemplate sb", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                sb.setLength(0);
+                billCursor.into(sb).arg(PRODUCTS[i & 3]).arg(i & 15).arg(price(i)).done();
+                n += sb.length();
+            }
+            return n;
+        });
+        run("CompiledTemplate bb", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                bb.clear();
+                billCursor.into(bb).arg(PRODUCTS[i & 3]).arg(i & 15).arg(price(i)).done();
+                n += bb.position();
+            }
+            return n;
+        });
+
+        System.out.println("-- course line (StringConcatenation)");
+        run("String.format      ", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                n += String.format("Course: %s | Duration: %d days", LANGUAGES[i & 3], i & 63).length();
+            }
+            return n;
+        });
+        run("concat()           ", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                n += "Course: ".concat(LANGUAGES[i & 3]).concat(" | Duration: ")
+                               .concat(String.valueOf(i & 63)).concat(" days").length();
+            }
+            return n;
+        });
+        run("'+' operator       ", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                n += ("Course: " + LANGUAGES[i & 3] + " | Duration: " + (i & 63) + " days").length();
+            }
+            return n;
+        });
+        run("CompiledTemplate sb", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                latin1.setLength(0);
+                courseCursor.into(latin1).arg(LANGUAGES[i & 3]).arg(i & 63).done();
+                n += latin1.length();
+            }
+            return n;
+        });
+        run("CompiledTemplate bb", () -> {
+            long n = 0;
+            for (int i = 0; i < LINES; i++) {
+                bb.clear();
+                courseCursor.into(bb).arg(LANGUAGES[i & 3]).arg(i & 63).done();
+                n += bb.position();
+            }
+            return n;
+        });
+        System.out.println("sink=" + sink);
+    }
+
+    private static double price(int i) {
+        return 45999.75 + (i & 1023) * 0.37;
+    }
+
+    private static void run(String label, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %8.2f ns/line%n", label, (double) best / LINES);
+    }
+}
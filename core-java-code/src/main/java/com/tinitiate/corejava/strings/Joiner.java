@@ -0,0 +1,83 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.util.Collection;
+
+/**
+ * Joiner
+ * ------
+ * Counterpart of Splitter for the String.join calls in StringSplitJoin.
+ * The output buffer is sized from the field lengths before anything is
+ * copied, so it never has to grow, and any CharSequence (including the
+ * CharSlice views Splitter returns) can be joined without converting it to
+ * a String first.
+ *
+ *     Joiner.on(" | ").join("C", "C++", "Java", "Python")   // "C | C++ | Java | Python"
+ */
+public final class Joiner {
+
+    private final String separator;
+
+    private Joiner(String separator) {
+        this.separator = separator;
+    }
+
+    public static Joiner on(String separator) {
+        return new Joiner(separator);
+    }
+
+    public static Joiner on(char separator) {
+        return new Joiner(String.valueOf(separator));
+    }
+
+    public String join(CharSequence... parts) {
+        int size = parts.length == 0 ? 0 : separator.length() * (parts.length - 1);
+        for (CharSequence part : parts) {
+            size += part.length();
+        }
+        return appendTo(new StringBuilder(size), parts).toString();
+    }
+
+    /** Collections are measured first; other iterables are joined in one pass. */
+    public String join(Iterable<? extends CharSequence> parts) {
+        int size = 16;
+        if (parts instanceof Collection) {
+            Collection<? extends CharSequence> collection = (Collection<? extends CharSequence>) parts;
+            size = collection.isEmpty() ? 0 : separator.length() * (collection.size() - 1);
+            for (CharSequence part : collection) {
+                size += part.length();
+            }
+        }
+        return appendTo(new StringBuilder(size), parts).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder sb, CharSequence... parts) {
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append(parts[i]);
+        }
+        return sb;
+    }
+
+    public StringBuilder appendTo(StringBuilder sb, Iterable<? extends CharSequence> parts) {
+        boolean first = true;
+        for (CharSequence part : parts) {
+            if (!first) {
+                sb.append(separator);
+            }
+            sb.append(part);
+            first = false;
+        }
+        return sb;
+    }
+}
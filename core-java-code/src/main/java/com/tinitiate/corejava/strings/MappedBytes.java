@@ -0,0 +1,112 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Mapped Bytes
+ * ------------
+ * A file mapped as a row of 1 GB MappedByteBuffer segments, so that files
+ * larger than 2 GB (and larger than the heap) can be addressed with a long
+ * position. Pages are loaded by the OS on demand.
+ */
+final class MappedBytes {
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private MappedBytes(MappedByteBuffer[] segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /** Maps {@code [0, size)} of the channel; READ_WRITE grows the file if needed. */
+    static MappedBytes map(FileChannel channel, FileChannel.MapMode mode, long size) throws IOException {
+        int count = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int s = 0; s < count; s++) {
+            long start = (long) s << SEGMENT_SHIFT;
+            segments[s] = channel.map(mode, start, Math.min(SEGMENT_SIZE, size - start));
+        }
+        return new MappedBytes(segments, size);
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+    }
+
+    void put(long position, byte value) {
+        segments[(int) (position >>> SEGMENT_SHIFT)].put((int) (position & SEGMENT_MASK), value);
+    }
+
+    // ------------------------------------------------------------ UTF-8 units
+    //
+    // A "unit" is one well-formed UTF-8 sequence, or a single byte when the
+    // bytes at that spot are malformed. Malformed bytes decode to values above
+    // U+10FFFF so they never compare equal to a real code point.
+
+    /** Length in bytes of the unit starting at {@code position}. */
+    int unitLengthAt(long position) {
+        int lead = get(position) & 0xFF;
+        int length = lead < 0x80 ? 1 : lead >= 0xF0 && lead < 0xF5 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC2 ? 2 : 1;
+        if (length == 1 || position + length > size) {
+            return 1;
+        }
+        for (int i = 1; i < length; i++) {
+            if (!isContinuation(get(position + i))) {
+                return 1;
+            }
+        }
+        return length;
+    }
+
+    /** Length in bytes of the unit ending just before {@code end}. */
+    int unitLengthBefore(long end) {
+        long start = end - 1;
+        while (start > 0 && end - start < 4 && isContinuation(get(start))) {
+            start--;
+        }
+        int length = (int) (end - start);
+        return length > 1 && unitLengthAt(start) == length ? length : 1;
+    }
+
+    int codePoint(long start, int length) {
+        int b = get(start) & 0xFF;
+        if (length == 1) {
+            return b < 0x80 ? b : 0x110000 + b;
+        }
+        int cp = b & (0xFF >>> (length + 1));
+        for (int i = 1; i < length; i++) {
+            cp = (cp << 6) | (get(start + i) & 0x3F);
+        }
+        return cp;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+}
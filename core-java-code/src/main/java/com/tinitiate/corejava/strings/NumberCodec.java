@@ -0,0 +1,664 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Number Codec
+ * ------------
+ * Parses and prints the types used in StringConversion and UnboxingExample
+ * (int, long, double, boolean) straight from and into buffers:
+ *
+ *  - parse from a CharSequence slice or a byte[] slice (ASCII / UTF-8),
+ *    without substring() and without exceptions. A failed parse returns 0
+ *    (or false) and error() tells why: OK, EMPTY, INVALID or OVERFLOW.
+ *  - print into a byte[] or char[] at an offset and return the length.
+ *    Doubles are printed with the Ryu algorithm, which yields the shortest
+ *    digit string that reads back to the same double, laid out the way
+ *    Double.toString lays it out ("99.99", "1.0E10", "1.0E-5").
+ *
+ * Decimal input with at most 15 significant digits and a power of ten up to
+ * 22 (prices, quantities, percentages, ...) is converted with one exact
+ * multiply or divide. Anything longer falls back to Double.parseDouble so
+ * the result is always correctly rounded.
+ *
+ * An instance keeps the last error and a small scratch buffer, so use one
+ * instance per thread.
+ */
+public final class NumberCodec {
+
+    public static final int OK = 0;
+    public static final int EMPTY = 1;
+    public static final int INVALID = 2;
+    public static final int OVERFLOW = 3;
+
+    /** Longest output of any write method: "-2.2250738585072014E-308". */
+    public static final int MAX_LENGTH = 24;
+
+    private static final double[] POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private int error;
+    private CharSequence text;      // current parse source: text or bytes
+    private byte[] bytes;
+    private final byte[] scratch = new byte[MAX_LENGTH];
+    private int decimalExponent;    // second result of shortestDigits()
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[2 * i] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    /** Result of the last parse call. */
+    public int error() {
+        return error;
+    }
+
+    // ================================================================ parsing
+
+    public int parseInt(CharSequence source, int from, int to) {
+        setSource(source, from, to);
+        return (int) parseLong(from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public int parseInt(byte[] source, int from, int to) {
+        setSource(source, from, to);
+        return (int) parseLong(from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public long parseLong(CharSequence source, int from, int to) {
+        setSource(source, from, to);
+        return parseLong(from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public long parseLong(byte[] source, int from, int to) {
+        setSource(source, from, to);
+        return parseLong(from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Accepts a narrower grammar than Double.parseDouble: an optional sign,
+     * then NaN, Infinity, or decimal digits with an optional '.' (at least
+     * one digit on either side) and an optional exponent, e or E with an
+     * optional sign and at least one digit. The 'd' / 'f' suffixes, hex
+     * floats ("0x1p3") and leading or trailing whitespace are INVALID.
+     */
+    public double parseDouble(CharSequence source, int from, int to) {
+        setSource(source, from, to);
+        return parseDouble(from, to);
+    }
+
+    /** The grammar of {@link #parseDouble(CharSequence, int, int)}, over ASCII bytes. */
+    public double parseDouble(byte[] source, int from, int to) {
+        setSource(source, from, to);
+        return parseDouble(from, to);
+    }
+
+    /** "true" in any case is true, like Boolean.parseBoolean; anything else is false. */
+    public boolean parseBoolean(CharSequence source, int from, int to) {
+        setSource(source, from, to);
+        return parseBoolean(from, to);
+    }
+
+    public boolean parseBoolean(byte[] source, int from, int to) {
+        setSource(source, from, to);
+        return parseBoolean(from, to);
+    }
+
+    private void setSource(CharSequence source, int from, int to) {
+        checkRange(source.length(), from, to);
+        text = source;
+        bytes = null;
+    }
+
+    private void setSource(byte[] source, int from, int to) {
+        checkRange(source.length, from, to);
+        bytes = source;
+        text = null;
+    }
+
+    private int at(int i) {
+        return bytes != null ? bytes[i] & 0xFF : text.charAt(i);
+    }
+
+    // accumulates negatively so that MIN_VALUE parses without overflow
+    private long parseLong(int from, int to, long min, long max) {
+        if (from == to) {
+            return fail(EMPTY);
+        }
+        int i = from;
+        int first = at(i);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (++i == to) {
+                return fail(INVALID);
+            }
+        }
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < to; i++) {
+            int digit = at(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return fail(INVALID);
+            }
+            if (result < multiplyLimit) {
+                return fail(OVERFLOW);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return fail(OVERFLOW);
+            }
+            result -= digit;
+        }
+        error = OK;
+        return negative ? result : -result;
+    }
+
+    private double parseDouble(int from, int to) {
+        if (from == to) {
+            return fail(EMPTY);
+        }
+        int i = from;
+        boolean negative = at(i) == '-';
+        if (negative || at(i) == '+') {
+            i++;
+        }
+        if (matches(i, to, "NaN")) {
+            error = OK;
+            return Double.NaN;
+        }
+        if (matches(i, to, "Infinity")) {
+            error = OK;
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        long mantissa = 0;
+        int digits = 0;             // significant digits held in mantissa (max 18)
+        int exponent = 0;           // value = mantissa * 10^exponent
+        boolean anyDigit = false;
+        boolean truncated = false;  // nonzero digits were dropped past the 18th
+        for (int d; i < to && (d = at(i) - '0') >= 0 && d <= 9; i++) {
+            anyDigit = true;
+            if (digits < 18) {
+                if (mantissa != 0 || d != 0) {
+                    mantissa = mantissa * 10 + d;
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= d != 0;
+            }
+        }
+        if (i < to && at(i) == '.') {
+            for (int d; ++i < to && (d = at(i) - '0') >= 0 && d <= 9; ) {
+                anyDigit = true;
+                if (digits < 18) {
+                    if (mantissa != 0 || d != 0) {
+                        mantissa = mantissa * 10 + d;
+                        digits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= d != 0;
+                }
+            }
+        }
+        if (!anyDigit) {
+            return fail(INVALID);
+        }
+        if (i < to && (at(i) | 0x20) == 'e') {
+            boolean negativeExponent = ++i < to && at(i) == '-';
+            if (i < to && (at(i) == '-' || at(i) == '+')) {
+                i++;
+            }
+            if (i == to) {
+                return fail(INVALID);
+            }
+            int e = 0;
+            for (int d; i < to && (d = at(i) - '0') >= 0 && d <= 9; i++) {
+                e = Math.min(e * 10 + d, 100_000);      // far beyond any double
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (i != to) {
+            return fail(INVALID);
+        }
+
+        error = OK;
+        double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (!truncated && mantissa < (1L << 53) && exponent >= -22 && exponent <= 22) {
+            // both operands are exact, so one IEEE operation rounds correctly
+            value = exponent < 0 ? mantissa / POW10[-exponent] : mantissa * POW10[exponent];
+        } else {
+            String slice = bytes != null
+                    ? new String(bytes, from, to - from, StandardCharsets.ISO_8859_1)
+                    : text.subSequence(from, to).toString();
+            return Double.parseDouble(slice);
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean parseBoolean(int from, int to) {
+        error = from == to ? EMPTY : OK;
+        return matchesIgnoreCase(from, to, TRUE);
+    }
+
+    private boolean matches(int from, int to, String word) {
+        if (to - from != word.length()) {
+            return false;
+        }
+        for (int k = 0; k < word.length(); k++) {
+            if (at(from + k) != word.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesIgnoreCase(int from, int to, byte[] word) {
+        if (to - from != word.length) {
+            return false;
+        }
+        for (int k = 0; k < word.length; k++) {
+            if ((at(from + k) | 0x20) != word[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int fail(int code) {
+        error = code;
+        return 0;
+    }
+
+    // ================================================================ printing
+
+    /** @return the number of bytes written */
+    public int write(long value, byte[] dst, int offset) {
+        int length = formatLong(value);
+        System.arraycopy(scratch, 0, dst, offset, length);
+        return length;
+    }
+
+    /** @return the number of chars written */
+    public int write(long value, char[] dst, int offset) {
+        return copy(formatLong(value), dst, offset);
+    }
+
+    public int write(double value, byte[] dst, int offset) {
+        int length = formatDouble(value);
+        System.arraycopy(scratch, 0, dst, offset, length);
+        return length;
+    }
+
+    public int write(double value, char[] dst, int offset) {
+        return copy(formatDouble(value), dst, offset);
+    }
+
+    public int write(boolean value, byte[] dst, int offset) {
+        byte[] word = value ? TRUE : FALSE;
+        System.arraycopy(word, 0, dst, offset, word.length);
+        return word.length;
+    }
+
+    public int write(boolean value, char[] dst, int offset) {
+        byte[] word = value ? TRUE : FALSE;
+        System.arraycopy(word, 0, scratch, 0, word.length);
+        return copy(word.length, dst, offset);
+    }
+
+    /** Convenience form of the shortest double printer. */
+    public static String toString(double value) {
+        NumberCodec codec = new NumberCodec();
+        return new String(codec.scratch, 0, codec.formatDouble(value), StandardCharsets.ISO_8859_1);
+    }
+
+    /** String.valueOf(long) that returns the pooled String when the value repeats. */
+    public String toString(long value, StringPool pool) {
+        return pool.intern(scratch, 0, formatLong(value));
+    }
+
+    /** String.valueOf(double) that returns the pooled String when the value repeats. */
+    public String toString(double value, StringPool pool) {
+        return pool.intern(scratch, 0, formatDouble(value));
+    }
+
+    private int copy(int length, char[] dst, int offset) {
+        if (offset < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", need " + length + " chars");
+        }
+        for (int i = 0; i < length; i++) {
+            dst[offset + i] = (char) scratch[i];
+        }
+        return length;
+    }
+
+    private int formatLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            byte[] min = "-9223372036854775808".getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(min, 0, scratch, 0, min.length);
+            return min.length;
+        }
+        int pos = 0;
+        if (value < 0) {
+            scratch[pos++] = '-';
+            value = -value;
+        }
+        int length = pos + decimalLength(value);
+        writeDigits(value, length);
+        return length;
+    }
+
+    // writes value's digits so that the last one lands at scratch[end - 1]
+    private void writeDigits(long value, int end) {
+        int pos = end;
+        while (value >= 100) {
+            int pair = (int) (value % 100) * 2;
+            value /= 100;
+            scratch[--pos] = DIGIT_PAIRS[pair + 1];
+            scratch[--pos] = DIGIT_PAIRS[pair];
+        }
+        if (value >= 10) {
+            scratch[--pos] = DIGIT_PAIRS[(int) value * 2 + 1];
+            scratch[--pos] = DIGIT_PAIRS[(int) value * 2];
+        } else {
+            scratch[--pos] = (byte) ('0' + value);
+        }
+    }
+
+    private static int decimalLength(long v) {
+        int length = 1;
+        for (long p = 10; length < 19 && v >= p; p *= 10) {
+            length++;
+        }
+        return length;
+    }
+
+    private int formatDouble(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        int pos = 0;
+        if (Double.isNaN(value)) {
+            return put(0, "NaN");
+        }
+        if (bits < 0) {
+            scratch[pos++] = '-';
+        }
+        if (Double.isInfinite(value)) {
+            return put(pos, "Infinity");
+        }
+        if ((bits & Long.MAX_VALUE) == 0) {
+            return put(pos, "0.0");
+        }
+
+        long digits = shortestDigits(bits);
+        int exponent = decimalExponent;
+        int length = decimalLength(digits);
+        int scientific = exponent + length - 1;
+
+        if (scientific >= -3 && scientific < 7) {
+            if (scientific >= 0) {
+                int integerDigits = scientific + 1;
+                if (length <= integerDigits) {          // 1200.0
+                    writeDigits(digits, pos + length);
+                    pos += length;
+                    for (int k = length; k < integerDigits; k++) {
+                        scratch[pos++] = '0';
+                    }
+                    scratch[pos++] = '.';
+                    scratch[pos++] = '0';
+                } else {                                 // 12.345
+                    writeDigits(digits, pos + length + 1);
+                    System.arraycopy(scratch, pos + 1, scratch, pos, integerDigits);
+                    scratch[pos + integerDigits] = '.';
+                    pos += length + 1;
+                }
+            } else {                                     // 0.00123
+                scratch[pos++] = '0';
+                scratch[pos++] = '.';
+                for (int k = -1; k > scientific; k--) {
+                    scratch[pos++] = '0';
+                }
+                writeDigits(digits, pos + length);
+                pos += length;
+            }
+            return pos;
+        }
+
+        // d.dddE[-]n
+        writeDigits(digits, pos + length + 1);
+        scratch[pos] = scratch[pos + 1];
+        scratch[pos + 1] = '.';
+        pos += length + 1;
+        if (length == 1) {
+            scratch[pos++] = '0';
+        }
+        scratch[pos++] = 'E';
+        if (scientific < 0) {
+            scratch[pos++] = '-';
+            scientific = -scientific;
+        }
+        int expLength = decimalLength(scientific);
+        writeDigits(scientific, pos + expLength);
+        return pos + expLength;
+    }
+
+    private int put(int pos, String word) {
+        for (int k = 0; k < word.length(); k++) {
+            scratch[pos++] = (byte) word.charAt(k);
+        }
+        return pos;
+    }
+
+    private static void checkRange(int size, int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", size " + size);
+        }
+    }
+
+    // ================================================================ Ryu
+
+    /**
+     * Ryu (Ulf Adams, PLDI 2018): returns the shortest digit string that
+     * rounds back to the finite, non-zero double with these bits, and leaves
+     * its power of ten in decimalExponent.
+     */
+    private long shortestDigits(long bits) {
+        int ieeeExponent = (int) ((bits >>> 52) & 0x7FF);
+        long ieeeMantissa = bits & ((1L << 52) - 1);
+        int e2;
+        long m2;
+        if (ieeeExponent == 0) {
+            e2 = 1 - 1023 - 52 - 2;
+            m2 = ieeeMantissa;
+        } else {
+            e2 = ieeeExponent - 1023 - 52 - 2;
+            m2 = ieeeMantissa | (1L << 52);
+        }
+        boolean acceptBounds = (m2 & 1) == 0;
+
+        // the interval of decimals that round to this double is (vm, vp), around vr
+        long mv = 4 * m2;
+        int mmShift = ieeeMantissa != 0 || ieeeExponent <= 1 ? 1 : 0;
+        long vr;
+        long vp;
+        long vm;
+        int e10;
+        boolean vmIsTrailingZeros = false;
+        boolean vrIsTrailingZeros = false;
+        if (e2 >= 0) {
+            int q = log10Pow2(e2) - (e2 > 3 ? 1 : 0);
+            e10 = q;
+            int k = Ryu.POW5_INV_BITCOUNT + pow5bits(q) - 1;
+            int i = -e2 + q + k;
+            long[] mul = Ryu.POW5_INV_SPLIT[q];
+            vr = mulShift64(mv, mul, i);
+            vp = mulShift64(mv + 2, mul, i);
+            vm = mulShift64(mv - 1 - mmShift, mul, i);
+            if (q <= 21) {
+                if (mv % 5 == 0) {
+                    vrIsTrailingZeros = multipleOfPowerOf5(mv, q);
+                } else if (acceptBounds) {
+                    vmIsTrailingZeros = multipleOfPowerOf5(mv - 1 - mmShift, q);
+                } else if (multipleOfPowerOf5(mv + 2, q)) {
+                    vp--;
+                }
+            }
+        } else {
+            int q = log10Pow5(-e2) - (-e2 > 1 ? 1 : 0);
+            e10 = q + e2;
+            int i = -e2 - q;
+            int k = pow5bits(i) - Ryu.POW5_BITCOUNT;
+            int j = q - k;
+            long[] mul = Ryu.POW5_SPLIT[i];
+            vr = mulShift64(mv, mul, j);
+            vp = mulShift64(mv + 2, mul, j);
+            vm = mulShift64(mv - 1 - mmShift, mul, j);
+            if (q <= 1) {
+                vrIsTrailingZeros = true;
+                if (acceptBounds) {
+                    vmIsTrailingZeros = mmShift == 1;
+                } else {
+                    vp--;
+                }
+            } else if (q < 63) {
+                vrIsTrailingZeros = (mv & ((1L << q) - 1)) == 0;
+            }
+        }
+
+        // drop digits while the interval still holds a shorter decimal
+        int removed = 0;
+        int lastRemovedDigit = 0;
+        long output;
+        if (vmIsTrailingZeros || vrIsTrailingZeros) {
+            while (vp / 10 > vm / 10) {
+                vmIsTrailingZeros &= vm % 10 == 0;
+                vrIsTrailingZeros &= lastRemovedDigit == 0;
+                lastRemovedDigit = (int) (vr % 10);
+                vr /= 10;
+                vp /= 10;
+                vm /= 10;
+                removed++;
+            }
+            if (vmIsTrailingZeros) {
+                while (vm % 10 == 0) {
+                    vrIsTrailingZeros &= lastRemovedDigit == 0;
+                    lastRemovedDigit = (int) (vr % 10);
+                    vr /= 10;
+                    vp /= 10;
+                    vm /= 10;
+                    removed++;
+                }
+            }
+            if (vrIsTrailingZeros && lastRemovedDigit == 5 && vr % 2 == 0) {
+                lastRemovedDigit = 4;           // exactly ...50..0: round half to even
+            }
+            boolean roundUp = vr == vm && (!acceptBounds || !vmIsTrailingZeros) || lastRemovedDigit >= 5;
+            output = vr + (roundUp ? 1 : 0);
+        } else {
+            boolean roundUp = false;
+            if (vp / 100 > vm / 100) {
+                roundUp = vr % 100 >= 50;
+                vr /= 100;
+                vp /= 100;
+                vm /= 100;
+                removed += 2;
+            }
+            while (vp / 10 > vm / 10) {
+                roundUp = vr % 10 >= 5;
+                vr /= 10;
+                vp /= 10;
+                vm /= 10;
+                removed++;
+            }
+            output = vr + (vr == vm || roundUp ? 1 : 0);
+        }
+        decimalExponent = e10 + removed;
+        return output;
+    }
+
+    private static int pow5bits(int e) {
+        return (int) (((long) e * 1217359) >>> 19) + 1;
+    }
+
+    private static int log10Pow2(int e) {
+        return (int) (((long) e * 78913) >>> 18);
+    }
+
+    private static int log10Pow5(int e) {
+        return (int) (((long) e * 732923) >>> 20);
+    }
+
+    private static boolean multipleOfPowerOf5(long value, int p) {
+        int count = 0;
+        while (value % 5 == 0 && value != 0) {
+            value /= 5;
+            count++;
+        }
+        return count >= p;
+    }
+
+    // (m * mul) >> j for a 128-bit mul stored as {low, high}; 64 < j < 128
+    private static long mulShift64(long m, long[] mul, int j) {
+        long high1 = unsignedMultiplyHigh(m, mul[1]);
+        long low1 = m * mul[1];
+        long high0 = unsignedMultiplyHigh(m, mul[0]);
+        long sum = high0 + low1;
+        if (Long.compareUnsigned(sum, high0) < 0) {
+            high1++;
+        }
+        int shift = j - 64;
+        return (high1 << (64 - shift)) | (sum >>> shift);
+    }
+
+    private static long unsignedMultiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /** 125-bit powers of five and their inverses, built when first needed. */
+    private static final class Ryu {
+
+        static final int POW5_BITCOUNT = 125;
+        static final int POW5_INV_BITCOUNT = 125;
+        static final long[][] POW5_SPLIT = new long[326][];
+        static final long[][] POW5_INV_SPLIT = new long[342][];
+
+        static {
+            BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+            for (int i = 0; i < POW5_SPLIT.length; i++) {
+                BigInteger pow = BigInteger.valueOf(5).pow(i);
+                int shift = pow.bitLength() - POW5_BITCOUNT;
+                BigInteger value = shift >= 0 ? pow.shiftRight(shift) : pow.shiftLeft(-shift);
+                POW5_SPLIT[i] = new long[] {value.and(mask64).longValue(), value.shiftRight(64).longValue()};
+            }
+            for (int i = 0; i < POW5_INV_SPLIT.length; i++) {
+                BigInteger pow = BigInteger.valueOf(5).pow(i);
+                int j = pow.bitLength() - 1 + POW5_INV_BITCOUNT;
+                BigInteger value = BigInteger.ONE.shiftLeft(j).divide(pow).add(BigInteger.ONE);
+                POW5_INV_SPLIT[i] = new long[] {value.and(mask64).longValue(), value.shiftRight(64).longValue()};
+            }
+        }
+
+        private Ryu() {
+        }
+    }
+}
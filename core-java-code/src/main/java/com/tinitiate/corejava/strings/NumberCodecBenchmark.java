@@ -0,0 +1,137 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * Number Codec Benchmark
+ * ----------------------
+ * The conversions from StringConversion, done the JDK way (substring +
+ * Integer.parseInt / Double.parseDouble, String.valueOf) and the NumberCodec
+ * way (parse in place, print into a reused buffer), over one million fields.
+ */
+public class NumberCodecBenchmark {
+
+    private static final int FIELDS = 1_000_000;
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 10;
+
+    static long sink;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        int[] ints = new int[FIELDS];
+        double[] prices = new double[FIELDS];
+        StringBuilder intLine = new StringBuilder();
+        StringBuilder priceLine = new StringBuilder();
+        for (int i = 0; i < FIELDS; i++) {
+            ints[i] = random.nextInt(2_000_000) - 1_000_000;
+            prices[i] = random.nextInt(10_000_000) / 100.0;
+            intLine.append(ints[i]).append(',');
+            priceLine.append(prices[i]).append(',');
+        }
+        String intText = intLine.toString();
+        String priceText = priceLine.toString();
+        byte[] intBytes = intText.getBytes(StandardCharsets.US_ASCII);
+        byte[] priceBytes = priceText.getBytes(StandardCharsets.US_ASCII);
+        NumberCodec codec = new NumberCodec();
+        byte[] out = new byte[NumberCodec.MAX_LENGTH];
+
+        run("Integer.parseInt(substring)  ", () -> {
+            long sum = 0;
+            for (int start = 0, comma; (comma = intText.indexOf(',', start)) >= 0; start = comma + 1) {
+                sum += Integer.parseInt(intText.substring(start, comma));
+            }
+            return sum;
+        });
+        run("NumberCodec.parseInt(String) ", () -> {
+            long sum = 0;
+            for (int start = 0, comma; (comma = intText.indexOf(',', start)) >= 0; start = comma + 1) {
+                sum += codec.parseInt(intText, start, comma);
+            }
+            return sum;
+        });
+        run("NumberCodec.parseInt(byte[]) ", () -> {
+            long sum = 0;
+            for (int start = 0, comma; (comma = indexOf(intBytes, start)) >= 0; start = comma + 1) {
+                sum += codec.parseInt(intBytes, start, comma);
+            }
+            return sum;
+        });
+        run("Double.parseDouble(substring)", () -> {
+            double sum = 0;
+            for (int start = 0, comma; (comma = priceText.indexOf(',', start)) >= 0; start = comma + 1) {
+                sum += Double.parseDouble(priceText.substring(start, comma));
+            }
+            return (long) sum;
+        });
+        run("NumberCodec.parseDouble(byte)", () -> {
+            double sum = 0;
+            for (int start = 0, comma; (comma = indexOf(priceBytes, start)) >= 0; start = comma + 1) {
+                sum += codec.parseDouble(priceBytes, start, comma);
+            }
+            return (long) sum;
+        });
+        run("String.valueOf(int)          ", () -> {
+            long n = 0;
+            for (int v : ints) {
+                n += String.valueOf(v).length();
+            }
+            return n;
+        });
+        run("NumberCodec.write(int)       ", () -> {
+            long n = 0;
+            for (int v : ints) {
+                n += codec.write(v, out, 0);
+            }
+            return n;
+        });
+        run("String.valueOf(double)       ", () -> {
+            long n = 0;
+            for (double v : prices) {
+                n += String.valueOf(v).length();
+            }
+            return n;
+        });
+        run("NumberCodec.write(double)    ", () -> {
+            long n = 0;
+            for (double v : prices) {
+                n += codec.write(v, out, 0);
+            }
+            return n;
+        });
+        System.out.println("sink=" + sink);
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == ',') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void run(String label, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %7.2f ns/field%n", label, (double) best / FIELDS);
+    }
+}
@@ -0,0 +1,152 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Number Codec Fuzz Check
+ * -----------------------
+ * Feeds random and edge-case input to NumberCodec and checks every answer
+ * against the JDK:
+ *  - parseInt / parseLong agree with Integer.parseInt / Long.parseLong,
+ *    including which inputs are rejected;
+ *  - parseDouble agrees bit for bit with Double.parseDouble;
+ *  - every printed double reads back to the same bits, and has no more
+ *    digits than the shortest decimal found by a BigDecimal search.
+ *
+ * Usage: java NumberCodecFuzz [iterations] [seed]. Exits with status 1 on
+ * the first mismatch.
+ */
+public class NumberCodecFuzz {
+
+    private static final String[] EDGE_CASES = {
+        "", "-", "+", "0", "-0", "+7", "007", "2147483647", "2147483648", "-2147483648",
+        "-2147483649", "9223372036854775807", "9223372036854775808", "-9223372036854775808",
+        "12a", " 1", "1 ", "45.67", "99.99", ".5", "5.", ".", "1e", "1e+", "1e-5", "1E22",
+        "1e23", "1e309", "1e-400", "4.9e-324", "2.2250738585072014E-308", "NaN", "-Infinity",
+        "0.1", "123456789012345678901234567890", "0.000000000000000000001234", "true", "TRUE"
+    };
+
+    private static final NumberCodec CODEC = new NumberCodec();
+    private static final char[] CHARS = new char[NumberCodec.MAX_LENGTH];
+    private static final byte[] BYTES = new byte[NumberCodec.MAX_LENGTH];
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        Random random = new Random(seed);
+        System.out.println("seed=" + seed + ", iterations=" + iterations);
+
+        for (String s : EDGE_CASES) {
+            checkParse(s);
+        }
+        for (double d : new double[] {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_NORMAL, 1.0, 0.1,
+                                       -0.0, 1e23, 9007199254740993.0, 45.67, 99.99, 3.14159}) {
+            checkPrint(d, true);
+        }
+        for (int i = 0; i < iterations; i++) {
+            checkPrint(Double.longBitsToDouble(random.nextLong()), i % 64 == 0);
+            checkPrint(random.nextInt(1_000_000) / 100.0, false);
+            checkParse(Long.toString(random.nextLong() >> random.nextInt(64)));
+            checkParse(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            checkParse(randomDecimal(random));
+        }
+        System.out.println("OK");
+    }
+
+    private static void checkParse(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+
+        Object expectedInt = jdk(() -> Integer.parseInt(s));
+        int i = CODEC.parseInt(s, 0, s.length());
+        expect(s, "parseInt", expectedInt, CODEC.error() == NumberCodec.OK ? (Object) i : null);
+        i = CODEC.parseInt(bytes, 0, bytes.length);
+        expect(s, "parseInt(byte[])", expectedInt, CODEC.error() == NumberCodec.OK ? (Object) i : null);
+
+        Object expectedLong = jdk(() -> Long.parseLong(s));
+        long l = CODEC.parseLong(s, 0, s.length());
+        expect(s, "parseLong", expectedLong, CODEC.error() == NumberCodec.OK ? (Object) l : null);
+
+        // the JDK also accepts padding, hex and type suffixes; the codec does not
+        boolean plain = s.matches("[+-]?(NaN|Infinity|(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?)");
+        Object expectedDouble = plain ? jdk(() -> Double.doubleToRawLongBits(Double.parseDouble(s))) : null;
+        double d = CODEC.parseDouble(s, 0, s.length());
+        expect(s, "parseDouble", expectedDouble,
+               CODEC.error() == NumberCodec.OK ? (Object) Double.doubleToRawLongBits(d) : null);
+        d = CODEC.parseDouble(bytes, 0, bytes.length);
+        expect(s, "parseDouble(byte[])", expectedDouble,
+               CODEC.error() == NumberCodec.OK ? (Object) Double.doubleToRawLongBits(d) : null);
+
+        expect(s, "parseBoolean", Boolean.parseBoolean(s), CODEC.parseBoolean(s, 0, s.length()));
+    }
+
+    private static void checkPrint(double value, boolean checkShortest) {
+        int n = CODEC.write(value, CHARS, 0);
+        String printed = new String(CHARS, 0, n);
+        int m = CODEC.write(value, BYTES, 0);
+        expect(printed, "write(byte[])", printed, new String(BYTES, 0, m, StandardCharsets.ISO_8859_1));
+        expect(printed, "round trip", Double.doubleToLongBits(value),
+               Double.doubleToLongBits(Double.parseDouble(printed)));
+        if (checkShortest && Double.isFinite(value) && value != 0) {
+            expect(printed, "digit count", shortestDigitCount(value), digitCount(printed));
+        }
+    }
+
+    // the fewest significant digits that still read back as value
+    private static int shortestDigitCount(double value) {
+        BigDecimal exact = new BigDecimal(value);
+        for (int p = 1; ; p++) {
+            if (exact.round(new MathContext(p, RoundingMode.HALF_EVEN)).doubleValue() == value) {
+                return p;
+            }
+        }
+    }
+
+    private static int digitCount(String printed) {
+        String mantissa = printed.replaceFirst("[eE].*", "").replace("-", "").replace(".", "");
+        mantissa = mantissa.replaceFirst("^0+", "").replaceFirst("0+$", "");
+        return Math.max(1, mantissa.length());
+    }
+
+    private static String randomDecimal(Random random) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextBoolean()) sb.append('-');
+        int whole = random.nextInt(12);
+        for (int k = 0; k < whole; k++) sb.append((char) ('0' + random.nextInt(10)));
+        if (random.nextInt(4) != 0) {
+            sb.append('.');
+            int fraction = random.nextInt(22);
+            for (int k = 0; k < fraction; k++) sb.append((char) ('0' + random.nextInt(10)));
+        }
+        if (random.nextInt(4) == 0) sb.append('e').append(random.nextInt(60) - 30);
+        return sb.toString();
+    }
+
+    private static Object jdk(java.util.concurrent.Callable<Object> parse) {
+        try {
+            return parse.call();
+        } catch (Exception e) {
+            return null;        // rejected by the JDK
+        }
+    }
+
+    private static void expect(String input, String what, Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            System.out.println("MISMATCH " + what + " for \"" + input + "\": expected " + expected
+                               + ", got " + actual);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Palindrome Checker
+ * ------------------
+ * Two-pointer palindrome test that never builds a reversed copy, unlike
+ * CheckPalindrome. Compares code points, so "a😀a" is a palindrome, and the
+ * file variant walks a memory-mapped UTF-8 file from both ends, so the file
+ * may be far larger than the heap.
+ *
+ * With {@code ignoreCase} code points are compared the way
+ * String.equalsIgnoreCase compares chars (upper-case, then lower-case).
+ */
+public final class PalindromeChecker {
+
+    private PalindromeChecker() {
+    }
+
+    public static boolean isPalindrome(CharSequence text) {
+        return isPalindrome(text, false);
+    }
+
+    public static boolean isPalindrome(CharSequence text, boolean ignoreCase) {
+        int i = 0;
+        int j = text.length();
+        while (i < j) {
+            int left = Character.codePointAt(text, i);
+            int right = Character.codePointBefore(text, j);
+            if (!same(left, right, ignoreCase)) {
+                return false;
+            }
+            i += Character.charCount(left);
+            j -= Character.charCount(right);
+        }
+        return true;
+    }
+
+    public static boolean isPalindrome(char[] chars, int offset, int length, boolean ignoreCase) {
+        if (offset < 0 || length < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length);
+        }
+        int i = offset;
+        int j = offset + length;
+        while (i < j) {
+            int left = Character.codePointAt(chars, i, j);
+            int right = Character.codePointBefore(chars, j, i);
+            if (!same(left, right, ignoreCase)) {
+                return false;
+            }
+            i += Character.charCount(left);
+            j -= Character.charCount(right);
+        }
+        return true;
+    }
+
+    /**
+     * Checks a UTF-8 file without reading it onto the heap. Malformed bytes
+     * are compared as single units.
+     */
+    public static boolean isPalindrome(Path file, boolean ignoreCase) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return true;
+            }
+            MappedBytes bytes = MappedBytes.map(channel, FileChannel.MapMode.READ_ONLY, size);
+            long i = 0;
+            long j = size;
+            while (i < j) {
+                int leftLength = bytes.unitLengthAt(i);
+                int rightLength = bytes.unitLengthBefore(j);
+                if (i + leftLength > j - rightLength) {
+                    return true;        // both pointers are on the middle unit
+                }
+                int left = bytes.codePoint(i, leftLength);
+                int right = bytes.codePoint(j - rightLength, rightLength);
+                if (!same(left, right, ignoreCase)) {
+                    return false;
+                }
+                i += leftLength;
+                j -= rightLength;
+            }
+            return true;
+        }
+    }
+
+    private static boolean same(int a, int b, boolean ignoreCase) {
+        if (a == b) {
+            return true;
+        }
+        if (!ignoreCase || a > Character.MAX_CODE_POINT || b > Character.MAX_CODE_POINT) {
+            return false;
+        }
+        int ua = Character.toUpperCase(a);
+        int ub = Character.toUpperCase(b);
+        return ua == ub || Character.toLowerCase(ua) == Character.toLowerCase(ub);
+    }
+}
@@ -0,0 +1,99 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongSupplier;
+
+/**
+ * Reverse / Palindrome Benchmark
+ * ------------------------------
+ * Compares the {@code reversed += text.charAt(i)} loop used by ReverseString
+ * and CheckPalindrome with TextReverser and PalindromeChecker, including the
+ * memory-mapped file path.
+ */
+public class ReversePalindromeBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+
+    static long sink;
+
+    public static void main(String[] args) throws IOException {
+        String small = palindrome(20_000);
+        String large = palindrome(10_000_000);
+        char[] buffer = new char[large.length()];
+        StringBuilder builder = new StringBuilder(large.length());
+
+        run("+= loop reverse            (20K)", () -> legacyReverse(small).length());
+        run("TextReverser.reverse       (20K)", () -> TextReverser.reverse(small).length());
+        run("TextReverser into char[]   (10M)", () -> TextReverser.reverse(large, buffer, 0));
+        run("TextReverser into builder  (10M)", () -> {
+            builder.setLength(0);
+            return TextReverser.reverse(large, builder).length();
+        });
+        run("+= loop palindrome         (20K)", () -> small.equalsIgnoreCase(legacyReverse(small)) ? 1 : 0);
+        run("PalindromeChecker          (10M)", () -> PalindromeChecker.isPalindrome(large, true) ? 1 : 0);
+
+        Path file = Files.createTempFile("palindrome", ".txt");
+        try {
+            Files.write(file, large.getBytes(StandardCharsets.UTF_8));
+            run("PalindromeChecker mmap     (10M)", () -> {
+                try {
+                    return PalindromeChecker.isPalindrome(file, true) ? 1 : 0;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    // the loop from ReverseString.main
+    static String legacyReverse(String text) {
+        String reversed = "";
+        for (int i = text.length() - 1; i >= 0; i--) {
+            reversed += text.charAt(i);
+        }
+        return reversed;
+    }
+
+    // "ab😀c...c😀ba" so every check has to walk the whole input
+    static String palindrome(int length) {
+        StringBuilder half = new StringBuilder(length / 2 + 2);
+        for (int i = 0; half.length() < length / 2; i++) {
+            if (i % 50 == 49) {
+                half.appendCodePoint(0x1F600 + i % 40);
+            } else {
+                half.append((char) ('a' + i % 26));
+            }
+        }
+        StringBuilder sb = new StringBuilder(half);
+        return TextReverser.reverse(half, sb).toString();
+    }
+
+    private static void run(String label, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %9.3f ms%n", label, best / 1e6);
+    }
+}
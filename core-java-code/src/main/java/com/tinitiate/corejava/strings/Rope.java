@@ -0,0 +1,448 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Rope
+ * ----
+ * Immutable text kept as a balanced tree of String chunks, for documents
+ * too large to assemble as one String: concat, substring and charAt take
+ * O(log n), and no operation copies more than one chunk. Built with
+ * Rope.builder(), the text lives in 8K-char chunks, so large reports never
+ * need one huge array (a humongous allocation under G1) or StringBuilder
+ * regrowth copies.
+ *
+ *     Rope report = Rope.builder().append(header).append(rows).build();
+ *     report.writeTo(channel, StandardCharsets.UTF_8);
+ *
+ * Rope is a CharSequence, so Splitter, java.util.regex and CharFrequency
+ * read it directly. charAt remembers the chunk it last used, which makes a
+ * front-to-back scan cost O(1) per char.
+ *
+ * substring() shares chunks with the original, like CharSlice; toString()
+ * is the only method that copies the whole text.
+ */
+public final class Rope implements CharSequence {
+
+    public static final Rope EMPTY = new Rope("", 0, 0);
+
+    static final int CHUNK = 8192;
+    private static final int MERGE_LIMIT = 256;     // leaves up to this size are merged on concat
+
+    // a leaf holds text[start, start + length); a concat node holds left + right
+    private final String text;
+    private final int start;
+    private final Rope left;
+    private final Rope right;
+    private final int length;
+    private final int depth;
+    private int hash;
+    private Position last;                          // chunk of the previous charAt; racy but immutable
+
+    private Rope(String text, int start, int length) {
+        this.text = text;
+        this.start = start;
+        this.left = null;
+        this.right = null;
+        this.length = length;
+        this.depth = 0;
+    }
+
+    private Rope(Rope left, Rope right) {
+        if (left.length > Integer.MAX_VALUE - right.length) {
+            throw new IllegalArgumentException("Rope longer than Integer.MAX_VALUE chars");
+        }
+        this.text = null;
+        this.start = 0;
+        this.left = left;
+        this.right = right;
+        this.length = left.length + right.length;
+        this.depth = Math.max(left.depth, right.depth) + 1;
+    }
+
+    /** Wraps a String without copying it; any other CharSequence is copied once. */
+    public static Rope of(CharSequence text) {
+        if (text instanceof Rope) {
+            return (Rope) text;
+        }
+        String s = text.toString();
+        return s.isEmpty() ? EMPTY : new Rope(s, 0, s.length());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Rope concat(CharSequence other) {
+        return join(this, of(other));
+    }
+
+    // ---------------------------------------------------------------- CharSequence
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        if (left == null) {
+            return text.charAt(start + index);
+        }
+        Position p = last;
+        if (p != null && index >= p.offset && index < p.offset + p.leaf.length) {
+            return p.leaf.text.charAt(p.leaf.start + index - p.offset);
+        }
+        Rope node = this;
+        int offset = 0;
+        while (node.left != null) {
+            if (index - offset < node.left.length) {
+                node = node.left;
+            } else {
+                offset += node.left.length;
+                node = node.right;
+            }
+        }
+        last = new Position(node, offset);
+        return node.text.charAt(node.start + index - offset);
+    }
+
+    @Override
+    public Rope subSequence(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + length);
+        }
+        return slice(from, to);
+    }
+
+    public Rope substring(int from) {
+        return subSequence(from, length);
+    }
+
+    public Rope substring(int from, int to) {
+        return subSequence(from, to);
+    }
+
+    /** True when this rope holds exactly the chars of {@code other}. */
+    public boolean contentEquals(CharSequence other) {
+        if (other.length() != length) {
+            return false;
+        }
+        int i = 0;
+        for (Leaves leaves = new Leaves(this); leaves.hasNext(); ) {
+            Rope leaf = leaves.next();
+            for (int k = leaf.start, end = leaf.start + leaf.length; k < end; k++) {
+                if (leaf.text.charAt(k) != other.charAt(i++)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Rope && contentEquals((Rope) o);
+    }
+
+    /** Same value as String.hashCode() of the same chars. */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            for (Leaves leaves = new Leaves(this); leaves.hasNext(); ) {
+                Rope leaf = leaves.next();
+                for (int k = leaf.start, end = leaf.start + leaf.length; k < end; k++) {
+                    h = 31 * h + leaf.text.charAt(k);
+                }
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    /** Flattens the rope; the one operation that needs length chars of contiguous memory. */
+    @Override
+    public String toString() {
+        if (left == null) {
+            return text.substring(start, start + length);
+        }
+        StringBuilder sb = new StringBuilder(length);
+        for (Leaves leaves = new Leaves(this); leaves.hasNext(); ) {
+            Rope leaf = leaves.next();
+            sb.append(leaf.text, leaf.start, leaf.start + leaf.length);
+        }
+        return sb.toString();
+    }
+
+    // ---------------------------------------------------------------- output
+
+    /** Writes the chunks one after another; the text is never flattened. */
+    public void writeTo(Writer writer) throws IOException {
+        for (Leaves leaves = new Leaves(this); leaves.hasNext(); ) {
+            Rope leaf = leaves.next();
+            writer.write(leaf.text, leaf.start, leaf.length);
+        }
+    }
+
+    /**
+     * Encodes the text into the channel at its current position through two
+     * fixed buffers. Unmappable chars become the charset's replacement.
+     *
+     * @return the number of bytes written
+     */
+    public long writeTo(FileChannel channel, Charset charset) throws IOException {
+        CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer in = CharBuffer.allocate(CHUNK);
+        ByteBuffer out = ByteBuffer.allocate(CHUNK * 4);
+        long written = 0;
+        for (Leaves leaves = new Leaves(this); leaves.hasNext(); ) {
+            Rope leaf = leaves.next();
+            for (int k = leaf.start, end = leaf.start + leaf.length; k < end; ) {
+                int n = Math.min(in.remaining(), end - k);
+                in.put(leaf.text, k, k + n);
+                k += n;
+                if (!in.hasRemaining()) {
+                    in.flip();
+                    written += encode(encoder, in, out, channel, false);
+                    in.compact();           // keeps a trailing high surrogate for the next round
+                }
+            }
+        }
+        in.flip();
+        written += encode(encoder, in, out, channel, true);
+        while (encoder.flush(out) == CoderResult.OVERFLOW) {
+            written += drain(out, channel);
+        }
+        return written + drain(out, channel);
+    }
+
+    private static long encode(CharsetEncoder encoder, CharBuffer in, ByteBuffer out,
+                               FileChannel channel, boolean endOfInput) throws IOException {
+        long written = 0;
+        while (encoder.encode(in, out, endOfInput) == CoderResult.OVERFLOW) {
+            written += drain(out, channel);
+        }
+        return written;
+    }
+
+    private static int drain(ByteBuffer out, FileChannel channel) throws IOException {
+        out.flip();
+        int n = out.remaining();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+        return n;
+    }
+
+    // ---------------------------------------------------------------- tree
+
+    private Rope slice(int from, int to) {
+        if (from == 0 && to == length) {
+            return this;
+        }
+        if (from == to) {
+            return EMPTY;
+        }
+        if (left == null) {
+            return new Rope(text, start + from, to - from);
+        }
+        int mid = left.length;
+        if (to <= mid) {
+            return left.slice(from, to);
+        }
+        if (from >= mid) {
+            return right.slice(from - mid, to - mid);
+        }
+        return join(left.slice(from, mid), right.slice(0, to - mid));
+    }
+
+    /** AVL-style join: walks down the taller side only as far as the height difference. */
+    private static Rope join(Rope a, Rope b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        if (a.left == null && b.left == null && a.length + b.length <= MERGE_LIMIT) {
+            return new Rope(a.toString() + b.toString(), 0, a.length + b.length);
+        }
+        if (a.depth > b.depth + 1) {
+            return balance(a.left, join(a.right, b));
+        }
+        if (b.depth > a.depth + 1) {
+            return balance(join(a, b.left), b.right);
+        }
+        return new Rope(a, b);
+    }
+
+    // a and b are balanced and differ in depth by at most 2
+    private static Rope balance(Rope a, Rope b) {
+        if (a.depth > b.depth + 1) {
+            if (a.left.depth >= a.right.depth) {
+                return new Rope(a.left, new Rope(a.right, b));
+            }
+            return new Rope(new Rope(a.left, a.right.left), new Rope(a.right.right, b));
+        }
+        if (b.depth > a.depth + 1) {
+            if (b.right.depth >= b.left.depth) {
+                return new Rope(new Rope(a, b.left), b.right);
+            }
+            return new Rope(new Rope(a, b.left.left), new Rope(b.left.right, b.right));
+        }
+        return new Rope(a, b);
+    }
+
+    private static final class Position {
+
+        final Rope leaf;
+        final int offset;
+
+        Position(Rope leaf, int offset) {
+            this.leaf = leaf;
+            this.offset = offset;
+        }
+    }
+
+    /** In-order walk over the leaves with an explicit stack (depth is O(log n)). */
+    private static final class Leaves {
+
+        private final Rope[] stack;
+        private int top;
+
+        Leaves(Rope root) {
+            stack = new Rope[root.depth + 1];
+            if (root.length > 0) {
+                stack[top++] = root;
+            }
+        }
+
+        boolean hasNext() {
+            return top > 0;
+        }
+
+        Rope next() {
+            Rope node = stack[--top];
+            while (node.left != null) {
+                stack[top++] = node.right;
+                node = node.left;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Rope Builder
+     * ------------
+     * Collects appended text in a fixed chunk buffer and turns each full chunk
+     * into a leaf, so the rope is made of CHUNK-sized pieces. Strings and ropes
+     * longer than a chunk are added as they are, without copying.
+     */
+    public static final class Builder implements Appendable {
+
+        private final char[] chunk = new char[CHUNK];
+        private int used;
+        private Rope rope = EMPTY;
+
+        private Builder() {
+        }
+
+        @Override
+        public Builder append(CharSequence text) {
+            if (text == null) {
+                text = "null";
+            }
+            if (text.length() > CHUNK && (text instanceof String || text instanceof Rope)) {
+                flush();
+                rope = join(rope, of(text));
+                return this;
+            }
+            return append(text, 0, text.length());
+        }
+
+        @Override
+        public Builder append(CharSequence text, int from, int to) {
+            if (text == null) {
+                text = "null";
+            }
+            if (from < 0 || to > text.length() || from > to) {
+                throw new IndexOutOfBoundsException(
+                        "from " + from + ", to " + to + ", length " + text.length());
+            }
+            while (from < to) {
+                if (used == CHUNK) {
+                    flush();
+                }
+                int n = Math.min(CHUNK - used, to - from);
+                if (text instanceof String) {
+                    ((String) text).getChars(from, from + n, chunk, used);
+                } else {
+                    for (int i = 0; i < n; i++) {
+                        chunk[used + i] = text.charAt(from + i);
+                    }
+                }
+                used += n;
+                from += n;
+            }
+            return this;
+        }
+
+        @Override
+        public Builder append(char c) {
+            if (used == CHUNK) {
+                flush();
+            }
+            chunk[used++] = c;
+            return this;
+        }
+
+        public Builder append(long value) {
+            return append(Long.toString(value));
+        }
+
+        public Builder append(Object value) {
+            return append(String.valueOf(value));
+        }
+
+        public int length() {
+            return rope.length + used;
+        }
+
+        /** The text so far; the builder can keep appending afterwards. */
+        public Rope build() {
+            flush();
+            return rope;
+        }
+
+        private void flush() {
+            if (used > 0) {
+                rope = join(rope, new Rope(new String(chunk, 0, used), 0, used));
+                used = 0;
+            }
+        }
+    }
+}
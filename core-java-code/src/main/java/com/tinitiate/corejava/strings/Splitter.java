@@ -0,0 +1,193 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splitter
+ * --------
+ * Lazy replacement for String.split in StringSplitJoin. Fields come back as
+ * CharSlice views over the input, one at a time, so nothing is copied and no
+ * String[] is built. The delimiter is literal text, never a regex, and a
+ * single-char delimiter gets its own scanning loop.
+ *
+ *     Splitter.on(',').field("Apple,Banana,Cherry,Dates", 1)   // "Banana"
+ *
+ * Unlike String.split, trailing empty fields are kept: "a,b," gives
+ * "a", "b", "". Use omitEmpty() to drop every empty field instead.
+ */
+public final class Splitter {
+
+    private final char single;          // used when delimiter.length() == 1
+    private final String delimiter;
+    private final boolean omitEmpty;
+
+    private Splitter(String delimiter, boolean omitEmpty) {
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+        this.delimiter = delimiter;
+        this.single = delimiter.charAt(0);
+        this.omitEmpty = omitEmpty;
+    }
+
+    public static Splitter on(char delimiter) {
+        return new Splitter(String.valueOf(delimiter), false);
+    }
+
+    public static Splitter on(String delimiter) {
+        return new Splitter(delimiter, false);
+    }
+
+    /** A splitter like this one that skips empty fields. */
+    public Splitter omitEmpty() {
+        return new Splitter(delimiter, true);
+    }
+
+    public Iterable<CharSequence> split(CharSequence text) {
+        return () -> new FieldIterator<>(text, CharSlice::new);
+    }
+
+    /**
+     * Fields as Strings taken from the pool, for values that are kept (map
+     * keys, parsed records). A field already in the pool costs no allocation.
+     */
+    public Iterable<String> split(CharSequence text, StringPool pool) {
+        return () -> new FieldIterator<>(text, pool::intern);
+    }
+
+    public Stream<CharSequence> stream(CharSequence text) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                new FieldIterator<CharSequence>(text, CharSlice::new),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns field {@code n} (0-based) without producing the fields before
+     * it, or null when the text has fewer fields.
+     */
+    public CharSequence field(CharSequence text, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Field index must not be negative: " + n);
+        }
+        int length = text.length();
+        int start = 0;
+        while (start <= length) {
+            int end = indexOf(text, start);
+            if (end < 0) {
+                end = length;
+            }
+            if (!omitEmpty || end > start) {
+                if (n-- == 0) {
+                    return new CharSlice(text, start, end);
+                }
+            }
+            start = end + delimiter.length();
+        }
+        return null;
+    }
+
+    /** Number of fields, counted without creating any of them. */
+    public int count(CharSequence text) {
+        int length = text.length();
+        int count = 0;
+        int start = 0;
+        while (start <= length) {
+            int end = indexOf(text, start);
+            if (end < 0) {
+                end = length;
+            }
+            if (!omitEmpty || end > start) {
+                count++;
+            }
+            start = end + delimiter.length();
+        }
+        return count;
+    }
+
+    // next delimiter position at or after from, or -1
+    private int indexOf(CharSequence text, int from) {
+        int length = text.length();
+        if (delimiter.length() == 1) {
+            char d = single;
+            for (int i = from; i < length; i++) {
+                if (text.charAt(i) == d) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int last = length - delimiter.length();
+        for (int i = from; i <= last; i++) {
+            if (text.charAt(i) == single && regionMatches(text, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(CharSequence text, int at) {
+        for (int k = 1; k < delimiter.length(); k++) {
+            if (text.charAt(at + k) != delimiter.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private interface FieldFactory<T> {
+        T field(CharSequence text, int start, int end);
+    }
+
+    private final class FieldIterator<T> implements Iterator<T> {
+
+        private final CharSequence text;
+        private final FieldFactory<? extends T> factory;
+        private int start;              // start of the next field; > length when done
+        private T next;
+
+        FieldIterator(CharSequence text, FieldFactory<? extends T> factory) {
+            this.text = text;
+            this.factory = factory;
+        }
+
+        @Override
+        public boolean hasNext() {
+            int length = text.length();
+            while (next == null && start <= length) {
+                int end = indexOf(text, start);
+                if (end < 0) {
+                    end = length;
+                }
+                if (!omitEmpty || end > start) {
+                    next = factory.field(text, start, end);
+                }
+                start = end + delimiter.length();
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T field = next;
+            next = null;
+            return field;
+        }
+    }
+}
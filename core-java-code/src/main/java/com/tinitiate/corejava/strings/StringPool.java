@@ -0,0 +1,265 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * String Pool
+ * -----------
+ * A bounded, thread-safe deduplication cache for values that repeat a lot
+ * (country codes, status names, ...). Unlike String.intern() it has a size
+ * limit, and it can be queried with a char[], byte[] or CharSequence slice:
+ * when the value is already pooled the caller gets the shared String and
+ * nothing is allocated. byte[] slices are read as Latin-1, which covers
+ * ASCII data.
+ *
+ * The pool is split into segments by hash. Each segment is an open-addressing
+ * table that is read without locking; a miss takes the segment lock, adds the
+ * String and, when the segment is full, evicts with the CLOCK algorithm
+ * (every hit sets a reference bit, the clock hand clears bits until it finds
+ * an entry that was not used since its last pass).
+ */
+public final class StringPool {
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /** @param maxSize upper bound on the number of pooled Strings */
+    public StringPool(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        int segmentCount = Math.min(Integer.highestOneBit(Math.max(1, maxSize / 16)),
+                                    Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1);
+        segments = new Segment[segmentCount];
+        for (int s = 0; s < segmentCount; s++) {
+            // spread the remainder so the total is exactly maxSize
+            segments[s] = new Segment(maxSize / segmentCount + (s < maxSize % segmentCount ? 1 : 0));
+        }
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    // ---------------------------------------------------------------- lookups
+
+    public String intern(CharSequence text) {
+        if (text instanceof String) {
+            String s = (String) text;
+            return lookup(s, 0, s.length(), s.hashCode());
+        }
+        return intern(text, 0, text.length());
+    }
+
+    public String intern(CharSequence text, int start, int end) {
+        checkRange(text.length(), start, end - start);
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return lookup(text, start, end - start, h);
+    }
+
+    public String intern(char[] chars, int offset, int length) {
+        checkRange(chars.length, offset, length);
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + chars[i];
+        }
+        return lookup(chars, offset, length, h);
+    }
+
+    public String intern(byte[] latin1, int offset, int length) {
+        checkRange(latin1.length, offset, length);
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + (latin1[i] & 0xFF);
+        }
+        return lookup(latin1, offset, length, h);
+    }
+
+    // ---------------------------------------------------------------- statistics
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "StringPool[size=" + size() + ", hits=" + hits() + ", misses=" + misses()
+                + ", evictions=" + evictions() + "]";
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private String lookup(Object source, int offset, int length, int hash) {
+        int spread = hash * 0x9E3779B9;
+        Segment segment = segments[segmentShift == 32 ? 0 : spread >>> segmentShift];
+        String found = segment.find(source, offset, length, hash, spread);
+        if (found != null) {
+            hits.increment();
+            return found;
+        }
+        misses.increment();
+        return segment.add(source, offset, length, hash, spread, evictions);
+    }
+
+    private static boolean matches(String s, Object source, int offset, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        if (source instanceof char[]) {
+            char[] chars = (char[]) source;
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) != chars[offset + i]) return false;
+            }
+        } else if (source instanceof byte[]) {
+            byte[] bytes = (byte[]) source;
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) != (bytes[offset + i] & 0xFF)) return false;
+            }
+        } else {
+            CharSequence text = (CharSequence) source;
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) != text.charAt(offset + i)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static String materialize(Object source, int offset, int length) {
+        if (source instanceof char[]) {
+            return new String((char[]) source, offset, length);
+        }
+        if (source instanceof byte[]) {
+            return new String((byte[]) source, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        if (source instanceof String && offset == 0 && length == ((String) source).length()) {
+            return (String) source;
+        }
+        return ((CharSequence) source).subSequence(offset, offset + length).toString();
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset " + offset + ", length " + length + ", size " + size);
+        }
+    }
+
+    private static final class Segment {
+
+        private final int maxSize;
+        private final int mask;
+        private final AtomicReferenceArray<String> table;
+        private final byte[] referenced;    // CLOCK bits; racy writes are harmless
+        private volatile int size;
+        private int hand;
+
+        Segment(int maxSize) {
+            this.maxSize = Math.max(1, maxSize);
+            int capacity = Integer.highestOneBit(this.maxSize * 2 - 1) << 1;
+            this.mask = capacity - 1;
+            this.table = new AtomicReferenceArray<>(capacity);
+            this.referenced = new byte[capacity];
+        }
+
+        // lock-free; may miss an entry that is being moved, add() re-checks
+        String find(Object source, int offset, int length, int hash, int spread) {
+            for (int slot = spread & mask; ; slot = (slot + 1) & mask) {
+                String s = table.get(slot);
+                if (s == null) {
+                    return null;
+                }
+                if (s.hashCode() == hash && matches(s, source, offset, length)) {
+                    if (referenced[slot] == 0) {
+                        referenced[slot] = 1;   // skip the store when set, hits stay read-only
+                    }
+                    return s;
+                }
+            }
+        }
+
+        synchronized String add(Object source, int offset, int length, int hash, int spread, LongAdder evictions) {
+            String existing = find(source, offset, length, hash, spread);
+            if (existing != null) {
+                return existing;
+            }
+            if (size == maxSize) {
+                evict();
+                evictions.increment();
+            }
+            String value = materialize(source, offset, length);
+            int slot = spread & mask;
+            while (table.get(slot) != null) {
+                slot = (slot + 1) & mask;
+            }
+            referenced[slot] = 0;
+            table.set(slot, value);
+            size++;
+            return value;
+        }
+
+        private void evict() {
+            while (true) {
+                hand = (hand + 1) & mask;
+                if (table.get(hand) == null) {
+                    continue;
+                }
+                if (referenced[hand] != 0) {
+                    referenced[hand] = 0;       // second chance
+                    continue;
+                }
+                remove(hand);
+                return;
+            }
+        }
+
+        // backward-shift deletion keeps probe chains intact without tombstones
+        private void remove(int slot) {
+            table.set(slot, null);
+            size--;
+            for (int next = (slot + 1) & mask; ; next = (next + 1) & mask) {
+                String s = table.get(next);
+                if (s == null) {
+                    return;
+                }
+                int home = (s.hashCode() * 0x9E3779B9) & mask;
+                // move s back if its home is not in the cyclic range (slot, next]
+                if (((next - home) & mask) >= ((next - slot) & mask)) {
+                    table.set(slot, s);
+                    referenced[slot] = referenced[next];
+                    table.set(next, null);
+                    slot = next;
+                }
+            }
+        }
+    }
+}
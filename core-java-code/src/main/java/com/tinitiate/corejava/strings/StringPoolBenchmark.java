@@ -0,0 +1,112 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * String Pool Benchmark
+ * ---------------------
+ * Parses 500,000 CSV rows ("country,status,year") whose fields come from a
+ * few hundred distinct values and keeps every field, first as the Strings
+ * String.split returns, then deduplicated through a StringPool. Reports the
+ * heap retained by each result and the parse time.
+ *
+ * The retained megabytes are how much the used heap grows while the fields
+ * are held, read after forced collections; a fixed heap (e.g. -Xms1g
+ * -Xmx1g) keeps them steady from run to run.
+ */
+public class StringPoolBenchmark {
+
+    private static final int ROWS = 500_000;
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 5;
+    private static final String[] STATUS = {"ACTIVE", "INACTIVE", "PENDING", "SUSPENDED", "CLOSED"};
+
+    static long sink;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        String[] lines = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            String country = "" + (char) ('A' + random.nextInt(26)) + (char) ('A' + random.nextInt(10));
+            lines[i] = country + ',' + STATUS[random.nextInt(STATUS.length)] + ',' + (1990 + random.nextInt(35));
+        }
+        Splitter comma = Splitter.on(',');
+
+        Supplier<List<String>> plain = () -> {
+            List<String> fields = new ArrayList<>(ROWS * 3);
+            for (String line : lines) {
+                for (String field : line.split(",")) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        };
+        Supplier<List<String>> pooled = () -> {
+            StringPool pool = new StringPool(1024);
+            List<String> fields = new ArrayList<>(ROWS * 3);
+            for (String line : lines) {
+                for (String field : comma.split(line, pool)) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        };
+
+        heap("String.split        ", plain);
+        heap("Splitter + StringPool", pooled);
+        run("String.split        ", () -> plain.get().size());
+        run("Splitter + StringPool", () -> pooled.get().size());
+
+        StringPool pool = new StringPool(1024);
+        for (String line : lines) {
+            for (String field : comma.split(line, pool)) {
+                sink += field.length();
+            }
+        }
+        System.out.println(pool);
+        System.out.println("sink=" + sink);
+    }
+
+    private static void heap(String label, Supplier<List<String>> parse) {
+        long before = usedHeap();
+        List<String> fields = parse.get();
+        long after = usedHeap();
+        System.out.printf("%s : %7.2f MB retained for %d fields%n",
+                          label, (after - before) / (1024.0 * 1024.0), fields.size());
+        sink += fields.size();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void run(String label, LongSupplier task) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s : %7.2f ns/row%n", label, (double) best / ROWS);
+    }
+}
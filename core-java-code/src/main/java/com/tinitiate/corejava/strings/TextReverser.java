@@ -0,0 +1,144 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reverse Text
+ * ------------
+ * Linear-time replacement for the {@code reversed += text.charAt(i)} loop in
+ * ReverseString. Reverses by code point, so a surrogate pair such as an emoji
+ * stays a valid pair instead of being flipped into two broken chars.
+ *
+ * The hot-path methods write into a buffer supplied by the caller and do not
+ * allocate; {@link #reverse(CharSequence)} is the convenience form.
+ */
+public final class TextReverser {
+
+    private TextReverser() {
+    }
+
+    public static String reverse(CharSequence text) {
+        char[] out = new char[text.length()];
+        reverse(text, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * Writes the reverse of {@code text} into {@code dst} starting at
+     * {@code dstOffset}.
+     *
+     * @return the number of chars written (always {@code text.length()})
+     */
+    public static int reverse(CharSequence text, char[] dst, int dstOffset) {
+        int length = text.length();
+        if (dstOffset < 0 || dstOffset > dst.length - length) {
+            throw new IndexOutOfBoundsException("dst too small: need " + length + " chars at " + dstOffset);
+        }
+        int w = dstOffset + length;
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                dst[--w] = text.charAt(++i);    // keep the pair in high-low order
+                dst[w - 1] = ch;
+                w--;
+            } else {
+                dst[--w] = ch;
+            }
+        }
+        return length;
+    }
+
+    /** Appends the reverse of {@code text} to a reusable builder. */
+    public static StringBuilder reverse(CharSequence text, StringBuilder dst) {
+        dst.ensureCapacity(dst.length() + text.length());
+        for (int i = text.length(); i > 0; ) {
+            char ch = text.charAt(--i);
+            if (Character.isLowSurrogate(ch) && i > 0 && Character.isHighSurrogate(text.charAt(i - 1))) {
+                dst.append(text.charAt(--i));
+            }
+            dst.append(ch);
+        }
+        return dst;
+    }
+
+    /** Reverses {@code chars[offset, offset + length)} in place. */
+    public static void reverseInPlace(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length);
+        }
+        int end = offset + length;
+        boolean sawSurrogate = false;
+        for (int i = offset, j = end - 1; i < j; i++, j--) {
+            char a = chars[i];
+            char b = chars[j];
+            chars[i] = b;
+            chars[j] = a;
+            sawSurrogate |= Character.isSurrogate(a) || Character.isSurrogate(b);
+        }
+        if (sawSurrogate) {
+            repairPairs(chars, offset, end);
+        }
+    }
+
+    /**
+     * Reverses a UTF-8 file by code point into {@code target}. Both files are
+     * memory mapped, so the input may be larger than the heap. Malformed bytes
+     * are moved as single bytes. The file cannot be reversed in place: target
+     * must not be source.
+     *
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if source and target are the same file
+     */
+    public static long reverseFile(Path source, Path target) throws IOException {
+        // checked before target is opened, since opening it truncates it
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            throw new IllegalArgumentException("source and target are the same file: " + source);
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            if (size == 0) {
+                return 0;
+            }
+            MappedBytes src = MappedBytes.map(in, FileChannel.MapMode.READ_ONLY, size);
+            MappedBytes dst = MappedBytes.map(out, FileChannel.MapMode.READ_WRITE, size);
+            long r = size;
+            long w = 0;
+            while (r > 0) {
+                int unit = src.unitLengthBefore(r);
+                r -= unit;
+                for (int i = 0; i < unit; i++) {
+                    dst.put(w++, src.get(r + i));
+                }
+            }
+            dst.force();
+            return size;
+        }
+    }
+
+    // after a plain char reversal every pair reads low-high; swap them back
+    private static void repairPairs(char[] chars, int from, int to) {
+        for (int i = from; i < to - 1; i++) {
+            if (Character.isLowSurrogate(chars[i]) && Character.isHighSurrogate(chars[i + 1])) {
+                char low = chars[i];
+                chars[i] = chars[i + 1];
+                chars[i + 1] = low;
+                i++;
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+// ==============================================================================
+//  Organization : TINITIATE TECHNOLOGIES PVT LTD
+//  Website      : tinitiate.com
+//  Script Title : Java Tutorial
+//  Description  : Strings
+//  Author       : Team Tinitiate
+// ==============================================================================
+
+
+package com.tinitiate.corejava.strings;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Whitespace Normalizer
+ * ---------------------
+ * Table-driven replacement for {@code sentence.replace(" ", "")} in
+ * RemoveWhiteSpaces. Whitespace is every Unicode space as defined by
+ * CharClasses (tabs, line breaks, no-break space, em space, ...).
+ *
+ * Modes:
+ *  - STRIP    : remove every whitespace char       "  a \t b " -> "ab"
+ *  - COLLAPSE : trim, then turn each run into ' '  "  a \t b " -> "a b"
+ *  - TRIM     : remove leading/trailing runs only  "  a \t b " -> "a \t b"
+ *
+ * Output goes to a caller-supplied char[], StringBuilder or CharBuffer, and
+ * the String/CharSequence forms hand back the input itself when it is
+ * already normalized. Text is copied in runs, not char by char.
+ */
+public final class WhitespaceNormalizer {
+
+    public enum Mode { STRIP, COLLAPSE, TRIM }
+
+    private static final int STREAM_BUFFER = 8192;
+
+    private WhitespaceNormalizer() {
+    }
+
+    /** @return {@code text} itself if nothing changes, otherwise a new String */
+    public static String normalize(String text, Mode mode) {
+        if (isNormalized(text, mode)) {
+            return text;
+        }
+        return normalize(text, mode, new StringBuilder(text.length())).toString();
+    }
+
+    /**
+     * Appends the normalized text to {@code sink}.
+     *
+     * @return {@code text} itself (sink untouched) if nothing changes,
+     *         otherwise {@code sink}
+     */
+    public static CharSequence normalize(CharSequence text, Mode mode, StringBuilder sink) {
+        if (isNormalized(text, mode)) {
+            return text;
+        }
+        int start = skipWhitespace(text, 0, text.length());
+        int end = contentEnd(text, start, mode);
+        if (mode == Mode.TRIM) {
+            return sink.append(text, start, end);
+        }
+        int i = start;
+        while (i < end) {
+            int runEnd = skipText(text, i, end);
+            sink.append(text, i, runEnd);
+            i = skipWhitespace(text, runEnd, end);
+            if (mode == Mode.COLLAPSE && runEnd < i && i < end) {
+                sink.append(' ');
+            }
+        }
+        return sink;
+    }
+
+    /**
+     * Writes the normalized text into {@code dst} from {@code dstOffset}.
+     * {@code dst} needs room for at most {@code text.length()} chars.
+     *
+     * @return the number of chars written
+     */
+    public static int normalize(CharSequence text, Mode mode, char[] dst, int dstOffset) {
+        int i = skipWhitespace(text, 0, text.length());
+        int end = contentEnd(text, i, mode);
+        int w = dstOffset;
+        while (i < end) {
+            int runEnd = mode == Mode.TRIM ? end : skipText(text, i, end);
+            w = copy(text, i, runEnd, dst, w);
+            i = skipWhitespace(text, runEnd, end);
+            if (mode == Mode.COLLAPSE && runEnd < i && i < end) {
+                dst[w++] = ' ';
+            }
+        }
+        return w - dstOffset;
+    }
+
+    /** Puts the normalized text into {@code dst} at its position. */
+    public static CharBuffer normalize(CharSequence text, Mode mode, CharBuffer dst) {
+        if (dst.hasArray() && dst.remaining() >= text.length()) {
+            int written = normalize(text, mode, dst.array(), dst.arrayOffset() + dst.position());
+            return dst.position(dst.position() + written);
+        }
+        int i = skipWhitespace(text, 0, text.length());
+        int end = contentEnd(text, i, mode);
+        while (i < end) {
+            int runEnd = mode == Mode.TRIM ? end : skipText(text, i, end);
+            for (int k = i; k < runEnd; k++) {
+                dst.put(text.charAt(k));
+            }
+            i = skipWhitespace(text, runEnd, end);
+            if (mode == Mode.COLLAPSE && runEnd < i && i < end) {
+                dst.put(' ');
+            }
+        }
+        return dst;
+    }
+
+    /**
+     * Streams {@code in} to {@code out} with a fixed 8K buffer. In TRIM mode a
+     * whitespace run is held back until it is known not to be trailing, so
+     * memory is also bounded by the longest inner whitespace run. Neither
+     * stream is closed.
+     *
+     * @return the number of chars written
+     */
+    public static long normalize(Reader in, Writer out, Mode mode) throws IOException {
+        char[] buffer = new char[STREAM_BUFFER];
+        StringBuilder held = new StringBuilder();   // TRIM: inner run not yet written
+        boolean seenText = false;
+        boolean pendingSpace = false;                // COLLAPSE: a run was skipped
+        long written = 0;
+        int n;
+        while ((n = in.read(buffer, 0, buffer.length)) != -1) {
+            int i = 0;
+            while (i < n) {
+                int runEnd = i;
+                while (runEnd < n && !CharClasses.isWhitespace(buffer[runEnd])) {
+                    runEnd++;
+                }
+                if (runEnd > i) {
+                    if (held.length() > 0) {
+                        out.append(held);
+                        written += held.length();
+                        held.setLength(0);
+                    } else if (pendingSpace) {
+                        out.write(' ');
+                        written++;
+                    }
+                    pendingSpace = false;
+                    out.write(buffer, i, runEnd - i);
+                    written += runEnd - i;
+                    seenText = true;
+                }
+                i = runEnd;
+                while (i < n && CharClasses.isWhitespace(buffer[i])) {
+                    i++;
+                }
+                if (i > runEnd && seenText) {
+                    if (mode == Mode.COLLAPSE) {
+                        pendingSpace = true;
+                    } else if (mode == Mode.TRIM) {
+                        held.append(buffer, runEnd, i - runEnd);
+                    }
+                }
+            }
+        }
+        return written;
+    }
+
+    /** True when normalizing would return the input unchanged. */
+    public static boolean isNormalized(CharSequence text, Mode mode) {
+        int length = text.length();
+        if (length == 0) {
+            return true;
+        }
+        if (mode != Mode.STRIP
+                && (CharClasses.isWhitespace(text.charAt(0)) || CharClasses.isWhitespace(text.charAt(length - 1)))) {
+            return false;
+        }
+        if (mode == Mode.TRIM) {
+            return true;
+        }
+        boolean previousSpace = false;
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if (CharClasses.isWhitespace(ch)) {
+                if (mode == Mode.STRIP || previousSpace || ch != ' ') {
+                    return false;
+                }
+                previousSpace = true;
+            } else {
+                previousSpace = false;
+            }
+        }
+        return true;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    // end of the text that survives trimming; STRIP keeps everything
+    private static int contentEnd(CharSequence text, int start, Mode mode) {
+        int end = text.length();
+        if (mode != Mode.STRIP) {
+            while (end > start && CharClasses.isWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+        }
+        return end;
+    }
+
+    private static int skipText(CharSequence text, int i, int end) {
+        while (i < end && !CharClasses.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(CharSequence text, int i, int end) {
+        while (i < end && CharClasses.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int copy(CharSequence text, int from, int to, char[] dst, int w) {
+        if (text instanceof String) {
+            ((String) text).getChars(from, to, dst, w);
+            return w + (to - from);
+        }
+        for (int k = from; k < to; k++) {
+            dst[w++] = text.charAt(k);
+        }
+        return w;
+    }
+}